@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+
+/**
+ * Measures the cost of concurrency checks: the version stamp kept in each entry, the version tag
+ * generated for each operation and the tombstones left behind by destroys.
+ */
+@Fork(3)
+@Warmup(iterations = 10)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConcurrencyCheckBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class RegionState {
+    @Param({"true", "false"})
+    public boolean concurrencyChecksEnabled;
+
+    @Param({"REPLICATE", "PARTITION"})
+    public RegionShortcut shortcut;
+
+    @Param({"10000"})
+    public int keyCount;
+
+    private Cache cache;
+    private Region<Integer, String> region;
+
+    @Setup
+    public void setup() {
+      cache = new CacheFactory().set("mcast-port", "0").set("locators", "").create();
+      region = cache.<Integer, String>createRegionFactory(shortcut)
+          .setConcurrencyChecksEnabled(concurrencyChecksEnabled).create("region");
+      for (int i = 0; i < keyCount; i++) {
+        region.put(i, "value");
+      }
+    }
+
+    @TearDown
+    public void tearDown() {
+      cache.close();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class KeyState {
+    private int next;
+
+    int nextKey(RegionState state) {
+      int key = next;
+      next = (next + 1) % state.keyCount;
+      return key;
+    }
+  }
+
+  @Benchmark
+  public Object put(RegionState state, KeyState keys) {
+    return state.region.put(keys.nextKey(state), "value");
+  }
+
+  /**
+   * Destroys an entry and creates it again. With concurrency checks the destroy leaves a tombstone
+   * that the create has to replace.
+   */
+  @Benchmark
+  public Object destroyAndCreate(RegionState state, KeyState keys) {
+    int key = keys.nextKey(state);
+    state.region.destroy(key);
+    return state.region.put(key, "value");
+  }
+}
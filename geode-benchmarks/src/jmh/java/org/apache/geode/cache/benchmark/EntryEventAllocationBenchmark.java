@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+
+/**
+ * Measures the bytes allocated by puts and gets on a local region with and without the recycling
+ * of entry events (gemfire.LocalRegion.recycleEntryEvents). Look at the gc.alloc.rate.norm result
+ * of the gc profiler, which is enabled by default in this project's jmh configuration.
+ * <p>
+ * The property is read once when the cache classes are loaded, so it is set before the cache is
+ * created; every parameter combination runs in its own forked JVM.
+ */
+@Fork(3)
+@Warmup(iterations = 10)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntryEventAllocationBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class RegionState {
+    @Param({"true", "false"})
+    public boolean recycleEntryEvents;
+
+    @Param({"10000"})
+    public int keyCount;
+
+    private Cache cache;
+    private Region<Integer, String> region;
+    private final String value = "value";
+
+    @Setup
+    public void setup() {
+      System.setProperty("gemfire.LocalRegion.recycleEntryEvents",
+          String.valueOf(recycleEntryEvents));
+      cache = new CacheFactory().set("mcast-port", "0").set("locators", "").create();
+      region = cache.<Integer, String>createRegionFactory(RegionShortcut.LOCAL).create("region");
+      for (int i = 0; i < keyCount; i++) {
+        region.put(i, value);
+      }
+    }
+
+    @TearDown
+    public void tearDown() {
+      cache.close();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class KeyState {
+    private int next;
+
+    int nextKey(RegionState state) {
+      int key = next;
+      next = (next + 1) % state.keyCount;
+      return key;
+    }
+  }
+
+  @Benchmark
+  public Object put(RegionState state, KeyState keys) {
+    return state.region.put(keys.nextKey(state), state.value);
+  }
+
+  @Benchmark
+  public Object get(RegionState state, KeyState keys) {
+    return state.region.get(keys.nextKey(state));
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+
+/**
+ * Measures get and put for each kind of key that a region entry can store inline, and for a key
+ * that can not be inlined.
+ */
+@Fork(3)
+@Warmup(iterations = 10)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RegionEntryKeyBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class RegionState {
+    /**
+     * int: IntKey; long: LongKey; string1: StringKey1 (ascii, up to 7 chars); string2: StringKey2
+     * (ascii, 8 to 15 chars); uuid: UUIDKey; object: a String too long to be inlined
+     */
+    @Param({"int", "long", "string1", "string2", "uuid", "object"})
+    public String keyType;
+
+    @Param({"10000"})
+    public int keyCount;
+
+    private Cache cache;
+    private Region<Object, Object> region;
+    private Object[] keys;
+    private final Object value = "value";
+
+    @Setup
+    public void setup() {
+      cache = new CacheFactory().set("mcast-port", "0").set("locators", "").create();
+      region = cache.createRegionFactory(RegionShortcut.LOCAL).create("region");
+      keys = new Object[keyCount];
+      for (int i = 0; i < keyCount; i++) {
+        keys[i] = createKey(i);
+        region.put(keys[i], value);
+      }
+    }
+
+    private Object createKey(int i) {
+      switch (keyType) {
+        case "int":
+          return i;
+        case "long":
+          return (long) i;
+        case "string1":
+          return String.format("k%05d", i);
+        case "string2":
+          return String.format("key%09d", i);
+        case "uuid":
+          return new UUID(i, i);
+        case "object":
+          return String.format("a-key-too-long-to-inline-%09d", i);
+        default:
+          throw new IllegalArgumentException("Unknown key type " + keyType);
+      }
+    }
+
+    @TearDown
+    public void tearDown() {
+      cache.close();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class KeyState {
+    private int next;
+
+    Object nextKey(RegionState state) {
+      Object key = state.keys[next];
+      next = (next + 1) % state.keyCount;
+      return key;
+    }
+  }
+
+  @Benchmark
+  public Object get(RegionState state, KeyState keys) {
+    return state.region.get(keys.nextKey(state));
+  }
+
+  @Benchmark
+  public Object put(RegionState state, KeyState keys) {
+    return state.region.put(keys.nextKey(state), state.value);
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionFactory;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.compression.SnappyCompressor;
+
+/**
+ * Measures the basic region entry operations on a single member for each of the ways a region can
+ * store its values. Run with the gc profiler (enabled by default in this project's jmh
+ * configuration) to see the bytes allocated per operation.
+ */
+@Fork(3)
+@Warmup(iterations = 10)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RegionEntryOperationBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class RegionState {
+    /**
+     * replicate: REPLICATE; partition: PARTITION; overflow: REPLICATE with half of the entries
+     * overflowed to disk; offheap: REPLICATE with off-heap values; compressed: REPLICATE with
+     * snappy compressed values
+     */
+    @Param({"replicate", "partition", "overflow", "offheap", "compressed"})
+    public String dataPolicy;
+
+    @Param({"10000"})
+    public int keyCount;
+
+    @Param({"100"})
+    public int valueSize;
+
+    @Param({"100"})
+    public int putAllSize;
+
+    private Cache cache;
+    private Region<Integer, byte[]> region;
+    private byte[] value;
+    private Map<Integer, byte[]> putAllMap;
+
+    @Setup
+    public void setup() {
+      CacheFactory cacheFactory = new CacheFactory().set("mcast-port", "0").set("locators", "");
+      if ("offheap".equals(dataPolicy)) {
+        cacheFactory.set("off-heap-memory-size", "256m");
+      }
+      cache = cacheFactory.create();
+
+      RegionFactory<Integer, byte[]> regionFactory;
+      switch (dataPolicy) {
+        case "replicate":
+          regionFactory = cache.createRegionFactory(RegionShortcut.REPLICATE);
+          break;
+        case "partition":
+          regionFactory = cache.createRegionFactory(RegionShortcut.PARTITION);
+          break;
+        case "overflow":
+          regionFactory = cache.createRegionFactory(RegionShortcut.REPLICATE);
+          regionFactory.setEvictionAttributes(EvictionAttributes
+              .createLRUEntryAttributes(keyCount / 2, EvictionAction.OVERFLOW_TO_DISK));
+          break;
+        case "offheap":
+          regionFactory = cache.createRegionFactory(RegionShortcut.REPLICATE);
+          regionFactory.setOffHeap(true);
+          break;
+        case "compressed":
+          regionFactory = cache.createRegionFactory(RegionShortcut.REPLICATE);
+          regionFactory.setCompressor(new SnappyCompressor());
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown data policy " + dataPolicy);
+      }
+      region = regionFactory.create("region");
+
+      value = new byte[valueSize];
+      for (int i = 0; i < keyCount; i++) {
+        region.put(i, value);
+      }
+      putAllMap = new HashMap<>();
+      for (int i = 0; i < putAllSize; i++) {
+        putAllMap.put(i, value);
+      }
+    }
+
+    @TearDown
+    public void tearDown() {
+      cache.close();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class KeyState {
+    private int next;
+
+    int nextKey(RegionState state) {
+      int key = next;
+      next = (next + 1) % state.keyCount;
+      return key;
+    }
+  }
+
+  @Benchmark
+  public Object get(RegionState state, KeyState keys) {
+    return state.region.get(keys.nextKey(state));
+  }
+
+  @Benchmark
+  public Object put(RegionState state, KeyState keys) {
+    return state.region.put(keys.nextKey(state), state.value);
+  }
+
+  @Benchmark
+  public void putAll(RegionState state) {
+    state.region.putAll(state.putAllMap);
+  }
+
+  /**
+   * Destroys an entry and creates it again so that the region keeps its size.
+   */
+  @Benchmark
+  public Object destroyAndCreate(RegionState state, KeyState keys) {
+    int key = keys.nextKey(state);
+    state.region.destroy(key);
+    return state.region.put(key, state.value);
+  }
+}
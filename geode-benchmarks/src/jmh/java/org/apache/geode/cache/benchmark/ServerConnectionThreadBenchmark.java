@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.PoolManager;
+import org.apache.geode.cache.execute.FunctionAdapter;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.server.CacheServer;
+import org.apache.geode.internal.util.concurrent.VirtualThreads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a cache server servicing its client connections with platform threads against virtual
+ * threads (BridgeServer.USE_VIRTUAL_THREADS). A pool in the same JVM keeps one request in flight
+ * on each of its connections; every request is a function that blocks for a short time on the
+ * server connection's thread, as a GetAll or query waiting on I/O or locks would. Each benchmark
+ * operation is one round of requests over all the connections.
+ * <p>
+ * The virtual variants need a JDK that supports virtual threads. Every connection uses a socket at
+ * each end, so the JVM's file descriptor limit must be more than twice the number of connections.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ServerConnectionThreadBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class ServerState {
+    @Param({"1000", "10000", "50000"})
+    public int connections;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    /** The cache server's max-threads, which turns on its selector */
+    @Param({"512"})
+    public int maxThreads;
+
+    /** How long each request blocks on the server, in microseconds */
+    @Param({"500"})
+    public int serviceTimeMicros;
+
+    private Cache cache;
+
+    private Pool pool;
+
+    private ExecutorService callers;
+
+    @Setup
+    public void setup() throws IOException {
+      boolean virtual = "virtual".equals(this.threads);
+      ThreadFactory callerFactory = VirtualThreads.createFactory();
+      if (virtual && callerFactory == null) {
+        throw new IllegalStateException("This JVM does not support virtual threads");
+      }
+      // read when the cache server starts
+      System.setProperty("BridgeServer.USE_VIRTUAL_THREADS", String.valueOf(virtual));
+
+      this.cache = new CacheFactory().set("mcast-port", "0").set("locators", "").create();
+      FunctionService.registerFunction(new BlockingFunction());
+      CacheServer server = this.cache.addCacheServer();
+      server.setPort(0);
+      server.setMaxThreads(this.maxThreads);
+      server.setMaxConnections(this.connections + 100);
+      server.start();
+
+      this.pool = PoolManager.createFactory().addServer("localhost", server.getPort())
+          .setMaxConnections(this.connections).setReadTimeout(60000).setRetryAttempts(0)
+          .create("pool");
+      // The callers only wait for their replies; platform callers are used when the JVM has
+      // nothing cheaper, whichever threads the server uses.
+      this.callers = callerFactory == null ? Executors.newFixedThreadPool(this.connections)
+          : Executors.newFixedThreadPool(this.connections, callerFactory);
+    }
+
+    @TearDown
+    public void tearDown() {
+      this.callers.shutdownNow();
+      this.pool.destroy();
+      this.cache.close();
+    }
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5)
+  @Measurement(iterations = 10)
+  public void serviceAllConnections(ServerState state) throws InterruptedException {
+    final CountDownLatch done = new CountDownLatch(state.connections);
+    final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    final Long serviceTimeNanos = TimeUnit.MICROSECONDS.toNanos(state.serviceTimeMicros);
+    for (int i = 0; i < state.connections; i++) {
+      state.callers.execute(() -> {
+        try {
+          FunctionService.onServer(state.pool).withArgs(serviceTimeNanos)
+              .execute(BlockingFunction.ID).getResult();
+        } catch (RuntimeException e) {
+          failure.compareAndSet(null, e);
+        } finally {
+          done.countDown();
+        }
+      });
+    }
+    done.await();
+    if (failure.get() != null) {
+      throw failure.get();
+    }
+  }
+
+  /** Blocks the server connection's thread for the number of nanoseconds it is given */
+  public static class BlockingFunction extends FunctionAdapter {
+    static final String ID = "ServerConnectionThreadBenchmark.BlockingFunction";
+
+    @Override
+    public void execute(FunctionContext context) {
+      LockSupport.parkNanos((Long) context.getArguments());
+      context.getResultSender().lastResult(Boolean.TRUE);
+    }
+
+    @Override
+    public String getId() {
+      return ID;
+    }
+  }
+}
@@ -23,6 +23,7 @@ import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionDestroyedException;
 import org.apache.geode.cache.RegionExistsException;
+import org.apache.geode.cache.util.ObjectSizer;
 import org.apache.geode.compression.Compressor;
 
 /**
@@ -86,6 +87,27 @@ public interface ClientRegionFactory<K, V> {
    */
   public ClientRegionFactory<K, V> setEvictionAttributes(EvictionAttributes evictionAttributes);
 
+  /**
+   * Makes the region to be created a near cache of its server region. Values read from the servers
+   * are kept in local memory, which is bounded by evicting the least recently used entries once
+   * their size reaches <code>maximumMegabytes</code>. When the region is created it registers
+   * interest in all keys without receiving values, so an update on the servers only invalidates
+   * the local entry and the next get fetches the new value from a server. Gets that had to fetch
+   * again are counted by the <code>staleReads</code> statistic.
+   * <p>
+   * The region must be created with a {@link ClientRegionShortcut#CACHING_PROXY} style data
+   * policy and a pool that has subscriptions enabled.
+   *
+   * @param maximumMegabytes the maximum size of the values kept in local memory
+   * @param sizer computes the size of an entry; if null {@link ObjectSizer#DEFAULT} is used
+   * @return a reference to this ClientRegionFactory object
+   * @see EvictionAttributes#createLRUMemoryAttributes(int, ObjectSizer)
+   * @see Region#registerInterest(Object, org.apache.geode.cache.InterestResultPolicy, boolean,
+   *      boolean)
+   * @since Geode 1.2
+   */
+  public ClientRegionFactory<K, V> setNearCache(int maximumMegabytes, ObjectSizer sizer);
+
   /**
    * Sets the idleTimeout expiration attributes for region entries for the next
    * <code>RegionAttributes</code> created.
@@ -17,9 +17,12 @@ package org.apache.geode.cache.client.internal;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.apache.logging.log4j.Logger;
 
+import org.apache.geode.GemFireException;
 import org.apache.geode.InternalGemFireError;
 import org.apache.geode.cache.client.ServerConnectivityException;
 import org.apache.geode.cache.client.ServerOperationException;
@@ -392,6 +395,107 @@ public abstract class AbstractOp implements Op {
     }
   }
 
+  /**
+   * Attempts this op on a connection shared by several ops and waits for its result.
+   * 
+   * @see ConnectionImpl#enablePipelining()
+   */
+  Object attemptPipelined(ConnectionImpl cnx) throws Exception {
+    CompletableFuture<Object> result = attemptAsync(cnx);
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          return result.get();
+        } catch (InterruptedException e) {
+          // like a blocking read of the response, waiting for it is not interruptible
+          interrupted = true;
+        } catch (ExecutionException e) {
+          Throwable cause = e.getCause();
+          if (cause instanceof Exception) {
+            throw (Exception) cause;
+          } else if (cause instanceof Error) {
+            throw (Error) cause;
+          }
+          throw e;
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Attempts this op on a connection shared by several ops without waiting for its response.
+   * 
+   * @return a future completed with the result of this op, by the thread reading the responses of
+   *         the connection
+   * @see ConnectionImpl#enablePipelining()
+   */
+  CompletableFuture<Object> attemptAsync(ConnectionImpl cnx) {
+    this.failed = true;
+    this.timedOut = false;
+    long start = startAttempt(cnx.getStats());
+    CompletableFuture<Object> result = new CompletableFuture<Object>();
+    try {
+      cnx.sendPipelined(this, start, result);
+    } catch (Exception e) {
+      endSendAttempt(cnx.getStats(), start);
+      pipelinedAttemptFailed(cnx.getStats(), start, result, e);
+    }
+    return result;
+  }
+
+  /**
+   * Called by a pipelined connection once the request of this op has been written.
+   */
+  void pipelinedSendCompleted(ConnectionStats stats, long start) {
+    this.failed = false;
+    endSendAttempt(stats, start);
+    this.failed = true;
+  }
+
+  /**
+   * Called by a pipelined connection when it can not read the response to this op.
+   */
+  void pipelinedAttemptFailed(ConnectionStats stats, long start, CompletableFuture<Object> result,
+      Exception failure) {
+    this.failed = true;
+    endAttempt(stats, start);
+    result.completeExceptionally(failure);
+  }
+
+  /**
+   * Called by the thread reading the responses of a pipelined connection once the response to this
+   * op is the next one.
+   * 
+   * @return false if the response could not be read entirely
+   */
+  boolean readPipelinedResponse(ConnectionImpl cnx, long start, CompletableFuture<Object> result) {
+    boolean responseRead = false;
+    try {
+      Object value = attemptReadResponse(cnx);
+      responseRead = true;
+      this.failed = false;
+      endAttempt(cnx.getStats(), start);
+      result.complete(value);
+    } catch (GemFireException e) {
+      // the server answered with an error; its response has been read
+      responseRead = true;
+      pipelinedAttemptFailed(cnx.getStats(), start, result, e);
+    } catch (SocketTimeoutException e) {
+      this.timedOut = true;
+      this.failed = false;
+      endAttempt(cnx.getStats(), start);
+      result.completeExceptionally(e);
+    } catch (Exception e) {
+      pipelinedAttemptFailed(cnx.getStats(), start, result, e);
+    }
+    return responseRead;
+  }
+
   protected final boolean hasFailed() {
     return this.failed;
   }
@@ -440,4 +544,15 @@ public abstract class AbstractOp implements Op {
   public boolean isGatewaySenderOp() {
     return false;
   }
+
+  /**
+   * Subclasses should override this method to return true if this op can share a pipelined
+   * connection with other ops. Such an op must be answered with a single, non chunked, message and
+   * must not change the state of the connection.
+   * 
+   * @see ConnectionImpl#enablePipelining()
+   */
+  protected boolean isPipelinable() {
+    return false;
+  }
 }
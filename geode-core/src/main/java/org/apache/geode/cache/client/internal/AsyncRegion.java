@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.internal.cache.EventID;
+import org.apache.geode.internal.cache.EventIDHolder;
+import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.cache.TXManagerImpl;
+import org.apache.geode.internal.cache.Token;
+import org.apache.geode.internal.i18n.LocalizedStrings;
+
+/**
+ * Operations on a client PROXY region that return without waiting for the server's response. The
+ * requests of many operations are written one after the other on a pipelined connection of the
+ * region's pool and the returned futures are completed as the responses arrive, so a few threads
+ * can keep many operations in flight.
+ * <p>
+ * The operations go straight to the server: the cache listeners and writer of the client region
+ * are not invoked and the operations are not allowed in a transaction. Futures are completed by
+ * the threads of the pool (see PoolImpl.ASYNC_OP_POOL_SIZE), so stages that block should be run
+ * with an executor of their own.
+ * <p>
+ * This is an internal class, not part of the public API: its contract may change without notice.
+ *
+ * @see PoolImpl#executeAsync(Op)
+ */
+public class AsyncRegion<K, V> {
+
+  private final LocalRegion region;
+  private final PoolImpl pool;
+
+  /**
+   * @throws IllegalArgumentException if the region is not a client region with an empty data policy
+   */
+  public AsyncRegion(Region<K, V> region) {
+    this.region = (LocalRegion) region;
+    ServerRegionProxy proxy = this.region.getServerProxy();
+    if (proxy == null) {
+      throw new IllegalArgumentException(
+          "The region " + region.getFullPath() + " did not have a client pool configured.");
+    }
+    if (this.region.getDataPolicy() != DataPolicy.EMPTY) {
+      throw new IllegalArgumentException("The region " + region.getFullPath()
+          + " must have the data policy " + DataPolicy.EMPTY + " to be used asynchronously.");
+    }
+    this.pool = (PoolImpl) proxy.getPool();
+  }
+
+  public Region<K, V> getRegion() {
+    return this.region;
+  }
+
+  public CompletableFuture<V> getAsync(K key) {
+    return getAsync(key, null);
+  }
+
+  /**
+   * Gets the value of the given key from the server.
+   *
+   * @return a future completed with the value, or with null if the server has no value for the key
+   */
+  public CompletableFuture<V> getAsync(K key, Object callbackArg) {
+    checkOperation(key);
+    return GetOp.executeAsync(this.pool, this.region, key, callbackArg)
+        .thenApply(new Function<Object, V>() {
+          @SuppressWarnings("unchecked")
+          public V apply(Object value) {
+            return Token.isInvalidOrRemoved(value) ? null : (V) value;
+          }
+        });
+  }
+
+  /**
+   * Gets the values of the given keys from the server, one get per key.
+   *
+   * @return a future completed with a map from each key to its value, or to null if the server has
+   *         no value for it
+   */
+  public CompletableFuture<Map<K, V>> getAllAsync(Collection<? extends K> keys) {
+    final List<K> keyList = new ArrayList<K>(keys);
+    final List<CompletableFuture<V>> values = new ArrayList<CompletableFuture<V>>(keyList.size());
+    for (K key : keyList) {
+      values.add(getAsync(key));
+    }
+    return CompletableFuture.allOf(values.toArray(new CompletableFuture[values.size()]))
+        .thenApply(new Function<Void, Map<K, V>>() {
+          public Map<K, V> apply(Void ignored) {
+            Map<K, V> result = new HashMap<K, V>();
+            for (int i = 0; i < keyList.size(); i++) {
+              result.put(keyList.get(i), values.get(i).join());
+            }
+            return result;
+          }
+        });
+  }
+
+  public CompletableFuture<Void> putAsync(K key, V value) {
+    return putAsync(key, value, null);
+  }
+
+  /**
+   * Puts the given value for the given key on the server.
+   *
+   * @return a future completed once the server has done the put
+   */
+  public CompletableFuture<Void> putAsync(K key, V value, Object callbackArg) {
+    checkOperation(key);
+    if (value == null) {
+      throw new NullPointerException(
+          LocalizedStrings.LocalRegion_VALUE_CANNOT_BE_NULL.toLocalizedString());
+    }
+    EventIDHolder event =
+        new EventIDHolder(new EventID(this.region.getCache().getDistributedSystem()));
+    return PutOp.executeAsync(this.pool, this.region, key, value, event, callbackArg)
+        .thenApply(new Function<Object, Void>() {
+          public Void apply(Object ignored) {
+            return null;
+          }
+        });
+  }
+
+  private void checkOperation(K key) {
+    if (key == null) {
+      throw new NullPointerException(
+          LocalizedStrings.LocalRegion_KEY_CANNOT_BE_NULL.toLocalizedString());
+    }
+    if (TXManagerImpl.getCurrentTXState() != null) {
+      throw new UnsupportedOperationException(
+          "Asynchronous region operations are not supported in a transaction");
+    }
+    this.region.checkReadiness();
+  }
+}
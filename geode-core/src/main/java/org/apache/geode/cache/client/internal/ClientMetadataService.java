@@ -28,12 +28,14 @@ import org.apache.geode.internal.cache.EntryOperationImpl;
 import org.apache.geode.internal.cache.LocalRegion;
 import org.apache.geode.internal.cache.PartitionedRegion;
 import org.apache.geode.internal.cache.PartitionedRegionHelper;
+import org.apache.geode.internal.cache.PoolStats;
 import org.apache.geode.internal.i18n.LocalizedStrings;
 import org.apache.geode.internal.logging.LogService;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -123,8 +125,54 @@ public final class ClientMetadataService {
     if (prAdvisor == null) {
       return null;
     }
-    int totalNumberOfBuckets = prAdvisor.getTotalNumBuckets();
+    int bucketId = getBucketId(prAdvisor, region, operation, key, value, callbackArg);
+    if (bucketId == -1) {
+      return null;
+    }
+
+    ServerLocation bucketServerLocation = getServerLocation(region, operation, bucketId);
+    ServerLocation location = null;
+    if (bucketServerLocation != null) {
+      location =
+          new ServerLocation(bucketServerLocation.getHostName(), bucketServerLocation.getPort());
+    }
+    return location;
+  }
+
+  /**
+   * Returns the servers hosting the bucket of the given key, in a random order so that reads going
+   * to the first of them are spread over all the copies of the bucket.
+   * 
+   * @return the servers of the bucket, or an empty list if they are not known
+   */
+  public List<ServerLocation> getBucketServerLocations(Region region, Object key,
+      Object callbackArg) {
+    List<ServerLocation> locations = new ArrayList<ServerLocation>();
+    ClientPartitionAdvisor prAdvisor = this.getClientPartitionAdvisor(region.getFullPath());
+    if (prAdvisor == null) {
+      return locations;
+    }
+    int bucketId = getBucketId(prAdvisor, region, Operation.GET, key, null, callbackArg);
+    if (bucketId == -1) {
+      return locations;
+    }
+    List<BucketServerLocation66> bucketLocations = prAdvisor.adviseServerLocations(bucketId);
+    if (bucketLocations != null) {
+      for (BucketServerLocation66 bucketLocation : bucketLocations) {
+        locations
+            .add(new ServerLocation(bucketLocation.getHostName(), bucketLocation.getPort()));
+      }
+      Collections.shuffle(locations, this.rand);
+    }
+    return locations;
+  }
 
+  /**
+   * Returns the bucket of the given key, or -1 if the fixed partition of the key has no bucket yet
+   */
+  private int getBucketId(ClientPartitionAdvisor prAdvisor, Region region, Operation operation,
+      Object key, Object value, Object callbackArg) {
+    int totalNumberOfBuckets = prAdvisor.getTotalNumBuckets();
     final PartitionResolver resolver = getResolver(region, key, callbackArg);
     Object resolveKey;
     EntryOperation entryOp = null;
@@ -157,7 +205,7 @@ public final class ClientMetadataService {
         bucketId = prAdvisor.assignFixedBucketId(region, partition, resolveKey);
         if (bucketId == -1) {
           // scheduleGetPRMetaData((LocalRegion)region);
-          return null;
+          return -1;
         }
 
       }
@@ -165,13 +213,7 @@ public final class ClientMetadataService {
       bucketId = PartitionedRegionHelper.getHashKey(resolveKey, totalNumberOfBuckets);
     }
 
-    ServerLocation bucketServerLocation = getServerLocation(region, operation, bucketId);
-    ServerLocation location = null;
-    if (bucketServerLocation != null) {
-      location =
-          new ServerLocation(bucketServerLocation.getHostName(), bucketServerLocation.getPort());
-    }
-    return location;
+    return bucketId;
   }
 
   private ServerLocation getServerLocation(Region region, Operation operation, int bucketId) {
@@ -238,6 +280,88 @@ public final class ClientMetadataService {
     return serverToKeysMap;
   }
 
+  /**
+   * Groups the keys of a getAll, putAll or removeAll by the server hosting the primary of their
+   * bucket, so that each server applies its keys without sending them on to another member. Unlike
+   * {@link #getServerToFilterMap(Collection, Region, boolean)} a bucket whose primary is not known,
+   * for example because the bucket has not been created yet, does not send the whole operation to
+   * a single server: only its keys are added to those of a random server, which forwards them, and
+   * the metadata is fetched again.
+   *
+   * @param forwardedKeys the keys added to those of a random server are added to this set
+   * @return the keys to send to each server, or null if there is no metadata for the region
+   * @see #incBulkOpKeys(PoolStats, Map, Set, Set)
+   */
+  public Map<ServerLocation, HashSet> getServerToPrimaryKeysMap(final Collection keys,
+      final Region region, Set forwardedKeys) {
+    ClientPartitionAdvisor prAdvisor = this.getClientPartitionAdvisor(region.getFullPath());
+    if (prAdvisor == null || prAdvisor.adviseRandomServerLocation() == null) {
+      scheduleGetPRMetaData((LocalRegion) region, false);
+      return null;
+    }
+    HashMap<Integer, HashSet> bucketToKeysMap =
+        groupByBucketOnClientSide(region, prAdvisor, keys, false);
+
+    HashMap<ServerLocation, HashSet> serverToKeysMap = new HashMap<ServerLocation, HashSet>();
+    ServerLocation randomServer = null;
+    for (Map.Entry<Integer, HashSet> entry : bucketToKeysMap.entrySet()) {
+      ServerLocation server = prAdvisor.advisePrimaryServerLocation(entry.getKey());
+      if (server == null) {
+        if (randomServer == null) {
+          randomServer = prAdvisor.adviseRandomServerLocation();
+        }
+        server = randomServer;
+        forwardedKeys.addAll(entry.getValue());
+      }
+      // use LinkedHashSet to maintain the order of keys
+      // the keys will be iterated several times
+      HashSet serverKeys = serverToKeysMap.get(server);
+      if (serverKeys == null) {
+        serverKeys = new LinkedHashSet();
+        serverToKeysMap.put(server, serverKeys);
+      }
+      serverKeys.addAll(entry.getValue());
+    }
+    if (randomServer != null) {
+      scheduleGetPRMetaData((LocalRegion) region, false);
+    }
+    if (logger.isDebugEnabled()) {
+      logger.debug("Returning server to primary keys map : {} with {} keys to be forwarded",
+          serverToKeysMap, forwardedKeys.size());
+    }
+    return serverToKeysMap;
+  }
+
+  /**
+   * Counts the keys of a getAll, putAll or removeAll grouped by
+   * {@link #getServerToPrimaryKeysMap(Collection, Region, Set)}, once its batches have been sent.
+   * The keys of a server that failed are retried on any server, so they are counted as forwarded
+   * like the keys whose primary was not known.
+   *
+   * @param failedServers the servers whose batch failed and is retried
+   */
+  public static void incBulkOpKeys(PoolStats stats, Map<ServerLocation, HashSet> serverToKeysMap,
+      Set<ServerLocation> failedServers, Set forwardedKeys) {
+    int singleHopKeys = 0;
+    int forwarded = 0;
+    for (Map.Entry<ServerLocation, HashSet> entry : serverToKeysMap.entrySet()) {
+      if (failedServers.contains(entry.getKey())) {
+        forwarded += entry.getValue().size();
+      } else if (forwardedKeys.isEmpty()) {
+        singleHopKeys += entry.getValue().size();
+      } else {
+        for (Object key : entry.getValue()) {
+          if (forwardedKeys.contains(key)) {
+            forwarded++;
+          } else {
+            singleHopKeys++;
+          }
+        }
+      }
+    }
+    stats.incBulkOpKeys(singleHopKeys, forwarded);
+  }
+
   public HashMap<ServerLocation, HashSet<Integer>> groupByServerToAllBuckets(Region region,
       boolean primaryOnly) {
     final String regionFullPath = region.getFullPath();
@@ -748,7 +872,7 @@ public final class ClientMetadataService {
     return prAdvisor.advisePrimaryServerLocation(bucketId);
   }
 
-  private void addClientPartitionAdvisor(String regionFullPath, ClientPartitionAdvisor advisor) {
+  void addClientPartitionAdvisor(String regionFullPath, ClientPartitionAdvisor advisor) {
     if (this.cache.isClosed() || this.clientPRAdvisors == null) {
       return;
     }
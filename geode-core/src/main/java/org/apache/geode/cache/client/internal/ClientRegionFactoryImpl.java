@@ -17,9 +17,12 @@ package org.apache.geode.cache.client.internal;
 import org.apache.geode.cache.AttributesFactory;
 import org.apache.geode.cache.CacheListener;
 import org.apache.geode.cache.CustomExpiry;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EvictionAction;
 import org.apache.geode.cache.EvictionAttributes;
 import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.InterestPolicy;
+import org.apache.geode.cache.InterestResultPolicy;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionExistsException;
@@ -28,6 +31,8 @@ import org.apache.geode.cache.SubscriptionAttributes;
 import org.apache.geode.cache.client.ClientRegionFactory;
 import org.apache.geode.cache.client.ClientRegionShortcut;
 import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.PoolManager;
+import org.apache.geode.cache.util.ObjectSizer;
 import org.apache.geode.compression.Compressor;
 import org.apache.geode.internal.cache.GemFireCacheImpl;
 import org.apache.geode.internal.cache.LocalRegion;
@@ -42,6 +47,7 @@ import org.apache.geode.internal.cache.UserSpecifiedRegionAttributes;
 public class ClientRegionFactoryImpl<K, V> implements ClientRegionFactory<K, V> {
   private final AttributesFactory<K, V> attrsFactory;
   private final GemFireCacheImpl cache;
+  private boolean nearCache;
 
   /**
    * Constructs a ClientRegionFactory by creating a DistributedSystem and a Cache. If no
@@ -113,6 +119,15 @@ public class ClientRegionFactoryImpl<K, V> implements ClientRegionFactory<K, V>
     return this;
   }
 
+  @Override
+  public ClientRegionFactory<K, V> setNearCache(int maximumMegabytes, ObjectSizer sizer) {
+    this.attrsFactory.setEvictionAttributes(EvictionAttributes.createLRUMemoryAttributes(
+        maximumMegabytes, sizer != null ? sizer : ObjectSizer.DEFAULT,
+        EvictionAction.LOCAL_DESTROY));
+    this.nearCache = true;
+    return this;
+  }
+
   public ClientRegionFactory<K, V> setEntryIdleTimeout(ExpirationAttributes idleTimeout) {
     this.attrsFactory.setEntryIdleTimeout(idleTimeout);
     return this;
@@ -206,14 +221,49 @@ public class ClientRegionFactoryImpl<K, V> implements ClientRegionFactory<K, V>
   @SuppressWarnings("unchecked")
   @Override
   public Region<K, V> create(String name) throws RegionExistsException {
-    return getCache().basicCreateRegion(name, createRegionAttributes());
+    RegionAttributes<K, V> ra = createRegionAttributes();
+    return initNearCache(getCache().basicCreateRegion(name, ra));
   }
 
   @SuppressWarnings("unchecked")
   @Override
   public Region<K, V> createSubregion(Region<?, ?> parent, String name)
       throws RegionExistsException {
-    return ((LocalRegion) parent).createSubregion(name, createRegionAttributes());
+    RegionAttributes<K, V> ra = createRegionAttributes();
+    return initNearCache(((LocalRegion) parent).createSubregion(name, ra));
+  }
+
+  /**
+   * Registers the interest of a near cache region in all of its keys. Values are not received, so
+   * the servers only send invalidates, which makes the next get of an updated key read it again.
+   */
+  @SuppressWarnings("unchecked")
+  private Region<K, V> initNearCache(Region<K, V> region) {
+    if (this.nearCache) {
+      boolean registered = false;
+      try {
+        ((Region) region).registerInterest("ALL_KEYS", InterestResultPolicy.NONE, false, false);
+        registered = true;
+      } finally {
+        if (!registered) {
+          region.localDestroyRegion();
+        }
+      }
+    }
+    return region;
+  }
+
+  private void validateNearCache(RegionAttributes<K, V> ra) {
+    if (ra.getDataPolicy() != DataPolicy.NORMAL) {
+      throw new IllegalStateException(
+          "A near cache must have the data policy " + DataPolicy.NORMAL + " but it was "
+              + ra.getDataPolicy() + ". Use the " + ClientRegionShortcut.CACHING_PROXY
+              + " region shortcut.");
+    }
+    Pool pool = PoolManager.find(ra.getPoolName());
+    if (pool == null || !pool.getSubscriptionEnabled()) {
+      throw new IllegalStateException("A near cache must use a pool with subscriptions enabled.");
+    }
   }
 
   @SuppressWarnings("deprecation")
@@ -231,6 +281,9 @@ public class ClientRegionFactoryImpl<K, V> implements ClientRegionFactory<K, V>
         }
       }
     }
+    if (this.nearCache) {
+      validateNearCache(ra);
+    }
     return ra;
   }
 
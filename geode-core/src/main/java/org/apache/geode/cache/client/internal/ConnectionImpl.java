@@ -20,6 +20,9 @@ import java.io.OutputStream;
 import java.net.Socket;
 import java.net.SocketException;
 import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.logging.log4j.Logger;
@@ -30,6 +33,7 @@ import org.apache.geode.ForcedDisconnectException;
 import org.apache.geode.cache.client.internal.ExecuteFunctionOp.ExecuteFunctionOpImpl;
 import org.apache.geode.cache.client.internal.ExecuteRegionFunctionOp.ExecuteRegionFunctionOpImpl;
 import org.apache.geode.cache.client.internal.ExecuteRegionFunctionSingleHopOp.ExecuteRegionFunctionSingleHopOpImpl;
+import org.apache.geode.cache.client.internal.pooling.ConnectionDestroyedException;
 import org.apache.geode.cache.wan.GatewaySender;
 import org.apache.geode.distributed.internal.InternalDistributedSystem;
 import org.apache.geode.distributed.internal.ServerLocation;
@@ -46,7 +50,8 @@ import org.apache.geode.internal.logging.log4j.LocalizedMessage;
  * A single client to server connection.
  * 
  * The execute method of this class is synchronized to prevent two ops from using the client to
- * server connection at the same time.
+ * server connection at the same time, unless the connection is pipelined (see
+ * {@link #enablePipelining()}).
  * 
  * @since GemFire 5.7
  *
@@ -64,6 +69,33 @@ public class ConnectionImpl implements Connection {
   private Socket theSocket;
   private ByteBuffer commBuffer;
   private ByteBuffer commBufferForAsyncRead;
+  /**
+   * The buffer responses are read into when this connection is pipelined, so that one op can read
+   * its response while another one writes its request using {@link #commBuffer}.
+   */
+  private ByteBuffer commBufferForPipelinedRead;
+  private volatile boolean pipelined;
+  /**
+   * The thread that reads the responses of this pipelined connection
+   */
+  private volatile Thread pipelinedReader;
+  private final Object pipelineSendLock = new Object();
+  /**
+   * The ops whose requests have been written to this pipelined connection and whose responses have
+   * not been read yet, in the order they were written. Ops are added while holding
+   * pipelineSendLock.
+   */
+  private final BlockingQueue<PipelinedOp> pipelinedOps = new LinkedBlockingQueue<PipelinedOp>();
+  /**
+   * The number of ops written to this pipelined connection whose responses have not been read yet,
+   * including the one the reader thread is reading. Guarded by pipelineSendLock.
+   */
+  private int pipelinedOpsInFlight;
+  /**
+   * The number of ops that can not be pipelined waiting to use this pipelined connection on their
+   * own. No request is written while this is not zero. Guarded by pipelineSendLock.
+   */
+  private int exclusiveOpsWaiting;
   // private int handShakeTimeout = AcceptorImpl.DEFAULT_HANDSHAKE_TIMEOUT_MS;
   private ServerQueueStatus status;
   private volatile boolean connectFinished;
@@ -172,6 +204,13 @@ public class ConnectionImpl implements Connection {
       }
       endpoint.removeReference();
     }
+    if (this.pipelined) {
+      // the reader fails the ops still waiting for a response
+      Thread reader = this.pipelinedReader;
+      if (reader != Thread.currentThread()) {
+        reader.interrupt();
+      }
+    }
     try {
       if (theSocket != null) {
         theSocket.getOutputStream().flush();
@@ -197,6 +236,7 @@ public class ConnectionImpl implements Connection {
       this.commBufferForAsyncRead = null;
       ServerConnection.releaseCommBuffer(bb);
     }
+    // commBufferForPipelinedRead is released by the reader thread once it has stopped reading
   }
 
   public ByteBuffer getCommBuffer() throws SocketException {
@@ -206,6 +246,9 @@ public class ConnectionImpl implements Connection {
       // a SocketException.
       throw new SocketException("socket was closed");
     }
+    if (this.pipelined && this.pipelinedReader == Thread.currentThread()) {
+      return commBufferForPipelinedRead;
+    }
     return commBuffer;
   }
 
@@ -252,6 +295,27 @@ public class ConnectionImpl implements Connection {
       endpoint.updateLastExecute();
       return result;
     }
+    if (this.pipelined && op instanceof AbstractOp) {
+      if (((AbstractOp) op).isPipelinable()) {
+        result = ((AbstractOp) op).attemptPipelined(this);
+        return result;
+      }
+      result = executeExclusively(op);
+      endpoint.updateLastExecute();
+      return result;
+    }
+    result = attemptExclusively(op);
+    endpoint.updateLastExecute();
+    return result;
+
+  }
+
+  /**
+   * Sends the request and reads the response of the given op on this thread, like the connection
+   * does when it is not pipelined.
+   */
+  private Object attemptExclusively(Op op) throws Exception {
+    Object result;
     synchronized (this) {
       if (op instanceof ExecuteFunctionOpImpl || op instanceof ExecuteRegionFunctionOpImpl
           || op instanceof ExecuteRegionFunctionSingleHopOpImpl) {
@@ -266,11 +330,186 @@ public class ConnectionImpl implements Connection {
         result = op.attempt(this);
       }
     }
-    endpoint.updateLastExecute();
     return result;
+  }
 
+  /**
+   * Executes an op that can not be pipelined, such as a transactional or secured op, on this
+   * pipelined connection. The op has to read its own response on its own thread, so it waits for
+   * the responses of the ops already written and keeps other requests from being written until it
+   * is done.
+   */
+  private Object executeExclusively(Op op) throws Exception {
+    synchronized (this.pipelineSendLock) {
+      this.exclusiveOpsWaiting++;
+      boolean interrupted = false;
+      try {
+        while (this.pipelinedOpsInFlight > 0 && !isDestroyed()) {
+          interrupted |= waitForPipelineSendLock();
+        }
+      } finally {
+        this.exclusiveOpsWaiting--;
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      try {
+        if (isDestroyed()) {
+          throw new ConnectionDestroyedException();
+        }
+        return attemptExclusively(op);
+      } finally {
+        // let the ops waiting to write their requests go
+        this.pipelineSendLock.notifyAll();
+      }
+    }
   }
 
+  /**
+   * Waits on pipelineSendLock, which the caller holds. Like a blocking read of a response, the wait
+   * is not interruptible.
+   *
+   * @return true if the thread was interrupted while waiting; the caller must interrupt it again
+   *         once it is done waiting
+   */
+  private boolean waitForPipelineSendLock() {
+    try {
+      this.pipelineSendLock.wait();
+      return false;
+    } catch (InterruptedException e) {
+      return true;
+    }
+  }
+
+
+  /**
+   * Lets ops from several threads use this connection at the same time. Each op writes its request
+   * as soon as the ops ahead of it have written theirs, instead of waiting for their responses. The
+   * server processes the requests of a connection one at a time, so it answers them in the order
+   * they were sent, and a reader thread reads the responses in that order and completes the
+   * futures of the ops.
+   * <p>
+   * If a response can not be read, or does not arrive within the read timeout, the rest of the
+   * stream can no longer be matched to the ops, so the connection is destroyed. The op whose
+   * response it was fails with the cause. The ops queued behind it fail with a
+   * {@link ConnectionDestroyedException}, which the executor retries on another connection without
+   * counting it against the server.
+   * <p>
+   * Ops that can not be pipelined (see {@link AbstractOp#isPipelinable()}), such as transactional,
+   * server affinity or secured ops, still read their own responses: such an op waits for the
+   * responses of the requests already written and has the connection to itself until it is done.
+   * <p>
+   * Must be called before the connection is shared. A connection can not go back to exclusive use.
+   */
+  public void enablePipelining() {
+    if (this.pipelined) {
+      return;
+    }
+    this.commBufferForPipelinedRead =
+        ServerConnection.allocateCommBuffer(this.commBuffer.capacity(), this.theSocket);
+    Thread reader = new Thread(new Runnable() {
+      public void run() {
+        readPipelinedResponses();
+      }
+    }, "PipelinedResponseReader for " + this);
+    reader.setDaemon(true);
+    this.pipelinedReader = reader;
+    this.pipelined = true;
+    reader.start();
+  }
+
+  public boolean isPipelined() {
+    return this.pipelined;
+  }
+
+  /**
+   * Writes the request of the given op to this pipelined connection. The given future is completed
+   * by the reader thread once the response has been read.
+   * 
+   * @param start the start time of the op's attempt
+   * @throws Exception if the request could not be written
+   */
+  void sendPipelined(AbstractOp op, long start, CompletableFuture<Object> result)
+      throws Exception {
+    synchronized (this.pipelineSendLock) {
+      boolean interrupted = false;
+      while (this.exclusiveOpsWaiting > 0 && !isDestroyed()) {
+        interrupted |= waitForPipelineSendLock();
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+      if (isDestroyed()) {
+        throw new ConnectionDestroyedException();
+      }
+      boolean sent = false;
+      try {
+        op.attemptSend(this);
+        sent = true;
+      } finally {
+        if (!sent) {
+          // a partly written request leaves the connection unusable for the ops behind it
+          destroy();
+        }
+      }
+      op.pipelinedSendCompleted(getStats(), start);
+      this.pipelinedOpsInFlight++;
+      this.pipelinedOps.add(new PipelinedOp(op, start, result));
+    }
+  }
+
+  private void readPipelinedResponses() {
+    try {
+      while (!isDestroyed()) {
+        PipelinedOp pipelinedOp = this.pipelinedOps.take();
+        if (!pipelinedOp.op.readPipelinedResponse(this, pipelinedOp.start, pipelinedOp.result)) {
+          // the rest of the response may still arrive and would be read for the next op
+          destroy();
+        }
+        this.endpoint.updateLastExecute();
+        synchronized (this.pipelineSendLock) {
+          this.pipelinedOpsInFlight--;
+          if (this.pipelinedOpsInFlight == 0 && this.exclusiveOpsWaiting > 0) {
+            this.pipelineSendLock.notifyAll();
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      // we have been destroyed
+    } finally {
+      // the send lock makes sure no op is added once we have failed the ones left
+      synchronized (this.pipelineSendLock) {
+        destroy();
+        PipelinedOp pipelinedOp;
+        while ((pipelinedOp = this.pipelinedOps.poll()) != null) {
+          pipelinedOp.op.pipelinedAttemptFailed(getStats(), pipelinedOp.start, pipelinedOp.result,
+              new ConnectionDestroyedException());
+        }
+        this.pipelinedOpsInFlight = 0;
+        // the ops waiting to use the connection find it destroyed
+        this.pipelineSendLock.notifyAll();
+      }
+      // another connection may be given the buffer once it is released, so only we can release it
+      ByteBuffer bb = this.commBufferForPipelinedRead;
+      this.commBufferForPipelinedRead = null;
+      ServerConnection.releaseCommBuffer(bb);
+    }
+  }
+
+  /**
+   * An op whose request has been written to a pipelined connection
+   */
+  private static class PipelinedOp {
+    final AbstractOp op;
+    final long start;
+    final CompletableFuture<Object> result;
+
+    PipelinedOp(AbstractOp op, long start, CompletableFuture<Object> result) {
+      this.op = op;
+      this.start = start;
+      this.result = result;
+    }
+  }
 
   public static void loadEmergencyClasses() {
     // do nothing
@@ -65,7 +65,9 @@ public class GetAllOp {
     AbstractOp op = new GetAllOpImpl(region.getFullPath(), keys, callback);
     ClientMetadataService cms = ((LocalRegion) region).getCache().getClientMetadataService();
 
-    Map<ServerLocation, HashSet> serverToFilterMap = cms.getServerToFilterMap(keys, region, true);
+    Set forwardedKeys = new HashSet();
+    Map<ServerLocation, HashSet> serverToFilterMap =
+        cms.getServerToPrimaryKeysMap(keys, region, forwardedKeys);
 
     if (serverToFilterMap == null || serverToFilterMap.isEmpty()) {
       op.initMessagePart();
@@ -74,6 +76,7 @@ public class GetAllOp {
       VersionedObjectList result = null;
       ServerConnectivityException se = null;
       List retryList = new ArrayList();
+      Set<ServerLocation> failedServers = new HashSet<ServerLocation>();
       List callableTasks =
           constructGetAllTasks(region.getFullPath(), serverToFilterMap, (PoolImpl) pool, callback);
       Map<ServerLocation, Object> results = SingleHopClientExecutor.submitGetAll(serverToFilterMap,
@@ -83,6 +86,7 @@ public class GetAllOp {
         if (serverResult instanceof ServerConnectivityException) {
           se = (ServerConnectivityException) serverResult;
           retryList.addAll(serverToFilterMap.get(server));
+          failedServers.add(server);
         } else {
           if (result == null) {
             result = (VersionedObjectList) serverResult;
@@ -92,6 +96,9 @@ public class GetAllOp {
         }
       }
 
+      ClientMetadataService.incBulkOpKeys(((PoolImpl) pool).getStats(), serverToFilterMap,
+          failedServers, forwardedKeys);
+
       if (se != null) {
         if (retryAttempts == 0) {
           throw se;
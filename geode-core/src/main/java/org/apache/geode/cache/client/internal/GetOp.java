@@ -14,6 +14,9 @@
  */
 package org.apache.geode.cache.client.internal;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.apache.logging.log4j.Logger;
 
 import org.apache.geode.cache.CacheClosedException;
@@ -67,13 +70,26 @@ public class GetOp {
       logger.debug("GetOp invoked for key {}", key);
     }
     if (prSingleHopEnabled) {
-      ServerLocation server =
-          cms.getBucketServerLocation(region, Operation.GET, key, null, callbackArg);
+      PoolImpl poolImpl = (PoolImpl) pool;
+      ServerLocation server;
+      ServerLocation hedgeServer = null;
+      if (poolImpl.isHedgedReadAllowed()) {
+        List<ServerLocation> servers = cms.getBucketServerLocations(region, key, callbackArg);
+        server = servers.isEmpty() ? null : servers.get(0);
+        if (servers.size() > 1) {
+          hedgeServer = servers.get(1);
+        }
+      } else {
+        server = cms.getBucketServerLocation(region, Operation.GET, key, null, callbackArg);
+      }
       if (server != null) {
         try {
-          PoolImpl poolImpl = (PoolImpl) pool;
           boolean onlyUseExistingCnx = ((poolImpl.getMaxConnections() != -1
               && poolImpl.getConnectionCount() >= poolImpl.getMaxConnections()) ? true : false);
+          if (hedgeServer != null && !onlyUseExistingCnx) {
+            return executeHedged(poolImpl, region, key, callbackArg, clientEvent, server,
+                hedgeServer);
+          }
           op.setAllowDuplicateMetadataRefresh(!onlyUseExistingCnx);
           return pool.executeOn(new ServerLocation(server.getHostName(), server.getPort()), op,
               true, onlyUseExistingCnx);
@@ -92,6 +108,63 @@ public class GetOp {
     return pool.execute(op);
   }
 
+  /**
+   * Does a region get on the given server and, if it does not answer within the hedged read delay
+   * of the pool, on the hedge server too. The version tag of the get that answered first is the one
+   * returned in the client event.
+   * 
+   * @see PoolImpl#HEDGED_READS
+   */
+  private static Object executeHedged(PoolImpl pool, LocalRegion region, Object key,
+      Object callbackArg, EntryEventImpl clientEvent, ServerLocation server,
+      ServerLocation hedgeServer) {
+    GetOpImpl op = new GetOpImpl(region, key, callbackArg, true, null);
+    op.setHedged();
+    GetOpImpl hedgeOp = new GetOpImpl(region, key, callbackArg, true, null);
+    hedgeOp.setHedged();
+    HedgedGetResult result =
+        (HedgedGetResult) pool.executeHedged(server, op, hedgeServer, hedgeOp);
+    if (result == null) {
+      return null;
+    }
+    if (clientEvent != null && result.versionTag != null) {
+      clientEvent.setVersionTag(result.versionTag);
+    }
+    return result.value;
+  }
+
+  /**
+   * The result of a hedged get, which carries its version tag since the gets of a hedged read
+   * can not both set it in the client event
+   */
+  private static class HedgedGetResult {
+    final Object value;
+    final VersionTag versionTag;
+
+    HedgedGetResult(Object value, VersionTag versionTag) {
+      this.value = value;
+      this.versionTag = versionTag;
+    }
+  }
+
+
+  /**
+   * Does a region get on a server without waiting for the response, when the pool allows it.
+   * 
+   * @param pool the pool to use to communicate with the server.
+   * @param region the region to do the get on
+   * @param key the entry key to do the get on
+   * @param callbackArg an optional callback arg to pass to any cache callbacks
+   * @return a future completed with the entry value found by the get if any
+   * @see PoolImpl#executeAsync(Op)
+   */
+  public static CompletableFuture<Object> executeAsync(PoolImpl pool, LocalRegion region,
+      Object key, Object callbackArg) {
+    if (logger.isDebugEnabled()) {
+      logger.debug("GetOp invoked asynchronously for key {}", key);
+    }
+    return pool.executeAsync(new GetOpImpl(region, key, callbackArg, false, null));
+  }
 
   private GetOp() {
     // no instances allowed
@@ -109,6 +182,10 @@ public class GetOp {
 
     private EntryEventImpl clientEvent;
 
+    private boolean hedged;
+
+    private VersionTag versionTag;
+
     public String toString() {
       return "GetOpImpl(key=" + key + ")";
     }
@@ -134,6 +211,14 @@ public class GetOp {
       }
     }
 
+    /**
+     * Makes this get return a {@link HedgedGetResult} instead of setting the version tag in the
+     * client event
+     */
+    void setHedged() {
+      this.hedged = true;
+    }
+
     @Override
     protected Object processResponse(Message msg) throws Exception {
       throw new UnsupportedOperationException(); // version tag processing requires the connection
@@ -158,6 +243,7 @@ public class GetOp {
           assert con.getEndpoint() != null; // for debugging
           assert tag != null; // for debugging
           tag.replaceNullIDs((InternalDistributedMember) con.getEndpoint().getMemberId());
+          this.versionTag = tag;
           if (this.clientEvent != null) {
             this.clientEvent.setVersionTag(tag);
           }
@@ -209,6 +295,9 @@ public class GetOp {
           }
         }
       }
+      if (this.hedged) {
+        return new HedgedGetResult(object, this.versionTag);
+      }
       return object;
     }
 
@@ -217,6 +306,11 @@ public class GetOp {
       return msgType == MessageType.REQUESTDATAERROR;
     }
 
+    @Override
+    protected boolean isPipelinable() {
+      return true;
+    }
+
     @Override
     protected long startAttempt(ConnectionStats stats) {
       return stats.startGet();
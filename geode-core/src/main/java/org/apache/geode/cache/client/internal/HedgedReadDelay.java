@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * How long a hedged read waits for its first server before sending the read to a second one. The
+ * delay is the 99th percentile of the read latencies recorded during the last window of
+ * {@link #WINDOW_SIZE} reads, so that about one read in a hundred is hedged. Latencies are counted
+ * in power of two buckets of microseconds, so the delay is rounded up to the next power of two.
+ *
+ * @since Geode 1.2
+ */
+class HedgedReadDelay {
+
+  static final int WINDOW_SIZE = 1000;
+
+  private static final double PERCENTILE = 0.99;
+
+  private static final int BUCKETS = 40;
+
+  /** the counts of the latencies of the current window, bucket i counting those below 2^i us */
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+  private final AtomicInteger recorded = new AtomicInteger();
+
+  private final long minimumDelay;
+
+  private volatile long delay;
+
+  /**
+   * @param initialDelay the delay, in nanoseconds, used until a window of reads has been recorded
+   * @param minimumDelay the smallest delay, in nanoseconds, to use whatever the latencies
+   */
+  HedgedReadDelay(long initialDelay, long minimumDelay) {
+    this.minimumDelay = minimumDelay;
+    this.delay = Math.max(initialDelay, minimumDelay);
+  }
+
+  /**
+   * Returns the delay, in nanoseconds, after which a read should be hedged
+   */
+  long getDelay() {
+    return this.delay;
+  }
+
+  /**
+   * Records the latency, in nanoseconds, of a read that completed
+   */
+  void record(long latency) {
+    long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(latency, 0));
+    int bucket = Math.min(Long.SIZE - Long.numberOfLeadingZeros(micros), BUCKETS - 1);
+    this.counts.incrementAndGet(bucket);
+    if (this.recorded.incrementAndGet() == WINDOW_SIZE) {
+      updateDelay();
+    }
+  }
+
+  /**
+   * Computes the delay from the counts of the window that just ended and starts a new window. Reads
+   * recorded concurrently may be counted in either window, which does not matter for an estimate.
+   */
+  private void updateDelay() {
+    long[] window = new long[BUCKETS];
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      window[i] = this.counts.getAndSet(i, 0);
+      total += window[i];
+    }
+    this.recorded.set(0);
+    long threshold = (long) Math.ceil(total * PERCENTILE);
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      count += window[i];
+      if (count >= threshold) {
+        this.delay = Math.max(TimeUnit.MICROSECONDS.toNanos(1L << i), this.minimumDelay);
+        return;
+      }
+    }
+  }
+}
@@ -30,6 +30,7 @@ import org.apache.geode.cache.execute.FunctionInvocationTargetException;
 import org.apache.geode.distributed.internal.DistributionConfig;
 import org.apache.geode.distributed.internal.ServerLocation;
 import org.apache.geode.internal.cache.PoolManagerImpl;
+import org.apache.geode.internal.cache.PoolStats;
 import org.apache.geode.internal.cache.PutAllPartialResultException;
 import org.apache.geode.internal.cache.TXManagerImpl;
 import org.apache.geode.internal.cache.TXStateProxy;
@@ -51,6 +52,18 @@ import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.nio.BufferUnderflowException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 /**
  * Called from the client and execute client to server requests against servers. Handles retrying to
@@ -65,6 +78,14 @@ public class OpExecutorImpl implements ExecutablePool {
       Boolean.getBoolean(DistributionConfig.GEMFIRE_PREFIX + "PoolImpl.TRY_SERVERS_ONCE");
   private static final int TX_RETRY_ATTEMPT =
       Integer.getInteger(DistributionConfig.GEMFIRE_PREFIX + "txRetryAttempt", 500);
+  /**
+   * If true, ops that allow it (gets, puts and containsKeys outside of transactions) share one
+   * pipelined connection instead of each borrowing a connection for its round trip.
+   * 
+   * @see ConnectionImpl#enablePipelining()
+   */
+  private static final boolean PIPELINE_OPS =
+      Boolean.getBoolean(DistributionConfig.GEMFIRE_PREFIX + "PoolImpl.PIPELINE_OPS");
 
   private final ConnectionManager connectionManager;
   private final int retryAttempts;
@@ -95,6 +116,17 @@ public class OpExecutorImpl implements ExecutablePool {
       return 0;
     };
   };
+  /**
+   * The connection shared by pipelined ops. It stays borrowed from the connection manager until it
+   * is destroyed, so load conditioning does not replace it.
+   */
+  private volatile Connection pipelinedConnection;
+  private final Object pipelinedConnectionLock = new Object();
+  /**
+   * Set when the servers require credentials. Secure responses carry the id the next request on
+   * the connection has to use, which rules out pipelining.
+   */
+  private volatile boolean pipeliningUnsupported;
 
   public OpExecutorImpl(ConnectionManager manager, QueueManager queueManager,
       EndpointManager endpointManager, RegisterInterestTracker riTracker, int retryAttempts,
@@ -127,6 +159,19 @@ public class OpExecutorImpl implements ExecutablePool {
       }
       return executeWithServerAffinity(loc, op);
     }
+    if (PIPELINE_OPS && isPipelinable(op)) {
+      Connection conn = getPipelinedConnection();
+      if (conn != null) {
+        try {
+          return executeWithPossibleReAuthentication(conn, op);
+        } catch (Exception e) {
+          // This method will throw an exception if the op should not be retried.
+          // Otherwise the op is retried below on a connection of its own.
+          handleException(e, conn, 0, false);
+          ((AbstractOp) op).getMessage().setIsRetry();
+        }
+      }
+    }
     boolean success = false;
 
     Set attemptedServers = new HashSet();
@@ -206,6 +251,225 @@ public class OpExecutorImpl implements ExecutablePool {
     }
   }
 
+  /**
+   * Executes the given op without waiting for its response if it can share the pipelined
+   * connection, whether or not PIPELINE_OPS is set. Otherwise the op is executed by the calling
+   * thread, which keeps the transaction and the user of that thread, and the returned future is
+   * already completed.
+   * 
+   * @param executor completes the returned future, and retries the op if its pipelined attempt
+   *        fails, so that neither happens in the thread reading the responses of the connection
+   */
+  public CompletableFuture<Object> executeAsync(final Op op, Executor executor) {
+    CompletableFuture<Object> result = new CompletableFuture<Object>();
+    if (!this.serverAffinity.get() && isPipelinable(op)) {
+      final Connection conn;
+      try {
+        conn = getPipelinedConnection();
+      } catch (RuntimeException e) {
+        result.completeExceptionally(e);
+        return result;
+      }
+      if (conn != null) {
+        CompletableFuture<Object> attempt;
+        try {
+          attempt = ((AbstractOp) op).attemptAsync(
+              (ConnectionImpl) this.connectionManager.getConnection(conn));
+        } catch (ConnectionDestroyedException e) {
+          attempt = new CompletableFuture<Object>();
+          attempt.completeExceptionally(e);
+        }
+        return attempt.handleAsync(new BiFunction<Object, Throwable, Object>() {
+          public Object apply(Object value, Throwable failure) {
+            if (failure == null) {
+              return value;
+            }
+            // This method will throw an exception if the op should not be retried.
+            handleException(failure, conn, 0, false);
+            ((AbstractOp) op).getMessage().setIsRetry();
+            return execute(op);
+          }
+        }, executor);
+      }
+    }
+    try {
+      result.complete(execute(op));
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+    return result;
+  }
+
+  /**
+   * Executes the given op on the given server and, if it has not completed after the hedged read
+   * delay, the hedge op on the hedge server. The result of the first of them to succeed is returned
+   * and the other one is left to complete on its own.
+   * 
+   * @param executor runs both attempts while the calling thread waits for them. If it rejects an
+   *        attempt because its threads are all busy, the read is not hedged: the op is executed by
+   *        the calling thread, or only the first attempt is waited for.
+   * @throws RuntimeException the exception of the first attempt if both of them fail
+   */
+  public Object executeHedged(final ServerLocation server, final Op op,
+      final ServerLocation hedgeServer, final Op hedgeOp, final HedgedReadDelay hedgedReadDelay,
+      Executor executor) {
+    CompletableFuture<Object> attempt;
+    try {
+      attempt = executeOnAsync(server, op, hedgedReadDelay, executor);
+    } catch (RejectedExecutionException e) {
+      return executeOnTimed(server, op, hedgedReadDelay);
+    }
+    boolean interrupted = false;
+    try {
+      long end = System.nanoTime() + hedgedReadDelay.getDelay();
+      while (true) {
+        try {
+          return attempt.get(end - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+          // like a blocking read of the response, waiting for it is not interruptible
+          interrupted = true;
+        } catch (TimeoutException e) {
+          break;
+        } catch (ExecutionException e) {
+          throw getFailure(e.getCause());
+        }
+      }
+
+      CompletableFuture<Object> result;
+      try {
+        result = hedge(attempt, hedgeServer, hedgeOp, hedgedReadDelay, executor);
+      } catch (RejectedExecutionException e) {
+        result = attempt;
+      }
+      while (true) {
+        try {
+          return result.get();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (ExecutionException e) {
+          throw getFailure(e.getCause());
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Executes the hedge op on the hedge server and returns a future completed by the first of it and
+   * the given attempt to succeed, or with the failure of the attempt if both of them fail.
+   * 
+   * @throws RejectedExecutionException if the executor rejects the hedge op
+   */
+  private CompletableFuture<Object> hedge(CompletableFuture<Object> attempt,
+      ServerLocation hedgeServer, Op hedgeOp, HedgedReadDelay hedgedReadDelay,
+      Executor executor) {
+    CompletableFuture<Object> hedge =
+        executeOnAsync(hedgeServer, hedgeOp, hedgedReadDelay, executor);
+    final PoolStats stats = this.pool.getStats();
+    stats.incHedgedReads();
+    final CompletableFuture<Object> result = new CompletableFuture<Object>();
+    final AtomicReference<Throwable> attemptFailure = new AtomicReference<Throwable>();
+    final AtomicInteger failures = new AtomicInteger();
+    attempt.whenComplete(new BiConsumer<Object, Throwable>() {
+      public void accept(Object value, Throwable failure) {
+        if (failure == null) {
+          result.complete(value);
+        } else {
+          attemptFailure.set(failure);
+          if (failures.incrementAndGet() == 2) {
+            result.completeExceptionally(failure);
+          }
+        }
+      }
+    });
+    hedge.whenComplete(new BiConsumer<Object, Throwable>() {
+      public void accept(Object value, Throwable failure) {
+        if (failure == null) {
+          if (result.complete(value)) {
+            stats.incHedgedReadsWon();
+          }
+        } else if (failures.incrementAndGet() == 2) {
+          result.completeExceptionally(attemptFailure.get());
+        }
+      }
+    });
+    return result;
+  }
+
+  private CompletableFuture<Object> executeOnAsync(final ServerLocation server, final Op op,
+      final HedgedReadDelay hedgedReadDelay, Executor executor) {
+    return CompletableFuture.supplyAsync(new Supplier<Object>() {
+      public Object get() {
+        return executeOnTimed(server, op, hedgedReadDelay);
+      }
+    }, executor);
+  }
+
+  /**
+   * Executes the given op on the given server and records how long it took in the given delay
+   */
+  private Object executeOnTimed(ServerLocation server, Op op, HedgedReadDelay hedgedReadDelay) {
+    long start = System.nanoTime();
+    Object result = executeOnServer(server, op, true, false);
+    hedgedReadDelay.record(System.nanoTime() - start);
+    return result;
+  }
+
+  /**
+   * Returns the exception thrown by an attempt run by {@link #executeOnAsync}
+   */
+  private static RuntimeException getFailure(Throwable failure) {
+    if (failure instanceof CompletionException && failure.getCause() != null) {
+      failure = failure.getCause();
+    }
+    if (failure instanceof Error) {
+      throw (Error) failure;
+    }
+    if (failure instanceof RuntimeException) {
+      return (RuntimeException) failure;
+    }
+    return new ServerOperationException(failure);
+  }
+
+  private boolean isPipelinable(Op op) {
+    return !this.pipeliningUnsupported && op instanceof AbstractOp
+        && ((AbstractOp) op).isPipelinable() && TXManagerImpl.getCurrentTXState() == null;
+  }
+
+  /**
+   * Returns the connection shared by pipelined ops, borrowing a new one if it has been destroyed.
+   * Returns null if the servers do not allow pipelining.
+   */
+  private Connection getPipelinedConnection() {
+    Connection conn = this.pipelinedConnection;
+    if (conn != null && !conn.isDestroyed()) {
+      return conn;
+    }
+    synchronized (this.pipelinedConnectionLock) {
+      conn = this.pipelinedConnection;
+      if (conn != null && !conn.isDestroyed()) {
+        return conn;
+      }
+      if (conn != null) {
+        this.pipelinedConnection = null;
+        connectionManager.returnConnection(conn);
+      }
+      conn = connectionManager.borrowConnection(serverTimeout);
+      Connection connImpl = connectionManager.getConnection(conn);
+      if (conn.getServer().getRequiresCredentials() || !(connImpl instanceof ConnectionImpl)) {
+        this.pipeliningUnsupported = true;
+        connectionManager.returnConnection(conn);
+        return null;
+      }
+      ((ConnectionImpl) connImpl).enablePipelining();
+      this.pipelinedConnection = conn;
+      return conn;
+    }
+  }
+
   /**
    * execute the given op on the given server. If the server cannot be reached, sends a
    * TXFailoverOp, then retries the given op
@@ -41,14 +41,19 @@ import org.apache.geode.internal.i18n.LocalizedStrings;
 import org.apache.geode.internal.logging.InternalLogWriter;
 import org.apache.geode.internal.logging.LogService;
 import org.apache.geode.internal.logging.log4j.LocalizedMessage;
+import org.apache.geode.pdx.internal.PdxType;
 import org.apache.logging.log4j.Logger;
 
 import java.net.InetSocketAddress;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -76,6 +81,52 @@ public class PoolImpl implements InternalPool {
           .getInteger(
               DistributionConfig.GEMFIRE_PREFIX + "PoolImpl.BACKGROUND_TASK_POOL_KEEP_ALIVE", 1000)
           .intValue();
+  /**
+   * The number of threads completing the futures of asynchronous ops. They also retry the ops
+   * whose attempt failed.
+   */
+  public static final int ASYNC_OP_POOL_SIZE = Integer
+      .getInteger(DistributionConfig.GEMFIRE_PREFIX + "PoolImpl.ASYNC_OP_POOL_SIZE", 4).intValue();
+  /**
+   * If true, starting a pool creates its min connections in parallel and loads the pdx types of the
+   * servers before returning, and creating a region that uses the pool fetches the partition
+   * metadata of the region if single hop is enabled, so that the first operations are not slowed
+   * down by these. Not final so that tests can change it before creating a pool.
+   */
+  public static boolean WARM_UP =
+      Boolean.getBoolean(DistributionConfig.GEMFIRE_PREFIX + "PoolImpl.WARM_UP");
+  /**
+   * How long, in milliseconds, starting a pool waits for its min connections when warming up.
+   */
+  public static final long WARM_UP_TIMEOUT = Long
+      .getLong(DistributionConfig.GEMFIRE_PREFIX + "PoolImpl.WARM_UP_TIMEOUT", 10000).longValue();
+  /**
+   * If true, single hop gets on partitioned regions with redundant copies are sent to a second
+   * server hosting the bucket when the first one has not answered within the hedged read delay, and
+   * the first answer is used.
+   */
+  public static final boolean HEDGED_READS =
+      Boolean.getBoolean(DistributionConfig.GEMFIRE_PREFIX + "PoolImpl.HEDGED_READS");
+  /**
+   * The hedged read delay, in milliseconds, used until enough gets have been done to derive it from
+   * their latency.
+   */
+  public static final long HEDGED_READ_INITIAL_DELAY = Long
+      .getLong(DistributionConfig.GEMFIRE_PREFIX + "PoolImpl.HEDGED_READ_INITIAL_DELAY", 50)
+      .longValue();
+  /**
+   * The smallest hedged read delay, in milliseconds, whatever the latency of the gets.
+   */
+  public static final long HEDGED_READ_MINIMUM_DELAY = Long
+      .getLong(DistributionConfig.GEMFIRE_PREFIX + "PoolImpl.HEDGED_READ_MINIMUM_DELAY", 1)
+      .longValue();
+  /**
+   * The most threads running the attempts of hedged reads. Reads done while they are all busy are
+   * not hedged.
+   */
+  public static final int HEDGED_READ_MAX_THREADS = Integer
+      .getInteger(DistributionConfig.GEMFIRE_PREFIX + "PoolImpl.HEDGED_READ_MAX_THREADS", 64)
+      .intValue();
   // For durable client tests only. Connection Sources read this flag
   // and return an empty list of servers.
   public volatile static boolean TEST_DURABLE_IS_NET_DOWN = false;
@@ -113,6 +164,11 @@ public class PoolImpl implements InternalPool {
   protected volatile boolean destroyed;
   private final PoolStats stats;
   private ScheduledExecutorService backgroundProcessor;
+  private ThreadPoolExecutor asyncOpProcessor;
+  private ThreadPoolExecutor hedgedReadProcessor;
+  private final HedgedReadDelay hedgedReadDelay =
+      new HedgedReadDelay(TimeUnit.MILLISECONDS.toNanos(HEDGED_READ_INITIAL_DELAY),
+          TimeUnit.MILLISECONDS.toNanos(HEDGED_READ_MINIMUM_DELAY));
   private final OpExecutorImpl executor;
   private final RegisterInterestTracker riTracker = new RegisterInterestTracker();
   private final InternalDistributedSystem dsys;
@@ -305,6 +361,38 @@ public class PoolImpl implements InternalPool {
     ((ScheduledThreadPoolExecutorWithKeepAlive) backgroundProcessor)
         .setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
 
+    final String asyncOpThreadName = "poolAsyncOp-" + getName() + "-";
+    asyncOpProcessor = new ThreadPoolExecutor(ASYNC_OP_POOL_SIZE, ASYNC_OP_POOL_SIZE,
+        BACKGROUND_TASK_POOL_KEEP_ALIVE, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+        new ThreadFactory() {
+          AtomicInteger threadNum = new AtomicInteger();
+
+          public Thread newThread(final Runnable r) {
+            Thread result = new Thread(r, asyncOpThreadName + threadNum.incrementAndGet());
+            result.setDaemon(true);
+            return result;
+          }
+        });
+    asyncOpProcessor.allowCoreThreadTimeOut(true);
+
+    if (HEDGED_READS && this.prSingleHopEnabled) {
+      // each hedged read has both of its attempts running in these threads while the calling
+      // thread waits. When they are all busy the executor rejects the attempts and the read is done
+      // without hedging
+      final String hedgedReadThreadName = "poolHedgedRead-" + getName() + "-";
+      hedgedReadProcessor = new ThreadPoolExecutor(0, HEDGED_READ_MAX_THREADS,
+          BACKGROUND_TASK_POOL_KEEP_ALIVE, TimeUnit.MILLISECONDS, new SynchronousQueue<Runnable>(),
+          new ThreadFactory() {
+            AtomicInteger threadNum = new AtomicInteger();
+
+            public Thread newThread(final Runnable r) {
+              Thread result = new Thread(r, hedgedReadThreadName + threadNum.incrementAndGet());
+              result.setDaemon(true);
+              return result;
+            }
+          });
+    }
+
     source.start(this);
     connectionFactory.start(backgroundProcessor);
     endpointManager.addListener(new InstantiatorRecoveryListener(backgroundProcessor, this));
@@ -330,12 +418,52 @@ public class PoolImpl implements InternalPool {
       backgroundProcessor.scheduleWithFixedDelay(new PublishClientStatsTask(), statisticInterval,
           statisticInterval, TimeUnit.MILLISECONDS);
     }
+
+    if (WARM_UP && !this.usedByGateway) {
+      warmUp();
+    }
     // LOG: changed from config to info
     logger.info(LocalizedMessage.create(
         LocalizedStrings.PoolImpl_POOL_0_STARTED_WITH_MULTIUSER_SECURE_MODE_ENABLED_1,
         new Object[] {this.name, this.multiuserSecureModeEnabled}));
   }
 
+  /**
+   * Creates the min connections of this pool and loads the pdx types known by the servers. Failures
+   * are logged and leave the pool to create connections and fetch types when they are needed.
+   * 
+   * @see #WARM_UP
+   */
+  private void warmUp() {
+    if (!manager.warmUp(WARM_UP_TIMEOUT)) {
+      logger.warn("Pool {} could not create its {} min connections within {} ms while warming up",
+          this.name, this.minConnections, WARM_UP_TIMEOUT);
+    }
+    GemFireCacheImpl cache = GemFireCacheImpl.getInstance();
+    if (cache == null || cache.getPdxRegistry() == null) {
+      return;
+    }
+    try {
+      Map<Integer, PdxType> types = GetPDXTypesOp.execute(this);
+      if (types != null) {
+        cache.getPdxRegistry().preloadTypes(types);
+      }
+    } catch (ServerConnectivityException e) {
+      logger.warn("Pool {} could not load the pdx types of the servers while warming up: {}",
+          this.name, e.getMessage());
+    }
+  }
+
+  /**
+   * Returns true if regions using this pool should fetch their partition metadata when they are
+   * created.
+   * 
+   * @see #WARM_UP
+   */
+  public boolean isMetadataPrefetchEnabled() {
+    return WARM_UP && this.prSingleHopEnabled;
+  }
+
   /**
    * Returns the cancellation criterion for this proxy
    * 
@@ -541,6 +669,12 @@ public class PoolImpl implements InternalPool {
       logger.info(
           LocalizedMessage.create(LocalizedStrings.PoolImpl_DESTROYING_CONNECTION_POOL_0, name));
 
+      if (asyncOpProcessor != null) {
+        asyncOpProcessor.shutdown();
+      }
+      if (hedgedReadProcessor != null) {
+        hedgedReadProcessor.shutdown();
+      }
       try {
         if (backgroundProcessor != null) {
           backgroundProcessor.shutdown();
@@ -751,6 +885,18 @@ public class PoolImpl implements InternalPool {
     return executor.execute(op, retries);
   }
 
+  /**
+   * Execute the given op on the servers that this pool connects to, without waiting for its
+   * response when the op allows it. The op is retried like it is by {@link #execute(Op)}.
+   * 
+   * @param op the operation to execute
+   * @return a future completed with the result of execution if any; null if not
+   */
+  public CompletableFuture<Object> executeAsync(Op op) {
+    authenticateIfRequired(op);
+    return executor.executeAsync(op, asyncOpProcessor);
+  }
+
   /**
    * Execute the given op on the given server.
    * 
@@ -777,6 +923,36 @@ public class PoolImpl implements InternalPool {
     return executor.executeOn(server, op, accessed, onlyUseExistingCnx);
   }
 
+  /**
+   * Returns true if reads of the calling thread can be hedged. The attempts of a hedged read are
+   * executed by other threads, so reads that depend on the transaction, the user or the thread
+   * local connection of the calling thread are not hedged.
+   * 
+   * @see #HEDGED_READS
+   */
+  public boolean isHedgedReadAllowed() {
+    return this.hedgedReadProcessor != null && !this.multiuserSecureModeEnabled
+        && !this.threadLocalConnections && TXManagerImpl.getCurrentTXState() == null;
+  }
+
+  /**
+   * Execute the given read on the given server and, if it has not answered within the hedged read
+   * delay, the given hedge read on the hedge server. The read is not hedged if the
+   * {@link #HEDGED_READ_MAX_THREADS} hedged read threads are all busy.
+   * 
+   * @param server the server to do the read on
+   * @param op the read to execute
+   * @param hedgeServer the server to do the hedge read on
+   * @param hedgeOp a read equivalent to op
+   * @return the result of the first of the reads to succeed
+   * @see #isHedgedReadAllowed()
+   */
+  public Object executeHedged(ServerLocation server, Op op, ServerLocation hedgeServer,
+      Op hedgeOp) {
+    return executor.executeHedged(server, op, hedgeServer, hedgeOp, this.hedgedReadDelay,
+        this.hedgedReadProcessor);
+  }
+
   /**
    * Execute the given op on the given connection.
    * 
@@ -874,6 +1050,14 @@ public class PoolImpl implements InternalPool {
     manager.returnConnection(conn);
   }
 
+  /**
+   * Test hook that returns the connection to the server wrapped by a connection acquired with
+   * {@link #acquireConnection()}.
+   */
+  public Connection getConnection(Connection conn) {
+    return manager.getConnection(conn);
+  }
+
   /**
    * Test hook that acquires and returns a connection from the pool with a given ServerLocation.
    */
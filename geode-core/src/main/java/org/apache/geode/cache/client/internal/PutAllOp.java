@@ -90,8 +90,9 @@ public class PutAllOp {
       EventID eventId, boolean skipCallbacks, int retryAttempts, Object callbackArg) {
     ClientMetadataService cms = ((LocalRegion) region).getCache().getClientMetadataService();
 
+    Set forwardedKeys = new HashSet();
     Map<ServerLocation, HashSet> serverToFilterMap =
-        cms.getServerToFilterMap(map.keySet(), region, true);
+        cms.getServerToPrimaryKeysMap(map.keySet(), region, forwardedKeys);
 
     if (serverToFilterMap == null || serverToFilterMap.isEmpty()) {
       AbstractOp op = new PutAllOpImpl(region, map, eventId,
@@ -137,6 +138,9 @@ public class PutAllOp {
       throw ex;
     }
 
+    ClientMetadataService.incBulkOpKeys(((PoolImpl) pool).getStats(), serverToFilterMap,
+        failedServers.keySet(), forwardedKeys);
+
     if (!failedServers.isEmpty()) {
       if (retryAttempts == 0) {
         throw failedServers.values().iterator().next();
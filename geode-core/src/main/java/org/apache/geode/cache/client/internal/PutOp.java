@@ -35,6 +35,7 @@ import org.apache.geode.internal.logging.LogService;
 
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.logging.log4j.Logger;
 
@@ -104,6 +105,25 @@ public class PutOp {
   }
 
 
+  /**
+   * Does a region put on a server without waiting for the response, when the pool allows it. Do
+   * not call this method if the value is a Delta instance.
+   * 
+   * @param pool the pool to use to communicate with the server.
+   * @param region the region to do the put on
+   * @param key the entry key to do the put on
+   * @param value the entry value to put
+   * @param event the event for this put
+   * @param callbackArg an optional callback arg to pass to any cache callbacks
+   * @see PoolImpl#executeAsync(Op)
+   */
+  public static CompletableFuture<Object> executeAsync(PoolImpl pool, LocalRegion region,
+      Object key, Object value, EntryEventImpl event, Object callbackArg) {
+    PutOpImpl op = new PutOpImpl(region, key, value, null, event, Operation.UPDATE, false, null,
+        callbackArg, false/* donot send full obj; send delta */, false);
+    return pool.executeAsync(op);
+  }
+
   /**
    * This is a unit test method. It does a region put on a server using the given connection from
    * the given pool to communicate with the server. Do not call this method if the value is Delta
@@ -425,6 +445,11 @@ public class PutOp {
       return msgType == MessageType.PUT_DATA_ERROR;
     }
 
+    @Override
+    protected boolean isPipelinable() {
+      return true;
+    }
+
     @Override
     protected long startAttempt(ConnectionStats stats) {
       return stats.startPut();
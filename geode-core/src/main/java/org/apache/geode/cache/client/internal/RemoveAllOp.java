@@ -89,7 +89,9 @@ public class RemoveAllOp {
     final boolean isDebugEnabled = logger.isDebugEnabled();
     ClientMetadataService cms = ((LocalRegion) region).getCache().getClientMetadataService();
 
-    Map<ServerLocation, HashSet> serverToFilterMap = cms.getServerToFilterMap(keys, region, true);
+    Set forwardedKeys = new HashSet();
+    Map<ServerLocation, HashSet> serverToFilterMap =
+        cms.getServerToPrimaryKeysMap(keys, region, forwardedKeys);
 
     if (serverToFilterMap == null || serverToFilterMap.isEmpty()) {
       AbstractOp op = new RemoveAllOpImpl(region, keys, eventId,
@@ -132,6 +134,9 @@ public class RemoveAllOp {
       throw ex;
     }
 
+    ClientMetadataService.incBulkOpKeys(((PoolImpl) pool).getStats(), serverToFilterMap,
+        failedServers.keySet(), forwardedKeys);
+
     if (!failedServers.isEmpty()) {
       if (retryAttempts == 0) {
         throw failedServers.values().iterator().next();
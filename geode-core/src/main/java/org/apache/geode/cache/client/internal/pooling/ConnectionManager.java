@@ -77,6 +77,15 @@ public interface ConnectionManager {
    */
   void start(ScheduledExecutorService backgroundProcessor);
 
+  /**
+   * Create the connections needed to reach the minimum number of connections in parallel and wait
+   * for them to be created.
+   * 
+   * @param timeout how long to wait for the connections, in milliseconds
+   * @return true if the minimum number of connections was reached
+   */
+  boolean warmUp(long timeout);
+
   /**
    * Shutdown the pool.
    * 
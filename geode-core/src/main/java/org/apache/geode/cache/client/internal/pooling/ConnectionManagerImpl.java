@@ -720,6 +720,59 @@ public class ConnectionManagerImpl implements ConnectionManager {
     return true;
   }
 
+  public boolean warmUp(long timeout) {
+    int missing;
+    lock.lock();
+    try {
+      missing = minConnections - connectionCount;
+    } finally {
+      lock.unlock();
+    }
+    if (missing <= 0) {
+      return true;
+    }
+    // the connection source spreads the connections over the servers like it does for the
+    // connections created one after the other by the prefill task
+    final CountDownLatch created = new CountDownLatch(missing);
+    try {
+      for (int i = 0; i < missing; i++) {
+        backgroundProcessor.execute(new PoolTask() {
+          @Override
+          public void run2() {
+            try {
+              prefillConnection();
+            } finally {
+              created.countDown();
+            }
+          }
+        });
+      }
+    } catch (RejectedExecutionException e) {
+      // the pool is being closed
+      return false;
+    }
+    boolean interrupted = false;
+    try {
+      long end = System.currentTimeMillis() + timeout;
+      long remaining = timeout;
+      while (remaining > 0) {
+        try {
+          if (created.await(remaining, TimeUnit.MILLISECONDS)) {
+            break;
+          }
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+        remaining = end - System.currentTimeMillis();
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return connectionCount >= minConnections;
+  }
+
   public int getConnectionCount() {
     return this.connectionCount;
   }
@@ -1160,7 +1213,9 @@ public class ConnectionManagerImpl implements ConnectionManager {
       for (Iterator it = this.allConnections.iterator(); it.hasNext();) {
         PooledConnection pc = (PooledConnection) it.next();
         if (currentServer.equals(pc.getServer())) {
-          if (!pc.shouldDestroy() && pc.remainingLife(now, lifetimeTimeoutNanos) <= 0) {
+          // a pipelined connection never becomes inactive, so it can not be switched
+          if (!pc.shouldDestroy() && !pc.isPipelined()
+              && pc.remainingLife(now, lifetimeTimeoutNanos) <= 0) {
             removeFromEndpointMap(pc);
             return pc;
           }
@@ -1179,8 +1234,8 @@ public class ConnectionManagerImpl implements ConnectionManager {
         final long now = System.nanoTime();
         for (Iterator it = this.allConnections.iterator(); it.hasNext();) {
           PooledConnection pc = (PooledConnection) it.next();
-          if (pc.shouldDestroy()) {
-            // this con has already been destroyed so ignore it
+          if (pc.shouldDestroy() || pc.isPipelined()) {
+            // this con has already been destroyed, or can not be replaced, so ignore it
             continue;
           } else if (currentServer.equals(pc.getServer())) {
             /*
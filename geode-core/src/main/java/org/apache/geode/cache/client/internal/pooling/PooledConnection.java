@@ -70,6 +70,15 @@ class PooledConnection implements Connection {
     }
   }
 
+  /**
+   * Return true if the underlying connection is shared by pipelined ops. Such a connection is never
+   * returned to the pool.
+   */
+  public boolean isPipelined() {
+    Connection myCon = this.connection;
+    return myCon instanceof ConnectionImpl && ((ConnectionImpl) myCon).isPipelined();
+  }
+
   public void internalDestroy() {
     this.shouldDestroy.set(true); // probably already set but make sure
     synchronized (this) {
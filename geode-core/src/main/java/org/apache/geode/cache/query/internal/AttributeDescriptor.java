@@ -38,7 +38,9 @@ import org.apache.geode.internal.i18n.LocalizedStrings;
 import org.apache.geode.pdx.PdxInstance;
 import org.apache.geode.pdx.PdxSerializationException;
 import org.apache.geode.pdx.internal.FieldNotFoundInPdxVersion;
+import org.apache.geode.pdx.internal.PdxField;
 import org.apache.geode.pdx.internal.PdxInstanceImpl;
+import org.apache.geode.pdx.internal.PdxType;
 import org.apache.geode.pdx.JSONFormatter;
 
 /**
@@ -53,7 +55,11 @@ public class AttributeDescriptor {
   /** cache for remembering the correct Member for a class and attribute */
   private static final ConcurrentMap _cache = new ConcurrentHashMap();
 
-
+  /**
+   * The field of this attribute in the PdxType of the last PdxInstance read. Instances of the same
+   * type can then be read without looking the field up by name.
+   */
+  private volatile ResolvedPdxField _resolvedPdxField;
 
   public AttributeDescriptor(String name) {
     _name = name;
@@ -252,6 +258,14 @@ public class AttributeDescriptor {
    */
   private Object readPdx(PdxInstance target)
       throws NameNotFoundException, QueryInvocationTargetException {
+    if (target.getClass() == PdxInstanceImpl.class) {
+      // an unmodified instance reads its fields from the serialized bytes of its own type
+      PdxInstanceImpl pdxInstance = (PdxInstanceImpl) target;
+      PdxField field = getPdxField(pdxInstance.getPdxType());
+      if (field != null) {
+        return pdxInstance.readRawField(field);
+      }
+    }
     if (target instanceof PdxInstanceImpl) {
       PdxInstanceImpl pdxInstance = (PdxInstanceImpl) target;
       // if the field is present in the pdxinstance
@@ -304,6 +318,28 @@ public class AttributeDescriptor {
     }
   }
 
+  /**
+   * Returns the field of this attribute in the given type, or null if the type does not have it.
+   */
+  private PdxField getPdxField(PdxType type) {
+    ResolvedPdxField resolved = _resolvedPdxField;
+    if (resolved == null || resolved.type != type) {
+      resolved = new ResolvedPdxField(type, type.getPdxField(_name));
+      _resolvedPdxField = resolved;
+    }
+    return resolved.field;
+  }
+
+  private static class ResolvedPdxField {
+    final PdxType type;
+    final PdxField field;
+
+    ResolvedPdxField(PdxType type, PdxField field) {
+      this.type = type;
+      this.field = field;
+    }
+  }
+
   private Object readFieldFromDeserializedObject(PdxInstanceImpl pdxInstance, Object target)
       throws NameNotFoundException, QueryInvocationTargetException {
     try {
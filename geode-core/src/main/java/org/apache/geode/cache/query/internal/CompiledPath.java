@@ -34,10 +34,13 @@ import org.apache.geode.internal.cache.PartitionedRegion;
 public class CompiledPath extends AbstractCompiledValue {
   private CompiledValue _receiver; // the value represented by the expression before the dot
   private String _tailID; // the identifier after the dot.
+  // reads the tail from each receiver, remembering how it was resolved for the previous one
+  private final AttributeDescriptor _tailDescriptor;
 
   public CompiledPath(CompiledValue rcvr, String id) {
     _receiver = rcvr;
     _tailID = id;
+    _tailDescriptor = new AttributeDescriptor(id);
   }
 
   @Override
@@ -136,7 +139,7 @@ public class CompiledPath extends AbstractCompiledValue {
     // getTailID());
     // }
 
-    Object obj = PathUtils.evaluateAttribute(evalRcvr, getTailID());
+    Object obj = PathUtils.evaluateAttribute(evalRcvr, getTailID(), _tailDescriptor);
     // check for BucketRegion substitution
     PartitionedRegion pr = context.getPartitionedRegion();
     if (pr != null && (obj instanceof Region)) {
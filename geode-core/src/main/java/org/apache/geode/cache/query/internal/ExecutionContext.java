@@ -683,6 +683,26 @@ public class ExecutionContext {
     throw new UnsupportedOperationException("Method should not have been called");
   }
 
+  /**
+   * The range of the keys of the buckets in the bucket list that this execution iterates when the
+   * buckets are split into several ranges, each queried by its own thread.
+   */
+  public int getBucketRange() {
+    return 0;
+  }
+
+  /**
+   * The number of ranges the keys of the buckets in the bucket list are split into; 1 if the
+   * buckets are not split.
+   */
+  public int getBucketRangeCount() {
+    return 1;
+  }
+
+  public void setBucketRange(int range, int rangeCount) {
+    throw new UnsupportedOperationException("Method should not have been called");
+  }
+
   public void addToSuccessfulBuckets(int bId) {
     throw new UnsupportedOperationException("Method should not have been called");
   }
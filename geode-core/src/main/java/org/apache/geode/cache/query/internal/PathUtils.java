@@ -59,6 +59,17 @@ public class PathUtils {
 
   public static Object evaluateAttribute(Object target, String attribute)
       throws NameNotFoundException, QueryInvocationTargetException {
+    return evaluateAttribute(target, attribute, null);
+  }
+
+  /**
+   * Like {@link #evaluateAttribute(Object, String)} but reads the attribute with the given
+   * descriptor, if not null, so that what the descriptor resolves for one target is reused for the
+   * next.
+   */
+  public static Object evaluateAttribute(Object target, String attribute,
+      AttributeDescriptor attributeDescriptor)
+      throws NameNotFoundException, QueryInvocationTargetException {
     if (target instanceof Struct) {
       Struct struct = (Struct) target;
       try {
@@ -68,7 +79,10 @@ public class PathUtils {
       }
     }
     try {
-      return new AttributeDescriptor(attribute).read(target);
+      if (attributeDescriptor == null) {
+        attributeDescriptor = new AttributeDescriptor(attribute);
+      }
+      return attributeDescriptor.read(target);
     } catch (NameNotFoundException nfe) {
       if (DefaultQueryService.QUERY_HETEROGENEOUS_OBJECTS
           || DefaultQueryService.TEST_QUERY_HETEROGENEOUS_OBJECTS) {
@@ -79,18 +93,6 @@ public class PathUtils {
     }
   }
 
-  /*
-   * This was added as part of CQ performance changes. The change is done to re-use the
-   * AttributeDescriptor object instead of creating it each time.
-   */
-  /*
-   * public static Object evaluateAttribute(Object target, String attribute, AttributeDescriptor
-   * attributeDescriptor) throws NameNotFoundException, QueryInvocationTargetException { if(target
-   * instanceof Struct){ Struct struct = (Struct)target; try{ return struct.get(attribute);
-   * }catch(Exception e){ throw new NameNotFoundException(attribute); } } return
-   * attributeDescriptor.read(target); }
-   */
-
   /**
    * @param pathArray the path starting with an attribute on the initial type.
    * @return array of types starting with the initialType and ending with the type of the last
@@ -21,6 +21,7 @@ import org.apache.geode.cache.query.*;
 import java.util.concurrent.locks.Lock;
 import org.apache.geode.cache.query.types.*;
 import org.apache.geode.cache.query.internal.types.*;
+import org.apache.geode.internal.cache.EntriesSet;
 import org.apache.geode.internal.cache.LocalDataSet;
 import org.apache.geode.internal.cache.PartitionedRegion;
 import org.apache.geode.internal.i18n.LocalizedStrings;
@@ -36,6 +37,11 @@ public class QRegion implements SelectResults {
    */
   private final SelectResults values;
 
+  /** The range of the bucket keys to iterate, see {@link ExecutionContext#getBucketRange()} */
+  private int bucketRange = 0;
+
+  private int bucketRangeCount = 1;
+
   /** Creates a new instance of QRegion */
   public QRegion(Region region, boolean includeKeys) {
     if (region == null)
@@ -74,12 +80,14 @@ public class QRegion implements SelectResults {
       LocalDataSet localData =
           new LocalDataSet(((PartitionedRegion) region), new HashSet(context.getBucketList()));
       this.region = localData;
+      this.bucketRange = context.getBucketRange();
+      this.bucketRangeCount = context.getBucketRangeCount();
       if (includeKeys) {
         res = new ResultsCollectionWrapper(TypeUtils.getObjectType(constraint),
-            localData.localEntrySet());
+            inBucketRange(localData.localEntrySet()));
       } else {
         res = new ResultsCollectionWrapper(TypeUtils.getObjectType(constraint),
-            localData.localValues());
+            inBucketRange(localData.localValues()));
       }
     } else {
       this.region = region;
@@ -96,6 +104,16 @@ public class QRegion implements SelectResults {
     this.values = res;
   }
 
+  /**
+   * Restricts a collection of the local data set to the range of bucket keys being queried
+   */
+  private <T extends Collection> T inBucketRange(T localDataCollection) {
+    if (this.bucketRangeCount > 1) {
+      ((EntriesSet) localDataCollection).setRange(this.bucketRange, this.bucketRangeCount);
+    }
+    return localDataCollection;
+  }
+
   public Region getRegion() {
     return this.region;
   }
@@ -125,7 +143,7 @@ public class QRegion implements SelectResults {
     ResultsCollectionWrapper res;
     if (this.region instanceof LocalDataSet) {
       LocalDataSet localData = (LocalDataSet) this.region;
-      res = new ResultsCollectionWrapper(getKeyType(), localData.localKeys());
+      res = new ResultsCollectionWrapper(getKeyType(), inBucketRange(localData.localKeys()));
     } else {
       res = new ResultsCollectionWrapper(getKeyType(), this.region.keys());
     }
@@ -158,7 +176,7 @@ public class QRegion implements SelectResults {
     if (this.region instanceof LocalDataSet) {
       LocalDataSet localData = (LocalDataSet) this.region;
       res = new ResultsCollectionWrapper(TypeUtils.getRegionEntryType(this.region),
-          localData.localEntrySet());
+          inBucketRange(localData.localEntrySet()));
     } else {
       res = new ResultsCollectionWrapper(TypeUtils.getRegionEntryType(this.region),
           this.region.entries(false));
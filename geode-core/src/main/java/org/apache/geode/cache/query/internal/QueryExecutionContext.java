@@ -45,6 +45,10 @@ public class QueryExecutionContext extends ExecutionContext {
 
   private List bucketList;
 
+  private int bucketRange = 0;
+
+  private int bucketRangeCount = 1;
+
   private boolean indexUsed = false;
 
   /**
@@ -174,6 +178,19 @@ public class QueryExecutionContext extends ExecutionContext {
     return this.bucketList;
   }
 
+  public int getBucketRange() {
+    return this.bucketRange;
+  }
+
+  public int getBucketRangeCount() {
+    return this.bucketRangeCount;
+  }
+
+  public void setBucketRange(int range, int rangeCount) {
+    this.bucketRange = range;
+    this.bucketRangeCount = rangeCount;
+  }
+
   public void addToSuccessfulBuckets(int bId) {
     this.successfulBuckets.add(bId);
   }
@@ -51,6 +51,8 @@ public class LoadMonitor implements ConnectionListener {
   private final PollingThread pollingThread;
   protected volatile ServerLoad lastLoad;
   protected CacheServerStats stats;
+  private long lastRequestsProcessed;
+  private long lastRequestProcessingTime;
 
   public LoadMonitor(ServerLoadProbe probe, int maxConnections, long pollInterval,
       int forceUpdateFrequency, CacheServerAdvisor advisor) {
@@ -130,6 +132,19 @@ public class LoadMonitor implements ConnectionListener {
     metrics.decQueueCount();
   }
 
+  /**
+   * Updates the request metrics given to the probe with the requests processed since the last poll
+   */
+  protected void updateRequestMetrics() {
+    long requests = this.stats.getRequestsProcessed();
+    long time = this.stats.getRequestProcessingTime();
+    long newRequests = requests - this.lastRequestsProcessed;
+    long averageTime = newRequests > 0 ? (time - this.lastRequestProcessingTime) / newRequests : 0;
+    this.lastRequestsProcessed = requests;
+    this.lastRequestProcessingTime = time;
+    metrics.setRequestMetrics(averageTime, this.stats.getThreadQueueSize());
+  }
+
   protected ServerLoad getLoad() {
     ServerLoad load = this.probe.getLoad(metrics);
     if (load == null) {
@@ -184,6 +199,7 @@ public class LoadMonitor implements ConnectionListener {
               myClientIds = new ArrayList(clientIds);
               clientIds.clear();
             }
+            updateRequestMetrics();
             load = getLoad();
           }
           lastLoad = load;
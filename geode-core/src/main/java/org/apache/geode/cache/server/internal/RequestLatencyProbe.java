@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.server.internal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.server.ServerLoad;
+import org.apache.geode.cache.server.ServerMetrics;
+
+/**
+ * A load probe which adds the time the bridge server takes to process client requests to the load
+ * reported by {@link ConnectionCountProbe}, so that a server stalled by garbage collection, a busy
+ * CPU or a backlog of requests is given fewer new connections by the locator, and the connections
+ * of pools using load conditioning are moved off it.
+ *
+ * The connection load is the number of connections divided by the max connections, plus the
+ * average time taken by the requests processed during the last load polling interval divided by
+ * the reference request time, plus the number of connections waiting for a thread to process their
+ * request divided by the max connections. A server whose requests take the reference request time
+ * is therefore as loaded as an idle server at max connections.
+ *
+ * The reference request time is configured in milliseconds with the
+ * {@value #REFERENCE_REQUEST_TIME} property and defaults to {@value #DEFAULT_REFERENCE_REQUEST_TIME}.
+ *
+ * @since Geode 1.2
+ */
+public class RequestLatencyProbe extends ConnectionCountProbe {
+
+  private static final long serialVersionUID = 4386275140519523710L;
+
+  public static final String REFERENCE_REQUEST_TIME = "reference-request-time";
+
+  public static final long DEFAULT_REFERENCE_REQUEST_TIME = 100;
+
+  private long referenceRequestTime = DEFAULT_REFERENCE_REQUEST_TIME;
+
+  @Override
+  public ServerLoad getLoad(ServerMetrics metrics) {
+    ServerLoad load = super.getLoad(metrics);
+    if (metrics instanceof ServerMetricsImpl) {
+      ServerMetricsImpl serverMetrics = (ServerMetricsImpl) metrics;
+      float latencyLoad = serverMetrics.getAverageRequestTime()
+          / (float) TimeUnit.MILLISECONDS.toNanos(this.referenceRequestTime);
+      float queueLoad =
+          serverMetrics.getQueuedRequestCount() / (float) metrics.getMaxConnections();
+      load.setConnectionLoad(load.getConnectionLoad() + latencyLoad + queueLoad);
+    }
+    return load;
+  }
+
+  public long getReferenceRequestTime() {
+    return this.referenceRequestTime;
+  }
+
+  @Override
+  public Properties getConfig() {
+    Properties props = new Properties();
+    props.setProperty(REFERENCE_REQUEST_TIME, String.valueOf(this.referenceRequestTime));
+    return props;
+  }
+
+  @Override
+  public void init(Properties props) {
+    String value = props.getProperty(REFERENCE_REQUEST_TIME);
+    if (value != null) {
+      long time = Long.parseLong(value.trim());
+      if (time <= 0) {
+        throw new IllegalArgumentException(
+            REFERENCE_REQUEST_TIME + " must be greater than 0 but was " + value);
+      }
+      this.referenceRequestTime = time;
+    }
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return super.equals(other)
+        && this.referenceRequestTime == ((RequestLatencyProbe) other).referenceRequestTime;
+  }
+
+  @Override
+  public int hashCode() {
+    return (int) (this.referenceRequestTime ^ (this.referenceRequestTime >>> 32));
+  }
+
+  @Override
+  public String toString() {
+    return "RequestLatencyProbe[" + REFERENCE_REQUEST_TIME + "=" + this.referenceRequestTime + "]";
+  }
+
+  @Override
+  public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+    this.referenceRequestTime = in.readLong();
+  }
+
+  @Override
+  public void toData(DataOutput out) throws IOException {
+    out.writeLong(this.referenceRequestTime);
+  }
+}
@@ -29,6 +29,8 @@ public class ServerMetricsImpl implements ServerMetrics {
   private final AtomicInteger connectionCount = new AtomicInteger();
   private final AtomicInteger queueCount = new AtomicInteger();
   private final int maxConnections;
+  private volatile long averageRequestTime;
+  private volatile int queuedRequestCount;
 
   public ServerMetricsImpl(int maxConnections) {
     this.maxConnections = maxConnections;
@@ -74,4 +76,24 @@ public class ServerMetricsImpl implements ServerMetrics {
     queueCount.decrementAndGet();
   }
 
+  /**
+   * Get the average time, in nanoseconds, this server took to process a client request during the
+   * last load polling interval.
+   */
+  public long getAverageRequestTime() {
+    return averageRequestTime;
+  }
+
+  /**
+   * Get the number of client connections waiting for a thread to process their request.
+   */
+  public int getQueuedRequestCount() {
+    return queuedRequestCount;
+  }
+
+  public void setRequestMetrics(long averageRequestTime, int queuedRequestCount) {
+    this.averageRequestTime = averageRequestTime;
+    this.queuedRequestCount = queuedRequestCount;
+  }
+
 }
@@ -92,6 +92,14 @@ public class DistributionManager implements DM {
   public static final boolean MULTI_SERIAL_EXECUTORS =
       !Boolean.getBoolean("DistributionManager.singleSerialExecutor");
 
+  /**
+   * The number of stripes of the serial executor. When greater than zero, serial messages are
+   * processed by a {@link StripedSerialExecutor} instead of inline or by a serial executor per
+   * sender, so that the messages of different regions are processed in parallel.
+   */
+  public static final int SERIAL_EXECUTOR_STRIPES =
+      Integer.getInteger("DistributionManager.serialExecutorStripes", 0).intValue();
+
   /** The name of the distribution manager (identifies it in GemFire) */
   public static final String NAME = "GemFire";
 
@@ -450,6 +458,8 @@ public class DistributionManager implements DM {
 
   private SerialQueuedExecutorPool serialQueuedExecutorPool;
 
+  private StripedSerialExecutor stripedSerialExecutor;
+
   private final Semaphore parallelGIIs = new Semaphore(InitialImageOperation.MAX_PARALLEL_GIIS);
 
   /**
@@ -791,6 +801,16 @@ public class DistributionManager implements DM {
             new SerialQueuedExecutorPool(this.threadGroup, this.stats, throttlingDisabled);
       }
 
+      if (SERIAL_EXECUTOR_STRIPES > 0) {
+        if (logger.isInfoEnabled(LogMarker.DM)) {
+          logger.info(LogMarker.DM,
+              "Serial messages are processed by " + SERIAL_EXECUTOR_STRIPES + " stripes");
+        }
+        boolean throttlingDisabled = system.getConfig().getDisableTcp();
+        this.stripedSerialExecutor = new StripedSerialExecutor(SERIAL_EXECUTOR_STRIPES,
+            this.threadGroup, this.stats, system, throttlingDisabled);
+      }
+
       {
         BlockingQueue poolQueue;
         if (SERIAL_QUEUE_BYTE_LIMIT == 0) {
@@ -1947,6 +1967,9 @@ public class DistributionManager implements DM {
     if (this.serialQueuedExecutorPool != null) {
       this.serialQueuedExecutorPool.shutdown();
     }
+    if (this.stripedSerialExecutor != null) {
+      this.stripedSerialExecutor.shutdown();
+    }
     es = this.functionExecutionThread;
     if (es != null) {
       es.shutdown();
@@ -2009,6 +2032,13 @@ public class DistributionManager implements DM {
     if (remaining <= 0) {
       return;
     }
+    if (this.stripedSerialExecutor != null) {
+      this.stripedSerialExecutor.awaitTermination(remaining, TimeUnit.MILLISECONDS);
+      remaining = timeInMillis - (System.currentTimeMillis() - start);
+      if (remaining <= 0) {
+        return;
+      }
+    }
     Thread th = this.memberEventThread;
     if (th != null) {
       th.interrupt(); // bug #43452 - this thread sometimes eats interrupts, so we interrupt it
@@ -2161,6 +2191,9 @@ public class DistributionManager implements DM {
     if (this.serialThread != null) {
       this.serialThread.shutdownNow();
     }
+    if (this.stripedSerialExecutor != null) {
+      this.stripedSerialExecutor.shutdownNow();
+    }
     if (this.viewThread != null) {
       this.viewThread.shutdownNow();
     }
@@ -2241,6 +2274,9 @@ public class DistributionManager implements DM {
       // ABSOLUTELY ESSENTIAL that we close the distribution channel!
       try {
         // For safety, but channel close in a finally AFTER this...
+        if (this.stripedSerialExecutor != null) {
+          this.stripedSerialExecutor.close();
+        }
         if (this.stats != null) {
           this.stats.close();
           try {
@@ -3823,13 +3859,35 @@ public class DistributionManager implements DM {
   }
 
   private Executor getSerialExecutor(InternalDistributedMember sender) {
-    if (MULTI_SERIAL_EXECUTORS) {
+    if (this.stripedSerialExecutor != null) {
+      return this.stripedSerialExecutor.getExecutor(sender, null);
+    } else if (MULTI_SERIAL_EXECUTORS) {
       return this.serialQueuedExecutorPool.getThrottledSerialExecutor(sender);
     } else {
       return this.serialThread;
     }
   }
 
+  /**
+   * Returns the executor which processes the serial messages from the given sender with the given
+   * {@link DistributionMessage#getStripeKey() stripe key}. Unless the serial executor is striped,
+   * this is the same executor whatever the key.
+   */
+  public Executor getSerialExecutor(InternalDistributedMember sender, Object stripeKey) {
+    if (this.stripedSerialExecutor != null) {
+      return this.stripedSerialExecutor.getExecutor(sender, stripeKey);
+    }
+    return getSerialExecutor(sender);
+  }
+
+  /**
+   * Returns true if serial messages are processed by a {@link StripedSerialExecutor}, in which case
+   * they are never processed inline by the threads reading them.
+   */
+  public boolean isSerialExecutorStriped() {
+    return this.stripedSerialExecutor != null;
+  }
+
   /** returns the serialThread's queue if throttling is being used, null if not */
   public OverflowQueueWithDMStats getSerialQueue(InternalDistributedMember sender) {
     if (MULTI_SERIAL_EXECUTORS) {
@@ -326,9 +326,22 @@ public abstract class DistributionMessage implements DataSerializableFixedID, Cl
    * Return the Executor in which to process this message.
    */
   protected Executor getExecutor(DistributionManager dm) {
+    if (getProcessorType() == DistributionManager.SERIAL_EXECUTOR) {
+      return dm.getSerialExecutor(sender, getStripeKey());
+    }
     return dm.getExecutor(getProcessorType(), sender);
   }
 
+  /**
+   * Returns the key which orders this message with respect to the other serial messages from its
+   * sender when the serial executor is striped: messages with equal keys are processed in the order
+   * they were received, messages with different keys may be processed in parallel. A message
+   * without a key, which is the default, is ordered with respect to all the serial messages.
+   */
+  public Object getStripeKey() {
+    return null;
+  }
+
   // private Executor getExecutor(DistributionManager dm, Class clazz) {
   // return dm.getExecutor(getProcessorType());
   // }
@@ -413,7 +426,8 @@ public abstract class DistributionMessage implements DataSerializableFixedID, Cl
    */
   protected final void schedule(final DistributionManager dm) {
     boolean inlineProcess = DistributionManager.INLINE_PROCESS
-        && getProcessorType() == DistributionManager.SERIAL_EXECUTOR && !isPreciousThread();
+        && getProcessorType() == DistributionManager.SERIAL_EXECUTOR && !isPreciousThread()
+        && !dm.isSerialExecutorStriped();
 
     boolean forceInline = this.acker != null || getInlineProcess() || Connection.isDominoThread();
 
@@ -25,7 +25,6 @@ import org.apache.geode.internal.NanoTimer;
 import org.apache.geode.internal.statistics.StatisticsTypeFactoryImpl;
 import org.apache.geode.internal.logging.LogService;
 // import java.io.*;
-import org.apache.geode.internal.tcp.Buffers;
 import org.apache.geode.internal.util.Breadcrumbs;
 
 /**
@@ -43,6 +42,10 @@ public class DistributionStats implements DMStats {
   ////////////////// Statistic "Id" Fields //////////////////
 
   private final static StatisticsType type;
+  private final static StatisticsType serialStripeType;
+  private final static int serialStripeQueueSizeId;
+  private final static int serialStripeQueueBytesId;
+  private final static int serialStripeMessagesProcessedId;
   private final static int sentMessagesId;
   private final static int sentCommitMessagesId;
   private final static int commitWaitsId;
@@ -929,6 +932,22 @@ public class DistributionStats implements DMStats {
     udpFinalCheckRequestsReceivedId = type.nameToId("udpFinalCheckRequestsReceived");
     udpFinalCheckResponsesSentId = type.nameToId("udpFinalCheckResponsesSent");
     udpFinalCheckResponsesReceivedId = type.nameToId("udpFinalCheckResponsesReceived");
+
+    serialStripeType = f.createType("DistributionSerialStripeStats",
+        "Statistics on a stripe of the striped serial message executor.",
+        new StatisticDescriptor[] {
+            f.createIntGauge("queueSize",
+                "The number of serial distribution messages currently waiting to be processed by this stripe.",
+                "messages"),
+            f.createLongGauge("queueBytes",
+                "The approximate number of bytes consumed by the serial distribution messages waiting to be processed by this stripe.",
+                "bytes"),
+            f.createLongCounter("messagesProcessed",
+                "The number of serial distribution messages this stripe has processed.",
+                "messages"),});
+    serialStripeQueueSizeId = serialStripeType.nameToId("queueSize");
+    serialStripeQueueBytesId = serialStripeType.nameToId("queueBytes");
+    serialStripeMessagesProcessedId = serialStripeType.nameToId("messagesProcessed");
   }
 
   /** The Statistics object that we delegate most behavior to */
@@ -951,7 +970,6 @@ public class DistributionStats implements DMStats {
     // this.replyWaitHistogram = new HistogramStats("ReplyWait", "nanoseconds", f,
     // new long[] {100000, 200000, 300000, 400000, 500000, 600000, 700000, 800000, 900000, 1000000},
     // false);
-    Buffers.initBufferStats(this);
   }
 
   /**
@@ -2194,6 +2212,71 @@ public class DistributionStats implements DMStats {
     };
   }
 
+  /**
+   * Creates the statistics of the given stripe of the striped serial executor.
+   */
+  public static Statistics createSerialStripeStats(StatisticsFactory f, int stripe) {
+    return f.createAtomicStatistics(serialStripeType, "serialStripe-" + stripe);
+  }
+
+  /**
+   * Returns a helper for the queue of a stripe of the striped serial executor, which updates both
+   * the statistics of the stripe and the serial queue statistics.
+   */
+  public ThrottledMemQueueStatHelper getSerialStripeQueueHelper(final Statistics stripeStats) {
+    final ThrottledMemQueueStatHelper serialQueueHelper = getSerialQueueHelper();
+    return new ThrottledMemQueueStatHelper() {
+      public void incThrottleCount() {
+        serialQueueHelper.incThrottleCount();
+      }
+
+      public void throttleTime(long nanos) {
+        serialQueueHelper.throttleTime(nanos);
+      }
+
+      public void add() {
+        serialQueueHelper.add();
+        stripeStats.incInt(serialStripeQueueSizeId, 1);
+      }
+
+      public void remove() {
+        serialQueueHelper.remove();
+        stripeStats.incInt(serialStripeQueueSizeId, -1);
+      }
+
+      public void remove(int count) {
+        serialQueueHelper.remove(count);
+        stripeStats.incInt(serialStripeQueueSizeId, -count);
+      }
+
+      public void addMem(int amount) {
+        serialQueueHelper.addMem(amount);
+        stripeStats.incLong(serialStripeQueueBytesId, amount);
+      }
+
+      public void removeMem(int amount) {
+        serialQueueHelper.removeMem(amount);
+        stripeStats.incLong(serialStripeQueueBytesId, -amount);
+      }
+    };
+  }
+
+  /**
+   * Returns a helper for the thread of a stripe of the striped serial executor.
+   */
+  public PoolStatHelper getSerialStripeProcessorHelper(final Statistics stripeStats) {
+    return new PoolStatHelper() {
+      public void startJob() {
+        incNumSerialThreadJobs(1);
+      }
+
+      public void endJob() {
+        incNumSerialThreadJobs(-1);
+        stripeStats.incLong(serialStripeMessagesProcessedId, 1);
+      }
+    };
+  }
+
   protected void incNumSerialThreadJobs(int jobs) {
     this.stats.incInt(serialThreadJobsId, jobs);
   }
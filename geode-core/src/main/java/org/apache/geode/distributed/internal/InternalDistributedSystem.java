@@ -93,6 +93,8 @@ import org.apache.geode.internal.logging.log4j.AlertAppender;
 import org.apache.geode.internal.logging.log4j.LocalizedMessage;
 import org.apache.geode.internal.logging.log4j.LogWriterAppender;
 import org.apache.geode.internal.logging.log4j.LogWriterAppenders;
+import org.apache.geode.internal.net.BufferPool;
+import org.apache.geode.internal.net.BufferPoolStats;
 import org.apache.geode.internal.net.SocketCreatorFactory;
 import org.apache.geode.internal.offheap.MemoryAllocator;
 import org.apache.geode.internal.offheap.OffHeapStorage;
@@ -704,6 +706,8 @@ public class InternalDistributedSystem extends DistributedSystem
       Assert.assertTrue(this.dm != null);
       Assert.assertTrue(this.dm.getSystem() == this);
 
+      this.bufferPoolStats = new BufferPoolStats(this, BufferPool.getInstance());
+
       try {
         this.id = this.dm.getChannelId();
       } catch (DistributedSystemDisconnectedException e) {
@@ -1397,6 +1401,9 @@ public class InternalDistributedSystem extends DistributedSystem
       if (functionServiceStats != null) {
         functionServiceStats.close();
       }
+      if (bufferPoolStats != null) {
+        bufferPoolStats.close();
+      }
       // closing individual function stats
       for (FunctionStats functionstats : functionExecutionStatsMap.values()) {
         functionstats.close();
@@ -1728,6 +1735,8 @@ public class InternalDistributedSystem extends DistributedSystem
       new ConcurrentHashMap<String, FunctionStats>();
   private FunctionServiceStats functionServiceStats = null;
 
+  private BufferPoolStats bufferPoolStats = null;
+
   public int getStatListModCount() {
     return this.statsListModCount;
   }
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.distributed.internal;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
+import org.apache.geode.internal.tcp.Connection;
+import org.apache.geode.internal.tcp.ConnectionTable;
+
+/**
+ * Processes the serial messages of the distribution manager on a fixed number of stripes, each a
+ * single thread with its own queue. A message goes to the stripe chosen by its sender and its
+ * {@link DistributionMessage#getStripeKey() stripe key}, so the messages a member sends for one
+ * region are processed in the order they were received while the messages for other regions, or
+ * from other members, are processed in parallel.
+ *
+ * A message without a stripe key is processed as a barrier: it waits until the messages queued
+ * before it on every stripe have been processed, and no stripe processes the messages queued after
+ * it until it is done. Such messages are therefore ordered with respect to all the other serial
+ * messages, as they are with a single serial executor.
+ *
+ * @since Geode 1.2
+ */
+final class StripedSerialExecutor {
+
+  private final SerialQueuedExecutorWithDMStats[] stripes;
+
+  private final Statistics[] stripeStats;
+
+  /** held while the parts of a barrier are queued, so that all stripes queue them in one order */
+  private final Object barrierLock = new Object();
+
+  private final Executor barrierExecutor = new Executor() {
+    public void execute(Runnable command) {
+      executeBarrier(command);
+    }
+  };
+
+  /**
+   * @param throttlingDisabled true if the stripe queues must not block the reader threads
+   */
+  StripedSerialExecutor(int stripeCount, final ThreadGroup group, DistributionStats stats,
+      StatisticsFactory factory, boolean throttlingDisabled) {
+    this.stripes = new SerialQueuedExecutorWithDMStats[stripeCount];
+    this.stripeStats = new Statistics[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      this.stripeStats[i] = DistributionStats.createSerialStripeStats(factory, i);
+      ThrottledMemQueueStatHelper queueHelper =
+          stats.getSerialStripeQueueHelper(this.stripeStats[i]);
+      BlockingQueue queue;
+      if (DistributionManager.SERIAL_QUEUE_BYTE_LIMIT == 0 || throttlingDisabled) {
+        queue = new OverflowQueueWithDMStats(queueHelper);
+      } else {
+        queue = new ThrottlingMemLinkedQueueWithDMStats(DistributionManager.SERIAL_QUEUE_BYTE_LIMIT,
+            DistributionManager.SERIAL_QUEUE_THROTTLE, DistributionManager.SERIAL_QUEUE_SIZE_LIMIT,
+            DistributionManager.SERIAL_QUEUE_SIZE_THROTTLE, queueHelper);
+      }
+      final int id = i;
+      ThreadFactory tf = new ThreadFactory() {
+        public Thread newThread(final Runnable command) {
+          final Runnable r = new Runnable() {
+            public void run() {
+              ConnectionTable.threadWantsSharedResources();
+              Connection.makeReaderThread();
+              try {
+                command.run();
+              } finally {
+                ConnectionTable.releaseThreadsSockets();
+              }
+            }
+          };
+          Thread thread = new Thread(group, r, "Striped Serial Message Processor " + id);
+          thread.setDaemon(true);
+          return thread;
+        }
+      };
+      this.stripes[i] = new SerialQueuedExecutorWithDMStats(queue,
+          stats.getSerialStripeProcessorHelper(this.stripeStats[i]), tf);
+    }
+  }
+
+  int getStripeCount() {
+    return this.stripes.length;
+  }
+
+  /**
+   * Returns the executor which processes the messages from the given sender with the given stripe
+   * key, the barrier executor if the key is null.
+   */
+  Executor getExecutor(InternalDistributedMember sender, Object stripeKey) {
+    if (stripeKey == null) {
+      return this.barrierExecutor;
+    }
+    int hash = 31 * (sender == null ? 0 : sender.hashCode()) + stripeKey.hashCode();
+    return this.stripes[(hash & 0x7fffffff) % this.stripes.length];
+  }
+
+  /**
+   * Queues a part of the barrier on every stripe. The stripe processing the last part to be reached
+   * runs the command while the other stripes wait for it to be done.
+   */
+  private void executeBarrier(final Runnable command) {
+    final AtomicInteger waiting = new AtomicInteger(this.stripes.length);
+    final CountDownLatch done = new CountDownLatch(1);
+    int size = command instanceof Sizeable ? ((Sizeable) command).getSize() : 0;
+    synchronized (this.barrierLock) {
+      for (int i = 0; i < this.stripes.length; i++) {
+        // only count the size of the message once in the serial queue stats
+        SizeableRunnable part = new SizeableRunnable(i == 0 ? size : 0) {
+          public void run() {
+            if (waiting.decrementAndGet() == 0) {
+              try {
+                command.run();
+              } finally {
+                done.countDown();
+              }
+            } else {
+              try {
+                done.await();
+              } catch (InterruptedException e) {
+                // the executor is being shut down
+                Thread.currentThread().interrupt();
+              }
+            }
+          }
+
+          @Override
+          public String toString() {
+            return "Barrier {" + command + "}";
+          }
+        };
+        try {
+          this.stripes[i].execute(part);
+        } catch (RejectedExecutionException e) {
+          // release the parts already queued, the command will not run
+          done.countDown();
+          throw e;
+        }
+      }
+    }
+  }
+
+  void shutdown() {
+    for (SerialQueuedExecutorWithDMStats stripe : this.stripes) {
+      stripe.shutdown();
+    }
+  }
+
+  void shutdownNow() {
+    for (SerialQueuedExecutorWithDMStats stripe : this.stripes) {
+      stripe.shutdownNow();
+    }
+  }
+
+  void awaitTermination(long time, TimeUnit unit) throws InterruptedException {
+    long end = System.nanoTime() + unit.toNanos(time);
+    for (SerialQueuedExecutorWithDMStats stripe : this.stripes) {
+      long remaining = end - System.nanoTime();
+      if (remaining <= 0) {
+        return;
+      }
+      stripe.awaitTermination(remaining, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  void close() {
+    for (Statistics stats : this.stripeStats) {
+      stats.close();
+    }
+  }
+}
@@ -29,7 +29,6 @@ import org.apache.geode.internal.Assert;
 import org.apache.geode.internal.cache.DiskInitFile.DiskRegionFlag;
 import org.apache.geode.internal.cache.FilterRoutingInfo.FilterInfo;
 import org.apache.geode.internal.cache.ha.HAContainerWrapper;
-import org.apache.geode.internal.cache.ha.HARegionQueue;
 import org.apache.geode.internal.cache.lru.LRUEntry;
 import org.apache.geode.internal.cache.persistence.DiskRegionView;
 import org.apache.geode.internal.cache.region.entry.RegionEntryFactoryBuilder;
@@ -421,6 +420,7 @@ public abstract class AbstractRegionMap implements RegionMap {
         }
       }
     }
+    lr.regionMapCleared(rvv);
     return result;
   }
 
@@ -780,8 +780,7 @@ public abstract class AbstractRegionMap implements RegionMap {
             synchronized (original) {
               if ((HAEventWrapper) haContainer.getKey(original) != null) {
                 original.incAndGetReferenceCount();
-                HARegionQueue.addClientCQsAndInterestList(oldMsg, haEventWrapper, haContainer,
-                    owner.getName());
+                haContainer.addClientCQsAndInterestList(original, haEventWrapper, owner.getName());
                 haEventWrapper.setClientUpdateMessage(null);
                 newValue = CachedDeserializableFactory.create(original,
                     ((CachedDeserializable) newValue).getSizeInBytes());
@@ -3805,6 +3804,7 @@ public abstract class AbstractRegionMap implements RegionMap {
               if (vector != null) {
                 vector.recordGCVersion(version.getMemberID(), version.getRegionVersion());
               }
+              _getOwner().tombstoneReclaimed(re, version);
             }
           } catch (RegionClearedException e) {
             // if the region has been cleared we don't need to remove the tombstone
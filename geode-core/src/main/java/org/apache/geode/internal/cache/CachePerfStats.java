@@ -51,6 +51,8 @@ public class CachePerfStats {
   protected static final int deltaGetInitialImagesCompletedId;
   protected static final int getInitialImageTimeId;
   protected static final int getInitialImageKeysReceivedId;
+  protected static final int getInitialImageChunksReceivedId;
+  protected static final int getInitialImageBytesReceivedId;
   protected static final int regionsId;
   protected static final int partitionedRegionsId;
   protected static final int destroysId;
@@ -71,6 +73,7 @@ public class CachePerfStats {
   protected static final int eventQueueThrottleCountId;
   protected static final int eventThreadsId;
   protected static final int missesId;
+  protected static final int staleReadsId;
   protected final static int queryExecutionsId;
   protected final static int queryExecutionTimeId;
   protected final static int queryResultsHashCollisionsId;
@@ -196,6 +199,10 @@ public class CachePerfStats {
         "Total time spent doing getInitialImages for region creation.";
     final String getInitialImageKeysReceivedDesc =
         "Total number of keys received while doing getInitialImage operations.";
+    final String getInitialImageChunksReceivedDesc =
+        "Total number of chunks of entries received while doing getInitialImage operations.";
+    final String getInitialImageBytesReceivedDesc =
+        "Total number of bytes of the chunks received while doing getInitialImage operations.";
     final String regionsDesc = "The current number of regions in the cache.";
     final String partitionedRegionsDesc = "The current number of partitioned regions in the cache.";
     final String destroysDesc =
@@ -230,6 +237,8 @@ public class CachePerfStats {
     final String eventThreadsDesc = "The number of threads currently processing events.";
     final String missesDesc =
         "Total number of times a get on the cache did not find a value already in local memory. The number of hits (i.e. gets that did not miss) can be calculated by subtracting misses from gets.";
+    final String staleReadsDesc =
+        "Total number of times a get on the cache found an invalidated entry in local memory, for example one invalidated by a subscription that does not receive values, and had to fetch its value again. These gets are also counted as misses.";
     final String queryExecutionsDesc = "Total number of times some query has been executed";
     final String queryExecutionTimeDesc = "Total time spent executing queries";
     final String queryResultsHashCollisionsDesc =
@@ -385,6 +394,10 @@ public class CachePerfStats {
             f.createLongCounter("getInitialImageTime", getInitialImageTimeDesc, "nanoseconds"),
             f.createIntCounter("getInitialImageKeysReceived", getInitialImageKeysReceivedDesc,
                 "keys"),
+            f.createIntCounter("getInitialImageChunksReceived",
+                getInitialImageChunksReceivedDesc, "chunks"),
+            f.createLongCounter("getInitialImageBytesReceived", getInitialImageBytesReceivedDesc,
+                "bytes"),
             f.createIntGauge("regions", regionsDesc, "regions"),
             f.createIntGauge("partitionedRegions", partitionedRegionsDesc, "partitionedRegions"),
             f.createIntCounter("destroys", destroysDesc, "operations"),
@@ -393,6 +406,7 @@ public class CachePerfStats {
             f.createIntCounter("invalidates", invalidatesDesc, "operations"),
             f.createIntCounter("gets", getsDesc, "operations"),
             f.createIntCounter("misses", missesDesc, "operations"),
+            f.createIntCounter("staleReads", staleReadsDesc, "operations"),
             f.createIntCounter("creates", createsDesc, "operations"),
             f.createIntCounter("puts", putsDesc, "operations"),
             f.createLongCounter("putTime", putTimeDesc, "nanoseconds", false),
@@ -533,6 +547,8 @@ public class CachePerfStats {
     deltaGetInitialImagesCompletedId = type.nameToId("deltaGetInitialImagesCompleted");
     getInitialImageTimeId = type.nameToId("getInitialImageTime");
     getInitialImageKeysReceivedId = type.nameToId("getInitialImageKeysReceived");
+    getInitialImageChunksReceivedId = type.nameToId("getInitialImageChunksReceived");
+    getInitialImageBytesReceivedId = type.nameToId("getInitialImageBytesReceived");
     regionsId = type.nameToId("regions");
     partitionedRegionsId = type.nameToId("partitionedRegions");
     destroysId = type.nameToId("destroys");
@@ -549,6 +565,7 @@ public class CachePerfStats {
     getsId = type.nameToId("gets");
     getTimeId = type.nameToId("getTime");
     missesId = type.nameToId("misses");
+    staleReadsId = type.nameToId("staleReads");
     eventQueueSizeId = type.nameToId("eventQueueSize");
     eventQueueThrottleTimeId = type.nameToId("eventQueueThrottleTime");
     eventQueueThrottleCountId = type.nameToId("eventQueueThrottleCount");
@@ -720,6 +737,14 @@ public class CachePerfStats {
     return stats.getInt(getInitialImageKeysReceivedId);
   }
 
+  public int getGetInitialImageChunksReceived() {
+    return stats.getInt(getInitialImageChunksReceivedId);
+  }
+
+  public long getGetInitialImageBytesReceived() {
+    return stats.getLong(getInitialImageBytesReceivedId);
+  }
+
   public int getRegions() {
     return stats.getInt(regionsId);
   }
@@ -764,6 +789,10 @@ public class CachePerfStats {
     return stats.getInt(missesId);
   }
 
+  public int getStaleReads() {
+    return stats.getInt(staleReadsId);
+  }
+
   public int getReliableQueuedOps() {
     return stats.getInt(reliableQueuedOpsId);
   }
@@ -1062,6 +1091,14 @@ public class CachePerfStats {
     stats.incInt(getInitialImageKeysReceivedId, 1);
   }
 
+  /**
+   * @param bytes the size of the chunk as read from the connection
+   */
+  public void incGetInitialImageChunksReceived(int bytes) {
+    stats.incInt(getInitialImageChunksReceivedId, 1);
+    stats.incLong(getInitialImageBytesReceivedId, bytes);
+  }
+
   public long startIndexUpdate() {
     stats.incInt(indexUpdateInProgressId, 1);
     return getStatTime();
@@ -1130,6 +1167,10 @@ public class CachePerfStats {
     }
   }
 
+  public void incStaleReads() {
+    stats.incInt(staleReadsId, 1);
+  }
+
   /**
    * @param start the timestamp taken when the operation started
    * @param isUpdate true if the put was an update (origin remote)
@@ -103,6 +103,14 @@ public class CacheServerImpl extends AbstractCacheServer implements Distribution
   public static final boolean ENABLE_NOTIFY_BY_SUBSCRIPTION_FALSE = Boolean.getBoolean(
       DistributionConfig.GEMFIRE_PREFIX + "cache-server.enable-notify-by-subscription-false");
 
+  /**
+   * Whether the events shared by the client subscription queues are kept in off-heap memory. Only
+   * used when the queues overflow to disk, that is when the subscription eviction policy is
+   * <code>entry</code> or <code>mem</code>, and off-heap memory is configured.
+   */
+  public static final boolean CLIENT_SUBSCRIPTION_OFF_HEAP = Boolean
+      .getBoolean(DistributionConfig.GEMFIRE_PREFIX + "cache-server.client-subscription-off-heap");
+
 
   // ////////////////////// Constructors //////////////////////
 
@@ -574,6 +582,17 @@ public class CacheServerImpl extends AbstractCacheServer implements Distribution
     factory.setDataPolicy(DataPolicy.NORMAL);
     // enable statistics
     factory.setStatisticsEnabled(true);
+    // The region keeps one serialized copy of each event however many queues hold it, and
+    // HAContainerRegion restores the per queue state of the copies it reads and writes back the
+    // interest it adds to them, as it does for events overflowed to disk
+    if (CLIENT_SUBSCRIPTION_OFF_HEAP) {
+      if (cache.getOffHeapStore() != null) {
+        factory.setOffHeap(true);
+      } else {
+        logger.warn(
+            "Client subscription queues were configured to use off-heap memory but off-heap memory is not configured. They will use heap memory.");
+      }
+    }
     /* setting LIFO related eviction attributes */
     if (HARegionQueue.HA_EVICTION_POLICY_ENTRY.equals(ePolicy)) {
       factory.setEvictionAttributes(EvictionAttributesImpl.createLIFOEntryAttributes(capacity,
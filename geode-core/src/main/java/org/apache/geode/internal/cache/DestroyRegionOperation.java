@@ -146,6 +146,15 @@ public class DestroyRegionOperation extends DistributedCacheOperation {
     protected transient LocalRegion lockRoot = null; // used for early destroy
     // lock acquisition
 
+    /**
+     * Destroying a region also destroys its subregions, so this message is ordered with respect to
+     * the operations on all regions.
+     */
+    @Override
+    public Object getStripeKey() {
+      return null;
+    }
+
     @Override
     protected InternalCacheEvent createEvent(DistributedRegion rgn) throws EntryNotFoundException {
       RegionEventImpl event = createRegionEvent(rgn);
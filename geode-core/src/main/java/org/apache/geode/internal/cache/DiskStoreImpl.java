@@ -318,6 +318,11 @@ public class DiskStoreImpl implements DiskStore {
   PersistentOplogSet persistentOplogs = new PersistentOplogSet(this);
   OverflowOplogSet overflowOplogs = new OverflowOplogSet(this);
 
+  /**
+   * Coalesces the flushes of synchronous writes; null unless group commit is enabled.
+   */
+  private OplogGroupCommitter groupCommitter;
+
   // private boolean isThreadWaitingForSpace = false;
 
   /**
@@ -430,6 +435,9 @@ public class DiskStoreImpl implements DiskStore {
     this.cache = (GemFireCacheImpl) cache;
     StatisticsFactory factory = cache.getDistributedSystem();
     this.stats = new DiskStoreStats(factory, getName());
+    if (OplogGroupCommitter.ENABLED) {
+      this.groupCommitter = new OplogGroupCommitter(this.persistentOplogs, this.stats);
+    }
 
     // start simple init
 
@@ -582,6 +590,13 @@ public class DiskStoreImpl implements DiskStore {
         && Arrays.equals(getDiskDirSizes(), props.getDiskDirSizes());
   }
 
+  /**
+   * Returns the group committer for synchronous writes or null if group commit is disabled.
+   */
+  OplogGroupCommitter getGroupCommitter() {
+    return this.groupCommitter;
+  }
+
   /**
    * Returns the <code>DiskStoreStats</code> for this store
    */
@@ -78,6 +78,20 @@ public class DiskStoreStats {
   private static final int backupsInProgress;
   private static final int backupsCompleted;
 
+  private static final int mappedOplogsId;
+  private static final int mappedBytesId;
+  private static final int mappedReadsId;
+  private static final int mappedReadTimeId;
+
+  private static final int recoveryDrfTimeId;
+  private static final int recoveryCrfTimeId;
+  private static final int recoveryRegionInitTimeId;
+  private static final int recoveryPrefetchedBytesId;
+
+  private static final int groupCommitsId;
+  private static final int groupCommitTimeId;
+  private static final int groupCommittedWritesId;
+
   static {
     String statName = "DiskStoreStatistics";
     String statDescription = "Statistics about a Region's use of the disk";
@@ -186,7 +200,37 @@ public class DiskStoreStats {
                 "The current number of regions that have been recovered but have not yet been created.",
                 "regions"),
             f.createIntGauge("backupsInProgress", backupsInProgressDesc, "backups"),
-            f.createIntCounter("backupsCompleted", backupsCompletedDesc, "backups"),});
+            f.createIntCounter("backupsCompleted", backupsCompletedDesc, "backups"),
+            f.createIntGauge("mappedOplogs",
+                "Current number of oplogs whose crf file is memory mapped for reading", "oplogs"),
+            f.createLongGauge("mappedBytes",
+                "Current number of bytes of oplog crf files that are memory mapped", "bytes"),
+            f.createLongCounter("mappedReads",
+                "Total number of values read from memory mapped oplogs", "reads"),
+            f.createLongCounter("mappedReadTime",
+                "Total amount of time spent reading values from memory mapped oplogs, including time spent waiting on page faults",
+                "nanoseconds"),
+            f.createLongCounter("recoveryDrfTime",
+                "The total amount of time spent reading drf files to find destroyed entries during recovery",
+                "nanoseconds"),
+            f.createLongCounter("recoveryCrfTime",
+                "The total amount of time spent reading krf and crf files to find live entries during recovery",
+                "nanoseconds"),
+            f.createLongCounter("recoveryRegionInitTime",
+                "The total amount of time spent initializing oplogs and regions after their entries were recovered",
+                "nanoseconds"),
+            f.createLongCounter("recoveryPrefetchedBytes",
+                "The total number of bytes of oplog files read ahead of recovery by recovery threads",
+                "bytes"),
+            f.createLongCounter("groupCommits",
+                "The total number of flushes done on behalf of a group of synchronous writers",
+                "operations"),
+            f.createLongCounter("groupCommitTime",
+                "The total amount of time spent doing group commits, including time spent waiting for more writers to join",
+                "nanoseconds"),
+            f.createLongCounter("groupCommittedWrites",
+                "The total number of synchronous writes flushed by group commits. Divide by groupCommits to get the average batch size",
+                "operations"),});
 
     // Initialize id fields
     writesId = type.nameToId("writes");
@@ -234,6 +278,17 @@ public class DiskStoreStats {
     uncreatedRecoveredRegionsId = type.nameToId("uncreatedRecoveredRegions");
     backupsInProgress = type.nameToId("backupsInProgress");
     backupsCompleted = type.nameToId("backupsCompleted");
+    mappedOplogsId = type.nameToId("mappedOplogs");
+    mappedBytesId = type.nameToId("mappedBytes");
+    mappedReadsId = type.nameToId("mappedReads");
+    mappedReadTimeId = type.nameToId("mappedReadTime");
+    recoveryDrfTimeId = type.nameToId("recoveryDrfTime");
+    recoveryCrfTimeId = type.nameToId("recoveryCrfTime");
+    recoveryRegionInitTimeId = type.nameToId("recoveryRegionInitTime");
+    recoveryPrefetchedBytesId = type.nameToId("recoveryPrefetchedBytes");
+    groupCommitsId = type.nameToId("groupCommits");
+    groupCommitTimeId = type.nameToId("groupCommitTime");
+    groupCommittedWritesId = type.nameToId("groupCommittedWrites");
   }
 
   ////////////////////// Instance Fields //////////////////////
@@ -448,6 +503,44 @@ public class DiskStoreStats {
     this.stats.incLong(oplogRecoveredBytesId, bytesRead);
   }
 
+  public void endRecoveryDrfPhase(long start) {
+    this.stats.incLong(recoveryDrfTimeId, DistributionStats.getStatTime() - start);
+  }
+
+  public void endRecoveryCrfPhase(long start) {
+    this.stats.incLong(recoveryCrfTimeId, DistributionStats.getStatTime() - start);
+  }
+
+  public void endRecoveryRegionInitPhase(long start) {
+    this.stats.incLong(recoveryRegionInitTimeId, DistributionStats.getStatTime() - start);
+  }
+
+  public void incRecoveryPrefetchedBytes(long bytes) {
+    this.stats.incLong(recoveryPrefetchedBytesId, bytes);
+  }
+
+  public long getRecoveryDrfTime() {
+    return this.stats.getLong(recoveryDrfTimeId);
+  }
+
+  public long getRecoveryCrfTime() {
+    return this.stats.getLong(recoveryCrfTimeId);
+  }
+
+  public long getRecoveryRegionInitTime() {
+    return this.stats.getLong(recoveryRegionInitTimeId);
+  }
+
+  public long getRecoveryPrefetchedBytes() {
+    return this.stats.getLong(recoveryPrefetchedBytesId);
+  }
+
+  public void endGroupCommit(long start, long writes) {
+    this.stats.incLong(groupCommitsId, 1);
+    this.stats.incLong(groupCommitTimeId, DistributionStats.getStatTime() - start);
+    this.stats.incLong(groupCommittedWritesId, writes);
+  }
+
   public void incRecoveredEntryCreates() {
     this.stats.incLong(recoveredEntryCreatesId, 1);
   }
@@ -534,6 +627,38 @@ public class DiskStoreStats {
     this.stats.incInt(openOplogsId, -1);
   }
 
+  public void incMappedOplogs(long bytes) {
+    this.stats.incInt(mappedOplogsId, 1);
+    this.stats.incLong(mappedBytesId, bytes);
+  }
+
+  public void decMappedOplogs(long bytes) {
+    this.stats.incInt(mappedOplogsId, -1);
+    this.stats.incLong(mappedBytesId, -bytes);
+  }
+
+  public int getMappedOplogs() {
+    return this.stats.getInt(mappedOplogsId);
+  }
+
+  public long getMappedReads() {
+    return this.stats.getLong(mappedReadsId);
+  }
+
+  public long startMappedRead() {
+    return DistributionStats.getStatTime();
+  }
+
+  /**
+   * Invoked after a value has been copied out of a memory mapped oplog. These reads are also
+   * counted as oplog reads.
+   */
+  public void endMappedRead(long start) {
+    this.stats.incLong(mappedReadsId, 1);
+    this.stats.incLong(mappedReadTimeId, DistributionStats.getStatTime() - start);
+    this.stats.incLong(oplogReadsId, 1);
+  }
+
   public void startBackup() {
     this.stats.incInt(backupsInProgress, 1);
   }
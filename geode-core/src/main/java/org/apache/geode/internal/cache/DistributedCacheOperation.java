@@ -998,6 +998,15 @@ public abstract class DistributedCacheOperation {
       return this.regionPath;
     }
 
+    /**
+     * Orders the operations on a region with respect to each other but not to the operations on
+     * other regions.
+     */
+    @Override
+    public Object getStripeKey() {
+      return this.regionPath;
+    }
+
     /**
      * process a reply
      * 
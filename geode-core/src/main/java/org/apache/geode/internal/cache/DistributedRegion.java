@@ -52,7 +52,9 @@ import org.apache.geode.internal.cache.tier.sockets.ClientProxyMembershipID;
 import org.apache.geode.internal.cache.tier.sockets.VersionedObjectList;
 import org.apache.geode.internal.cache.versions.ConcurrentCacheModificationException;
 import org.apache.geode.internal.cache.versions.RegionVersionVector;
+import org.apache.geode.internal.cache.versions.VersionHolder;
 import org.apache.geode.internal.cache.versions.VersionSource;
+import org.apache.geode.internal.cache.versions.VersionStamp;
 import org.apache.geode.internal.cache.versions.VersionTag;
 import org.apache.geode.internal.cache.wan.AsyncEventQueueConfigurationException;
 import org.apache.geode.internal.cache.wan.GatewaySenderConfigurationException;
@@ -136,6 +138,13 @@ public class DistributedRegion extends LocalRegion implements CacheDistributionA
 
   private static AtomicBoolean loggedNetworkPartitionWarning = new AtomicBoolean(false);
 
+  /**
+   * The tombstones this region has garbage collected, used to give a delta GII to members that were
+   * offline while they were collected. Null if the region is not persistent or tombstones are not
+   * logged.
+   */
+  private final TombstoneLog tombstoneLog;
+
   /** Creates a new instance of DistributedRegion */
   protected DistributedRegion(String regionName, RegionAttributes attrs, LocalRegion parentRegion,
       GemFireCacheImpl cache, InternalRegionArguments internalRegionArgs) {
@@ -209,7 +218,11 @@ public class DistributedRegion extends LocalRegion implements CacheDistributionA
     } else {
       this.persistentId = null;
     }
-
+    if (attrs.getDataPolicy().withPersistence() && TombstoneLog.MAX_SIZE > 0) {
+      this.tombstoneLog = new TombstoneLog(TombstoneLog.MAX_SIZE);
+    } else {
+      this.tombstoneLog = null;
+    }
   }
 
   @Override
@@ -1563,6 +1576,10 @@ public class DistributedRegion extends LocalRegion implements CacheDistributionA
         // processed
         clearEntries(rvv);
       }
+      // tombstones collected from now on are logged for delta GIIs to other members
+      if (this.tombstoneLog != null && getVersionVector() != null) {
+        this.tombstoneLog.start(getVersionVector().getMemberToGCVersion());
+      }
       // need to do this before we release the afterGetInitialImageLatch
       if (persistenceAdvisor != null) {
         persistenceAdvisor.setOnline(GIIStatus.didGII(giiStatus), false, getPersistentID());
@@ -1588,6 +1605,36 @@ public class DistributedRegion extends LocalRegion implements CacheDistributionA
         LocalizedStrings.DistributedRegion_INITIALIZING_REGION_COMPLETED_0, this.getName()));
   }
 
+  TombstoneLog getTombstoneLog() {
+    return this.tombstoneLog;
+  }
+
+  @Override
+  void tombstoneReclaimed(RegionEntry entry, VersionHolder version) {
+    if (this.tombstoneLog == null) {
+      return;
+    }
+    VersionSource member = version.getMemberID();
+    if (member == null) {
+      member = getVersionMember();
+    }
+    VersionStamp stamp = entry.getVersionStamp();
+    if (stamp != null && stamp.getEntryVersion() == version.getEntryVersion()
+        && stamp.getRegionVersion() == version.getRegionVersion()) {
+      this.tombstoneLog.add(entry.getKey(), member, stamp.asVersionTag());
+    } else {
+      // the entry removed is older than the destroy, so there is no tombstone to log
+      this.tombstoneLog.addUnlogged(member, version.getRegionVersion());
+    }
+  }
+
+  @Override
+  void regionMapCleared(RegionVersionVector rvv) {
+    if (this.tombstoneLog != null) {
+      this.tombstoneLog.clear(rvv == null ? null : getVersionVector().getMemberToGCVersion());
+    }
+  }
+
   /**
    * @see LocalRegion#basicDestroy(EntryEventImpl, boolean, Object)
    */
@@ -96,6 +96,16 @@ public class DummyCachePerfStats extends CachePerfStats {
     return 0;
   }
 
+  @Override
+  public int getGetInitialImageChunksReceived() {
+    return 0;
+  }
+
+  @Override
+  public long getGetInitialImageBytesReceived() {
+    return 0;
+  }
+
   @Override
   public int getRegions() {
     return 0;
@@ -146,6 +156,11 @@ public class DummyCachePerfStats extends CachePerfStats {
     return 0;
   }
 
+  @Override
+  public int getStaleReads() {
+    return 0;
+  }
+
   @Override
   public int getReliableQueuedOps() {
     return 0;
@@ -282,6 +297,9 @@ public class DummyCachePerfStats extends CachePerfStats {
   @Override
   public void incGetInitialImageKeysReceived() {}
 
+  @Override
+  public void incGetInitialImageChunksReceived(int bytes) {}
+
   @Override
   public void incRegions(int inc) {}
 
@@ -305,6 +323,9 @@ public class DummyCachePerfStats extends CachePerfStats {
   @Override
   public void endGet(long start, boolean miss) {}
 
+  @Override
+  public void incStaleReads() {}
+
   @Override
   public long endPut(long start, boolean isUpdate) {
     return 0;
@@ -50,6 +50,12 @@ public class EntriesSet extends AbstractSet {
 
   protected boolean ignoreCopyOnReadForQuery = false;
 
+  /** The range of keys to iterate when only part of the region is iterated */
+  protected int range = 0;
+
+  /** The number of ranges the keys are split into; 1 to iterate all keys */
+  protected int rangeCount = 1;
+
   EntriesSet(LocalRegion region, boolean recursive, IteratorType viewType,
       boolean allowTombstones) {
     this.topRegion = region;
@@ -154,6 +160,9 @@ public class EntriesSet extends AbstractSet {
               this.additionalKeysFromView.remove(currKey);
             }
           }
+          if (rangeCount > 1 && !isInRange(currKey)) {
+            continue;
+          }
           if (iterType == IteratorType.KEYS) {
             result =
                 view.getKeyForIterator(this.keyInfo, this.currRgn, rememberReads, allowTombstones);
@@ -218,9 +227,9 @@ public class EntriesSet extends AbstractSet {
   @Override
   public int size() {
     checkTX();
-    if (this.iterType == IteratorType.VALUES) {
+    if (this.iterType == IteratorType.VALUES || this.rangeCount > 1) {
       // if this is a values-view, then we have to filter out nulls to
-      // determine the correct size
+      // determine the correct size; a range has to be counted too
       int s = 0;
       for (Iterator<Object> itr = new EntriesIterator(); itr.hasNext(); itr.next()) {
         s++;
@@ -263,6 +272,28 @@ public class EntriesSet extends AbstractSet {
     return this.keepSerialized;
   }
 
+  /**
+   * Restricts this set to the keys in one of <code>rangeCount</code> disjoint ranges, so that
+   * several threads can each iterate one range of the same region. Keys are assigned to ranges by
+   * their hash code, scrambled so that the keys of a bucket, whose hash codes all have the same
+   * remainder modulo the number of buckets, are still spread over all ranges.
+   */
+  public void setRange(int range, int rangeCount) {
+    this.range = range;
+    this.rangeCount = rangeCount;
+  }
+
+  /**
+   * @param key a key, or the RegionEntry of a key, returned by the region's iterator
+   */
+  protected final boolean isInRange(Object key) {
+    if (key instanceof RegionEntry) {
+      key = ((RegionEntry) key).getKey();
+    }
+    long scrambled = (key.hashCode() * 0x9E3779B9L) & 0xFFFFFFFFL;
+    return (int) ((scrambled * this.rangeCount) >>> 32) == this.range;
+  }
+
   public void setIgnoreCopyOnReadForQuery(boolean ignoreCopyOnReadForQuery) {
     this.ignoreCopyOnReadForQuery = ignoreCopyOnReadForQuery;
   }
@@ -379,6 +379,105 @@ public class EntryEventImpl
     return entryEvent;
   }
 
+  /**
+   * Enables the recycling of the events created by puts on local regions that have no callbacks.
+   * See {@link LocalRegion#canRecycleEntryEvents()}.
+   */
+  static final boolean RECYCLE_LOCAL_EVENTS =
+      Boolean.getBoolean(DistributionConfig.GEMFIRE_PREFIX + "LocalRegion.recycleEntryEvents");
+
+  /** The event each thread reuses for its puts on regions whose events can not escape */
+  private static final ThreadLocal<EntryEventImpl> recycledEvents =
+      new ThreadLocal<EntryEventImpl>();
+
+  /** True if this is a thread's recycled event */
+  private transient boolean recyclable;
+
+  /** True while a recycled event is being used by an operation */
+  private transient boolean inUse;
+
+  /**
+   * Returns the current thread's recycled event initialized as if by
+   * {@link #create(LocalRegion, Operation, Object, Object, Object, boolean, DistributedMember)}.
+   * If the thread's event is already in use a new event is created instead. The caller must call
+   * {@link #recycle()} after {@link #release()} once the operation is done with the event; the
+   * event must not be referenced after that.
+   */
+  @Retained
+  static EntryEventImpl createRecyclable(LocalRegion region, Operation op, Object key,
+      @Retained(ENTRY_EVENT_NEW_VALUE) Object newValue, Object callbackArgument,
+      DistributedMember distributedMember) {
+    EntryEventImpl event = recycledEvents.get();
+    if (event == null) {
+      event = new EntryEventImpl();
+      event.recyclable = true;
+      recycledEvents.set(event);
+    } else if (event.inUse) {
+      return create(region, op, key, newValue, callbackArgument, false, distributedMember);
+    }
+    event.inUse = true;
+    event.region = region;
+    event.op = op;
+    if (event.keyInfo != null && event.keyInfo.getClass() == KeyInfo.class) {
+      event.keyInfo.reinitialize(key, newValue, callbackArgument);
+    } else {
+      event.keyInfo = region.getKeyInfo(key, newValue, callbackArgument);
+    }
+    if (!Token.isInvalid(newValue)) {
+      event.basicSetNewValue(newValue);
+    }
+    event.txId = region.getTXId();
+    if (newValue == Token.LOCAL_INVALID) {
+      event.setLocalInvalid(true);
+    }
+    event.setGenerateCallbacks(true);
+    event.distributedMember = distributedMember;
+    return event;
+  }
+
+  /**
+   * Returns a recycled event to its thread once the operation that used it is done. The event is
+   * reset to the state of a newly constructed event so that it does not keep the operation's key
+   * and values reachable. Does nothing for an event that was not created by
+   * {@link #createRecyclable}.
+   */
+  void recycle() {
+    if (!this.recyclable) {
+      return;
+    }
+    this.region = null;
+    this.re = null;
+    if (this.keyInfo != null) {
+      this.keyInfo.reinitialize(null, null, null);
+    }
+    this.eventID = null;
+    this.newValue = null;
+    this.cachedSerializedNewValue = null;
+    this.oldValue = null;
+    this.eventFlags = 0x0000;
+    this.txId = null;
+    this.op = null;
+    this.eventType = null;
+    this.putAllOp = null;
+    this.removeAllOp = null;
+    this.distributedMember = null;
+    this.causedByMessage = null;
+    this.context = null;
+    this.deltaBytes = null;
+    this.filterInfo = null;
+    this.newValueBytes = null;
+    this.oldValueBytes = null;
+    this.versionTag = null;
+    this.isEvicted = false;
+    this.isPendingSecondaryExpireDestroy = false;
+    this.newValueBucketSize = 0;
+    this.tailKey = -1L;
+    this.nextRegionVersion = -1L;
+    this.invokeCallbacksThread = null;
+    this.offHeapOk = true;
+    this.inUse = false;
+  }
+
   /**
    * Creates a PutAllEvent given the distributed operation, the region, and the entry data.
    *
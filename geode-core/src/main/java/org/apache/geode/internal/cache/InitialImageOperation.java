@@ -52,8 +52,15 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Handles requests for an initial image from a cache peer
@@ -87,6 +94,43 @@ public class InitialImageOperation {
       DistributionConfig.GEMFIRE_PREFIX + "GetInitialImage.MAXIMUM_UNFINISHED_OPERATIONS", 10000)
       .intValue();
 
+  /**
+   * Number of key ranges a full image is split into. The provider sends each range as its own
+   * series of chunks with its own chunk permits, on one of at most {@link #MAX_SERIES_THREADS}
+   * threads.
+   */
+  public static int PARALLEL_RANGES =
+      Integer.getInteger(DistributionConfig.GEMFIRE_PREFIX + "GetInitialImage.PARALLEL_RANGES", 1)
+          .intValue();
+
+  /**
+   * Maximum number of threads a provider uses to send key ranges, shared by all the images it
+   * sends. A range that finds them all busy is sent by the thread that handles the request, after
+   * its own range.
+   */
+  public static final int MAX_SERIES_THREADS = Integer
+      .getInteger(DistributionConfig.GEMFIRE_PREFIX + "GetInitialImage.MAX_SERIES_THREADS", 16)
+      .intValue();
+
+  /**
+   * Sends the key ranges other than the first one of the images this member provides
+   */
+  private static final ThreadPoolExecutor seriesExecutor =
+      new ThreadPoolExecutor(0, Math.max(MAX_SERIES_THREADS, 1), 60, TimeUnit.SECONDS,
+          new SynchronousQueue<Runnable>(), new ThreadFactory() {
+            private final ThreadGroup group = LoggingThreadGroup
+                .createThreadGroup("InitialImageOperation Series Threads", logger);
+
+            private final AtomicInteger threadNum = new AtomicInteger();
+
+            public Thread newThread(Runnable r) {
+              Thread thread = new Thread(this.group, r,
+                  "GII Series Thread " + this.threadNum.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            }
+          });
+
   /**
    * Allowed number GIIs in parallel
    */
@@ -385,6 +429,7 @@ public class InitialImageOperation {
       m.regionPath = this.region.getFullPath();
       m.keysOnly = false;
       m.targetReinitialized = targetReinitialized;
+      m.numSeries = Math.max(PARALLEL_RANGES, 1);
       m.setRecipient(recipient);
 
       if (this.region.concurrencyChecksEnabled) {
@@ -1135,7 +1180,7 @@ public class InitialImageOperation {
       /**
        * number of chunks we have received from this sender
        * <p>
-       * Indexed by seriesNum, always 0)
+       * Indexed by seriesNum, one for each of the series the provider sends
        */
       int[] msgsProcessed = null;
 
@@ -1145,7 +1190,7 @@ public class InitialImageOperation {
        * This is not set until the last chunk is received, so while it is zero we know we are not
        * done.
        * <p>
-       * Indexed by seriesNum, always 0.
+       * Indexed by seriesNum, one for each of the series the provider sends
        */
       int[] numInSeries = null;
 
@@ -1235,6 +1280,7 @@ public class InitialImageOperation {
 
           boolean isLast = true; // is last message for this member?
           if (m.entries != null) {
+            region.getCachePerfStats().incGetInitialImageChunksReceived(m.getBytesRead());
             try {
               if (internalAfterReceivedImageReply != null
                   && internalAfterReceivedImageReply.getRegionName().equals(region.getName())) {
@@ -1507,8 +1553,20 @@ public class InitialImageOperation {
     /* key list for unfinished operations */
     protected Set unfinishedKeys;
 
+    /**
+     * the number of key ranges the image is split into, each sent as its own series of chunks.
+     * Requests from members older than {@link Version#GEODE_120} always ask for one series.
+     */
+    protected int numSeries = 1;
+
+    /**
+     * the collected tombstones the requester has not seen, sent with a delta GII the region could not
+     * otherwise give because of tombstone GC
+     */
+    private transient List<InitialImageOperation.Entry> reclaimedTombstones;
+
     /** The versions in which this message was modified */
-    private static final Version[] dsfidVersions = null;
+    private static final Version[] dsfidVersions = new Version[] {Version.GEODE_120};
 
     @Override
     public int getProcessorId() {
@@ -1534,6 +1592,17 @@ public class InitialImageOperation {
         return true;
       }
       if (!rgn.getVersionVector().isRVVGCDominatedBy(requesterRVV)) {
+        TombstoneLog tombstoneLog = rgn.getTombstoneLog();
+        if (tombstoneLog != null && tombstoneLog.canFill(requesterRVV)) {
+          // send the requester the destroys it missed whose tombstones have been collected
+          this.reclaimedTombstones = tombstoneLog.getUnseenTombstones(requesterRVV);
+          if (logger.isDebugEnabled()) {
+            logger.debug(
+                "Region {}'s local RVVGC is not dominated by remote RVV={}, do delta GII with {} collected tombstones",
+                rgn.getFullPath(), requesterRVV, this.reclaimedTombstones.size());
+          }
+          return false;
+        }
         if (logger.isDebugEnabled()) {
           logger.debug("Region {}'s local RVVGC is not dominated by remote RVV={}, do full GII",
               rgn.getFullPath(), requesterRVV);
@@ -1607,8 +1676,7 @@ public class InitialImageOperation {
           }
         }
 
-        final int numSeries = 1; // @todo ericz parallelize using series
-        final int seriesNum = 0;
+        final int numSeries = Math.max(this.numSeries, 1);
 
         // chunkEntries returns false if didn't finish
         if (isGiiDebugEnabled) {
@@ -1616,8 +1684,11 @@ public class InitialImageOperation {
               rgn.getFullPath());
         }
 
-        final InitialImageFlowControl flowControl =
-            InitialImageFlowControl.register(dm, getSender());
+        // each series has its own permits, so the series do not hold each other back
+        final InitialImageFlowControl[] flowControls = new InitialImageFlowControl[numSeries];
+        for (int i = 0; i < numSeries; i++) {
+          flowControls[i] = InitialImageFlowControl.register(dm, getSender());
+        }
 
         if (rgn instanceof HARegion) {
           ((HARegion) rgn).startServingGIIRequest();
@@ -1687,48 +1758,21 @@ public class InitialImageOperation {
             }
           }
           final RegionVersionHolder holderToSend = holderToSync;
-          boolean finished = chunkEntries(rgn, CHUNK_SIZE_IN_BYTES, !keysOnly, versionVector,
-              (HashSet) this.unfinishedKeys, flowControl, new ObjectIntProcedure() {
-                int msgNum = 0;
-
-                boolean last = false;
-
-                /**
-                 * @param entList ArrayList of entries
-                 * @param b positive if last chunk
-                 * @return true to continue to next chunk
-                 */
-                public boolean executeWith(Object entList, int b) {
-                  if (rgn.getCache().isClosed()) {
-                    return false;
-                  }
-
-                  if (this.last) {
-                    throw new InternalGemFireError(
-                        LocalizedStrings.InitialImageOperation_ALREADY_PROCESSED_LAST_CHUNK
-                            .toLocalizedString());
-                  }
-
-                  List entries = (List) entList;
-                  this.last = b > 0 && !lclAbortTest; // if abortTest, then never send last flag set
-                                                      // to true
-                  try {
-                    boolean abort = rgn.isDestroyed();
-                    if (!abort) {
-                      int fid = flowControl.getId();
-                      Map<VersionSource, Long> gcVersions = null;
-                      if (this.last && rgn.getVersionVector() != null) {
-                        gcVersions = rgn.getVersionVector().getMemberToGCVersion();
-                      }
-                      replyWithData(dm, entries, seriesNum, msgNum++, numSeries, this.last, fid,
-                          versionVector != null, holderToSend, gcVersions);
-                    }
-                    return !abort;
-                  } catch (CancelException e) {
-                    return false;
-                  }
-                }
-              });
+          final Set<VersionSource> foundIds = new HashSet<VersionSource>();
+          boolean finished;
+          if (numSeries == 1) {
+            finished = sendSeries(dm, rgn, 0, 1, flowControls[0], holderToSend, lclAbortTest,
+                foundIds);
+          } else {
+            finished =
+                sendAllSeries(dm, rgn, numSeries, flowControls, holderToSend, lclAbortTest, foundIds);
+          }
+          if (foundIds.size() > 0) {
+            RegionVersionVector vv = rgn.getVersionVector();
+            if (vv != null) {
+              vv.removeOldMembers(foundIds);
+            }
+          }
 
 
           if (isGiiDebugEnabled) {
@@ -1760,7 +1804,9 @@ public class InitialImageOperation {
           if (rgn instanceof HARegion) {
             ((HARegion) rgn).endServingGIIRequest();
           }
-          flowControl.unregister();
+          for (InitialImageFlowControl flowControl : flowControls) {
+            flowControl.unregister();
+          }
         }
         // This should never happen in production code!!!!
 
@@ -1816,6 +1862,153 @@ public class InitialImageOperation {
     }
 
 
+    /**
+     * Sends the entries of one key range as a series of chunks, the last one flagged as such.
+     * 
+     * @param foundIds collects the version sources of the entries sent
+     * @return true if the last chunk of the series was sent
+     */
+    private boolean sendSeries(final DistributionManager dm, final DistributedRegion rgn,
+        final int seriesNum, final int numSeries, final InitialImageFlowControl flowControl,
+        final RegionVersionHolder holderToSend, final boolean lclAbortTest,
+        Set<VersionSource> foundIds) throws IOException {
+      return chunkEntries(rgn, CHUNK_SIZE_IN_BYTES, !keysOnly, versionVector,
+          (HashSet) this.unfinishedKeys, seriesNum, numSeries, foundIds, flowControl,
+          new ObjectIntProcedure() {
+            int msgNum = 0;
+
+            boolean last = false;
+
+            /**
+             * @param entList ArrayList of entries
+             * @param b positive if last chunk
+             * @return true to continue to next chunk
+             */
+            public boolean executeWith(Object entList, int b) {
+              if (rgn.getCache().isClosed()) {
+                return false;
+              }
+
+              if (this.last) {
+                throw new InternalGemFireError(
+                    LocalizedStrings.InitialImageOperation_ALREADY_PROCESSED_LAST_CHUNK
+                        .toLocalizedString());
+              }
+
+              List entries = (List) entList;
+              this.last = b > 0 && !lclAbortTest; // if abortTest, then never send last flag set
+                                                  // to true
+              try {
+                boolean abort = rgn.isDestroyed();
+                if (!abort) {
+                  int fid = flowControl.getId();
+                  Map<VersionSource, Long> gcVersions = null;
+                  if (this.last && rgn.getVersionVector() != null) {
+                    gcVersions = rgn.getVersionVector().getMemberToGCVersion();
+                  }
+                  replyWithData(dm, entries, seriesNum, msgNum++, numSeries, this.last, fid,
+                      versionVector != null, holderToSend, gcVersions);
+                }
+                return !abort;
+              } catch (CancelException e) {
+                return false;
+              }
+            }
+          });
+    }
+
+    /**
+     * Sends each key range as a series of chunks. The first series is sent by this thread and the
+     * others by the threads of {@link #seriesExecutor}, so the entries of the ranges are read and
+     * serialized in parallel. A series the executor has no thread for is sent by this thread once
+     * the first series is done.
+     * 
+     * @return true if the last chunk of every series was sent
+     */
+    private boolean sendAllSeries(final DistributionManager dm, final DistributedRegion rgn,
+        final int numSeries, final InitialImageFlowControl[] flowControls,
+        final RegionVersionHolder holderToSend, final boolean lclAbortTest,
+        final Set<VersionSource> foundIds) throws IOException {
+      final AtomicInteger seriesFinished = new AtomicInteger();
+      final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+      final CountDownLatch seriesDone = new CountDownLatch(numSeries - 1);
+      List<Runnable> rejected = new ArrayList<Runnable>();
+      for (int i = 1; i < numSeries; i++) {
+        final int seriesNum = i;
+        Runnable task = new Runnable() {
+          @Override
+          public void run() {
+            Set<VersionSource> ids = new HashSet<VersionSource>();
+            try {
+              if (sendSeries(dm, rgn, seriesNum, numSeries, flowControls[seriesNum],
+                  holderToSend, lclAbortTest, ids)) {
+                seriesFinished.incrementAndGet();
+              }
+            } catch (VirtualMachineError err) {
+              SystemFailure.initiateFailure(err);
+              // If this ever returns, rethrow the error. We're poisoned
+              // now, so don't let this thread continue.
+              throw err;
+            } catch (Throwable t) {
+              SystemFailure.checkFailure();
+              failure.compareAndSet(null, t);
+            } finally {
+              synchronized (foundIds) {
+                foundIds.addAll(ids);
+              }
+              seriesDone.countDown();
+            }
+          }
+        };
+        try {
+          seriesExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+          rejected.add(task);
+        }
+      }
+      Set<VersionSource> ids = new HashSet<VersionSource>();
+      boolean rejectedRun = false;
+      try {
+        if (sendSeries(dm, rgn, 0, numSeries, flowControls[0], holderToSend, lclAbortTest, ids)) {
+          seriesFinished.incrementAndGet();
+        }
+        rejectedRun = true;
+        for (Runnable task : rejected) {
+          task.run();
+        }
+      } finally {
+        synchronized (foundIds) {
+          foundIds.addAll(ids);
+        }
+        if (!rejectedRun) {
+          // the first series failed, so the others this thread was to send are not sent at all
+          for (int i = 0; i < rejected.size(); i++) {
+            seriesDone.countDown();
+          }
+        }
+        boolean interrupted = false;
+        while (seriesDone.getCount() > 0) {
+          try {
+            seriesDone.await();
+          } catch (InterruptedException e) {
+            interrupted = true;
+          }
+        }
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      Throwable t = failure.get();
+      if (t instanceof IOException) {
+        throw (IOException) t;
+      } else if (t instanceof RuntimeException) {
+        throw (RuntimeException) t;
+      } else if (t instanceof Error) {
+        throw (Error) t;
+      }
+      return seriesFinished.get() == numSeries;
+    }
+
     /**
      * Serialize the entries into byte[] chunks, calling proc for each one. proc args: the byte[]
      * chunk and an int indicating whether it is the last chunk (positive means last chunk, zero
@@ -1824,11 +2017,15 @@ public class InitialImageOperation {
      * 
      * @param versionVector requester's region version vector
      * @param unfinishedKeys keys of unfinished operation (persistent region only)
+     * @param seriesNum the key range to send, a key is in range seriesNum of numSeries if its hash
+     *        code modulo numSeries is seriesNum
+     * @param foundIds collects the version sources of the entries sent
      * @param flowControl
      * @return true if finished all chunks, false if stopped early
      */
     protected boolean chunkEntries(DistributedRegion rgn, int chunkSizeInBytes,
         boolean includeValues, RegionVersionVector versionVector, HashSet unfinishedKeys,
+        int seriesNum, int numSeries, Set<VersionSource> foundIds,
         InitialImageFlowControl flowControl, ObjectIntProcedure proc) throws IOException {
       boolean keepGoing = true;
       boolean sentLastChunk = false;
@@ -1849,8 +2046,7 @@ public class InitialImageOperation {
         in = new ByteArrayDataInput();
       }
       VersionSource myId = rgn.getVersionMember();
-      Set<VersionSource> foundIds = new HashSet<VersionSource>();
-      if (internalDuringPackingImage != null
+      if (seriesNum == 0 && internalDuringPackingImage != null
           && this.regionPath.endsWith(internalDuringPackingImage.getRegionName())) {
         internalDuringPackingImage.run();
       }
@@ -1863,14 +2059,35 @@ public class InitialImageOperation {
         } else {
           it = rgn.getBestIterator(includeValues);
         }
+        Iterator<InitialImageOperation.Entry> reclaimed = Collections.emptyIterator();
+        if (versionVector != null && this.reclaimedTombstones != null) {
+          reclaimed = this.reclaimedTombstones.iterator();
+        }
         do {
           flowControl.acquirePermit();
           int currentChunkSize = 0;
 
           while (chunkEntries.size() < MAX_ENTRIES_PER_CHUNK && currentChunkSize < chunkSizeInBytes
-              && it.hasNext()) {
+              && (reclaimed.hasNext() || it.hasNext())) {
+            if (reclaimed.hasNext()) {
+              // tombstones collected here but not seen by the requester are sent first
+              InitialImageOperation.Entry tombstone = reclaimed.next();
+              Object key = tombstone.key;
+              if (numSeries > 1 && (key.hashCode() & 0x7fffffff) % numSeries != seriesNum) {
+                continue; // another series sends this entry
+              }
+              if (rgn.entries.getEntry(key) != null) {
+                continue; // the key has been recreated, and is sent from the region
+              }
+              chunkEntries.add(tombstone);
+              currentChunkSize += tombstone.calcSerializedSize();
+              continue;
+            }
             RegionEntry mapEntry = (RegionEntry) it.next();
             Object key = mapEntry.getKey();
+            if (numSeries > 1 && (key.hashCode() & 0x7fffffff) % numSeries != seriesNum) {
+              continue; // another series sends this entry
+            }
             if (rgn.checkEntryNotValid(mapEntry)) { // entry was just removed
               continue;
             }
@@ -1940,20 +2157,14 @@ public class InitialImageOperation {
           }
 
           // send 1 for last message if no more data
-          int lastMsg = it.hasNext() ? 0 : 1;
+          int lastMsg = (reclaimed.hasNext() || it.hasNext()) ? 0 : 1;
           keepGoing = proc.executeWith(chunkEntries, lastMsg);
           sentLastChunk = lastMsg == 1 && keepGoing;
           chunkEntries.clear();
 
           // if this region is destroyed while we are sending data, then abort.
-        } while (keepGoing && it.hasNext());
+        } while (keepGoing && (reclaimed.hasNext() || it.hasNext()));
 
-        if (foundIds.size() > 0) {
-          RegionVersionVector vv = rgn.getVersionVector();
-          if (vv != null) {
-            vv.removeOldMembers(foundIds);
-          }
-        }
         // return false if we were told to abort
         return sentLastChunk;
       } finally {
@@ -2006,6 +2217,11 @@ public class InitialImageOperation {
 
     @Override
     public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+      fromDataPre_GEODE_1_2_0_0(in);
+      this.numSeries = in.readInt();
+    }
+
+    public void fromDataPre_GEODE_1_2_0_0(DataInput in) throws IOException, ClassNotFoundException {
       super.fromData(in);
       this.regionPath = DataSerializer.readString(in);
       this.processorId = in.readInt();
@@ -2020,6 +2236,11 @@ public class InitialImageOperation {
 
     @Override
     public void toData(DataOutput out) throws IOException {
+      toDataPre_GEODE_1_2_0_0(out);
+      out.writeInt(this.numSeries);
+    }
+
+    public void toDataPre_GEODE_1_2_0_0(DataOutput out) throws IOException {
       super.toData(out);
       DataSerializer.writeString(this.regionPath, out);
       out.writeInt(this.processorId);
@@ -2059,6 +2280,9 @@ public class InitialImageOperation {
       }
       buff.append("; versionVector=").append(versionVector);
       buff.append("; unfinished keys=").append(unfinishedKeys);
+      if (this.numSeries > 1) {
+        buff.append("; numSeries=").append(this.numSeries);
+      }
       buff.append(")");
       return buff.toString();
     }
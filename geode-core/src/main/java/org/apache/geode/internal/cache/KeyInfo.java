@@ -41,7 +41,7 @@ public class KeyInfo {
   // The value field is added since a Partition resolver could also rely on the value
   // part to calculate the routing object
   @Retained(ENTRY_EVENT_NEW_VALUE)
-  private final Object value;
+  private Object value;
 
   public KeyInfo(Object key, Object value, Object callbackArg) {
     this.key = key;
@@ -93,6 +93,16 @@ public class KeyInfo {
     this.callbackArg = callbackArg;
   }
 
+  /**
+   * Resets this KeyInfo for reuse by a recycled {@link EntryEventImpl}.
+   */
+  final void reinitialize(Object key, Object value, Object callbackArg) {
+    this.key = key;
+    this.callbackArg = callbackArg;
+    this.bucketId = UNKNOWN_BUCKET;
+    this.value = value;
+  }
+
   public String toString() {
     return "(key=" + key + ",bucketId=" + bucketId + ")";
   }
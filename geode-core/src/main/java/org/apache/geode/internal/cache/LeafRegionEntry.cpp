@@ -64,6 +64,9 @@ import org.apache.geode.internal.offheap.annotations.Released;
 import org.apache.geode.internal.offheap.annotations.Retained;
 import org.apache.geode.internal.offheap.annotations.Unretained;
 #endif
+#if defined(KEY_INT) || defined(KEY_LONG)
+import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap;
+#endif
 import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap.HashEntry;
 
 // macros whose definition changes this class:
@@ -168,7 +171,9 @@ public class LEAF_CLASS extends PARENT_CLASS {
   // DO NOT modify this class. It was generated from LeafRegionEntry.cpp
   
   // common code
+#if !defined(KEY_INT) && !defined(KEY_LONG)
   protected int hash;
+#endif
   private HashEntry<Object, Object> next;
   @SuppressWarnings("unused")
   private volatile long lastModified;
@@ -263,12 +268,30 @@ public class LEAF_CLASS extends PARENT_CLASS {
   /**
    * @see HashEntry#getEntryHash()
    */
+#if defined(KEY_INT)
+  public final int getEntryHash() {
+    // derived from the key instead of stored to save a field per entry
+    return CustomEntryConcurrentHashMap.spreadHash(this.key);
+  }
+  protected void setEntryHash(int v) {
+    // nothing needed; the hash is derived from the key
+  }
+#elif defined(KEY_LONG)
+  public final int getEntryHash() {
+    // derived from the key instead of stored to save a field per entry
+    return CustomEntryConcurrentHashMap.spreadHash(Long.hashCode(this.key));
+  }
+  protected void setEntryHash(int v) {
+    // nothing needed; the hash is derived from the key
+  }
+#else
   public final int getEntryHash() {
     return this.hash;
   }
   protected void setEntryHash(int v) {
     this.hash = v;
   }
+#endif
   /**
    * @see HashEntry#getNextEntry()
    */
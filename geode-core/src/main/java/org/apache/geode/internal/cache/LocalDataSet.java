@@ -682,6 +682,9 @@ public class LocalDataSet implements Region, QueryExecutor {
             // Check if there is a valid value.
             if (hasNext) {
               Map.Entry e = (Map.Entry) curBucketIter.next();
+              if (rangeCount > 1 && !isInRange(e.getKey())) {
+                continue;
+              }
               try {
                 if (iterType == IteratorType.VALUES) {
                   if (isKeepSerialized()) {
@@ -726,6 +729,13 @@ public class LocalDataSet implements Region, QueryExecutor {
 
     @Override
     public int size() {
+      if (rangeCount > 1) {
+        int size = 0;
+        for (Iterator itr = iterator(); itr.hasNext(); itr.next()) {
+          size++;
+        }
+        return size;
+      }
       int size = 0;
       for (Integer bId : buckets) {
         BucketRegion br = proxy.getDataStore().getLocalBucketById(bId);
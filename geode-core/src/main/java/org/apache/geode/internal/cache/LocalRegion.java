@@ -156,6 +156,7 @@ import org.apache.geode.internal.cache.tier.sockets.VersionedObjectList;
 import org.apache.geode.internal.cache.versions.ConcurrentCacheModificationException;
 import org.apache.geode.internal.cache.versions.RegionVersionHolder;
 import org.apache.geode.internal.cache.versions.RegionVersionVector;
+import org.apache.geode.internal.cache.versions.VersionHolder;
 import org.apache.geode.internal.cache.versions.VersionSource;
 import org.apache.geode.internal.cache.versions.VersionStamp;
 import org.apache.geode.internal.cache.versions.VersionTag;
@@ -1360,6 +1361,9 @@ public class LocalRegion extends AbstractRegion implements LoaderHelperFactory,
       // || (isRegInterestInProgress() && Token.isDestroyed(value))
       // because (value == null) will be true in this case.
       if (isMiss) {
+        if (!isCreate && Token.isInvalid(value)) {
+          stats.incStaleReads();
+        }
         // to fix bug 51509 raise the precedence of opScopeIsLocal
         // if scope is local and there is no loader, then
         // don't go further to try and get value
@@ -1587,11 +1591,12 @@ public class LocalRegion extends AbstractRegion implements LoaderHelperFactory,
       throws TimeoutException, CacheWriterException {
     long startPut = CachePerfStats.getStatTime();
     @Released
-    EntryEventImpl event = newUpdateEntryEvent(key, value, aCallbackArgument);
+    EntryEventImpl event = newUpdateEntryEvent(key, value, aCallbackArgument, true);
     try {
       return validatedPut(event, startPut);
     } finally {
       event.release();
+      event.recycle();
     }
   }
 
@@ -1622,6 +1627,15 @@ public class LocalRegion extends AbstractRegion implements LoaderHelperFactory,
   @Retained
   public final EntryEventImpl newUpdateEntryEvent(Object key, Object value,
       Object aCallbackArgument) {
+    return newUpdateEntryEvent(key, value, aCallbackArgument, false);
+  }
+
+  /**
+   * @param recyclable true if the caller calls {@link EntryEventImpl#recycle()} once it is done
+   *        with the event, allowing a recycled event to be returned
+   */
+  private EntryEventImpl newUpdateEntryEvent(Object key, Object value, Object aCallbackArgument,
+      boolean recyclable) {
 
     validateArguments(key, value, aCallbackArgument);
     if (value == null) {
@@ -1637,19 +1651,42 @@ public class LocalRegion extends AbstractRegion implements LoaderHelperFactory,
     // an id will be generated by default. Null was passed in anyway.
     // generate EventID
     @Retained
-    final EntryEventImpl event = EntryEventImpl.create(this, Operation.UPDATE, key, value,
-        aCallbackArgument, false, getMyId());
+    final EntryEventImpl event;
+    if (recyclable && canRecycleEntryEvents()) {
+      event = EntryEventImpl.createRecyclable(this, Operation.UPDATE, key, value, aCallbackArgument,
+          getMyId());
+    } else {
+      event = EntryEventImpl.create(this, Operation.UPDATE, key, value, aCallbackArgument, false,
+          getMyId());
+    }
     boolean eventReturned = false;
     try {
       extractDeltaIntoEvent(value, event);
       eventReturned = true;
       return event;
     } finally {
-      if (!eventReturned)
+      if (!eventReturned) {
         event.release();
+        event.recycle();
+      }
     }
   }
 
+  /**
+   * Returns true if the events of operations on this region can not be referenced by anything
+   * once the operation returns, so that a thread can reuse one event for all of them instead of
+   * allocating a new event per operation. This is the case for a local, on-heap region without
+   * listeners, writer, server proxy, gateway senders or async event queues, when no cache server
+   * could see the event and the operation is not part of a transaction.
+   */
+  boolean canRecycleEntryEvents() {
+    return EntryEventImpl.RECYCLE_LOCAL_EVENTS && getScope().isLocal()
+        && !(this instanceof DistributedRegion) && !(this instanceof PartitionedRegion)
+        && !getOffHeap() && !hasListener() && basicGetWriter() == null && !hasServerProxy()
+        && this.allGatewaySenderIds.isEmpty()
+        && this.cache.getCacheServersAndGatewayReceiver().isEmpty() && !isTX();
+  }
+
   private void extractDeltaIntoEvent(Object value, EntryEventImpl event) {
     // 1. Check for DS-level delta property.
     // 2. Default value for operation type is UPDATE, so no need to check that here.
@@ -3387,6 +3424,26 @@ public class LocalRegion extends AbstractRegion implements LoaderHelperFactory,
     // this.cache.getTombstoneService().unscheduleTombstone(entry);
   }
 
+  /**
+   * Invoked by the region map after a tombstone has been removed from it and its version recorded
+   * as garbage collected
+   * 
+   * @param entry the removed entry
+   * @param version the version of the destroy the tombstone was created for
+   */
+  void tombstoneReclaimed(RegionEntry entry, VersionHolder version) {
+    // nothing to do by default
+  }
+
+  /**
+   * Invoked by the region map after it has been cleared
+   * 
+   * @param rvv the version vector of the clear operation, null if all entries were removed
+   */
+  void regionMapCleared(RegionVersionVector rvv) {
+    // nothing to do by default
+  }
+
   /**
    * remove any tombstones from the given member that are <= the given version
    * 
@@ -6622,6 +6679,10 @@ public class LocalRegion extends AbstractRegion implements LoaderHelperFactory,
       if (getMembershipAttributes().hasRequiredRoles()) {
         getCachePerfStats().incReliableRegions(1);
       }
+      if (this.srp != null && ((PoolImpl) this.srp.getPool()).isMetadataPrefetchEnabled()) {
+        // fetch the partition metadata now instead of after the first operations missed it
+        this.cache.getClientMetadataService().scheduleGetPRMetaData(this, true);
+      }
     }
 
     if (hasListener()) {
@@ -11451,6 +11512,13 @@ public class LocalRegion extends AbstractRegion implements LoaderHelperFactory,
       this.cachePerfStats.incGetInitialImageKeysReceived();
     }
 
+    @Override
+    public void incGetInitialImageChunksReceived(int bytes) {
+      stats.incInt(getInitialImageChunksReceivedId, 1);
+      stats.incLong(getInitialImageBytesReceivedId, bytes);
+      this.cachePerfStats.incGetInitialImageChunksReceived(bytes);
+    }
+
     @Override
     public long startIndexUpdate() {
       stats.incInt(indexUpdateInProgressId, 1);
@@ -11537,6 +11605,12 @@ public class LocalRegion extends AbstractRegion implements LoaderHelperFactory,
       this.cachePerfStats.endGet(start, miss);
     }
 
+    @Override
+    public void incStaleReads() {
+      stats.incInt(staleReadsId, 1);
+      this.cachePerfStats.incStaleReads();
+    }
+
     /**
      * @param start the timestamp taken when the operation started
      * @param isUpdate true if the put was an update (origin remote)
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.distributed.internal.DistributionConfig;
+import org.apache.geode.internal.lang.SystemUtils;
+import org.apache.geode.internal.logging.LogService;
+
+/**
+ * A read-only memory mapping of an oplog crf file that is no longer being appended to. Values
+ * faulted in from a mapped oplog are copied straight out of the page cache without taking the
+ * oplog lock or seeking the file.
+ * <p>
+ * Mapping is enabled with the gemfire.disk.mapClosedOplogs system property. Files larger than
+ * {@link Integer#MAX_VALUE} bytes are not mapped and are read through the RandomAccessFile as
+ * before.
+ * <p>
+ * The mapping is unmapped when the owning oplog releases it on close or delete, once the reads in
+ * progress are done, so that the file can be removed on platforms that do not delete mapped files.
+ * If the JVM does not allow unmapping, the mapping is released when it is garbage collected, and
+ * files are not mapped at all on Windows.
+ */
+class MappedOplogFile {
+  private static final Logger logger = LogService.getLogger();
+
+  static boolean ENABLED =
+      Boolean.getBoolean(DistributionConfig.GEMFIRE_PREFIX + "disk.mapClosedOplogs");
+
+  /** DirectByteBuffer.cleaner(), or null if it is not accessible */
+  private static final Method cleanerMethod = getCleanerMethod();
+
+  private final MappedByteBuffer buffer;
+
+  private final DiskStoreStats stats;
+
+  /** The number of reads in progress, or -1 once the buffer has been unmapped */
+  private final AtomicInteger readers = new AtomicInteger();
+
+  private volatile boolean released;
+
+  private MappedOplogFile(MappedByteBuffer buffer, DiskStoreStats stats) {
+    this.buffer = buffer;
+    this.stats = stats;
+  }
+
+  /**
+   * Maps the first <code>size</code> bytes of the given file.
+   *
+   * @return the mapping or null if the file can not be mapped
+   */
+  static MappedOplogFile map(File f, long size, DiskStoreStats stats) throws IOException {
+    if (size <= 0 || size > Integer.MAX_VALUE) {
+      return null;
+    }
+    if (cleanerMethod == null && SystemUtils.isWindows()) {
+      // the file could not be deleted until the mapping is garbage collected
+      return null;
+    }
+    try (FileChannel channel = FileChannel.open(f.toPath(), StandardOpenOption.READ)) {
+      if (channel.size() < size) {
+        return null;
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      stats.incMappedOplogs(size);
+      return new MappedOplogFile(buffer, stats);
+    }
+  }
+
+  /**
+   * Returns true if the given range of the file is mapped.
+   */
+  boolean contains(long position, int length) {
+    return position >= 0 && position + length <= this.buffer.capacity();
+  }
+
+  /**
+   * Copies <code>length</code> bytes starting at <code>position</code> out of the mapping.
+   * 
+   * @return the bytes or null if the mapping has been released
+   */
+  byte[] read(long position, int length) {
+    if (!startRead()) {
+      return null;
+    }
+    try {
+      long start = this.stats.startMappedRead();
+      ByteBuffer view = this.buffer.duplicate();
+      view.position((int) position);
+      byte[] result = new byte[length];
+      view.get(result);
+      this.stats.endMappedRead(start);
+      return result;
+    } finally {
+      if (this.readers.decrementAndGet() == 0 && this.released) {
+        unmap();
+      }
+    }
+  }
+
+  private boolean startRead() {
+    if (this.released) {
+      return false;
+    }
+    while (true) {
+      int n = this.readers.get();
+      if (n < 0) {
+        return false;
+      }
+      if (this.readers.compareAndSet(n, n + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Called when the owning oplog stops using this mapping. The buffer is unmapped now, or by the
+   * last of the reads in progress.
+   */
+  void release() {
+    if (this.released) {
+      return;
+    }
+    this.released = true;
+    this.stats.decMappedOplogs(this.buffer.capacity());
+    unmap();
+  }
+
+  /**
+   * Returns true if this JVM allows mappings to be unmapped before they are garbage collected
+   */
+  static boolean canUnmap() {
+    return cleanerMethod != null;
+  }
+
+  /**
+   * Returns true once the buffer has been unmapped
+   */
+  boolean isUnmapped() {
+    return this.readers.get() < 0;
+  }
+
+  private void unmap() {
+    if (cleanerMethod == null || !this.readers.compareAndSet(0, -1)) {
+      return;
+    }
+    try {
+      Object cleaner = cleanerMethod.invoke(this.buffer);
+      if (cleaner != null) {
+        cleaner.getClass().getMethod("clean").invoke(cleaner);
+      }
+    } catch (Exception e) {
+      logger.debug("Could not unmap an oplog, it will be unmapped once garbage collected", e);
+    }
+  }
+
+  private static Method getCleanerMethod() {
+    try {
+      Method m = Class.forName("java.nio.DirectByteBuffer").getDeclaredMethod("cleaner");
+      m.setAccessible(true);
+      return m;
+    } catch (Exception e) {
+      return null;
+    }
+  }
+}
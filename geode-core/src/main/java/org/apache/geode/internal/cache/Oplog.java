@@ -1509,6 +1509,32 @@ public final class Oplog implements CompactableOplog, Flushable {
     return this.crashed;
   }
 
+  /**
+   * Returns the file read by {@link #recoverDrf}, or null if there is none.
+   */
+  File getDrfFileForRecovery() {
+    return this.drf.f;
+  }
+
+  /**
+   * Returns the file most likely to be read by {@link #recoverCrf}: the krf if there is a complete
+   * one and values are not recovered synchronously, otherwise the crf. Returns null if there is no
+   * crf.
+   */
+  File getCrfFileForRecovery(boolean recoverValuesSync) {
+    if (this.crf.f == null) {
+      return null;
+    }
+    if (!recoverValuesSync && getParent().getDiskInitFile().hasKrf(this.oplogId)) {
+      File krf = new File(
+          this.crf.f.getAbsolutePath().replaceFirst("\\" + CRF_FILE_EXT + "$", KRF_FILE_EXT));
+      if (krf.exists()) {
+        return krf;
+      }
+    }
+    return this.crf.f;
+  }
+
   /**
    * Return bytes read.
    */
@@ -3375,6 +3401,7 @@ public final class Oplog implements CompactableOplog, Flushable {
       }
       this.closed = true;
     }
+    releaseMappedCrf();
     synchronized (this.lock/* drf */) {
       unpreblow(this.drf, getMaxDrfSize());
       if (!this.drf.RAFClosed) {
@@ -3690,7 +3717,7 @@ public final class Oplog implements CompactableOplog, Flushable {
         id.setOplogId(getOplogId());
         // do the io while holding lock so that switch can set doneAppending
         // Write the data to the opLog for the synch mode
-        startPosForSynchOp = writeOpLogBytes(this.crf, async, true);
+        startPosForSynchOp = writeOpLogBytes(this.crf, async, true, true);
         // if (this.crf.currSize != startPosForSynchOp) {
         // assert false;
         // }
@@ -3750,6 +3777,7 @@ public final class Oplog implements CompactableOplog, Flushable {
       Assert.assertTrue(this != getOplogSet().getChild());
       getOplogSet().getChild().basicCreate(dr, entry, value, userBits, async);
     } else {
+      awaitGroupCommit(async);
       if (LocalRegion.ISSUE_CALLBACKS_TO_CACHE_OBSERVER) {
         CacheObserverHolder.getInstance().afterSettingOplogOffSet(startPosForSynchOp);
       }
@@ -4690,7 +4718,7 @@ public final class Oplog implements CompactableOplog, Flushable {
           long oldOplogId;
           // do the io while holding lock so that switch can set doneAppending
           // Write the data to the opLog for the synch mode
-          startPosForSynchOp = writeOpLogBytes(this.crf, async, true);
+          startPosForSynchOp = writeOpLogBytes(this.crf, async, true, true);
           this.crf.currSize = temp;
           startPosForSynchOp += getOpStateValueOffset();
           if (logger.isTraceEnabled(LogMarker.PERSIST_WRITES)) {
@@ -4765,6 +4793,7 @@ public final class Oplog implements CompactableOplog, Flushable {
       Assert.assertTrue(getOplogSet().getChild() != this);
       getOplogSet().getChild().basicModify(dr, entry, value, userBits, async, calledByCompactor);
     } else {
+      awaitGroupCommit(async);
       if (LocalRegion.ISSUE_CALLBACKS_TO_CACHE_OBSERVER) {
         CacheObserverHolder.getInstance().afterSettingOplogOffSet(startPosForSynchOp);
       }
@@ -4786,6 +4815,19 @@ public final class Oplog implements CompactableOplog, Flushable {
     }
   }
 
+  /**
+   * If group commit is enabled, waits for the synchronous write just done by this thread to be
+   * flushed. Must be called after releasing the oplog lock.
+   */
+  private void awaitGroupCommit(boolean async) {
+    if (!async) {
+      OplogGroupCommitter committer = getParent().getGroupCommitter();
+      if (committer != null) {
+        committer.awaitCommit();
+      }
+    }
+  }
+
   private void basicSaveConflictVersionTag(DiskRegionView dr, VersionTag tag, boolean async)
       throws IOException, InterruptedException {
     boolean useNextOplog = false;
@@ -4809,7 +4851,7 @@ public final class Oplog implements CompactableOplog, Flushable {
             throw cce;
           }
           this.firstRecord = false;
-          writeOpLogBytes(this.crf, async, true);
+          writeOpLogBytes(this.crf, async, true, true);
           this.crf.currSize = temp;
           if (logger.isTraceEnabled(LogMarker.PERSIST_WRITES)) {
             logger.trace(LogMarker.PERSIST_WRITES,
@@ -4834,6 +4876,8 @@ public final class Oplog implements CompactableOplog, Flushable {
       }
       Assert.assertTrue(getOplogSet().getChild() != this);
       getOplogSet().getChild().basicSaveConflictVersionTag(dr, tag, async);
+    } else {
+      awaitGroupCommit(async);
     }
   }
 
@@ -5143,7 +5187,7 @@ public final class Oplog implements CompactableOplog, Flushable {
           // before we flush the crf.
           // However we can't have removes by async if we are doing a sync write
           // because we might be killed right after we do this write.
-          startPosForSynchOp = writeOpLogBytes(this.drf, async, true);
+          startPosForSynchOp = writeOpLogBytes(this.drf, async, true, true);
           setHasDeletes(true);
           if (logger.isTraceEnabled(LogMarker.PERSIST_WRITES)) {
             logger.debug("basicRemove: id=<{}> key=<{}> drId={} oplog#{}", abs(id.getKeyId()),
@@ -5183,6 +5227,7 @@ public final class Oplog implements CompactableOplog, Flushable {
       Assert.assertTrue(getOplogSet().getChild() != this);
       getOplogSet().getChild().basicRemove(dr, entry, async, isClear);
     } else {
+      awaitGroupCommit(async);
       if (LocalRegion.ISSUE_CALLBACKS_TO_CACHE_OBSERVER) {
         CacheObserverHolder.getInstance().afterSettingOplogOffSet(startPosForSynchOp);
       }
@@ -5361,6 +5406,16 @@ public final class Oplog implements CompactableOplog, Flushable {
    */
   private long writeOpLogBytes(OplogFile olf, boolean async, boolean doFlushIfSync)
       throws IOException {
+    return writeOpLogBytes(olf, async, doFlushIfSync, false);
+  }
+
+  /**
+   * @param groupCommit true if the caller will call {@link #awaitGroupCommit} after releasing the
+   *        oplog lock, so that a synchronous write can be flushed by a group commit instead of
+   *        right away
+   */
+  private long writeOpLogBytes(OplogFile olf, boolean async, boolean doFlushIfSync,
+      boolean groupCommit) throws IOException {
     long startPos = -1L;
     synchronized (this.lock/* olf */) {
       Assert.assertTrue(!this.doneAppending);
@@ -5382,7 +5437,12 @@ public final class Oplog implements CompactableOplog, Flushable {
       // " was not > lastWritePos=" + lastWritePos);
       long bytesWritten = this.opState.write(olf);
       if (!async && doFlushIfSync) {
-        flushAndSync(olf);
+        OplogGroupCommitter committer = groupCommit ? getParent().getGroupCommitter() : null;
+        if (committer != null) {
+          committer.appended();
+        } else {
+          flushAndSync(olf);
+        }
       }
       getStats().incWrittenBytes(bytesWritten, async);
 
@@ -5445,8 +5505,67 @@ public final class Oplog implements CompactableOplog, Flushable {
     }
   }
 
+  /**
+   * The read-only mapping of the crf once this oplog is done appending. Only used if
+   * {@link MappedOplogFile#ENABLED}.
+   */
+  private volatile MappedOplogFile mappedCrf;
+
+  private boolean crfMappingFailed;
+
+  /**
+   * Returns the mapping of this oplog's crf, mapping it first if this oplog is done appending and
+   * all of its bytes have been flushed. Returns null if the crf is not mapped, in which case it is
+   * read through its RandomAccessFile. If mapping fails the crf is never mapped again.
+   */
+  private MappedOplogFile getMappedCrf() {
+    MappedOplogFile result = this.mappedCrf;
+    if (result == null && MappedOplogFile.ENABLED && this.doneAppending) {
+      synchronized (this.lock/* crf */) {
+        result = this.mappedCrf;
+        if (result == null && this.doneAppending && !this.crfMappingFailed && !this.closed
+            && !this.deleted.get() && this.crf.f != null
+            && this.crf.bytesFlushed >= this.crf.currSize) {
+          try {
+            result = MappedOplogFile.map(this.crf.f, this.crf.bytesFlushed, this.stats);
+          } catch (IOException e) {
+            logger.debug("Could not map {}, reading it from the file instead", this.crf.f, e);
+            result = null;
+          }
+          if (result == null) {
+            this.crfMappingFailed = true;
+          }
+          this.mappedCrf = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  private void releaseMappedCrf() {
+    synchronized (this.lock/* crf */) {
+      MappedOplogFile mapped = this.mappedCrf;
+      if (mapped != null) {
+        this.mappedCrf = null;
+        mapped.release();
+      }
+    }
+  }
+
   private BytesAndBits attemptGet(DiskRegionView dr, long offsetInOplog, boolean bitOnly,
       int valueLength, byte userBits) throws IOException {
+    MappedOplogFile mapped = getMappedCrf();
+    if (mapped != null && mapped.contains(offsetInOplog, valueLength)) {
+      byte[] bytes = mapped.read(offsetInOplog, valueLength);
+      if (bytes != null) {
+        BytesAndBits bb = new BytesAndBits(bytes, userBits);
+        final Version version = getProductVersionIfOld();
+        if (version != null) {
+          bb.setVersion(version);
+        }
+        return bb;
+      }
+    }
     boolean didReopen = false;
     boolean accessedInactive = false;
     try {
@@ -5761,6 +5880,7 @@ public final class Oplog implements CompactableOplog, Flushable {
   }
 
   public void deleteCRF() {
+    releaseMappedCrf();
     oplogSet.crfDelete(this.oplogId);
     DiskStoreBackup inProgressBackup = getParent().getInProgressBackup();
     if (inProgressBackup == null || !inProgressBackup.deferCrfDelete(this)) {
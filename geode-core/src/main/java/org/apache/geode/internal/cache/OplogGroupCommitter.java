@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.geode.distributed.internal.DistributionConfig;
+
+/**
+ * Coalesces the flushes of synchronous oplog writes. Without group commit every synchronous
+ * create, modify or remove writes its record to the oplog channel (and, with gemfire.syncWrites,
+ * to the disk) while holding the oplog lock. With group commit the record is only appended to the
+ * oplog's write buffer under the lock. After releasing the lock the writer waits until a flush
+ * covers its record. The first waiter becomes the leader and flushes the current oplog once for
+ * every record appended so far; the others wait for it and then return.
+ * <p>
+ * Enabled with the gemfire.disk.groupCommit system property. The leader can optionally wait
+ * gemfire.disk.groupCommitMaxWaitMicros before flushing so that more writers join the batch. This
+ * trades latency for fewer, larger writes and is only worthwhile when each flush is expensive, as
+ * it is with gemfire.syncWrites.
+ */
+class OplogGroupCommitter {
+
+  static final boolean ENABLED =
+      Boolean.getBoolean(DistributionConfig.GEMFIRE_PREFIX + "disk.groupCommit");
+
+  static final long MAX_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(
+      Long.getLong(DistributionConfig.GEMFIRE_PREFIX + "disk.groupCommitMaxWaitMicros", 0));
+
+  private final PersistentOplogSet oplogSet;
+
+  private final DiskStoreStats stats;
+
+  private final long maxWaitNanos;
+
+  /** The number of records appended by writers that want to be group committed */
+  private final AtomicLong appended = new AtomicLong();
+
+  private final Object commitLock = new Object();
+
+  /** The number of appended records known to have been flushed; guarded by commitLock */
+  private long committed;
+
+  /** True while a leader is flushing; guarded by commitLock */
+  private boolean committing;
+
+  OplogGroupCommitter(PersistentOplogSet oplogSet, DiskStoreStats stats) {
+    this(oplogSet, stats, MAX_WAIT_NANOS);
+  }
+
+  OplogGroupCommitter(PersistentOplogSet oplogSet, DiskStoreStats stats, long maxWaitNanos) {
+    this.oplogSet = oplogSet;
+    this.stats = stats;
+    this.maxWaitNanos = maxWaitNanos;
+  }
+
+  /**
+   * Called while holding the oplog lock, after a record has been appended to the oplog's write
+   * buffer instead of being flushed.
+   */
+  void appended() {
+    this.appended.incrementAndGet();
+  }
+
+  /**
+   * Waits until every record appended so far, including the caller's, has been flushed. Must not
+   * be called while holding the oplog lock.
+   */
+  void awaitCommit() {
+    final long target = this.appended.get();
+    boolean interrupted = false;
+    try {
+      synchronized (this.commitLock) {
+        for (;;) {
+          if (this.committed >= target) {
+            return;
+          }
+          if (!this.committing) {
+            this.committing = true;
+            break;
+          }
+          try {
+            this.commitLock.wait();
+          } catch (InterruptedException e) {
+            // the record has already been appended so we must not return until it is flushed
+            interrupted = true;
+          }
+        }
+      }
+      commit();
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void commit() {
+    long flushedTo = -1;
+    long batchSize = 0;
+    final long start = this.stats.getStatTime();
+    try {
+      if (this.maxWaitNanos > 0) {
+        LockSupport.parkNanos(this.maxWaitNanos);
+      }
+      final long target = this.appended.get();
+      flush();
+      flushedTo = target;
+    } finally {
+      synchronized (this.commitLock) {
+        if (flushedTo > this.committed) {
+          batchSize = flushedTo - this.committed;
+          this.committed = flushedTo;
+        }
+        this.committing = false;
+        this.commitLock.notifyAll();
+      }
+    }
+    this.stats.endGroupCommit(start, batchSize);
+  }
+
+  /** Flushes every record appended to the current oplog. Tests may override this. */
+  void flush() {
+    // Records appended to an oplog that has since been switched were flushed by the switch
+    Oplog child = this.oplogSet.getChild();
+    if (child != null) {
+      child.flushAll();
+    }
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.distributed.internal.DistributionConfig;
+import org.apache.geode.internal.logging.LogService;
+import org.apache.geode.internal.logging.LoggingThreadGroup;
+
+/**
+ * Reads the oplog files that recovery will need next into the operating system's page cache while
+ * the recovery thread is still busy with earlier oplogs.
+ * <p>
+ * The records of each oplog are still applied by a single thread in oplog order, so the order in
+ * which version vectors and conflicting entries are resolved is the same as without prefetching;
+ * only the disk reads overlap. The number of recovery threads, including the thread applying the
+ * records, is set with the gemfire.disk.recoveryThreads system property. With the default of 1
+ * nothing is prefetched.
+ */
+class OplogRecoveryPrefetcher {
+  private static final Logger logger = LogService.getLogger();
+
+  /**
+   * the number of recovery threads, including the one applying the records. Tests may change this.
+   */
+  static int RECOVERY_THREADS =
+      Integer.getInteger(DistributionConfig.GEMFIRE_PREFIX + "disk.recoveryThreads", 1);
+
+  private static final int READ_BUFFER_SIZE = 1024 * 1024;
+
+  private final List<File> files;
+
+  private final DiskStoreStats stats;
+
+  private final ExecutorService executor;
+
+  /** How many oplogs past the one being recovered are prefetched */
+  private final int window;
+
+  /** The index of the next file to consider for prefetching */
+  private int nextFile;
+
+  private volatile boolean closed;
+
+  private OplogRecoveryPrefetcher(String diskStoreName, List<File> files, int prefetchThreads,
+      DiskStoreStats stats) {
+    this.files = files;
+    this.stats = stats;
+    this.window = prefetchThreads;
+    final ThreadGroup group = LoggingThreadGroup
+        .createThreadGroup("Oplog Recovery Prefetch Thread Group " + diskStoreName, logger);
+    final ThreadFactory factory =
+        GemfireCacheHelper.CreateThreadFactory(group, "Oplog Recovery Prefetcher");
+    this.executor = new ThreadPoolExecutor(prefetchThreads, prefetchThreads, 10, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<Runnable>(), factory);
+  }
+
+  /**
+   * Returns a prefetcher for the given files, in the order they will be recovered, or null if
+   * prefetching is disabled or there is nothing to prefetch. Files may be null.
+   */
+  static OplogRecoveryPrefetcher create(String diskStoreName, List<File> files,
+      DiskStoreStats stats) {
+    if (RECOVERY_THREADS <= 1 || files.size() <= 1) {
+      return null;
+    }
+    return new OplogRecoveryPrefetcher(diskStoreName, files, RECOVERY_THREADS - 1, stats);
+  }
+
+  /**
+   * Called before the file at <code>index</code> is recovered to start prefetching the files that
+   * follow it.
+   */
+  void recovering(int index) {
+    int limit = Math.min(this.files.size(), index + 1 + this.window);
+    if (this.nextFile <= index) {
+      // the file being recovered is read by the recovery thread itself
+      this.nextFile = index + 1;
+    }
+    while (this.nextFile < limit) {
+      final File f = this.files.get(this.nextFile++);
+      if (f != null) {
+        this.executor.execute(new Runnable() {
+          public void run() {
+            prefetch(f);
+          }
+        });
+      }
+    }
+  }
+
+  private void prefetch(File f) {
+    if (this.closed) {
+      return;
+    }
+    long bytesRead = 0;
+    try (FileChannel channel = FileChannel.open(f.toPath(), StandardOpenOption.READ)) {
+      ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+      while (!this.closed) {
+        buffer.clear();
+        int count = channel.read(buffer);
+        if (count == -1) {
+          break;
+        }
+        bytesRead += count;
+      }
+    } catch (IOException e) {
+      // The recovery thread reports any real problem with the file when it reads it
+      if (logger.isDebugEnabled()) {
+        logger.debug("Could not prefetch {} for recovery", f, e);
+      }
+    }
+    this.stats.incRecoveryPrefetchedBytes(bytesRead);
+  }
+
+  void close() {
+    this.closed = true;
+    this.executor.shutdownNow();
+  }
+}
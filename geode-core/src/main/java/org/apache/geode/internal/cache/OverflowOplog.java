@@ -863,8 +863,61 @@ class OverflowOplog implements CompactableOplog, Flushable {
     return startPos;
   }
 
+  /**
+   * The read-only mapping of the crf once this oplog is done appending. Only used if
+   * {@link MappedOplogFile#ENABLED}.
+   */
+  private volatile MappedOplogFile mappedCrf;
+
+  private boolean crfMappingFailed;
+
+  /**
+   * Returns the mapping of this oplog's crf, mapping it first if this oplog is done appending and
+   * all of its bytes have been flushed. Returns null if the crf is not mapped, in which case it is
+   * read through its RandomAccessFile. If mapping fails the crf is never mapped again.
+   */
+  private MappedOplogFile getMappedCrf() {
+    MappedOplogFile result = this.mappedCrf;
+    if (result == null && MappedOplogFile.ENABLED && this.doneAppending) {
+      synchronized (this.crf) {
+        result = this.mappedCrf;
+        if (result == null && !this.crfMappingFailed && !this.closed && this.crf.f != null
+            && this.crf.bytesFlushed >= this.crf.currSize) {
+          try {
+            result = MappedOplogFile.map(this.crf.f, this.crf.currSize, this.stats);
+          } catch (IOException e) {
+            logger.debug("Could not map {}, reading it from the file instead", this.crf.f, e);
+            result = null;
+          }
+          if (result == null) {
+            this.crfMappingFailed = true;
+          }
+          this.mappedCrf = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  private void releaseMappedCrf() {
+    synchronized (this.crf) {
+      MappedOplogFile mapped = this.mappedCrf;
+      if (mapped != null) {
+        this.mappedCrf = null;
+        mapped.release();
+      }
+    }
+  }
+
   private BytesAndBits attemptGet(DiskRegionView dr, long offsetInOplog, int valueLength,
       byte userBits) throws IOException {
+    MappedOplogFile mapped = getMappedCrf();
+    if (mapped != null && mapped.contains(offsetInOplog, valueLength)) {
+      byte[] bytes = mapped.read(offsetInOplog, valueLength);
+      if (bytes != null) {
+        return new BytesAndBits(bytes, userBits);
+      }
+    }
     synchronized (this.crf) {
       // if (this.closed || this.deleted.get()) {
       // throw new DiskAccessException("attempting get on "
@@ -1008,6 +1061,7 @@ class OverflowOplog implements CompactableOplog, Flushable {
   }
 
   private void deleteFile() {
+    releaseMappedCrf();
     final OplogFile olf = getOLF();
     if (this.maxOplogSize != 0) {
       this.dirHolder.decrementTotalOplogSize(this.maxOplogSize);
@@ -57,9 +57,23 @@ public class PRQueryProcessor {
   public final static int NUM_THREADS = Integer
       .getInteger(DistributionConfig.GEMFIRE_PREFIX + "PRQueryProcessor.numThreads", 1).intValue();
 
+  /**
+   * The minimum number of entries in each of the ranges that the scan of a large bucket is split
+   * into when buckets are queried by a thread pool. When a node has fewer buckets to query than
+   * query threads, a bucket with at least twice this many entries is split into ranges of its keys
+   * that are queried by separate threads, and the results of the ranges are merged like the
+   * results of separate buckets. 0, the default, disables splitting.
+   */
+  public static final int MIN_BUCKET_RANGE_SIZE = Integer
+      .getInteger(DistributionConfig.GEMFIRE_PREFIX + "PRQueryProcessor.minBucketRangeSize", 0)
+      .intValue();
+
   /* For Test purpose */
   public static int TEST_NUM_THREADS = 0;
 
+  /* For Test purpose */
+  public static int TEST_MIN_BUCKET_RANGE_SIZE = 0;
+
   private PartitionedRegionDataStore _prds;
   private PartitionedRegion pr;
   private final DefaultQuery query;
@@ -404,13 +418,75 @@ public class PRQueryProcessor {
 
   private List buildCallableTaskList(Collection<Collection> resultsColl) {
     List callableTasks = new ArrayList();
+    int numThreads = (TEST_NUM_THREADS > 1 ? TEST_NUM_THREADS : NUM_THREADS);
+    int maxRangesPerBucket = numThreads / _bucketsToQuery.size();
+    boolean splitBuckets = maxRangesPerBucket > 1 && canSplitBuckets();
     for (Iterator itr = _bucketsToQuery.iterator(); itr.hasNext();) {
       Integer bId = (Integer) itr.next();
-      callableTasks.add(new QueryTask(this.query, this.parameters, _prds, bId, resultsColl));
+      int rangeCount = splitBuckets ? getBucketRangeCount(bId, maxRangesPerBucket) : 1;
+      for (int range = 0; range < rangeCount; range++) {
+        callableTasks.add(new QueryTask(this.query, this.parameters, _prds, bId, range, rangeCount,
+            resultsColl));
+      }
     }
     return callableTasks;
   }
 
+  /**
+   * Returns the number of ranges the given bucket's scan is split into, at most maxRanges.
+   */
+  private int getBucketRangeCount(Integer bId, int maxRanges) {
+    BucketRegion br = this.pr.getDataStore().getLocalBucketById(bId);
+    if (br == null) {
+      // the query task reports the moved bucket
+      return 1;
+    }
+    return Math.max(1, Math.min(maxRanges, br.size() / getMinBucketRangeSize()));
+  }
+
+  private static int getMinBucketRangeSize() {
+    return TEST_MIN_BUCKET_RANGE_SIZE > 0 ? TEST_MIN_BUCKET_RANGE_SIZE : MIN_BUCKET_RANGE_SIZE;
+  }
+
+  /**
+   * Returns true if the scan of a bucket can be split into ranges of its keys. This is only done
+   * for a single select, without sub-queries or joins, that iterates this region once. Otherwise
+   * the other iterations over the region would also be restricted to a range. The region must not
+   * be indexed since an index returns the results of the whole bucket whatever the range. A count
+   * without a where clause is answered from the region size without a scan.
+   */
+  private boolean canSplitBuckets() {
+    if (getMinBucketRangeSize() <= 0 || this.pr == null || this.pr.isIndexed()
+        || this.query.isCqQuery()) {
+      return false;
+    }
+    CompiledSelect cs = this.query.getSimpleSelect();
+    if (cs == null || (cs.getWhereClause() == null && cs.isCount())) {
+      return false;
+    }
+    int[] selectsAndRegions = new int[2];
+    countSelectsAndRegions(cs, selectsAndRegions);
+    return selectsAndRegions[0] == 1 && selectsAndRegions[1] == 1;
+  }
+
+  private void countSelectsAndRegions(CompiledValue value, int[] selectsAndRegions) {
+    if (value instanceof CompiledSelect) {
+      selectsAndRegions[0]++;
+    } else if (value instanceof CompiledRegion) {
+      if (this.pr.getFullPath().equals(((CompiledRegion) value).getRegionPath())) {
+        selectsAndRegions[1]++;
+      } else {
+        // another region makes this a join
+        selectsAndRegions[1] += 2;
+      }
+    }
+    for (Object child : value.getChildren()) {
+      if (child != null) {
+        countSelectsAndRegions((CompiledValue) child, selectsAndRegions);
+      }
+    }
+  }
+
   public boolean isIndexUsed() {
     return isIndexUsedForLocalQuery;
   }
@@ -520,13 +596,25 @@ public class PRQueryProcessor {
     private final Object[] parameters;
     private final PartitionedRegionDataStore _prDs;
     private final Integer _bucketId;
+    private final int _range;
+    private final int _rangeCount;
     private final Collection<Collection> resultColl;
 
     public QueryTask(DefaultQuery query, Object[] parameters, PartitionedRegionDataStore prDS,
         Integer bucketId, final Collection<Collection> rColl) {
+      this(query, parameters, prDS, bucketId, 0, 1, rColl);
+    }
+
+    /**
+     * Creates a task that queries one of <code>rangeCount</code> ranges of the bucket's keys
+     */
+    public QueryTask(DefaultQuery query, Object[] parameters, PartitionedRegionDataStore prDS,
+        Integer bucketId, int range, int rangeCount, final Collection<Collection> rColl) {
       this.query = query;
       this._prDs = prDS;
       this._bucketId = bucketId;
+      this._range = range;
+      this._rangeCount = rangeCount;
       this.resultColl = rColl;
       this.parameters = parameters;
     }
@@ -546,6 +634,9 @@ public class PRQueryProcessor {
         ExecutionContext context =
             new QueryExecutionContext(this.parameters, pr.getCache(), this.query);
         context.setBucketList(bucketList);
+        if (this._rangeCount > 1) {
+          context.setBucketRange(this._range, this._rangeCount);
+        }
         executeQueryOnBuckets(this.resultColl, context);
         // executeSequentially(this.resultColl, bucketList);
         // success
@@ -441,42 +441,78 @@ public class PersistentOplogSet implements OplogSet {
     }
     if (oplogSet.size() > 0) {
       long startOpLogRecovery = System.currentTimeMillis();
+      // The oplogs are always recovered one at a time in this order; recovery
+      // threads only read the files ahead of time.
+      List<File> drfFiles = new ArrayList<File>(oplogSet.size());
+      List<File> crfFiles = new ArrayList<File>(oplogSet.size());
+      for (Oplog oplog : oplogSet) {
+        drfFiles.add(oplog.getDrfFileForRecovery());
+        crfFiles.add(oplog.getCrfFileForRecovery(recoverValuesSync()));
+      }
       // first figure out all entries that have been destroyed
+      long startPhase = parent.getStats().getStatTime();
+      OplogRecoveryPrefetcher prefetcher =
+          OplogRecoveryPrefetcher.create(parent.getName(), drfFiles, parent.getStats());
       boolean latestOplog = true;
-      for (Oplog oplog : oplogSet) {
-        byteCount += oplog.recoverDrf(deletedIds, this.alreadyRecoveredOnce.get(), latestOplog);
-        latestOplog = false;
-        if (!this.alreadyRecoveredOnce.get()) {
-          updateOplogEntryId(oplog.getMaxRecoveredOplogEntryId());
+      int index = 0;
+      try {
+        for (Oplog oplog : oplogSet) {
+          if (prefetcher != null) {
+            prefetcher.recovering(index++);
+          }
+          byteCount += oplog.recoverDrf(deletedIds, this.alreadyRecoveredOnce.get(), latestOplog);
+          latestOplog = false;
+          if (!this.alreadyRecoveredOnce.get()) {
+            updateOplogEntryId(oplog.getMaxRecoveredOplogEntryId());
+          }
+        }
+      } finally {
+        if (prefetcher != null) {
+          prefetcher.close();
         }
       }
       parent.incDeadRecordCount(deletedIds.size());
+      parent.getStats().endRecoveryDrfPhase(startPhase);
       // now figure out live entries
+      startPhase = parent.getStats().getStatTime();
+      prefetcher = OplogRecoveryPrefetcher.create(parent.getName(), crfFiles, parent.getStats());
       latestOplog = true;
-      for (Oplog oplog : oplogSet) {
-        long startOpLogRead = parent.getStats().startOplogRead();
-        long bytesRead = oplog.recoverCrf(deletedIds,
-            // @todo make recoverValues per region
-            recoverValues(), recoverValuesSync(), this.alreadyRecoveredOnce.get(),
-            oplogsNeedingValueRecovery, latestOplog);
-        latestOplog = false;
-        if (!this.alreadyRecoveredOnce.get()) {
-          updateOplogEntryId(oplog.getMaxRecoveredOplogEntryId());
-        }
-        byteCount += bytesRead;
-        parent.getStats().endOplogRead(startOpLogRead, bytesRead);
+      index = 0;
+      try {
+        for (Oplog oplog : oplogSet) {
+          if (prefetcher != null) {
+            prefetcher.recovering(index++);
+          }
+          long startOpLogRead = parent.getStats().startOplogRead();
+          long bytesRead = oplog.recoverCrf(deletedIds,
+              // @todo make recoverValues per region
+              recoverValues(), recoverValuesSync(), this.alreadyRecoveredOnce.get(),
+              oplogsNeedingValueRecovery, latestOplog);
+          latestOplog = false;
+          if (!this.alreadyRecoveredOnce.get()) {
+            updateOplogEntryId(oplog.getMaxRecoveredOplogEntryId());
+          }
+          byteCount += bytesRead;
+          parent.getStats().endOplogRead(startOpLogRead, bytesRead);
 
-        // Callback to the disk regions to indicate the oplog is recovered
-        // Used for offline export
-        for (DiskRecoveryStore drs : this.currentRecoveryMap.values()) {
-          drs.getDiskRegionView().oplogRecovered(oplog.oplogId);
+          // Callback to the disk regions to indicate the oplog is recovered
+          // Used for offline export
+          for (DiskRecoveryStore drs : this.currentRecoveryMap.values()) {
+            drs.getDiskRegionView().oplogRecovered(oplog.oplogId);
+          }
+        }
+      } finally {
+        if (prefetcher != null) {
+          prefetcher.close();
         }
       }
+      parent.getStats().endRecoveryCrfPhase(startPhase);
       long endOpLogRecovery = System.currentTimeMillis();
       long elapsed = endOpLogRecovery - startOpLogRecovery;
       logger.info(LocalizedMessage.create(LocalizedStrings.DiskRegion_OPLOG_LOAD_TIME, elapsed));
     }
     if (!parent.isOfflineCompacting()) {
+      long startRegionInitPhase = parent.getStats().getStatTime();
       long startRegionInit = System.currentTimeMillis();
       // create the oplogs now so that loadRegionData can have them available
       // Create an array of Oplogs so that we are able to add it in a single shot
@@ -518,6 +554,7 @@ public class PersistentOplogSet implements OplogSet {
         logger.info(LocalizedMessage.create(LocalizedStrings.DiskRegion_REGION_INIT_TIME,
             endRegionInit - startRegionInit));
       }
+      parent.getStats().endRecoveryRegionInitPhase(startRegionInitPhase);
     }
     return byteCount;
   }
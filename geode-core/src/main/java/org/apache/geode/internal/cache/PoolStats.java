@@ -70,6 +70,10 @@ public class PoolStats {
   private final static int clientOpTimedOutId;
   private final static int clientOpFailedId;
   private final static int clientOpDurationId;
+  private final static int singleHopBulkOpKeysId;
+  private final static int forwardedBulkOpKeysId;
+  private final static int hedgedReadsId;
+  private final static int hedgedReadsWonId;
 
   static {
     String statName = "PoolStats";
@@ -139,7 +143,19 @@ public class PoolStats {
             f.createLongCounter("clientOpSendTime",
                 "Total amount of time, in nanoseconds spent doing clientOp sends", "nanoseconds"),
             f.createLongCounter("clientOpTime",
-                "Total amount of time, in nanoseconds spent doing clientOps", "nanoseconds"),});
+                "Total amount of time, in nanoseconds spent doing clientOps", "nanoseconds"),
+            f.createLongCounter("singleHopBulkOpKeys",
+                "Total number of keys of getAll, putAll and removeAll operations sent directly to the server hosting the primary of their bucket, saving that server a hop to another member",
+                "keys"),
+            f.createLongCounter("forwardedBulkOpKeys",
+                "Total number of keys of getAll, putAll and removeAll operations sent to a server that may have had to forward them, because the primary of their bucket was not known or could not be reached",
+                "keys"),
+            f.createLongCounter("hedgedReads",
+                "Total number of gets sent to a second server because the first server did not answer within the hedged read delay",
+                "operations"),
+            f.createLongCounter("hedgedReadsWon",
+                "Total number of hedged gets whose second server answered before the first one",
+                "operations"),});
 
     // Initialize id fields
     _INITIAL_CONTACTS = _type.nameToId(INITIAL_CONTACTS);
@@ -175,6 +191,10 @@ public class PoolStats {
     clientOpTimedOutId = _type.nameToId("clientOpTimeouts");
     clientOpFailedId = _type.nameToId("clientOpFailures");
     clientOpDurationId = _type.nameToId("clientOpTime");
+    singleHopBulkOpKeysId = _type.nameToId("singleHopBulkOpKeys");
+    forwardedBulkOpKeysId = _type.nameToId("forwardedBulkOpKeys");
+    hedgedReadsId = _type.nameToId("hedgedReads");
+    hedgedReadsWonId = _type.nameToId("hedgedReadsWon");
   }
 
   ////////////////////// Instance Fields //////////////////////
@@ -322,6 +342,35 @@ public class PoolStats {
     this._stats.incInt(_IDLE_EXPIRE, delta);
   }
 
+  public void incBulkOpKeys(int singleHopKeys, int forwardedKeys) {
+    this._stats.incLong(singleHopBulkOpKeysId, singleHopKeys);
+    this._stats.incLong(forwardedBulkOpKeysId, forwardedKeys);
+  }
+
+  public long getSingleHopBulkOpKeys() {
+    return this._stats.getLong(singleHopBulkOpKeysId);
+  }
+
+  public long getForwardedBulkOpKeys() {
+    return this._stats.getLong(forwardedBulkOpKeysId);
+  }
+
+  public void incHedgedReads() {
+    this._stats.incLong(hedgedReadsId, 1);
+  }
+
+  public void incHedgedReadsWon() {
+    this._stats.incLong(hedgedReadsWonId, 1);
+  }
+
+  public long getHedgedReads() {
+    return this._stats.getLong(hedgedReadsId);
+  }
+
+  public long getHedgedReadsWon() {
+    return this._stats.getLong(hedgedReadsWonId);
+  }
+
   public long beginConnectionWait() {
     this._stats.incInt(_CONNECTION_WAIT_IN_PROGRESS, 1);
     return getStatTime();
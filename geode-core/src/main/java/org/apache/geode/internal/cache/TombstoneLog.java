@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.geode.distributed.internal.DistributionConfig;
+import org.apache.geode.internal.cache.versions.RegionVersionVector;
+import org.apache.geode.internal.cache.versions.VersionSource;
+import org.apache.geode.internal.cache.versions.VersionTag;
+
+/**
+ * A bounded log of the tombstones a region has garbage collected, so that a member which was
+ * offline while they were collected can still be given a delta GII.
+ * <p>
+ * Once a tombstone is collected a requester that has not seen its destroy may still hold the
+ * destroyed entry, and without the log it has to be given a full GII. The log sends it the collected
+ * tombstones it has not seen instead. This is only possible if the requester has seen every change
+ * older than the log, which is tracked as the <em>floor</em> of the log: the GC versions the region
+ * had when the log was started, raised for every tombstone evicted from the log or collected without
+ * being logged.
+ * <p>
+ * There is one log per region, so one per bucket of a partitioned region. It holds at most one
+ * tombstone per key, the most recently collected. Logging is off unless
+ * gemfire.GetInitialImage.TOMBSTONE_LOG_SIZE is set, see {@link #MAX_SIZE}.
+ *
+ * @since Geode 1.2
+ */
+final class TombstoneLog {
+
+  /**
+   * The number of tombstones each log holds, 0 (the default) to not log tombstones. Tests may
+   * change this.
+   * <p>
+   * Every persistent replicated region and every persistent bucket hosted by a member has a log of
+   * its own, and a logged tombstone keeps its key and version tag on the heap, about 150 bytes plus
+   * the key. A member hosting 1000 buckets with a size of 10000 can hold 10 million tombstones, so
+   * size it for the regions that need a delta GII after a long outage.
+   */
+  static int MAX_SIZE = Integer
+      .getInteger(DistributionConfig.GEMFIRE_PREFIX + "GetInitialImage.TOMBSTONE_LOG_SIZE", 0)
+      .intValue();
+
+  private final int maxSize;
+
+  /** the collected tombstones by key, oldest first */
+  private final LinkedHashMap<Object, Record> records = new LinkedHashMap<Object, Record>();
+
+  /** the GC versions of the collected tombstones not in the log, null until the log is started */
+  private Map<VersionSource, Long> floor;
+
+  TombstoneLog(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Starts logging tombstones. The region has collected the tombstones up to the given GC versions
+   * before the log was started.
+   */
+  synchronized void start(Map<VersionSource, Long> gcVersions) {
+    this.records.clear();
+    this.floor = new HashMap<VersionSource, Long>(gcVersions);
+  }
+
+  synchronized boolean isStarted() {
+    return this.floor != null;
+  }
+
+  /**
+   * Logs a collected tombstone, replacing any older tombstone logged for its key.
+   *
+   * @param member the member that destroyed the entry, never null
+   */
+  synchronized void add(Object key, VersionSource member, VersionTag tag) {
+    if (this.floor == null) {
+      return;
+    }
+    this.records.remove(key);
+    this.records.put(key, new Record(key, member, tag));
+    if (this.records.size() > this.maxSize) {
+      Iterator<Record> it = this.records.values().iterator();
+      Record eldest = it.next();
+      it.remove();
+      raiseFloor(eldest.member, eldest.tag.getRegionVersion());
+    }
+  }
+
+  /**
+   * Records that a tombstone was collected without being logged.
+   *
+   * @param member the member that destroyed the entry, never null
+   */
+  synchronized void addUnlogged(VersionSource member, long regionVersion) {
+    if (this.floor != null) {
+      raiseFloor(member, regionVersion);
+    }
+  }
+
+  /**
+   * Drops the log after the region was cleared.
+   *
+   * @param gcVersions the GC versions of the region after the clear, or null if the entries were
+   *        removed without recording what was removed, in which case the log stops
+   */
+  synchronized void clear(Map<VersionSource, Long> gcVersions) {
+    this.records.clear();
+    if (this.floor != null) {
+      this.floor = gcVersions == null ? null : new HashMap<VersionSource, Long>(gcVersions);
+    }
+  }
+
+  /**
+   * Returns true if the given requester has seen every change older than the log, so the log holds
+   * every collected tombstone it has not seen.
+   */
+  synchronized boolean canFill(RegionVersionVector requesterRVV) {
+    return this.floor != null && requesterRVV.dominatesGCVersions(this.floor);
+  }
+
+  /**
+   * Returns the logged tombstones the given requester has not seen, as entries to send in a delta
+   * GII.
+   */
+  synchronized List<InitialImageOperation.Entry> getUnseenTombstones(
+      RegionVersionVector requesterRVV) {
+    List<InitialImageOperation.Entry> result = new ArrayList<InitialImageOperation.Entry>();
+    for (Record record : this.records.values()) {
+      if (!requesterRVV.contains(record.member, record.tag.getRegionVersion())) {
+        InitialImageOperation.Entry entry = new InitialImageOperation.Entry();
+        entry.key = record.key;
+        entry.setTombstone();
+        entry.setVersionTag(record.tag);
+        entry.setLastModified(null, record.tag.getVersionTimeStamp());
+        result.add(entry);
+      }
+    }
+    return result;
+  }
+
+  synchronized int size() {
+    return this.records.size();
+  }
+
+  private void raiseFloor(VersionSource member, long regionVersion) {
+    Long version = this.floor.get(member);
+    if (version == null || version.longValue() < regionVersion) {
+      this.floor.put(member, Long.valueOf(regionVersion));
+    }
+  }
+
+  private static class Record {
+    final Object key;
+
+    final VersionSource member;
+
+    final VersionTag tag;
+
+    Record(Object key, VersionSource member, VersionTag tag) {
+      this.key = key;
+      this.member = member;
+      this.tag = tag;
+    }
+  }
+}
@@ -21,6 +21,7 @@ import org.apache.geode.internal.cache.lru.EnableLRU;
 import org.apache.geode.internal.cache.persistence.DiskRecoveryStore;
 import org.apache.geode.internal.InternalStatisticsDisabledException;
 import org.apache.geode.internal.cache.lru.LRUClockNode;
+import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap;
 import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap.HashEntry;
 
 // macros whose definition changes this class:
@@ -50,7 +51,6 @@ public class VMStatsDiskLRURegionEntryHeapLongKey extends VMStatsDiskLRURegionEn
 
   // DO NOT modify this class. It was generated from LeafRegionEntry.cpp
   // common code
-  protected int hash;
   private HashEntry<Object, Object> next;
   @SuppressWarnings("unused")
   private volatile long lastModified;
@@ -80,11 +80,12 @@ public class VMStatsDiskLRURegionEntryHeapLongKey extends VMStatsDiskLRURegionEn
    * @see HashEntry#getEntryHash()
    */
   public final int getEntryHash() {
-    return this.hash;
+    // derived from the key instead of stored to save a field per entry
+    return CustomEntryConcurrentHashMap.spreadHash(Long.hashCode(this.key));
   }
 
   protected void setEntryHash(int v) {
-    this.hash = v;
+    // nothing needed; the hash is derived from the key
   }
 
   /**
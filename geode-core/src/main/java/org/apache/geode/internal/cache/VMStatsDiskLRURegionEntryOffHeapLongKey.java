@@ -25,6 +25,7 @@ import org.apache.geode.internal.offheap.OffHeapRegionEntryHelper;
 import org.apache.geode.internal.offheap.annotations.Released;
 import org.apache.geode.internal.offheap.annotations.Retained;
 import org.apache.geode.internal.offheap.annotations.Unretained;
+import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap;
 import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap.HashEntry;
 
 // macros whose definition changes this class:
@@ -55,7 +56,6 @@ public class VMStatsDiskLRURegionEntryOffHeapLongKey extends VMStatsDiskLRURegio
 
   // DO NOT modify this class. It was generated from LeafRegionEntry.cpp
   // common code
-  protected int hash;
   private HashEntry<Object, Object> next;
   @SuppressWarnings("unused")
   private volatile long lastModified;
@@ -139,11 +139,12 @@ public class VMStatsDiskLRURegionEntryOffHeapLongKey extends VMStatsDiskLRURegio
    * @see HashEntry#getEntryHash()
    */
   public final int getEntryHash() {
-    return this.hash;
+    // derived from the key instead of stored to save a field per entry
+    return CustomEntryConcurrentHashMap.spreadHash(Long.hashCode(this.key));
   }
 
   protected void setEntryHash(int v) {
-    this.hash = v;
+    // nothing needed; the hash is derived from the key
   }
 
   /**
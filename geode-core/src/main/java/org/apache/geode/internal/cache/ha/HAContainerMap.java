@@ -24,6 +24,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.apache.geode.distributed.internal.InternalDistributedSystem;
 import org.apache.geode.internal.cache.tier.sockets.CacheClientProxy;
 import org.apache.geode.internal.cache.tier.sockets.ClientProxyMembershipID;
+import org.apache.geode.internal.cache.tier.sockets.ClientUpdateMessageImpl;
+import org.apache.geode.internal.cache.tier.sockets.HAEventWrapper;
 import org.apache.geode.internal.i18n.LocalizedStrings;
 
 /**
@@ -117,6 +119,14 @@ public class HAContainerMap implements HAContainerWrapper {
     return map.get(key);
   }
 
+  public void addClientCQsAndInterestList(HAEventWrapper original, HAEventWrapper haEventWrapper,
+      String haRegionName) {
+    ClientUpdateMessageImpl msg = (ClientUpdateMessageImpl) get(original);
+    if (msg != null) {
+      HARegionQueue.addClientCQsAndInterestList(msg, haEventWrapper, this, haRegionName);
+    }
+  }
+
   public boolean isEmpty() {
     return map.isEmpty();
   }
@@ -125,6 +125,24 @@ public class HAContainerRegion implements HAContainerWrapper {
     return msg;
   }
 
+  /**
+   * Reads the message of the event, adds the CQs and interest of the client to it and writes it
+   * back. The region hands out copies of the messages it keeps off-heap or on disk, so the
+   * additions would otherwise be lost. Messages are stored without their CQs, which stay with the
+   * wrapper of the event, the key of the region.
+   */
+  public void addClientCQsAndInterestList(HAEventWrapper original, HAEventWrapper haEventWrapper,
+      String haRegionName) {
+    ClientUpdateMessageImpl msg = (ClientUpdateMessageImpl) get(original);
+    if (msg != null) {
+      HARegionQueue.addClientCQsAndInterestList(msg, haEventWrapper, this, haRegionName);
+      if (original.getClientCqs() == null && msg.getClientCqs() != null) {
+        original.setClientCqs(msg.getClientCqs());
+      }
+      map.put(original, msg);
+    }
+  }
+
   public Object getEntry(Object key) {
     Region.Entry entry = ((Region) map).getEntry(key);
     if (entry != null) {
@@ -19,6 +19,7 @@ import java.util.Map;
 
 import org.apache.geode.internal.cache.tier.sockets.CacheClientProxy;
 import org.apache.geode.internal.cache.tier.sockets.ClientProxyMembershipID;
+import org.apache.geode.internal.cache.tier.sockets.HAEventWrapper;
 
 /**
  * @since GemFire 5.7
@@ -42,4 +43,15 @@ public interface HAContainerWrapper extends Map {
   public CacheClientProxy getProxy(String haRegionName);
 
   public Object putIfAbsent(Object key, Object value);
+
+  /**
+   * Adds the CQs and interest of the client of the given queue to the message of an event this
+   * container already holds. The caller must synchronize on the wrapper in this container.
+   * 
+   * @param original the wrapper of the event in this container
+   * @param haEventWrapper the wrapper of the event as it is queued for the client
+   * @param haRegionName the name of the queue of the client
+   */
+  public void addClientCQsAndInterestList(HAEventWrapper original, HAEventWrapper haEventWrapper,
+      String haRegionName);
 }
@@ -3541,8 +3541,8 @@ public class HARegionQueue implements RegionQueue {
                 // assert the entry is still present
                 if (((HAContainerWrapper) this.haContainer).getKey(original) != null) {
                   original.incAndGetReferenceCount();
-                  addClientCQsAndInterestList(old, haEventWrapper, this.haContainer,
-                      this.regionName);
+                  ((HAContainerWrapper) this.haContainer).addClientCQsAndInterestList(original,
+                      haEventWrapper, this.regionName);
                   haEventWrapper = original;
                 } else {
                   original = null;
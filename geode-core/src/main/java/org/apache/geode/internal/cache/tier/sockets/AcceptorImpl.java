@@ -54,6 +54,7 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.net.ssl.SSLException;
 
@@ -68,6 +69,7 @@ import org.apache.geode.cache.client.internal.PoolImpl;
 import org.apache.geode.cache.server.CacheServer;
 import org.apache.geode.cache.wan.GatewayTransportFilter;
 import org.apache.geode.distributed.internal.*;
+import org.apache.geode.internal.net.BufferPool;
 import org.apache.geode.internal.net.SocketCreator;
 import org.apache.geode.internal.SystemTimer;
 import org.apache.geode.internal.cache.BucketAdvisor;
@@ -89,6 +91,7 @@ import org.apache.geode.internal.security.SecurityService;
 import org.apache.geode.internal.net.SocketCreatorFactory;
 import org.apache.geode.internal.tcp.ConnectionTable;
 import org.apache.geode.internal.util.ArrayUtils;
+import org.apache.geode.internal.util.concurrent.VirtualThreads;
 
 /**
  * Implements the acceptor thread on the bridge server. Accepts connections from the edge and starts
@@ -132,10 +135,6 @@ public class AcceptorImpl extends Acceptor implements Runnable {
    */
   private final Selector selector;
   // private final Selector tmpSel;
-  /**
-   * Used for managing direct byte buffer for client comms; null if no selector.
-   */
-  private final LinkedBlockingQueue commBufferQueue;
   /**
    * Used to timeout accepted sockets that we are waiting for the handshake packet
    */
@@ -148,6 +147,12 @@ public class AcceptorImpl extends Acceptor implements Runnable {
    * All the objects currently registered with selector.
    */
   private final HashSet selectorRegistrations;
+  /**
+   * The bytes the selector thread may still buffer for requests that have not fully arrived, out
+   * of {@link #SELECTOR_FRAMING_MAX_TOTAL_BYTES}.
+   */
+  private final AtomicLong selectorFramingBytesAvailable =
+      new AtomicLong(SELECTOR_FRAMING_MAX_TOTAL_BYTES);
   /**
    * tcpNoDelay setting for outgoing sockets
    */
@@ -345,21 +350,18 @@ public class AcceptorImpl extends Acceptor implements Runnable {
       Selector tmp_s = null;
       // Selector tmp2_s = null;
       LinkedBlockingQueue tmp_q = null;
-      LinkedBlockingQueue tmp_commQ = null;
       HashSet tmp_hs = null;
       SystemTimer tmp_timer = null;
       if (isSelector()) {
         tmp_s = Selector.open(); // no longer catch ex to fix bug 36907
         // tmp2_s = Selector.open(); // workaround for bug 39624
         tmp_q = new LinkedBlockingQueue();
-        tmp_commQ = new LinkedBlockingQueue();
         tmp_hs = new HashSet(512);
         tmp_timer = new SystemTimer(internalCache.getDistributedSystem(), true);
       }
       this.selector = tmp_s;
       // this.tmpSel = tmp2_s;
       this.selectorQueue = tmp_q;
-      this.commBufferQueue = tmp_commQ;
       this.selectorRegistrations = tmp_hs;
       this.hsTimer = tmp_timer;
       this.tcpNoDelay = tcpNoDelay;
@@ -502,6 +504,7 @@ public class AcceptorImpl extends Acceptor implements Runnable {
           // + serverSock.getInetAddress()
           + "on port " + this.localPort;
       final ThreadGroup socketThreadGroup = LoggingThreadGroup.createThreadGroup(gName, logger);
+      final ThreadFactory virtualThreadFactory = createVirtualThreadFactory();
 
       ThreadFactory socketThreadFactory = new ThreadFactory() {
         int connNum = -1;
@@ -524,12 +527,23 @@ public class AcceptorImpl extends Acceptor implements Runnable {
               }
             }
           };
+          if (virtualThreadFactory != null) {
+            Thread t = virtualThreadFactory.newThread(r);
+            t.setName(tName);
+            // virtual threads all belong to one JDK owned group, so log what escapes them the
+            // same way the platform threads' group does
+            t.setUncaughtExceptionHandler(socketThreadGroup);
+            return t;
+          }
           return new Thread(socketThreadGroup, r, tName);
         }
       };
       try {
         if (isSelector()) {
-          tmp_pool = new PooledExecutorWithDMStats(new LinkedBlockingQueue(), this.maxThreads,
+          // Virtual threads are cheap enough that every ready connection can have one, so
+          // long running commands no longer hold up the other connections.
+          int poolSize = virtualThreadFactory != null ? this.maxConnections : this.maxThreads;
+          tmp_pool = new PooledExecutorWithDMStats(new LinkedBlockingQueue(), poolSize,
               getStats().getCnxPoolHelper(), socketThreadFactory, Integer.MAX_VALUE);
         } else {
           tmp_pool = new ThreadPoolExecutor(MINIMUM_MAX_CONNECTIONS, this.maxConnections, 0L,
@@ -595,6 +609,32 @@ public class AcceptorImpl extends Acceptor implements Runnable {
         (postAuthzFactoryName != null && postAuthzFactoryName.length() > 0) ? true : false;
   }
 
+  /**
+   * Returns the factory for the virtual threads that service client connections, or null if
+   * platform threads should be used.
+   */
+  private ThreadFactory createVirtualThreadFactory() {
+    if (!USE_VIRTUAL_THREADS) {
+      return null;
+    }
+    ThreadFactory result = VirtualThreads.createFactory();
+    if (result == null) {
+      logger.warn("BridgeServer.USE_VIRTUAL_THREADS is set but this JVM does not support"
+          + " virtual threads; using platform threads");
+    } else {
+      logger.info("Cache server on port {} is using virtual threads for client connections",
+          this.localPort);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the bytes the selector thread may still buffer for partly arrived requests.
+   */
+  AtomicLong getSelectorFramingBytesAvailable() {
+    return this.selectorFramingBytesAvailable;
+  }
+
   public long getAcceptorId() {
     return this.acceptorId;
   }
@@ -631,6 +671,39 @@ public class AcceptorImpl extends Acceptor implements Runnable {
   private final static int HANDSHAKE_POOL_SIZE =
       Integer.getInteger("BridgeServer.HANDSHAKE_POOL_SIZE", 4).intValue();
 
+  /**
+   * If true, and the JVM supports them, client connections are serviced by virtual threads instead
+   * of platform threads. If the JVM does not support virtual threads this property is ignored. Not
+   * final so that tests can change it before starting a cache server.
+   */
+  static boolean USE_VIRTUAL_THREADS =
+      Boolean.getBoolean("BridgeServer.USE_VIRTUAL_THREADS");
+
+  /**
+   * If true, and the selector is enabled, the selector thread reads each client request off its
+   * socket without blocking and only hands the connection to a thread in the pool once the whole
+   * request has arrived. This keeps pool threads from waiting on slow or mostly idle clients. Not
+   * final so that tests can change it before starting a cache server.
+   */
+  static boolean SELECTOR_FRAMING = Boolean.getBoolean("BridgeServer.SELECTOR_FRAMING");
+
+  /**
+   * The largest request, in bytes, that the selector thread will buffer when
+   * {@link #SELECTOR_FRAMING} is enabled. Larger requests are read by the pool thread.
+   */
+  static final int SELECTOR_FRAMING_MAX_BYTES =
+      Integer.getInteger("BridgeServer.SELECTOR_FRAMING_MAX_BYTES", 1024 * 1024).intValue();
+
+  /**
+   * The most heap, in bytes, a cache server's selector thread may hold in requests that have only
+   * partly arrived when {@link #SELECTOR_FRAMING} is enabled. Each connection buffers up to
+   * {@link #SELECTOR_FRAMING_MAX_BYTES}, so without this bound many clients sending large requests
+   * slowly could hold that much each. Once the bound is reached the payload of a new request is
+   * not buffered and the pool thread reads it off the socket.
+   */
+  static final long SELECTOR_FRAMING_MAX_TOTAL_BYTES = Long
+      .getLong("BridgeServer.SELECTOR_FRAMING_MAX_TOTAL_BYTES", 64L * 1024 * 1024).longValue();
+
   @Override
   public void start() throws IOException {
     ThreadGroup tg = LoggingThreadGroup.createThreadGroup(
@@ -1055,6 +1128,10 @@ public class AcceptorImpl extends Acceptor implements Runnable {
             try {
               if (key.isValid() && key.isReadable()) {
                 // this is the only event we currently register for
+                if (SELECTOR_FRAMING && !sc.readRequestFrame()) {
+                  // the rest of the request has not arrived yet
+                  continue;
+                }
                 try {
                   key.cancel();
                   this.selectorRegistrations.remove(sc);
@@ -1341,20 +1418,14 @@ public class AcceptorImpl extends Acceptor implements Runnable {
   }
 
   public ByteBuffer takeCommBuffer() {
-    ByteBuffer result = (ByteBuffer) this.commBufferQueue.poll();
-    if (result == null) {
-      result = ByteBuffer.allocateDirect(this.socketBufferSize);
-    }
-    return result;
+    return BufferPool.getInstance().acquire(this.socketBufferSize);
   }
 
   public void releaseCommBuffer(ByteBuffer bb) {
     if (bb == null) { // fix for bug 37107
       return;
     }
-    if (isRunning()) {
-      this.commBufferQueue.offer(bb);
-    }
+    BufferPool.getInstance().release(bb);
   }
 
   public void incClientServerCnxCount() {
@@ -1604,7 +1675,6 @@ public class AcceptorImpl extends Acceptor implements Runnable {
       if (this.selectorThread != null) {
         this.selectorThread.interrupt();
       }
-      this.commBufferQueue.clear();
     }
   }
 
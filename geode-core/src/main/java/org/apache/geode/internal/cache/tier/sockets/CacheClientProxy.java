@@ -199,6 +199,15 @@ public class CacheClientProxy implements ClientSession {
   protected static final int MAXIMUM_SHUTDOWN_PEEKS = Integer
       .getInteger(DistributionConfig.GEMFIRE_PREFIX + "MAXIMUM_SHUTDOWN_PEEKS", 50).intValue();
 
+  /**
+   * The maximum number of queued messages a dispatcher sends to its client with shared socket
+   * writes. Batching is disabled with a size of 1, the default, and is never done for durable
+   * clients since their queues track each peeked message until the client acknowledges it.
+   */
+  protected static final int DISPATCH_BATCH_SIZE = Integer
+      .getInteger(DistributionConfig.GEMFIRE_PREFIX + "CacheClientProxy.DISPATCH_BATCH_SIZE", 1)
+      .intValue();
+
   /**
    * The number of milliseconds to wait for an offering to the message queue
    */
@@ -2340,6 +2349,16 @@ public class CacheClientProxy implements ClientSession {
       }
     }
 
+    /**
+     * Constructor used by tests to dispatch from a given queue.
+     */
+    MessageDispatcher(CacheClientProxy proxy, String name, HARegionQueue messageQueue) {
+      super(LoggingThreadGroup.createThreadGroup(name, logger), name);
+      setDaemon(true);
+      this._proxy = proxy;
+      this._messageQueue = messageQueue;
+    }
+
     private CacheClientProxy getProxy() {
       return this._proxy;
     }
@@ -2533,6 +2552,28 @@ public class CacheClientProxy implements ClientSession {
             }
             waitForResumption();
           }
+          if (DISPATCH_BATCH_SIZE > 1 && !getProxy().isDurable()) {
+            // Send whatever is queued, up to a batch, without waiting for more
+            List batch;
+            try {
+              batch = this._messageQueue.peek(DISPATCH_BATCH_SIZE, -1);
+            } catch (RegionDestroyedException skipped) {
+              break;
+            }
+            if (!batch.isEmpty()) {
+              getStatistics().setQueueSize(this._messageQueue.size());
+              if (isStopped()) {
+                break;
+              }
+              if (dispatchBatch(batch)) {
+                this._messageQueue.remove();
+              }
+              continue;
+            }
+            // Nothing queued: remove the ids of any events that went away while peeking and
+            // wait for the next message below
+            this._messageQueue.remove();
+          }
           try {
             clientMessage = (ClientMessage) this._messageQueue.peek();
           } catch (RegionDestroyedException skipped) {
@@ -2752,37 +2793,7 @@ public class CacheClientProxy implements ClientSession {
      */
     protected boolean dispatchMessage(ClientMessage clientMessage) throws IOException {
       boolean isDispatched = false;
-      if (logger.isTraceEnabled(LogMarker.BRIDGE_SERVER)) {
-        logger.trace(LogMarker.BRIDGE_SERVER, "Dispatching {}", clientMessage);
-      }
-      Message message = null;
-
-      // byte[] latestValue =
-      // this._eventConflator.getLatestValue(clientMessage);
-
-      if (clientMessage instanceof ClientUpdateMessage) {
-        byte[] latestValue = (byte[]) ((ClientUpdateMessage) clientMessage).getValue();
-        if (logger.isTraceEnabled()) {
-          StringBuilder msg = new StringBuilder(100);
-          msg.append(this).append(": Using latest value: ").append(Arrays.toString(latestValue));
-          if (((ClientUpdateMessage) clientMessage).valueIsObject()) {
-            if (latestValue != null) {
-              msg.append(" (").append(deserialize(latestValue)).append(")");
-            }
-            msg.append(" for ").append(clientMessage);
-          }
-          logger.trace(msg.toString());
-        }
-
-        message = ((ClientUpdateMessageImpl) clientMessage).getMessage(getProxy(), latestValue);
-
-        if (AFTER_MESSAGE_CREATION_FLAG) {
-          ClientServerObserver bo = ClientServerObserverHolder.getInstance();
-          bo.afterMessageCreation(message);
-        }
-      } else {
-        message = clientMessage.getMessage(getProxy(), true /* notify */);
-      }
+      Message message = createMessage(clientMessage);
 
       // //////////////////////////////
       // TEST CODE BEGIN (Throws exception to test closing proxy)
@@ -2825,11 +2836,132 @@ public class CacheClientProxy implements ClientSession {
         }
       }
       if (isDispatched) {
-        this._messageQueue.getStatistics().incEventsDispatched();
+        endDispatch(clientMessage);
+      }
+      return isDispatched;
+    }
+
+    /**
+     * Sends a batch of messages peeked from the queue to the client attached to this proxy. The
+     * messages are written one after the other into the comm buffer, which is only written to the
+     * socket when it is full and after the last message, so a client receiving many small updates
+     * gets them in a few large writes instead of one write per update.
+     * <p>
+     * Batches are only dispatched for proxies of non-durable clients, which are never paused once
+     * they are dispatching, so a batch is not cut short by a pause and sent again on resumption.
+     *
+     * @param batch the <code>ClientMessage</code>s to send, in queue order
+     * @return whether all the messages were dispatched
+     */
+    boolean dispatchBatch(List batch) throws IOException {
+      int dispatched = 0;
+      boolean hasMarker = false;
+      Message lastMessage = null;
+      this.socketWriteLock.lock();
+      try {
+        for (Object event : batch) {
+          if (this._proxy.isPaused()) {
+            if (logger.isDebugEnabled()) {
+              logger.debug("Message Dispatcher of a Paused CCProxy is trying to dispatch message");
+            }
+            break;
+          }
+          ClientMessage clientMessage = (ClientMessage) event;
+          long start = getStatistics().startTime();
+          Message message = createMessage(clientMessage);
+          if (message != null) {
+            message.setComms(getSocket(), getCommBuffer(), getStatistics());
+            try {
+              if (message instanceof ChunkedMessage) {
+                if (lastMessage != null) {
+                  lastMessage.flush();
+                }
+                message.send();
+                lastMessage = null;
+              } else {
+                message.sendBuffered();
+                lastMessage = message;
+              }
+            } catch (MessageTooLargeException e) {
+              // nothing of the message was written, so drop it and go on with the batch
+              logger.warn("Message too large to send to client: {}, {}", clientMessage,
+                  e.getMessage());
+            }
+          }
+          getStatistics().endMessage(start);
+          endDispatch(clientMessage);
+          if (clientMessage instanceof ClientMarkerMessageImpl) {
+            hasMarker = true;
+          }
+          dispatched++;
+        }
+        if (lastMessage != null) {
+          lastMessage.flush();
+        }
+        getProxy().resetPingCounter();
+      } finally {
+        this.socketWriteLock.unlock();
+      }
+      if (dispatched > 0) {
+        getStatistics().endMessageBatch(dispatched);
+      }
+      if (logger.isTraceEnabled()) {
+        logger.trace("{}: Dispatched {} of the batch {}", this, dispatched, batch);
+      }
+      boolean isDispatched = dispatched == batch.size();
+      if (isDispatched && hasMarker) {
+        getProxy().markerEnqueued = false;
       }
       return isDispatched;
     }
 
+    private void endDispatch(ClientMessage clientMessage) {
+      this._messageQueue.getStatistics().incEventsDispatched();
+      if (clientMessage instanceof ClientUpdateMessageImpl) {
+        getStatistics()
+            .incMessageLatency(((ClientUpdateMessageImpl) clientMessage).getCreationTime());
+      }
+    }
+
+    /**
+     * Creates the message that sends the given client message to the client attached to this
+     * proxy.
+     */
+    private Message createMessage(ClientMessage clientMessage) throws IOException {
+      if (logger.isTraceEnabled(LogMarker.BRIDGE_SERVER)) {
+        logger.trace(LogMarker.BRIDGE_SERVER, "Dispatching {}", clientMessage);
+      }
+      Message message = null;
+
+      // byte[] latestValue =
+      // this._eventConflator.getLatestValue(clientMessage);
+
+      if (clientMessage instanceof ClientUpdateMessage) {
+        byte[] latestValue = (byte[]) ((ClientUpdateMessage) clientMessage).getValue();
+        if (logger.isTraceEnabled()) {
+          StringBuilder msg = new StringBuilder(100);
+          msg.append(this).append(": Using latest value: ").append(Arrays.toString(latestValue));
+          if (((ClientUpdateMessage) clientMessage).valueIsObject()) {
+            if (latestValue != null) {
+              msg.append(" (").append(deserialize(latestValue)).append(")");
+            }
+            msg.append(" for ").append(clientMessage);
+          }
+          logger.trace(msg.toString());
+        }
+
+        message = ((ClientUpdateMessageImpl) clientMessage).getMessage(getProxy(), latestValue);
+
+        if (AFTER_MESSAGE_CREATION_FLAG) {
+          ClientServerObserver bo = ClientServerObserverHolder.getInstance();
+          bo.afterMessageCreation(message);
+        }
+      } else {
+        message = clientMessage.getMessage(getProxy(), true /* notify */);
+      }
+      return message;
+    }
+
     private void sendMessage(Message message) throws IOException {
       if (message == null) {
         return;
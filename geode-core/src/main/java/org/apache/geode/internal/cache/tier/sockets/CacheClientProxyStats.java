@@ -58,6 +58,12 @@ public class CacheClientProxyStats implements MessageStats {
   private static final String DELTA_FULL_MESSAGES_SENT = "deltaFullMessagesSent";
   /** Name of the CQ count statistic */
   private static final String CQ_COUNT = "cqCount";
+  /** Name of the message batches processed statistic */
+  private static final String MESSAGE_BATCHES_PROCESSED = "messageBatchesProcessed";
+  /** Name of the messages processed in batches statistic */
+  private static final String MESSAGES_PROCESSED_IN_BATCHES = "messagesProcessedInBatches";
+  /** Name of the message latency statistic */
+  private static final String MESSAGE_LATENCY = "messageLatency";
 
   /** Id of the messages received statistic */
   private static final int _messagesReceivedId;
@@ -81,6 +87,12 @@ public class CacheClientProxyStats implements MessageStats {
   private static final int _deltaFullMessagesSentId;
   /** Id of the CQ count statistic */
   private static final int _cqCountId;
+  /** Id of the message batches processed statistic */
+  private static final int _messageBatchesProcessedId;
+  /** Id of the messages processed in batches statistic */
+  private static final int _messagesProcessedInBatchesId;
+  /** Id of the message latency statistic */
+  private static final int _messageLatencyId;
   private final static int _sentBytesId;
 
   /**
@@ -126,7 +138,19 @@ public class CacheClientProxyStats implements MessageStats {
             "operations"),
 
         f.createLongCounter(CQ_COUNT, "Number of CQs on the client.", "operations"),
-        f.createLongCounter("sentBytes", "Total number of bytes sent to client.", "bytes"),});
+        f.createLongCounter("sentBytes", "Total number of bytes sent to client.", "bytes"),
+
+        f.createIntCounter(MESSAGE_BATCHES_PROCESSED,
+            "Number of batches of client messages removed from the message queue and sent together.",
+            "operations"),
+
+        f.createIntCounter(MESSAGES_PROCESSED_IN_BATCHES,
+            "Number of client messages removed from the message queue and sent as part of a batch. Divided by messageBatchesProcessed it gives the average batch size.",
+            "operations"),
+
+        f.createLongCounter(MESSAGE_LATENCY,
+            "Total time between the creation of the client update messages and their dispatch to the client.",
+            "nanoseconds"),});
 
     // Initialize id fields
     _messagesReceivedId = _type.nameToId(MESSAGES_RECEIVED);
@@ -141,6 +165,9 @@ public class CacheClientProxyStats implements MessageStats {
     _deltaFullMessagesSentId = _type.nameToId(DELTA_FULL_MESSAGES_SENT);
     _cqCountId = _type.nameToId(CQ_COUNT);
     _sentBytesId = _type.nameToId("sentBytes");
+    _messageBatchesProcessedId = _type.nameToId(MESSAGE_BATCHES_PROCESSED);
+    _messagesProcessedInBatchesId = _type.nameToId(MESSAGES_PROCESSED_IN_BATCHES);
+    _messageLatencyId = _type.nameToId(MESSAGE_LATENCY);
   }
 
   ////////////////////// Instance Fields //////////////////////
@@ -353,6 +380,41 @@ public class CacheClientProxyStats implements MessageStats {
     this._stats.incLong(_messageProcessingTimeId, elapsed);
   }
 
+  /**
+   * Increments the "messageBatchesProcessed" and "messagesProcessedInBatches" stats.
+   *
+   * @param size the number of messages in the batch
+   */
+  public void endMessageBatch(int size) {
+    this._stats.incInt(_messageBatchesProcessedId, 1);
+    this._stats.incInt(_messagesProcessedInBatchesId, size);
+  }
+
+  /**
+   * Returns the current value of the "messageBatchesProcessed" stat.
+   */
+  public int getMessageBatchesProcessed() {
+    return this._stats.getInt(_messageBatchesProcessedId);
+  }
+
+  /**
+   * Returns the current value of the "messagesProcessedInBatches" stat.
+   */
+  public int getMessagesProcessedInBatches() {
+    return this._stats.getInt(_messagesProcessedInBatchesId);
+  }
+
+  /**
+   * Increments the "messageLatency" stat.
+   *
+   * @param creationTime the stat time at which the dispatched message was created
+   */
+  public void incMessageLatency(long creationTime) {
+    if (creationTime != 0) {
+      this._stats.incLong(_messageLatencyId, DistributionStats.getStatTime() - creationTime);
+    }
+  }
+
   /**
    * Increments the "deltaMessagesSent" stats.
    */
@@ -216,6 +216,14 @@ public class CacheServerStats implements MessageStats {
   int acceptThreadStartsId;
   int connectionThreadStartsId;
   int connectionThreadsId;
+  int requestsProcessedId;
+  int requestProcessingTimeId;
+
+  // Selector framing statistics
+  int selectorReadsId;
+  int selectorReadTimeId;
+  int selectorFramesReadId;
+  int selectorPartialFramesId;
 
   // Load callback stats
   int connectionLoadId;
@@ -464,6 +472,24 @@ public class CacheServerStats implements MessageStats {
             "starts"),
         f.createIntGauge("connectionThreads",
             "Current number of threads dealing with a client connection.", "threads"),
+        f.createLongCounter("requestsProcessed",
+            "Total number of client requests, other than pings, processed by this server.",
+            "requests"),
+        f.createLongCounter("requestProcessingTime",
+            "Total time spent processing client requests, other than pings, from the time they were read until their response was written.",
+            "nanoseconds"),
+        f.createLongCounter("selectorReads",
+            "Total number of non-blocking reads done by the selector thread to assemble client requests.",
+            "operations"),
+        f.createLongCounter("selectorReadTime",
+            "Total time spent by the selector thread reading and parsing client requests.",
+            "nanoseconds"),
+        f.createLongCounter("selectorFramesRead",
+            "Total number of client requests read by the selector thread before being handed to a connection thread.",
+            "messages"),
+        f.createIntGauge("selectorPartialFrames",
+            "Current number of connections with a partially received request buffered by the selector thread.",
+            "connections"),
         f.createDoubleGauge("connectionLoad",
             "The load from client to server connections as reported by the load probe installed in this server",
             "load"),
@@ -597,6 +623,13 @@ public class CacheServerStats implements MessageStats {
     acceptThreadStartsId = this.stats.nameToId("acceptThreadStarts");
     connectionThreadStartsId = this.stats.nameToId("connectionThreadStarts");
     connectionThreadsId = this.stats.nameToId("connectionThreads");
+    requestsProcessedId = this.stats.nameToId("requestsProcessed");
+    requestProcessingTimeId = this.stats.nameToId("requestProcessingTime");
+
+    selectorReadsId = this.stats.nameToId("selectorReads");
+    selectorReadTimeId = this.stats.nameToId("selectorReadTime");
+    selectorFramesReadId = this.stats.nameToId("selectorFramesRead");
+    selectorPartialFramesId = this.stats.nameToId("selectorPartialFrames");
 
     connectionLoadId = this.stats.nameToId("connectionLoad");
     queueLoadId = this.stats.nameToId("queueLoad");
@@ -684,6 +717,40 @@ public class CacheServerStats implements MessageStats {
     this.stats.incInt(threadQueueSizeId, -1);
   }
 
+  public int getThreadQueueSize() {
+    return this.stats.getInt(threadQueueSizeId);
+  }
+
+  public void incRequestProcessingTime(long delta) {
+    this.stats.incLong(requestProcessingTimeId, delta);
+    this.stats.incLong(requestsProcessedId, 1);
+  }
+
+  public long getRequestsProcessed() {
+    return this.stats.getLong(requestsProcessedId);
+  }
+
+  public long getRequestProcessingTime() {
+    return this.stats.getLong(requestProcessingTimeId);
+  }
+
+  public void incSelectorReadTime(long delta) {
+    this.stats.incLong(selectorReadTimeId, delta);
+    this.stats.incLong(selectorReadsId, 1);
+  }
+
+  public void incSelectorFramesRead() {
+    this.stats.incLong(selectorFramesReadId, 1);
+  }
+
+  public void incSelectorPartialFrames() {
+    this.stats.incInt(selectorPartialFramesId, 1);
+  }
+
+  public void decSelectorPartialFrames() {
+    this.stats.incInt(selectorPartialFramesId, -1);
+  }
+
   public void incReadGetRequestTime(long delta) {
     this.stats.incLong(readGetRequestTimeId, delta);
     this.stats.incInt(getRequestsId, 1);
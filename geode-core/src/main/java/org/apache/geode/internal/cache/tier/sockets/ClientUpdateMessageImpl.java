@@ -33,10 +33,13 @@ import org.apache.logging.log4j.Logger;
 import org.apache.geode.DataSerializer;
 import org.apache.geode.GemFireIOException;
 import org.apache.geode.InternalGemFireError;
+import org.apache.geode.SerializationException;
 import org.apache.geode.cache.query.CqQuery;
 import org.apache.geode.cache.query.internal.cq.InternalCqQuery;
 import org.apache.geode.cache.util.ObjectSizer;
+import org.apache.geode.distributed.internal.DistributionStats;
 import org.apache.geode.internal.DSCODE;
+import org.apache.geode.internal.HeapDataOutputStream;
 import org.apache.geode.internal.InternalDataSerializer;
 import org.apache.geode.internal.Sendable;
 import org.apache.geode.internal.Version;
@@ -56,6 +59,7 @@ import org.apache.geode.internal.cache.tier.MessageType;
 import org.apache.geode.internal.cache.versions.VersionTag;
 import org.apache.geode.internal.logging.LogService;
 import org.apache.geode.internal.offheap.MemoryAllocatorImpl;
+import org.apache.geode.internal.util.BlobHelper;
 
 
 /**
@@ -152,6 +156,20 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
 
   private VersionTag versionTag;
 
+  /**
+   * The stat time at which this message was created on this member, used to measure how long it
+   * waits in the queues of the proxies before being dispatched. Zero if time stats are disabled.
+   */
+  private transient long creationTime;
+
+  /**
+   * The serialized parts shared by the proxies sending this message to clients of the same version,
+   * one {@link SerializedParts} for each client version the message has been sent to, chained
+   * through {@link SerializedParts#next}. Clients rarely run more than a couple of versions, so a
+   * chain costs less than a map in every queued message.
+   */
+  private transient volatile SerializedParts serializedParts;
+
   /* added up all constants and form single value */
   private static final int CONSTANT_MEMORY_OVERHEAD;
 
@@ -190,6 +208,7 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
     this._shouldConflate = (isUpdate() && region.getEnableConflation());
     this.deltaBytes = delta;
     this.versionTag = versionTag;
+    this.creationTime = DistributionStats.getStatTime();
   }
 
   /**
@@ -207,6 +226,7 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
     this._operation = operation;
     this._membershipId = memberId;
     this._eventIdentifier = eventIdentifier;
+    this.creationTime = DistributionStats.getStatTime();
   }
 
   /**
@@ -217,6 +237,14 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
 
   }
 
+  /**
+   * Returns the stat time at which this message was created on this member, or zero if it is not
+   * known.
+   */
+  long getCreationTime() {
+    return this.creationTime;
+  }
+
   public String getRegionName() {
     return this._regionName;
   }
@@ -826,6 +854,7 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
     // Add CQ info.
     int cqMsgParts = 0;
     boolean clientHasCq = this._hasCqs && (this.getCqs(proxyId) != null);
+    SerializedParts serializedParts = getSerializedParts(proxy, clientVersion);
 
     if (clientHasCq) {
       cqMsgParts = (this.getCqs(proxyId).length * 2) + 1;
@@ -842,21 +871,21 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
         message = getMessage(7 + cqMsgParts, clientVersion);
         message.setMessageType(MessageType.LOCAL_INVALIDATE);
         message.addStringPart(this._regionName, true);
-        message.addStringOrObjPart(this._keyOfInterest);
+        serializedParts.addKeyPart(message, this._keyOfInterest);
       } else {
         // Notify by subscription - send the value
         message = getMessage(9 + cqMsgParts, clientVersion);
         if (isCreate()) {
           message.setMessageType(MessageType.LOCAL_CREATE);
           message.addStringPart(this._regionName, true);
-          message.addStringOrObjPart(this._keyOfInterest);
+          serializedParts.addKeyPart(message, this._keyOfInterest);
           message.addObjPart(Boolean.FALSE); // NO delta
           // Add the value (which has already been serialized)
           message.addRawPart(latestValue, (this._valueIsObject == 0x01));
         } else {
           message.setMessageType(MessageType.LOCAL_UPDATE);
           message.addStringPart(this._regionName, true);
-          message.addStringOrObjPart(this._keyOfInterest);
+          serializedParts.addKeyPart(message, this._keyOfInterest);
 
           if (this.deltaBytes != null && !conflation && !proxy.isMarkerEnqueued()
               && !proxy.getRegionsWithEmptyDataPolicy().containsKey(_regionName)) {
@@ -877,11 +906,8 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
         }
       }
 
-      message.addObjPart(this._callbackArgument);
-      if (this.versionTag != null) {
-        this.versionTag.setCanonicalIDs(proxy.getCache().getDistributionManager());
-      }
-      message.addObjPart(this.versionTag);
+      serializedParts.addCallbackArgumentPart(message, this._callbackArgument);
+      addSerializedPart(message, serializedParts.versionTag);
       message.addObjPart(Boolean.valueOf(isClientInterested(proxyId)));
       message.addObjPart(Boolean.valueOf(clientHasCq));
 
@@ -904,9 +930,9 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
         message.setMessageType(MessageType.LOCAL_INVALIDATE);
       }
       message.addStringPart(this._regionName, true);
-      message.addStringOrObjPart(this._keyOfInterest);
-      message.addObjPart(this._callbackArgument);
-      message.addObjPart(this.versionTag);
+      serializedParts.addKeyPart(message, this._keyOfInterest);
+      serializedParts.addCallbackArgumentPart(message, this._callbackArgument);
+      addSerializedPart(message, serializedParts.versionTag);
       message.addObjPart(Boolean.valueOf(isClientInterested(proxyId)));
       message.addObjPart(Boolean.valueOf(clientHasCq));
 
@@ -922,7 +948,7 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
       message = getMessage(4 + cqMsgParts, clientVersion);
       message.setMessageType(MessageType.LOCAL_DESTROY_REGION);
       message.addStringPart(this._regionName, true);
-      message.addObjPart(this._callbackArgument);
+      serializedParts.addCallbackArgumentPart(message, this._callbackArgument);
       message.addObjPart(Boolean.valueOf(clientHasCq));
 
       if (clientHasCq) {
@@ -932,7 +958,7 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
       message = getMessage(4 + cqMsgParts, clientVersion);
       message.setMessageType(MessageType.CLEAR_REGION);
       message.addStringPart(this._regionName, true);
-      message.addObjPart(this._callbackArgument);
+      serializedParts.addCallbackArgumentPart(message, this._callbackArgument);
       message.addObjPart(Boolean.valueOf(clientHasCq));
 
       if (clientHasCq) {
@@ -942,7 +968,7 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
       message = getMessage(4 + cqMsgParts, clientVersion);
       message.setMessageType(MessageType.INVALIDATE_REGION);
       message.addStringPart(this._regionName, true);
-      message.addObjPart(this._callbackArgument);
+      serializedParts.addCallbackArgumentPart(message, this._callbackArgument);
 
       // Add CQ status.
       message.addObjPart(Boolean.valueOf(clientHasCq));
@@ -957,10 +983,131 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
     message.setTransactionId(0);
     // Add the EventId since 5.1 (used to prevent duplicate events
     // received on the client side after a failover)
-    message.addObjPart(this._eventIdentifier);
+    addSerializedPart(message, serializedParts.eventId);
     return message;
   }
 
+  /**
+   * Returns the serialized parts of this message for clients of the given version, serializing
+   * them the first time the message is sent to a client of that version.
+   */
+  SerializedParts getSerializedParts(CacheClientProxy proxy, Version clientVersion) {
+    SerializedParts head = this.serializedParts;
+    for (SerializedParts parts = head; parts != null; parts = parts.next) {
+      if (parts.version.equals(clientVersion)) {
+        return parts;
+      }
+    }
+    synchronized (this) {
+      // another proxy may have added the parts for this version in the meantime
+      for (SerializedParts parts = this.serializedParts; parts != head; parts = parts.next) {
+        if (parts.version.equals(clientVersion)) {
+          return parts;
+        }
+      }
+      if (this.versionTag != null) {
+        this.versionTag.setCanonicalIDs(proxy.getCache().getDistributionManager());
+      }
+      SerializedParts parts = new SerializedParts(clientVersion, this._keyOfInterest,
+          this._callbackArgument, this.versionTag, this._eventIdentifier, this.serializedParts);
+      this.serializedParts = parts;
+      return parts;
+    }
+  }
+
+  private static void addSerializedPart(Message message, byte[] serializedPart) {
+    if (serializedPart == null) {
+      message.addRawPart(null, false);
+    } else {
+      message.addRawPart(serializedPart, true);
+    }
+  }
+
+  /**
+   * The serialized forms of the parts of a message that are the same for all the clients of a
+   * version: they are serialized by the first proxy sending the message to such a client and then
+   * shared by all the proxies sending it, instead of being serialized again for each client.
+   */
+  static class SerializedParts {
+    final Version version;
+
+    /** The serialized key, or null if the key is sent as a string part */
+    final byte[] key;
+
+    /** The serialized callback argument, or null if it is sent as it is */
+    final byte[] callbackArgument;
+
+    final byte[] versionTag;
+
+    final byte[] eventId;
+
+    /** The parts for another client version, or null */
+    final SerializedParts next;
+
+    SerializedParts(Version version, Object key, Object callbackArgument, VersionTag versionTag,
+        EventID eventId, SerializedParts next) {
+      this.version = version;
+      this.next = next;
+      this.key = (key instanceof String || key == null) ? null : serialize(key, version);
+      this.callbackArgument =
+          (callbackArgument instanceof byte[] || callbackArgument instanceof Boolean) ? null
+              : serialize(callbackArgument, version);
+      this.versionTag = serialize(versionTag, version);
+      this.eventId = serialize(eventId, version);
+    }
+
+    void addKeyPart(Message message, Object key) {
+      if (this.key == null) {
+        message.addStringOrObjPart(key);
+      } else {
+        message.addRawPart(this.key, true);
+      }
+    }
+
+    void addCallbackArgumentPart(Message message, Object callbackArgument) {
+      if (this.callbackArgument == null) {
+        message.addObjPart(callbackArgument);
+      } else {
+        message.addRawPart(this.callbackArgument, true);
+      }
+    }
+
+    /**
+     * Returns the heap memory used by these parts
+     */
+    int getSizeInBytes() {
+      // object header and the six references
+      int size = Sizeable.PER_OBJECT_OVERHEAD + 24;
+      size += sizeOf(this.key);
+      size += sizeOf(this.callbackArgument);
+      size += sizeOf(this.versionTag);
+      size += sizeOf(this.eventId);
+      return size;
+    }
+
+    private static int sizeOf(byte[] part) {
+      return part == null ? 0 : CachedDeserializableFactory.getByteSize(part);
+    }
+
+    /**
+     * Serializes the given part like {@link Message#addObjPart(Object)} does for a client of the
+     * given version.
+     */
+    private static byte[] serialize(Object o, Version version) {
+      if (o == null) {
+        return null;
+      }
+      HeapDataOutputStream hdos =
+          new HeapDataOutputStream(version.equals(Version.CURRENT) ? null : version);
+      try {
+        BlobHelper.serializeTo(o, hdos);
+      } catch (IOException ex) {
+        throw new SerializationException("failed serializing object", ex);
+      }
+      return hdos.toByteArray();
+    }
+  }
+
   private static final ThreadLocal<Map<Integer, Message>> CACHED_MESSAGES =
       new ThreadLocal<Map<Integer, Message>>() {
         protected Map<Integer, Message> initialValue() {
@@ -1103,6 +1250,7 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
   public void setEventIdentifier(EventID eventId) {
     if (this._eventIdentifier == null) {
       this._eventIdentifier = eventId;
+      this.serializedParts = null;
     }
   }
 
@@ -1355,6 +1503,12 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
     // boolean _isNetLoad = 1 byte
     size += 5;
 
+    // long creationTime = 8 bytes
+    size += 8;
+
+    // serializedParts reference = 4 bytes, the parts are added by getSizeInBytes
+    size += 4;
+
     // not sure on the kind on wrapper is around callbackArgument
     // The callback argument (a GatewayEventCallbackArgument wrapping an Object
     // which is the original callback argument)
@@ -1378,6 +1532,11 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
 
     // The sizeOf call gets the size of the input callback argument.
     size += sizeOf(getOriginalCallbackArgument());
+
+    // The serialized parts shared by the proxies
+    for (SerializedParts parts = this.serializedParts; parts != null; parts = parts.next) {
+      size += parts.getSizeInBytes();
+    }
     return size;
   }
 
@@ -340,6 +340,11 @@ public class CommandInitializer {
       gfe91Commands.putAll(ALL_COMMANDS.get(Version.GEODE_110));
       ALL_COMMANDS.put(Version.GFE_91, gfe91Commands);
     }
+    {
+      Map<Integer, Command> geode120Commands = new HashMap<Integer, Command>();
+      geode120Commands.putAll(ALL_COMMANDS.get(Version.GFE_91));
+      ALL_COMMANDS.put(Version.GEODE_120, geode120Commands);
+    }
 
   }
 
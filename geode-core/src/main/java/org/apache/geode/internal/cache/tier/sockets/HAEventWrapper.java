@@ -31,6 +31,7 @@ import org.apache.geode.internal.Version;
 import org.apache.geode.internal.cache.Conflatable;
 import org.apache.geode.internal.cache.EnumListenerEvent;
 import org.apache.geode.internal.cache.EventID;
+import org.apache.geode.internal.cache.ha.HAContainerRegion;
 import org.apache.geode.internal.cache.lru.Sizeable;
 import org.apache.geode.internal.cache.tier.sockets.ClientUpdateMessageImpl.ClientCqConcurrentMap;
 import org.apache.geode.internal.cache.tier.sockets.ClientUpdateMessageImpl.CqNameToOp;
@@ -107,7 +108,7 @@ public class HAEventWrapper implements Conflatable, DataSerializableFixedID, Siz
    * This will hold the CQ list while its ClientUpdateMessageImpl is overflown to disk, and reassign
    * it back when it's faulted-in.
    */
-  private ClientCqConcurrentMap clientCqs = null;
+  private volatile ClientCqConcurrentMap clientCqs = null;
 
   /**
    * Parameterized constructor.
@@ -212,6 +213,15 @@ public class HAEventWrapper implements Conflatable, DataSerializableFixedID, Siz
     return this.clientCqs;
   }
 
+  /**
+   * Sets the CQ list of an event queued without CQs, once a client with CQs queues it too
+   * 
+   * @see HAContainerRegion#addClientCQsAndInterestList(HAEventWrapper, HAEventWrapper, String)
+   */
+  public void setClientCqs(ClientCqConcurrentMap clientCqs) {
+    this.clientCqs = clientCqs;
+  }
+
   public void setPutInProgress(boolean inProgress) {
     this.putInProgress = inProgress;
   }
@@ -93,7 +93,7 @@ public class Message {
 
   private static final int PART_HEADER_SIZE = 5; // 4 bytes for length, 1 byte for isObject
 
-  private static final int FIXED_LENGTH = 17;
+  static final int FIXED_LENGTH = 17;
 
   private static final ThreadLocal<ByteBuffer> tlCommBuffer = new ThreadLocal<>();
 
@@ -140,6 +140,11 @@ public class Message {
   // private int MAX_MSGS = -1;
   private Semaphore msgLimiter = null;
   private boolean hdrRead = false;
+  /**
+   * Bytes of the next incoming message that were already read off the socket by the selector
+   * thread; null if none.
+   */
+  private ByteBuffer prefetchedBytes = null;
   private int chunkSize = 1024;// Default Chunk Size.
 
   protected Part securePart = null;
@@ -547,6 +552,15 @@ public class Message {
    * Sends this message out on its socket.
    */
   protected void sendBytes(boolean clearMessage) throws IOException {
+    sendBytes(clearMessage, false);
+  }
+
+  /**
+   * Writes this message out on its socket. If <code>buffered</code> the message is added to the
+   * bytes already in the comm buffer and the buffer is only written to the socket once it is full;
+   * {@link #flush()} has to be called once the last message has been written.
+   */
+  private void sendBytes(boolean clearMessage, boolean buffered) throws IOException {
     if (this.sc != null) {
       // Keep track of the fact that we are making progress.
       this.sc.updateProcessingMessage();
@@ -593,7 +607,11 @@ public class Message {
               + ") exceeds gemfire.client.max-message-size setting (" + MAX_MESSAGE_SIZE + ")");
         }
 
-        cb.clear();
+        if (!buffered) {
+          cb.clear();
+        } else if (cb.remaining() < FIXED_LENGTH) {
+          flushBuffer();
+        }
         packHeaderInfoForSending(msgLen, (securityPart != null));
         for (int i = 0; i < partsToTransmit; i++) {
           Part part = (i == this.numberOfParts) ? securityPart : partsList[i];
@@ -607,6 +625,10 @@ public class Message {
           cb.put(part.getTypeCode());
           if (partLen <= cb.remaining()) {
             part.writeTo(cb);
+          } else if (this.sockCh != null && writeGathering(part, cb)) {
+            if (this.msgStats != null) {
+              this.msgStats.incSentBytes(partLen);
+            }
           } else {
             flushBuffer();
             if (this.sockCh != null) {
@@ -619,13 +641,15 @@ public class Message {
             }
           }
         }
-        if (cb.position() != 0) {
-          flushBuffer();
+        if (!buffered) {
+          if (cb.position() != 0) {
+            flushBuffer();
+          }
+          if (this.sockCh == null) {
+            this.os.flush();
+          }
         }
         this.messageModified = false;
-        if (this.sockCh == null) {
-          this.os.flush();
-        }
       }
     } finally {
       if (clearMessage) {
@@ -634,6 +658,37 @@ public class Message {
     }
   }
 
+  /**
+   * Writes the bytes left in the comm buffer by {@link #sendBuffered()} to the socket.
+   */
+  public void flush() throws IOException {
+    final ByteBuffer cb = getCommBuffer();
+    synchronized (cb) {
+      if (cb.position() != 0) {
+        flushBuffer();
+      }
+      if (this.sockCh == null) {
+        this.os.flush();
+      }
+    }
+  }
+
+  /**
+   * Writes what is in the comm buffer and then the given part, which does not fit in the buffer,
+   * to the socket channel with gathering writes instead of copying the part through the buffer.
+   * Returns false, having written nothing, if the part can not be written that way.
+   */
+  private boolean writeGathering(Part part, ByteBuffer cb) throws IOException {
+    int buffered = cb.position();
+    if (!part.writeGatheringTo(this.sockCh, cb)) {
+      return false;
+    }
+    if (this.msgStats != null) {
+      this.msgStats.incSentBytes(buffered);
+    }
+    return true;
+  }
+
   protected void flushBuffer() throws IOException {
     final ByteBuffer cb = getCommBuffer();
     if (this.sockCh != null) {
@@ -673,7 +728,7 @@ public class Message {
     if (this.sockCh != null) {
       cb.limit(headerLength);
       do {
-        int bytesRead = this.sockCh.read(cb);
+        int bytesRead = readFromChannel(cb);
         // System.out.println("DEBUG: fetchHeader read " + bytesRead + " bytes commBuffer=" + cb);
         if (bytesRead == -1) {
           throw new EOFException(
@@ -889,7 +944,7 @@ public class Message {
               bytesThisTime = cb.capacity();
             }
             cb.limit(bytesThisTime);
-            int res = this.sockCh.read(cb);
+            int res = readFromChannel(cb);
             if (res != -1) {
               cb.flip();
               bytesRemaining -= res;
@@ -964,7 +1019,7 @@ public class Message {
         cb.limit(cb.position() + bytesRemaining);
       }
       while (remaining > 0) {
-        int res = this.sockCh.read(cb);
+        int res = readFromChannel(cb);
         if (res != -1) {
           remaining -= res;
           bytesRead += res;
@@ -1007,6 +1062,39 @@ public class Message {
     return bytesRead;
   }
 
+  /**
+   * Reads from the prefetched bytes, if any remain, and otherwise from the socket channel.
+   */
+  private int readFromChannel(ByteBuffer dst) throws IOException {
+    final ByteBuffer prefetched = this.prefetchedBytes;
+    if (prefetched != null) {
+      int bytesToCopy = Math.min(dst.remaining(), prefetched.remaining());
+      if (bytesToCopy > 0) {
+        int oldLimit = prefetched.limit();
+        prefetched.limit(prefetched.position() + bytesToCopy);
+        dst.put(prefetched);
+        prefetched.limit(oldLimit);
+      }
+      if (!prefetched.hasRemaining()) {
+        this.prefetchedBytes = null;
+      }
+      if (bytesToCopy > 0) {
+        return bytesToCopy;
+      }
+    }
+    return this.sockCh.read(dst);
+  }
+
+  /**
+   * Supplies bytes of the next message that have already been read off this message's channel.
+   * They are consumed before any more bytes are read from the channel.
+   *
+   * @see MessageFrameReader
+   */
+  void setPrefetchedBytes(ByteBuffer bb) {
+    this.prefetchedBytes = bb;
+  }
+
   /**
    * Gets rid of all the parts that have been added to this message.
    */
@@ -1074,6 +1162,7 @@ public class Message {
     this.os = null;
     this.cachedCommBuffer = null;
     this.msgStats = null;
+    this.prefetchedBytes = null;
   }
 
   /**
@@ -1096,6 +1185,14 @@ public class Message {
     sendBytes(clearMessage);
   }
 
+  /**
+   * Sends this message after the messages sent before it with this method, sharing socket writes
+   * with them. The comm buffer must not be used by anything else until {@link #flush()} is called.
+   */
+  public void sendBuffered() throws IOException {
+    sendBytes(true, true);
+  }
+
   /**
    * Populates the stats of this <code>Message</code> with information received via its socket
    */
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.internal.i18n.LocalizedStrings;
+
+/**
+ * Assembles the bytes of a single {@link Message} frame from a non-blocking channel. The selector
+ * thread calls {@link #readFrom} each time the channel is readable and only hands the connection
+ * to a worker thread once the whole request has arrived, so that a slow or idle client never ties
+ * up a thread in a blocking read.
+ * <p>
+ * The header is parsed to find the payload length. Frames larger than the configured limit are not
+ * buffered; in that case only the header is handed off and the worker reads the rest of the frame
+ * off the socket as it always has. The same happens when the readers sharing a budget of buffered
+ * bytes have used it up, which bounds the heap held by the frames of all the connections of a
+ * server.
+ *
+ * @see Message#setPrefetchedBytes(ByteBuffer)
+ */
+public class MessageFrameReader {
+
+  /** Offset of the payload length in the fixed length message header */
+  private static final int PAYLOAD_LENGTH_OFFSET = 4;
+
+  private final int maxFrameSize;
+
+  /** The bytes the readers sharing it may still buffer; null if buffering is not bounded */
+  private final AtomicLong bytesAvailable;
+
+  private ByteBuffer buffer;
+
+  /** The length of the frame being read; -1 until the header has been read */
+  private int frameLength = -1;
+
+  /** The bytes of the budget held by the frame being read */
+  private int reservedBytes;
+
+  public MessageFrameReader(int maxFrameSize) {
+    this(maxFrameSize, null);
+  }
+
+  /**
+   * @param bytesAvailable the budget of bytes shared by the readers of a server; a frame's payload
+   *        is only buffered if its bytes can be taken from the budget, and they are given back when
+   *        the frame is taken or released
+   */
+  public MessageFrameReader(int maxFrameSize, AtomicLong bytesAvailable) {
+    this.maxFrameSize = maxFrameSize;
+    this.bytesAvailable = bytesAvailable;
+  }
+
+  /**
+   * Reads as many bytes of the current frame as are available without blocking.
+   *
+   * @return true if the frame is ready to be handed to a worker thread; false if more bytes are
+   *         needed
+   * @throws EOFException if the channel has been closed by the client
+   */
+  public boolean readFrom(ReadableByteChannel channel) throws IOException {
+    if (this.buffer == null) {
+      this.buffer = ByteBuffer.allocate(Message.FIXED_LENGTH);
+    }
+    if (this.frameLength == -1) {
+      if (!fill(channel)) {
+        return false;
+      }
+      int payloadLength = this.buffer.getInt(PAYLOAD_LENGTH_OFFSET);
+      if (payloadLength <= 0 || payloadLength > this.maxFrameSize - Message.FIXED_LENGTH
+          || !reserve(Message.FIXED_LENGTH + payloadLength)) {
+        // let the worker validate the header or stream the large payload itself
+        this.frameLength = Message.FIXED_LENGTH;
+        return true;
+      }
+      this.frameLength = Message.FIXED_LENGTH + payloadLength;
+      ByteBuffer frame = ByteBuffer.allocate(this.frameLength);
+      this.buffer.flip();
+      frame.put(this.buffer);
+      this.buffer = frame;
+    }
+    return fill(channel);
+  }
+
+  private boolean fill(ReadableByteChannel channel) throws IOException {
+    while (this.buffer.hasRemaining()) {
+      int bytesRead = channel.read(this.buffer);
+      if (bytesRead == -1) {
+        if (this.frameLength == -1) {
+          throw new EOFException(
+              LocalizedStrings.Message_THE_CONNECTION_HAS_BEEN_RESET_WHILE_READING_THE_HEADER
+                  .toLocalizedString());
+        }
+        throw new EOFException(
+            LocalizedStrings.Message_THE_CONNECTION_HAS_BEEN_RESET_WHILE_READING_THE_PAYLOAD
+                .toLocalizedString());
+      }
+      if (bytesRead == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean reserve(int bytes) {
+    if (this.bytesAvailable == null) {
+      return true;
+    }
+    while (true) {
+      long available = this.bytesAvailable.get();
+      if (available < bytes) {
+        return false;
+      }
+      if (this.bytesAvailable.compareAndSet(available, available - bytes)) {
+        this.reservedBytes = bytes;
+        return true;
+      }
+    }
+  }
+
+  private void unreserve() {
+    if (this.reservedBytes > 0) {
+      this.bytesAvailable.addAndGet(this.reservedBytes);
+      this.reservedBytes = 0;
+    }
+  }
+
+  /**
+   * Returns true if some bytes of a frame have been read but not yet taken.
+   */
+  public boolean hasBytes() {
+    return this.buffer != null && this.buffer.position() > 0;
+  }
+
+  /**
+   * Returns the bytes read so far, ready to be consumed, and resets this reader for the next frame.
+   */
+  public ByteBuffer takeBytes() {
+    ByteBuffer result = this.buffer;
+    this.buffer = null;
+    this.frameLength = -1;
+    unreserve();
+    if (result != null) {
+      result.flip();
+    }
+    return result;
+  }
+
+  /**
+   * Drops the bytes read so far, if the connection is closed before they are taken.
+   */
+  public void release() {
+    this.buffer = null;
+    this.frameLength = -1;
+    unreserve();
+  }
+}
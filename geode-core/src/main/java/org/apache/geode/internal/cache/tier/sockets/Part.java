@@ -417,6 +417,35 @@ public class Part {
     }
   }
 
+  /**
+   * Writes the bytes in buf, which has not been flipped, followed by the contents of this part to
+   * the specified socket channel with gathering writes, so that the part is not copied into buf
+   * and the part and what precedes it go out in as few writes as possible. Only a byte array part
+   * or an off-heap part that can be read as a direct buffer can be written this way; for any other
+   * part nothing is written and false is returned.
+   */
+  public final boolean writeGatheringTo(SocketChannel sc, ByteBuffer buf) throws IOException {
+    ByteBuffer partBuffer;
+    if (this.part instanceof byte[]) {
+      partBuffer = ByteBuffer.wrap((byte[]) this.part);
+    } else if (this.part instanceof StoredObject) {
+      partBuffer = ((StoredObject) this.part).createDirectByteBuffer();
+      if (partBuffer == null) {
+        return false;
+      }
+    } else {
+      return false;
+    }
+    buf.flip();
+    ByteBuffer[] srcs = new ByteBuffer[] {buf, partBuffer};
+    long remaining = buf.remaining() + partBuffer.remaining();
+    while (remaining > 0) {
+      remaining -= sc.write(srcs);
+    }
+    buf.clear();
+    return true;
+  }
+
   static private String typeCodeToString(byte c) {
     switch (c) {
       case BYTE_CODE:
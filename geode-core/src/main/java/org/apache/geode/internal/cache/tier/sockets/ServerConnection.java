@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.net.InetAddress;
 import java.net.Socket;
 import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
@@ -31,7 +32,6 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.shiro.subject.Subject;
@@ -44,6 +44,7 @@ import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.client.internal.AbstractOp;
 import org.apache.geode.cache.client.internal.Connection;
 import org.apache.geode.distributed.DistributedSystem;
+import org.apache.geode.distributed.internal.DistributionStats;
 import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
 import org.apache.geode.internal.Assert;
 import org.apache.geode.internal.HeapDataOutputStream;
@@ -61,6 +62,7 @@ import org.apache.geode.internal.i18n.LocalizedStrings;
 import org.apache.geode.internal.logging.InternalLogWriter;
 import org.apache.geode.internal.logging.LogService;
 import org.apache.geode.internal.logging.log4j.LocalizedMessage;
+import org.apache.geode.internal.net.BufferPool;
 import org.apache.geode.internal.security.AuthorizeRequest;
 import org.apache.geode.internal.security.AuthorizeRequestPP;
 import org.apache.geode.internal.security.IntegratedSecurityService;
@@ -96,49 +98,25 @@ public class ServerConnection implements Runnable {
   // private static boolean useDataStream =
   // System.getProperty("hct.useDataStream", "false").equals("true");
 
-  // The key is the size of each ByteBuffer. The value is a queue of byte buffers all of that size.
-  private static final ConcurrentHashMap<Integer, LinkedBlockingQueue<ByteBuffer>> commBufferMap =
-      new ConcurrentHashMap<>(4, 0.75f, 1);
-
+  /**
+   * Returns a buffer of the given size for the messages sent and received on the given socket. The
+   * buffers of sockets with a channel are acquired from the shared {@link BufferPool}.
+   */
   public static ByteBuffer allocateCommBuffer(int size, Socket sock) {
-    // I expect that size will almost always be the same value
     if (sock.getChannel() == null) {
       // The socket this commBuffer will be used for is old IO (it has no channel).
       // So the commBuffer should be heap based.
       return ByteBuffer.allocate(size);
     }
-    LinkedBlockingQueue<ByteBuffer> q = commBufferMap.get(size);
-    ByteBuffer result = null;
-    if (q != null) {
-      result = q.poll();
-    }
-    if (result == null) {
-      result = ByteBuffer.allocateDirect(size);
-    } else {
-      result.position(0);
-      result.limit(result.capacity());
-    }
-    return result;
+    return BufferPool.getInstance().acquire(size);
   }
 
   public static void releaseCommBuffer(ByteBuffer bb) {
-    if (bb != null && bb.isDirect()) {
-      LinkedBlockingQueue<ByteBuffer> q = commBufferMap.get(bb.capacity());
-      if (q == null) {
-        q = new LinkedBlockingQueue<>();
-        LinkedBlockingQueue<ByteBuffer> oldQ = commBufferMap.putIfAbsent(bb.capacity(), q);
-        if (oldQ != null) {
-          q = oldQ;
-        }
-      }
-      q.offer(bb);
-    }
+    BufferPool.getInstance().release(bb);
   }
 
   public static void emptyCommBufferPool() {
-    for (LinkedBlockingQueue<ByteBuffer> q : commBufferMap.values()) {
-      q.clear();
-    }
+    BufferPool.getInstance().clear();
   }
 
   private Socket theSocket;
@@ -240,6 +218,16 @@ public class ServerConnection implements Runnable {
 
   private MessageIdExtractor messageIdExtractor = new MessageIdExtractor();
 
+  /**
+   * Assembles requests on the selector thread when {@link AcceptorImpl#SELECTOR_FRAMING} is
+   * enabled; null until the first request is read that way. The bytes it buffers count against the
+   * acceptor's {@link AcceptorImpl#SELECTOR_FRAMING_MAX_TOTAL_BYTES}.
+   */
+  private MessageFrameReader frameReader;
+
+  /** true if this connection is counted in the selectorPartialFrames stat */
+  private boolean hasPartialFrame;
+
   /**
    * A debug flag used for testing Backward compatibility
    */
@@ -780,7 +768,14 @@ public class ServerConnection implements Runnable {
           }
         }
 
-        command.execute(msg, this);
+        if (msg.getMessageType() == MessageType.PING) {
+          command.execute(msg, this);
+        } else {
+          // always timed, even without time statistics, since the load probe may depend on it
+          long start = System.nanoTime();
+          command.execute(msg, this);
+          this.stats.incRequestProcessingTime(System.nanoTime() - start);
+        }
       }
     } finally {
       // Keep track of the fact that a message is no longer being
@@ -1135,6 +1130,7 @@ public class ServerConnection implements Runnable {
         this.stats.decThreadQueueSize();
         if (!isTerminated()) {
           Message.setTLCommBuffer(getAcceptor().takeCommBuffer());
+          handOffPrefetchedBytes();
           doOneMessage();
           if (this.processMessages && !(this.crHelper.isShutdown())) {
             registerWithSelector(); // finished msg so reregister
@@ -1188,6 +1184,60 @@ public class ServerConnection implements Runnable {
     }
   }
 
+  /**
+   * Called by the selector thread when this connection's channel is readable. Reads as much of the
+   * next request as is available without blocking.
+   * 
+   * @return true if this connection should now be handed to a thread in the pool; false if the
+   *         selector should wait for more bytes
+   */
+  boolean readRequestFrame() {
+    if (this.doHandshake) {
+      // the handshake is not a framed message; the pool thread reads it
+      return true;
+    }
+    if (this.frameReader == null) {
+      this.frameReader = new MessageFrameReader(AcceptorImpl.SELECTOR_FRAMING_MAX_BYTES,
+          getAcceptor().getSelectorFramingBytesAvailable());
+    }
+    long start = DistributionStats.getStatTime();
+    boolean ready;
+    try {
+      ready = this.frameReader.readFrom((ReadableByteChannel) getSelectableChannel());
+    } catch (IOException ex) {
+      // hand off what we have; the pool thread will see the same failure on
+      // the socket and deal with it just as it would without framing
+      ready = true;
+    }
+    this.stats.incSelectorReadTime(DistributionStats.getStatTime() - start);
+    if (ready) {
+      if (this.hasPartialFrame) {
+        this.hasPartialFrame = false;
+        this.stats.decSelectorPartialFrames();
+      }
+      this.stats.incSelectorFramesRead();
+    } else if (!this.hasPartialFrame && this.frameReader.hasBytes()) {
+      this.hasPartialFrame = true;
+      this.stats.incSelectorPartialFrames();
+    }
+    return ready;
+  }
+
+  /**
+   * Gives any request bytes already read by the selector thread to the request message so that it
+   * reads them before going to the socket.
+   */
+  private void handOffPrefetchedBytes() {
+    MessageFrameReader reader = this.frameReader;
+    if (reader != null && reader.hasBytes()) {
+      if (this.hasPartialFrame) {
+        this.hasPartialFrame = false;
+        this.stats.decSelectorPartialFrames();
+      }
+      this.requestMsg.setPrefetchedBytes(reader.takeBytes());
+    }
+  }
+
   /**
    * If registered with a selector then this will be the key we are registered with.
    */
@@ -1485,6 +1535,13 @@ public class ServerConnection implements Runnable {
       logger.debug("{}: Closed connection", this.name);
     }
     releaseCommBuffer();
+    if (this.hasPartialFrame) {
+      this.hasPartialFrame = false;
+      this.stats.decSelectorPartialFrames();
+    }
+    if (this.frameReader != null) {
+      this.frameReader.release();
+    }
     return true;
   }
 
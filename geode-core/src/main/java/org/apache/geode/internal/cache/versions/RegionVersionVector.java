@@ -981,6 +981,26 @@ public abstract class RegionVersionVector<T extends VersionSource<?>>
     return isDominatedByRemote;
   }
 
+  /**
+   * Test to see if this vector has seen all of the versions up to the given GC versions, so that
+   * none of the changes made before them would be missing here.
+   */
+  public synchronized boolean dominatesGCVersions(Map<T, Long> gcVersions) {
+    for (Map.Entry<T, Long> entry : gcVersions.entrySet()) {
+      RegionVersionHolder<T> holder;
+      if (entry.getKey().equals(this.myId)) {
+        getCurrentVersion();
+        holder = this.localExceptions;
+      } else {
+        holder = this.memberToVersion.get(entry.getKey());
+      }
+      if (!isGCVersionDominatedByHolder(entry.getValue(), holder)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * wait for this vector to dominate the given vector. This means that the receiver has seen all
    * version changes that the given vector has seen.
@@ -0,0 +1,304 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.net;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.distributed.internal.DistributionConfig;
+import org.apache.geode.internal.logging.LogService;
+
+/**
+ * A pool of direct ByteBuffers shared by the peer-to-peer connections and the client/server
+ * connections of this JVM.
+ * <p>
+ * Buffers are pooled in size classes, each a power of two, and a buffer is always acquired from
+ * the smallest class that holds the requested size. Released buffers are kept with strong
+ * references, so garbage collection does not empty the pool and cause a burst of allocations of
+ * direct memory. The direct memory owned by the pool, in use or free, is bounded: when a new buffer
+ * would exceed the bound the free buffers of other classes are dropped, and if that is not enough a
+ * heap buffer is returned instead. Buffers larger than the largest class are not pooled.
+ * <p>
+ * The pool keeps a weak reference to every buffer in use. A buffer which is garbage collected
+ * without being released is logged as a leak and its memory stops counting against the bound.
+ * Setting the {@value #TRACK_ALLOCATIONS_PROPERTY} system property logs where leaked buffers were
+ * acquired.
+ *
+ * @since Geode 1.2
+ */
+public class BufferPool {
+  private static final Logger logger = LogService.getLogger();
+
+  public static final String TRACK_ALLOCATIONS_PROPERTY =
+      DistributionConfig.GEMFIRE_PREFIX + "BufferPool.trackAllocations";
+
+  private static final boolean TRACK_ALLOCATIONS = Boolean.getBoolean(TRACK_ALLOCATIONS_PROPERTY);
+
+  /** the capacity of the buffers of the smallest size class */
+  static final int MIN_BUFFER_SIZE = 1024;
+
+  /** the largest buffer which is pooled */
+  public static final int MAX_POOLED_BUFFER_SIZE = Integer
+      .getInteger(DistributionConfig.GEMFIRE_PREFIX + "BufferPool.maxPooledBufferSize", 16 << 20)
+      .intValue();
+
+  /** the direct memory, in bytes, the pool may own */
+  public static final long MAX_POOL_BYTES = Long
+      .getLong(DistributionConfig.GEMFIRE_PREFIX + "BufferPool.maxBytes", 256L << 20).longValue();
+
+  private static final BufferPool instance =
+      new BufferPool(MAX_POOLED_BUFFER_SIZE, MAX_POOL_BYTES);
+
+  public static BufferPool getInstance() {
+    return instance;
+  }
+
+  /** the free buffers of each size class */
+  private final ConcurrentLinkedQueue<ByteBuffer>[] freeBuffers;
+
+  private final long maxBytes;
+
+  /** the direct memory owned by the pool, in use or free */
+  private final AtomicLong allocatedBytes = new AtomicLong();
+
+  private final AtomicLong freeBytes = new AtomicLong();
+
+  private final AtomicLong allocations = new AtomicLong();
+
+  private final AtomicLong exhaustions = new AtomicLong();
+
+  private final AtomicLong leaks = new AtomicLong();
+
+  /** the buffers in use, each mapped to itself */
+  private final ConcurrentHashMap<BufferReference, BufferReference> buffersInUse =
+      new ConcurrentHashMap<>();
+
+  private final ReferenceQueue<ByteBuffer> leakedBuffers = new ReferenceQueue<>();
+
+  /**
+   * @param maxPooledBufferSize the largest buffer which is pooled, rounded up to a power of two
+   * @param maxBytes the direct memory, in bytes, the pool may own
+   */
+  @SuppressWarnings("unchecked")
+  BufferPool(int maxPooledBufferSize, long maxBytes) {
+    int sizeClasses = 1;
+    while ((MIN_BUFFER_SIZE << (sizeClasses - 1)) < maxPooledBufferSize) {
+      sizeClasses++;
+    }
+    this.freeBuffers = new ConcurrentLinkedQueue[sizeClasses];
+    for (int i = 0; i < sizeClasses; i++) {
+      this.freeBuffers[i] = new ConcurrentLinkedQueue<ByteBuffer>();
+    }
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Returns a buffer whose limit is the given size and whose position is zero. Its capacity may be
+   * larger. A buffer larger than the largest pooled buffer is a new direct buffer that is not
+   * pooled. Otherwise the buffer is a pooled direct buffer, or a heap buffer if the pool is
+   * exhausted. It should be given back with {@link #release}.
+   */
+  public ByteBuffer acquire(int size) {
+    expungeLeakedBuffers();
+    int sizeClass = getSizeClass(size);
+    if (sizeClass < 0) {
+      return ByteBuffer.allocateDirect(size);
+    }
+    int capacity = MIN_BUFFER_SIZE << sizeClass;
+    ByteBuffer bb = this.freeBuffers[sizeClass].poll();
+    if (bb != null) {
+      this.freeBytes.addAndGet(-capacity);
+    } else if (reserve(capacity)) {
+      bb = ByteBuffer.allocateDirect(capacity);
+      this.allocations.incrementAndGet();
+    } else {
+      this.exhaustions.incrementAndGet();
+      return ByteBuffer.allocate(size);
+    }
+    bb.clear();
+    bb.limit(size);
+    BufferReference ref = new BufferReference(bb, this.leakedBuffers);
+    this.buffersInUse.put(ref, ref);
+    return bb;
+  }
+
+  /**
+   * Gives back a buffer acquired from this pool. Buffers which were not acquired from this pool,
+   * or were already released, are ignored.
+   */
+  public void release(ByteBuffer bb) {
+    if (bb == null || !bb.isDirect()) {
+      return;
+    }
+    BufferReference ref = this.buffersInUse.remove(new BufferReference(bb, null));
+    if (ref != null) {
+      // a released buffer is not a leak
+      ref.clear();
+      bb.clear();
+      this.freeBuffers[getSizeClass(bb.capacity())].offer(bb);
+      this.freeBytes.addAndGet(bb.capacity());
+    }
+    expungeLeakedBuffers();
+  }
+
+  /**
+   * Drops the free buffers of the pool.
+   */
+  public void clear() {
+    for (ConcurrentLinkedQueue<ByteBuffer> queue : this.freeBuffers) {
+      ByteBuffer bb;
+      while ((bb = queue.poll()) != null) {
+        this.freeBytes.addAndGet(-bb.capacity());
+        this.allocatedBytes.addAndGet(-bb.capacity());
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the smallest size class holding the given size, -1 if the size is larger
+   * than the largest class.
+   */
+  private int getSizeClass(int size) {
+    for (int i = 0; i < this.freeBuffers.length; i++) {
+      if ((MIN_BUFFER_SIZE << i) >= size) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Reserves the given number of bytes of the direct memory the pool may own, dropping free
+   * buffers if needed.
+   */
+  private boolean reserve(int capacity) {
+    if (tryReserve(capacity)) {
+      return true;
+    }
+    long dropped = 0;
+    for (int i = this.freeBuffers.length - 1; i >= 0 && dropped < capacity; i--) {
+      ByteBuffer bb;
+      while (dropped < capacity && (bb = this.freeBuffers[i].poll()) != null) {
+        dropped += bb.capacity();
+        this.freeBytes.addAndGet(-bb.capacity());
+        this.allocatedBytes.addAndGet(-bb.capacity());
+      }
+    }
+    return tryReserve(capacity);
+  }
+
+  private boolean tryReserve(int capacity) {
+    while (true) {
+      long allocated = this.allocatedBytes.get();
+      if (allocated + capacity > this.maxBytes) {
+        return false;
+      }
+      if (this.allocatedBytes.compareAndSet(allocated, allocated + capacity)) {
+        return true;
+      }
+    }
+  }
+
+  private void expungeLeakedBuffers() {
+    BufferReference ref;
+    while ((ref = (BufferReference) this.leakedBuffers.poll()) != null) {
+      if (this.buffersInUse.remove(ref) != null) {
+        this.allocatedBytes.addAndGet(-ref.capacity);
+        this.leaks.incrementAndGet();
+        if (ref.acquiredAt != null) {
+          logger.warn("A buffer of {} bytes was garbage collected without being released",
+              ref.capacity, ref.acquiredAt);
+        } else {
+          logger.warn(
+              "A buffer of {} bytes was garbage collected without being released. Set {} to log where it was acquired.",
+              ref.capacity, TRACK_ALLOCATIONS_PROPERTY);
+        }
+      }
+    }
+  }
+
+  /** Returns the direct memory, in bytes, owned by the pool */
+  public long getAllocatedBytes() {
+    return this.allocatedBytes.get();
+  }
+
+  /** Returns the direct memory, in bytes, of the free buffers of the pool */
+  public long getFreeBytes() {
+    return this.freeBytes.get();
+  }
+
+  /** Returns the number of buffers acquired from the pool and not yet released */
+  public int getBuffersInUse() {
+    return this.buffersInUse.size();
+  }
+
+  /** Returns the number of direct buffers the pool has allocated */
+  public long getAllocations() {
+    return this.allocations.get();
+  }
+
+  /** Returns the number of heap buffers returned because the pool was exhausted */
+  public long getExhaustions() {
+    return this.exhaustions.get();
+  }
+
+  /** Returns the number of buffers garbage collected without being released */
+  public long getLeaks() {
+    return this.leaks.get();
+  }
+
+  /**
+   * A weak reference to a buffer in use. References to the same buffer are equal, so a reference
+   * created on release finds the one created on acquire.
+   */
+  private static class BufferReference extends WeakReference<ByteBuffer> {
+    private final int hash;
+
+    private final int capacity;
+
+    private final Throwable acquiredAt;
+
+    BufferReference(ByteBuffer bb, ReferenceQueue<ByteBuffer> queue) {
+      super(bb, queue);
+      this.hash = System.identityHashCode(bb);
+      this.capacity = bb.capacity();
+      this.acquiredAt =
+          queue != null && TRACK_ALLOCATIONS ? new Throwable("Buffer acquired here") : null;
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hash;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof BufferReference)) {
+        return false;
+      }
+      ByteBuffer bb = get();
+      return bb != null && bb == ((BufferReference) other).get();
+    }
+  }
+}
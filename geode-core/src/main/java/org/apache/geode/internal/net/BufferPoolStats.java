@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.net;
+
+import org.apache.geode.StatisticDescriptor;
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.StatisticsTypeFactory;
+import org.apache.geode.internal.statistics.StatisticsTypeFactoryImpl;
+
+/**
+ * Statistics on the occupancy of a {@link BufferPool}, sampled from the pool.
+ *
+ * @since Geode 1.2
+ */
+public class BufferPoolStats {
+
+  private static final StatisticsType type;
+
+  private static final int allocatedBytesId;
+  private static final int freeBytesId;
+  private static final int buffersInUseId;
+  private static final int allocationsId;
+  private static final int exhaustionsId;
+  private static final int leaksId;
+
+  static {
+    StatisticsTypeFactory f = StatisticsTypeFactoryImpl.singleton();
+    type = f.createType("BufferPoolStats",
+        "Statistics on the pool of direct buffers used by the peer and client/server connections.",
+        new StatisticDescriptor[] {
+            f.createLongGauge("allocatedBytes",
+                "The direct memory owned by the pool, in buffers in use or free.", "bytes"),
+            f.createLongGauge("freeBytes", "The direct memory of the free buffers of the pool.",
+                "bytes"),
+            f.createIntGauge("buffersInUse",
+                "The number of buffers acquired from the pool and not yet released.", "buffers"),
+            f.createLongCounter("allocations", "The number of direct buffers allocated by the pool.",
+                "buffers"),
+            f.createLongCounter("exhaustions",
+                "The number of heap buffers used because the pool had reached its maximum size.",
+                "buffers"),
+            f.createLongCounter("leaks",
+                "The number of buffers garbage collected without being released to the pool.",
+                "buffers")});
+    allocatedBytesId = type.nameToId("allocatedBytes");
+    freeBytesId = type.nameToId("freeBytes");
+    buffersInUseId = type.nameToId("buffersInUse");
+    allocationsId = type.nameToId("allocations");
+    exhaustionsId = type.nameToId("exhaustions");
+    leaksId = type.nameToId("leaks");
+  }
+
+  private final Statistics stats;
+
+  public BufferPoolStats(StatisticsFactory f, final BufferPool pool) {
+    this.stats = f.createAtomicStatistics(type, "bufferPool");
+    this.stats.setLongSupplier(allocatedBytesId, pool::getAllocatedBytes);
+    this.stats.setLongSupplier(freeBytesId, pool::getFreeBytes);
+    this.stats.setIntSupplier(buffersInUseId, pool::getBuffersInUse);
+    this.stats.setLongSupplier(allocationsId, pool::getAllocations);
+    this.stats.setLongSupplier(exhaustionsId, pool::getExhaustions);
+    this.stats.setLongSupplier(leaksId, pool::getLeaks);
+  }
+
+  public void close() {
+    this.stats.close();
+  }
+}
@@ -14,23 +14,17 @@
  */
 package org.apache.geode.internal.tcp;
 
-import java.lang.ref.SoftReference;
 import java.nio.ByteBuffer;
-import java.util.IdentityHashMap;
-import java.util.Iterator;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.apache.geode.distributed.internal.DMStats;
-import org.apache.geode.internal.Assert;
+import org.apache.geode.internal.net.BufferPool;
 
 /**
- *
+ * Acquires the buffers of the peer-to-peer connections from the shared {@link BufferPool} when
+ * direct buffers are used, and keeps the sender and receiver buffer statistics of the distribution
+ * manager up to date with the buffers in use.
  */
 public class Buffers {
-  /**
-   * A list of soft references to byte buffers.
-   */
-  private static final ConcurrentLinkedQueue bufferQueue = new ConcurrentLinkedQueue();
 
   /**
    * Should only be called by threads that have currently acquired send permission.
@@ -48,49 +42,15 @@ public class Buffers {
   static ByteBuffer acquireBuffer(int size, DMStats stats, boolean send) {
     ByteBuffer result;
     if (TCPConduit.useDirectBuffers) {
-      IdentityHashMap<BBSoftReference, BBSoftReference> alreadySeen = null; // keys are used like a
-                                                                            // set
-      BBSoftReference ref = (BBSoftReference) bufferQueue.poll();
-      while (ref != null) {
-        ByteBuffer bb = ref.getBB();
-        if (bb == null) {
-          // it was garbage collected
-          int refSize = ref.consumeSize();
-          if (refSize > 0) {
-            if (ref.getSend()) { // fix bug 46773
-              stats.incSenderBufferSize(-refSize, true);
-            } else {
-              stats.incReceiverBufferSize(-refSize, true);
-            }
-          }
-        } else if (bb.capacity() >= size) {
-          bb.rewind();
-          bb.limit(size);
-          return bb;
-        } else {
-          // wasn't big enough so put it back in the queue
-          Assert.assertTrue(bufferQueue.offer(ref));
-          if (alreadySeen == null) {
-            alreadySeen = new IdentityHashMap<BBSoftReference, BBSoftReference>();
-          }
-          if (alreadySeen.put(ref, ref) != null) {
-            // if it returns non-null then we have already seen this item
-            // so we have worked all the way through the queue once.
-            // So it is time to give up and allocate a new buffer.
-            break;
-          }
-        }
-        ref = (BBSoftReference) bufferQueue.poll();
-      }
-      result = ByteBuffer.allocateDirect(size);
+      result = BufferPool.getInstance().acquire(size);
     } else {
       // if we are using heap buffers then don't bother with keeping them around
       result = ByteBuffer.allocate(size);
     }
     if (send) {
-      stats.incSenderBufferSize(size, TCPConduit.useDirectBuffers);
+      stats.incSenderBufferSize(result.capacity(), result.isDirect());
     } else {
-      stats.incReceiverBufferSize(size, TCPConduit.useDirectBuffers);
+      stats.incReceiverBufferSize(result.capacity(), result.isDirect());
     }
     return result;
   }
@@ -107,67 +67,13 @@ public class Buffers {
    * Releases a previously acquired buffer.
    */
   static void releaseBuffer(ByteBuffer bb, DMStats stats, boolean send) {
-    if (TCPConduit.useDirectBuffers) {
-      BBSoftReference bbRef = new BBSoftReference(bb, send);
-      bufferQueue.offer(bbRef);
+    if (send) {
+      stats.incSenderBufferSize(-bb.capacity(), bb.isDirect());
     } else {
-      if (send) {
-        stats.incSenderBufferSize(-bb.capacity(), false);
-      } else {
-        stats.incReceiverBufferSize(-bb.capacity(), false);
-      }
+      stats.incReceiverBufferSize(-bb.capacity(), bb.isDirect());
     }
-  }
-
-  public static void initBufferStats(DMStats stats) { // fixes 46773
     if (TCPConduit.useDirectBuffers) {
-      @SuppressWarnings("unchecked")
-      Iterator<BBSoftReference> it = (Iterator<BBSoftReference>) bufferQueue.iterator();
-      while (it.hasNext()) {
-        BBSoftReference ref = it.next();
-        if (ref.getBB() != null) {
-          if (ref.getSend()) { // fix bug 46773
-            stats.incSenderBufferSize(ref.getSize(), true);
-          } else {
-            stats.incReceiverBufferSize(ref.getSize(), true);
-          }
-        }
-      }
-    }
-  }
-
-  /**
-   * A soft reference that remembers the size of the byte buffer it refers to. TODO Dan - I really
-   * think this should be a weak reference. The JVM doesn't seem to clear soft references if it is
-   * getting low on direct memory.
-   */
-  private static class BBSoftReference extends SoftReference<ByteBuffer> {
-    private int size;
-    private final boolean send;
-
-    public BBSoftReference(ByteBuffer bb, boolean send) {
-      super(bb);
-      this.size = bb.capacity();
-      this.send = send;
-    }
-
-    public int getSize() {
-      return this.size;
-    }
-
-    public synchronized int consumeSize() {
-      int result = this.size;
-      this.size = 0;
-      return result;
-    }
-
-    public boolean getSend() {
-      return this.send;
-    }
-
-    public ByteBuffer getBB() {
-      return (ByteBuffer) super.get();
+      BufferPool.getInstance().release(bb);
     }
   }
-
 }
@@ -2564,6 +2564,56 @@ public class Connection implements Runnable {
     }
   }
 
+  /**
+   * Sends the bytes remaining in the given buffers as one contiguous part of the stream. When the
+   * connection writes synchronously with NIO the buffers are written with a gathering write, so a
+   * large value in a direct buffer is sent without being copied into a message buffer. Otherwise
+   * they are copied into a single buffer which is sent like any other preserialized message.
+   * 
+   * @throws ConnectionException if the conduit has stopped
+   */
+  public void sendPreserialized(ByteBuffer[] buffers, boolean cacheContentChanges)
+      throws IOException, ConnectionException {
+    if (!connected) {
+      throw new ConnectionException(
+          LocalizedStrings.Connection_NOT_CONNECTED_TO_0.toLocalizedString(this.remoteAddr));
+    }
+    if (this.batchFlusher == null && useNIO() && useSyncWrites(false)
+        && !this.asyncQueuingInProgress) {
+      final boolean origSocketInUse = this.socketInUse;
+      byte originalState = -1;
+      synchronized (stateLock) {
+        originalState = this.connectionState;
+        this.connectionState = STATE_SENDING;
+      }
+      this.socketInUse = true;
+      try {
+        if (nioWriteFully(getSocket().getChannel(), buffers)) {
+          if (cacheContentChanges) {
+            messagesSent++;
+          }
+          return;
+        }
+      } finally {
+        accessed();
+        this.socketInUse = origSocketInUse;
+        synchronized (stateLock) {
+          this.connectionState = originalState;
+        }
+      }
+    }
+    int size = 0;
+    for (ByteBuffer bb : buffers) {
+      size += bb.remaining();
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(size);
+    for (ByteBuffer bb : buffers) {
+      buffer.put(bb);
+    }
+    buffer.flip();
+    sendPreserialized(buffer, cacheContentChanges, null);
+  }
+
   /**
    * If <code>use</code> is true then "claim" the connection for our use. If <code>use</code> is
    * false then "release" the connection. Fixes bug 37657.
@@ -3322,6 +3372,40 @@ public class Connection implements Runnable {
     }
   }
 
+  /**
+   * Writes the given buffers with gathering writes on a channel that is in non-blocking mode.
+   * 
+   * @return false, without writing anything, if messages are being queued for async writing
+   */
+  private boolean nioWriteFully(SocketChannel channel, ByteBuffer[] buffers) throws IOException {
+    final DMStats stats = this.owner.getConduit().stats;
+    long remaining = 0;
+    for (ByteBuffer bb : buffers) {
+      remaining += bb.remaining();
+    }
+    long startLock = stats.startSocketLock();
+    synchronized (this.outLock) {
+      stats.endSocketLock(startLock);
+      if (this.asyncQueuingInProgress) {
+        return false;
+      }
+      if (!this.sharedResource) {
+        stats.incTOSentMsg();
+      }
+      do {
+        long amtWritten = 0;
+        long start = stats.startSocketWrite(true);
+        try {
+          amtWritten = channel.write(buffers);
+        } finally {
+          stats.endSocketWrite(true, start, (int) amtWritten, 0);
+        }
+        remaining -= amtWritten;
+      } while (remaining > 0);
+    } // synchronized
+    return true;
+  }
+
   /** gets the buffer for receiving message length bytes */
   protected ByteBuffer getNIOBuffer() {
     final DMStats stats = this.owner.getConduit().stats;
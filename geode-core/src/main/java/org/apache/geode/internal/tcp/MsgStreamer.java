@@ -85,6 +85,14 @@ public class MsgStreamer extends OutputStream
   private long serStartTime;
   private final boolean directReply;
 
+  /**
+   * Direct ByteBuffers at least this large, such as off-heap values, are not copied into the chunk
+   * buffer but sent as the end of a chunk with a gathering write. Chunks keep the size of the chunk
+   * buffer so the receivers do not need larger buffers. Zero disables this.
+   */
+  private static final int ZERO_COPY_THRESHOLD =
+      Integer.getInteger("p2p.zeroCopyThreshold", 16 * 1024).intValue();
+
   /**
    * Called to free up resources used by this streamer after the streamer has produced its message.
    */
@@ -297,9 +305,18 @@ public class MsgStreamer extends OutputStream
       }
       return;
     }
+    flushChunk(lastFlushForMessage, null);
+  }
+
+  /**
+   * Sends the chunk buffer to the connections. If extra is not null its remaining bytes are sent
+   * as the end of the chunk, straight from extra rather than copied into the chunk buffer. Such a
+   * chunk never ends the message.
+   */
+  private void flushChunk(boolean lastFlushForMessage, ByteBuffer extra) {
     this.buffer.flip();
-    setMessageHeader();
-    final int serializedBytes = this.buffer.limit();
+    setMessageHeader(extra == null ? 0 : extra.remaining());
+    final int serializedBytes = this.buffer.limit() + (extra == null ? 0 : extra.remaining());
     this.flushedBytes += serializedBytes;
     DistributionMessage conflationMsg = null;
     if (this.normalMsg) {
@@ -310,8 +327,12 @@ public class MsgStreamer extends OutputStream
     for (Iterator it = this.cons.iterator(); it.hasNext();) {
       Connection con = (Connection) it.next();
       try {
-        con.sendPreserialized(this.buffer,
-            lastFlushForMessage && this.msg.containsRegionContentChange(), conflationMsg);
+        if (extra == null) {
+          con.sendPreserialized(this.buffer,
+              lastFlushForMessage && this.msg.containsRegionContentChange(), conflationMsg);
+        } else {
+          con.sendPreserialized(new ByteBuffer[] {this.buffer, extra.duplicate()}, false);
+        }
       } catch (IOException ex) {
         it.remove();
         if (this.ce == null)
@@ -391,6 +412,21 @@ public class MsgStreamer extends OutputStream
       this.overflowBuf.write(bb);
       return;
     }
+    if (ZERO_COPY_THRESHOLD > 0 && bb.isDirect() && !isOverflowMode()
+        && this.buffer.capacity() - Connection.MSG_HEADER_BYTES >= ZERO_COPY_THRESHOLD) {
+      while (bb.remaining() >= ZERO_COPY_THRESHOLD) {
+        // the bytes of bb fill the rest of the current chunk, after the bytes in the buffer
+        int chunkSize = Math.min(bb.remaining(), this.buffer.capacity() - this.buffer.position());
+        if (chunkSize < ZERO_COPY_THRESHOLD) {
+          realFlush(false);
+          continue;
+        }
+        ByteBuffer part = bb.duplicate();
+        part.limit(part.position() + chunkSize);
+        flushChunk(false, part);
+        bb.position(bb.position() + chunkSize);
+      }
+    }
     int len = bb.remaining();
     while (len > 0) {
       int remainingSpace = this.buffer.capacity() - this.buffer.position();
@@ -417,7 +453,7 @@ public class MsgStreamer extends OutputStream
   /**
    * write the header after the message has been written to the stream
    */
-  private final void setMessageHeader() {
+  private final void setMessageHeader(int extraBytes) {
     Assert.assertTrue(this.overflowBuf == null);
     Assert.assertTrue(!isOverflowMode());
     // int processorType = this.msg.getProcessorType();
@@ -441,7 +477,7 @@ public class MsgStreamer extends OutputStream
     }
 
     this.buffer.putInt(Connection.MSG_HEADER_SIZE_OFFSET,
-        Connection.calcHdrSize(this.buffer.limit() - Connection.MSG_HEADER_BYTES));
+        Connection.calcHdrSize(this.buffer.limit() - Connection.MSG_HEADER_BYTES + extraBytes));
     this.buffer.put(Connection.MSG_HEADER_TYPE_OFFSET, (byte) (msgType & 0xff));
     this.buffer.putShort(Connection.MSG_HEADER_ID_OFFSET, this.msgId);
     this.buffer.position(0);
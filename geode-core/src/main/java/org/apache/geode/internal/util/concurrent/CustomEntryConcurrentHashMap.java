@@ -219,7 +219,14 @@ public class CustomEntryConcurrentHashMap<K, V> extends AbstractMap<K, V>
    * bits.
    */
   public static final int keyHash(final Object o, final boolean compareValues) {
-    int h = compareValues ? o.hashCode() : System.identityHashCode(o);
+    return spreadHash(compareValues ? o.hashCode() : System.identityHashCode(o));
+  }
+
+  /**
+   * Applies the supplemental hash function used by {@link #keyHash} to an already computed
+   * hashCode. Entries with primitive keys use this to derive their hash without boxing the key.
+   */
+  public static final int spreadHash(int h) {
     // Spread bits to regularize both segment and index locations,
     // using variant of single-word Wang/Jenkins hash.
     h += (h << 15) ^ 0xffffcd7d;
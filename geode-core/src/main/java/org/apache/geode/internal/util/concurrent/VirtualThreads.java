@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.util.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.internal.logging.LogService;
+
+/**
+ * Gives access to the virtual threads of newer JDKs while Geode is still compiled for Java 8. All
+ * access is reflective; on a JDK without virtual threads (or with them only as a preview feature
+ * that has not been enabled) {@link #createFactory()} returns null and callers are expected to
+ * keep using platform threads.
+ */
+public class VirtualThreads {
+  private static final Logger logger = LogService.getLogger();
+
+  private static final Method OF_VIRTUAL = findOfVirtual();
+
+  private static Method findOfVirtual() {
+    try {
+      return Thread.class.getMethod("ofVirtual");
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  private VirtualThreads() {
+    // no instances
+  }
+
+  /**
+   * Returns a factory that creates unstarted virtual threads, or null if this JVM can not create
+   * them.
+   */
+  public static ThreadFactory createFactory() {
+    if (OF_VIRTUAL == null) {
+      return null;
+    }
+    try {
+      Object builder = OF_VIRTUAL.invoke(null);
+      Method factory = OF_VIRTUAL.getReturnType().getMethod("factory");
+      return (ThreadFactory) factory.invoke(builder);
+    } catch (Exception e) {
+      // Most likely a JDK where virtual threads are a preview feature.
+      if (logger.isDebugEnabled()) {
+        logger.debug("Virtual threads are not available", e);
+      }
+      return null;
+    }
+  }
+}
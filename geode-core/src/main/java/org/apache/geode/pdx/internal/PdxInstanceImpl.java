@@ -624,6 +624,11 @@ public class PdxInstanceImpl extends PdxReaderImpl
     return super.readField(fieldName);
   }
 
+  @Override
+  public synchronized Object readField(PdxField ft) {
+    return super.readField(ft);
+  }
+
   @Override
   protected synchronized Object basicGetObject() {
     DMStats stats = InternalDataSerializer.getDMStats(null);
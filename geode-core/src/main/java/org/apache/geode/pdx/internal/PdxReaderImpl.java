@@ -626,6 +626,14 @@ public class PdxReaderImpl implements InternalPdxReader, java.io.Serializable {
     if (ft == null) {
       return null;
     }
+    return readField(ft);
+  }
+
+  /**
+   * Reads the value of a field that has already been looked up in this reader's
+   * {@link #getPdxType() type}.
+   */
+  public Object readField(PdxField ft) {
     switch (ft.getFieldType()) {
       case CHAR:
         return readChar(ft);
@@ -875,6 +883,15 @@ public class PdxReaderImpl implements InternalPdxReader, java.io.Serializable {
     if (ft == null) {
       return null;
     }
+    return readRawField(ft);
+  }
+
+  /**
+   * Like {@link #readRawField(String)} for a field that has already been looked up in this
+   * reader's {@link #getPdxType() type}. The value is read from the serialized bytes at the
+   * field's position without any lookup by name.
+   */
+  public Object readRawField(PdxField ft) {
     if (ft.getFieldType() == FieldType.STRING) {
       return readPdxString(ft);
     } else {
@@ -882,7 +899,7 @@ public class PdxReaderImpl implements InternalPdxReader, java.io.Serializable {
       if (pdxString != null)
         return pdxString;
     }
-    return readField(field);
+    return readField(ft);
   }
 
   /**
@@ -31,6 +31,7 @@ import org.apache.geode.pdx.PdxSerializer;
 import org.apache.geode.pdx.ReflectionBasedAutoSerializer;
 import org.apache.logging.log4j.Logger;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -225,6 +226,26 @@ public class TypeRegistry {
     }
   }
 
+  /**
+   * Adds the given types, fetched from the servers by a client, so that they are not fetched one at
+   * a time when the first instances of them are deserialized.
+   */
+  public synchronized void preloadTypes(Map<Integer, PdxType> types) {
+    Map<Integer, PdxType> newIdToType = new HashMap<Integer, PdxType>();
+    Map<PdxType, Integer> newTypeToId = new HashMap<PdxType, Integer>();
+    for (Map.Entry<Integer, PdxType> entry : types.entrySet()) {
+      if (!this.idToType.containsKey(entry.getKey())) {
+        newIdToType.put(entry.getKey(), entry.getValue());
+        newTypeToId.put(entry.getValue(), entry.getKey());
+      }
+    }
+    this.idToType.putAll(newIdToType);
+    this.typeToId.putAll(newTypeToId);
+    if (logger.isDebugEnabled()) {
+      logger.debug("Preloaded {} pdx types", newIdToType.size());
+    }
+  }
+
   /**
    * Create a type id for a type that was generated locally.
    */
@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheLoader;
+import org.apache.geode.cache.LoaderHelper;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientCacheFactory;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.apache.geode.cache.server.CacheServer;
+import org.apache.geode.internal.AvailablePortHelper;
+import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.test.dunit.Host;
+import org.apache.geode.test.dunit.IgnoredException;
+import org.apache.geode.test.dunit.VM;
+import org.apache.geode.test.dunit.cache.internal.JUnit4CacheTestCase;
+import org.apache.geode.test.junit.categories.ClientServerTest;
+import org.apache.geode.test.junit.categories.DistributedTest;
+
+/**
+ * Tests {@link AsyncRegion} with a client in the controller VM and two servers.
+ */
+@Category({DistributedTest.class, ClientServerTest.class})
+public class AsyncRegionDUnitTest extends JUnit4CacheTestCase {
+
+  private static final String REGION_NAME = "region";
+
+  private static final String READER_NAME_PREFIX = "PipelinedResponseReader for ";
+
+  /** The number of loads of slow keys started by the server in this VM */
+  private static final AtomicInteger slowLoadsStarted = new AtomicInteger();
+
+  private VM server1;
+
+  private VM server2;
+
+  private int[] ports;
+
+  @Override
+  public final void postSetUp() throws Exception {
+    Host host = Host.getHost(0);
+    this.server1 = host.getVM(0);
+    this.server2 = host.getVM(1);
+    this.ports = AvailablePortHelper.getRandomAvailableTCPPorts(2);
+    final int port1 = this.ports[0];
+    final int port2 = this.ports[1];
+    this.server1.invoke(() -> createServer(port1));
+    this.server2.invoke(() -> createServer(port2));
+    this.server1.invoke(() -> {
+      Region<String, String> region = getCache().getRegion(REGION_NAME);
+      for (int i = 0; i < 100; i++) {
+        region.put("key" + i, "value" + i);
+      }
+    });
+  }
+
+  @Override
+  public final void preTearDownCacheTestCase() throws Exception {
+    this.server1.invoke(() -> slowLoadsStarted.set(0));
+    this.server2.invoke(() -> slowLoadsStarted.set(0));
+  }
+
+  @Test
+  public void testGetAndPutAsync() throws Exception {
+    AsyncRegion<String, String> region = createAsyncRegion();
+
+    assertEquals("value1", region.getAsync("key1").get(1, TimeUnit.MINUTES));
+    assertNull(region.getAsync("missing").get(1, TimeUnit.MINUTES));
+    assertNull(region.putAsync("newKey", "newValue").get(1, TimeUnit.MINUTES));
+    assertEquals("newValue", region.getAsync("newKey").get(1, TimeUnit.MINUTES));
+
+    this.server2.invoke(() -> assertEquals("newValue",
+        getCache().<String, String>getRegion(REGION_NAME).get("newKey")));
+  }
+
+  @Test
+  public void testGetAllAsync() throws Exception {
+    AsyncRegion<String, String> region = createAsyncRegion();
+
+    Map<String, String> values =
+        region.getAllAsync(Arrays.asList("key1", "key2", "missing")).get(1, TimeUnit.MINUTES);
+    assertEquals(3, values.size());
+    assertEquals("value1", values.get("key1"));
+    assertEquals("value2", values.get("key2"));
+    assertTrue(values.containsKey("missing"));
+    assertNull(values.get("missing"));
+  }
+
+  @Test
+  public void testRegionMustBeAnEmptyClientRegion() throws Exception {
+    ClientCache cache = createClientCache();
+    Region<String, String> caching = cache.<String, String>createClientRegionFactory(
+        ClientRegionShortcut.CACHING_PROXY).create(REGION_NAME);
+    try {
+      new AsyncRegion<String, String>(caching);
+      fail("expected a region with a data policy other than EMPTY to be rejected");
+    } catch (IllegalArgumentException expected) {
+      assertTrue(expected.getMessage().contains("EMPTY"));
+    }
+
+    Region<String, String> local =
+        cache.<String, String>createClientRegionFactory(ClientRegionShortcut.LOCAL).create("local");
+    try {
+      new AsyncRegion<String, String>(local);
+      fail("expected a region without a pool to be rejected");
+    } catch (IllegalArgumentException expected) {
+      assertTrue(expected.getMessage().contains("pool"));
+    }
+  }
+
+  @Test
+  public void testOpsThatCanNotBePipelinedReturnCompletedFutures() throws Exception {
+    AsyncRegion<String, String> region = createAsyncRegion();
+    PoolImpl pool = (PoolImpl) ((LocalRegion) region.getRegion()).getServerProxy().getPool();
+
+    // server affinity keeps the ops on the calling thread
+    pool.setupServerAffinity(false);
+    try {
+      CompletableFuture<String> value = region.getAsync("key1");
+      assertTrue(value.isDone());
+      assertEquals("value1", value.get());
+      CompletableFuture<Void> put = region.putAsync("key1", "newValue");
+      assertTrue(put.isDone());
+      assertEquals("newValue", region.getAsync("key1").get());
+    } finally {
+      pool.releaseServerAffinity();
+    }
+  }
+
+  @Test
+  public void testManyOpsInFlight() throws Exception {
+    AsyncRegion<String, String> region = createAsyncRegion();
+
+    List<CompletableFuture<String>> values = new ArrayList<CompletableFuture<String>>();
+    for (int round = 0; round < 10; round++) {
+      for (int i = 0; i < 100; i++) {
+        values.add(region.getAsync("key" + i));
+      }
+    }
+    for (int i = 0; i < values.size(); i++) {
+      assertEquals("value" + (i % 100), values.get(i).get(1, TimeUnit.MINUTES));
+    }
+  }
+
+  @Test
+  public void testCallbacksDoNotRunOnTheReaderThread() throws Exception {
+    AsyncRegion<String, String> region = createAsyncRegion();
+
+    List<CompletableFuture<String>> threadNames = new ArrayList<CompletableFuture<String>>();
+    // the slow load makes sure the callbacks are added before the responses are read
+    threadNames.add(region.getAsync("slow").thenApply(value -> Thread.currentThread().getName()));
+    for (int i = 0; i < 10; i++) {
+      threadNames
+          .add(region.getAsync("key" + i).thenApply(value -> Thread.currentThread().getName()));
+    }
+    for (CompletableFuture<String> threadName : threadNames) {
+      assertFalse(threadName.get(1, TimeUnit.MINUTES).startsWith(READER_NAME_PREFIX));
+    }
+  }
+
+  @Test
+  public void testOpsInFlightAreRetriedWhenTheirServerFails() throws Exception {
+    IgnoredException.addIgnoredException("java.io.IOException");
+    IgnoredException.addIgnoredException("SocketException");
+    AsyncRegion<String, String> region = createAsyncRegion();
+
+    CompletableFuture<String> slowValue = region.getAsync("slow");
+    List<CompletableFuture<String>> values = new ArrayList<CompletableFuture<String>>();
+    for (int i = 0; i < 20; i++) {
+      values.add(region.getAsync("key" + i));
+    }
+
+    // crash the server the pipelined connection is on while it is loading the slow key
+    Awaitility.await().atMost(1, TimeUnit.MINUTES)
+        .until(() -> getSlowLoadsStarted(this.server1) + getSlowLoadsStarted(this.server2) > 0);
+    VM failed = getSlowLoadsStarted(this.server1) > 0 ? this.server1 : this.server2;
+    VM other = failed == this.server1 ? this.server2 : this.server1;
+    failed.invoke(() -> getCache().close());
+
+    assertEquals("slow loaded", slowValue.get(1, TimeUnit.MINUTES));
+    for (int i = 0; i < 20; i++) {
+      assertEquals("value" + i, values.get(i).get(1, TimeUnit.MINUTES));
+    }
+    assertTrue(getSlowLoadsStarted(other) > 0);
+  }
+
+  private int getSlowLoadsStarted(VM vm) {
+    return vm.invoke(() -> slowLoadsStarted.get());
+  }
+
+  private AsyncRegion<String, String> createAsyncRegion() {
+    Region<String, String> region = createClientCache()
+        .<String, String>createClientRegionFactory(ClientRegionShortcut.PROXY).create(REGION_NAME);
+    return new AsyncRegion<String, String>(region);
+  }
+
+  private ClientCache createClientCache() {
+    disconnectFromDS();
+    ClientCacheFactory factory = new ClientCacheFactory();
+    for (int port : this.ports) {
+      factory.addPoolServer("localhost", port);
+    }
+    factory.setPoolReadTimeout(60000);
+    return getClientCache(factory);
+  }
+
+  private void createServer(int port) throws Exception {
+    Cache cache = getCache();
+    cache.<String, String>createRegionFactory(RegionShortcut.REPLICATE)
+        .setCacheLoader(new SlowLoader()).create(REGION_NAME);
+    CacheServer server = cache.addCacheServer();
+    server.setPort(port);
+    server.start();
+  }
+
+  /**
+   * Takes five seconds to load a slow key, and does not load any other key
+   */
+  private static class SlowLoader implements CacheLoader<String, String> {
+
+    @Override
+    public String load(LoaderHelper<String, String> helper) {
+      if (!helper.getKey().startsWith("slow")) {
+        return null;
+      }
+      slowLoadsStarted.incrementAndGet();
+      try {
+        Thread.sleep(5000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return helper.getKey() + " loaded";
+    }
+
+    @Override
+    public void close() {}
+  }
+}
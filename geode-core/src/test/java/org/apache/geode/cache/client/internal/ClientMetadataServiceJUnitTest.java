@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.distributed.internal.ServerLocation;
+import org.apache.geode.internal.cache.BucketServerLocation66;
+import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.cache.PartitionedRegionHelper;
+import org.apache.geode.internal.cache.PoolStats;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class ClientMetadataServiceJUnitTest {
+
+  private static final int TOTAL_BUCKETS = 4;
+
+  private static final String[] NO_GROUPS = new String[0];
+
+  private final ServerLocation server1 = new ServerLocation("localhost", 1);
+
+  private final ServerLocation server2 = new ServerLocation("localhost", 2);
+
+  private ClientMetadataService cms;
+
+  private LocalRegion region;
+
+  private ClientPartitionAdvisor advisor;
+
+  private List<Integer> keys;
+
+  @Before
+  public void setUp() {
+    this.cms = new ClientMetadataService(mock(Cache.class));
+    this.region = mock(LocalRegion.class);
+    when(this.region.getFullPath()).thenReturn("/region");
+    this.advisor = new ClientPartitionAdvisor(TOTAL_BUCKETS, null, null, null);
+    this.keys = new ArrayList<Integer>();
+    for (int i = 0; i < 40; i++) {
+      this.keys.add(i);
+    }
+  }
+
+  @Test
+  public void testKeysAreGroupedByPrimary() {
+    setBucket(0, 1, 2);
+    setBucket(1, 2, 1);
+    setBucket(2, 1, 2);
+    setBucket(3, 2, 1);
+    this.cms.addClientPartitionAdvisor("/region", this.advisor);
+
+    Set forwardedKeys = new HashSet();
+    Map<ServerLocation, HashSet> serverToKeys =
+        this.cms.getServerToPrimaryKeysMap(this.keys, this.region, forwardedKeys);
+
+    assertEquals(2, serverToKeys.size());
+    assertEquals(getKeys(0, 2), serverToKeys.get(this.server1));
+    assertEquals(getKeys(1, 3), serverToKeys.get(this.server2));
+    assertTrue(forwardedKeys.isEmpty());
+  }
+
+  @Test
+  public void testKeysOfBucketWithoutPrimaryAreForwarded() {
+    setBucket(0, 1, 2);
+    setBucket(1, 2, 1);
+    setBucket(2, 1, 2);
+    setBucket(3, 0, 1, 2);
+    this.cms.addClientPartitionAdvisor("/region", this.advisor);
+
+    Set forwardedKeys = new HashSet();
+    Map<ServerLocation, HashSet> serverToKeys =
+        this.cms.getServerToPrimaryKeysMap(this.keys, this.region, forwardedKeys);
+
+    assertEquals(getKeys(3), forwardedKeys);
+    Set allKeys = new HashSet();
+    for (HashSet serverKeys : serverToKeys.values()) {
+      allKeys.addAll(serverKeys);
+    }
+    assertEquals(new HashSet<Integer>(this.keys), allKeys);
+    assertTrue(serverToKeys.get(this.server1).containsAll(getKeys(0, 2)));
+    assertTrue(serverToKeys.get(this.server2).containsAll(getKeys(1)));
+  }
+
+  @Test
+  public void testNoMetadataReturnsNull() {
+    assertNull(this.cms.getServerToPrimaryKeysMap(this.keys, this.region, new HashSet()));
+  }
+
+  @Test
+  public void testKeysSentToTheirPrimaryAreCountedAsSingleHop() {
+    Map<ServerLocation, HashSet> serverToKeys = new HashMap<ServerLocation, HashSet>();
+    serverToKeys.put(this.server1, new HashSet(Arrays.asList("a", "b", "c")));
+    serverToKeys.put(this.server2, new HashSet(Arrays.asList("d", "e")));
+    PoolStats stats = mock(PoolStats.class);
+
+    ClientMetadataService.incBulkOpKeys(stats, serverToKeys,
+        Collections.<ServerLocation>emptySet(), new HashSet(Arrays.asList("c")));
+
+    verify(stats).incBulkOpKeys(4, 1);
+  }
+
+  @Test
+  public void testKeysOfFailedServersAreCountedAsForwarded() {
+    Map<ServerLocation, HashSet> serverToKeys = new HashMap<ServerLocation, HashSet>();
+    serverToKeys.put(this.server1, new HashSet(Arrays.asList("a", "b", "c")));
+    serverToKeys.put(this.server2, new HashSet(Arrays.asList("d", "e")));
+    PoolStats stats = mock(PoolStats.class);
+
+    ClientMetadataService.incBulkOpKeys(stats, serverToKeys,
+        Collections.singleton(this.server1), new HashSet());
+
+    verify(stats).incBulkOpKeys(2, 3);
+  }
+
+  /**
+   * Sets the servers hosting a bucket
+   *
+   * @param primaryPort the port of the server hosting the primary, 0 if it is not known
+   */
+  private void setBucket(int bucketId, int primaryPort, int... secondaryPorts) {
+    List<BucketServerLocation66> locations = new ArrayList<BucketServerLocation66>();
+    if (primaryPort != 0) {
+      locations.add(
+          new BucketServerLocation66(bucketId, primaryPort, "localhost", true, (byte) 1, NO_GROUPS));
+    }
+    for (int port : secondaryPorts) {
+      locations
+          .add(new BucketServerLocation66(bucketId, port, "localhost", false, (byte) 1, NO_GROUPS));
+    }
+    this.advisor.updateBucketServerLocations(bucketId, locations, this.cms);
+  }
+
+  /**
+   * Returns the keys of the given buckets
+   */
+  private Set<Integer> getKeys(int... bucketIds) {
+    Set<Integer> result = new HashSet<Integer>();
+    for (Integer key : this.keys) {
+      int bucketId = PartitionedRegionHelper.getHashKey(key, TOTAL_BUCKETS);
+      for (int id : bucketIds) {
+        if (bucketId == id) {
+          result.add(key);
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.AttributesFactory;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.apache.geode.internal.cache.GemFireCacheImpl;
+import org.apache.geode.test.junit.categories.ClientServerTest;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category({UnitTest.class, ClientServerTest.class})
+public class ClientRegionFactoryImplJUnitTest {
+
+  private GemFireCacheImpl createCache(ClientRegionShortcut shortcut, DataPolicy dataPolicy) {
+    AttributesFactory<Object, Object> af = new AttributesFactory<Object, Object>();
+    af.setDataPolicy(dataPolicy);
+    af.setPoolName("nearCachePool");
+    GemFireCacheImpl cache = mock(GemFireCacheImpl.class);
+    when(cache.getRegionAttributes(shortcut.toString())).thenReturn((RegionAttributes) af.create());
+    return cache;
+  }
+
+  @Test
+  public void testNearCacheRequiresNormalDataPolicy() throws Exception {
+    GemFireCacheImpl cache = createCache(ClientRegionShortcut.PROXY, DataPolicy.EMPTY);
+    ClientRegionFactoryImpl<Object, Object> factory =
+        new ClientRegionFactoryImpl<Object, Object>(cache, ClientRegionShortcut.PROXY);
+    factory.setNearCache(10, null);
+    try {
+      factory.create("region");
+      fail("expected IllegalStateException");
+    } catch (IllegalStateException expected) {
+      // a PROXY region keeps no values so it can not be a near cache
+    }
+    verify(cache, never()).basicCreateRegion(anyString(), any(RegionAttributes.class));
+  }
+
+  @Test
+  public void testNearCacheRequiresPoolWithSubscriptions() throws Exception {
+    GemFireCacheImpl cache = createCache(ClientRegionShortcut.CACHING_PROXY, DataPolicy.NORMAL);
+    ClientRegionFactoryImpl<Object, Object> factory =
+        new ClientRegionFactoryImpl<Object, Object>(cache, ClientRegionShortcut.CACHING_PROXY);
+    factory.setNearCache(10, null);
+    try {
+      factory.create("region");
+      fail("expected IllegalStateException");
+    } catch (IllegalStateException expected) {
+      // the pool does not exist so invalidates could never be received
+    }
+    verify(cache, never()).basicCreateRegion(anyString(), any(RegionAttributes.class));
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.test.junit.categories.ClientServerTest;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category({UnitTest.class, ClientServerTest.class})
+public class HedgedReadDelayJUnitTest {
+
+  private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+  @Test
+  public void testInitialDelayIsUsedUntilAWindowIsRecorded() {
+    HedgedReadDelay delay = new HedgedReadDelay(50 * MILLISECOND, MILLISECOND);
+    for (int i = 0; i < HedgedReadDelay.WINDOW_SIZE - 1; i++) {
+      delay.record(5 * MILLISECOND);
+    }
+    assertEquals(50 * MILLISECOND, delay.getDelay());
+  }
+
+  @Test
+  public void testDelayIsTheRoundedUpPercentileOfTheWindow() {
+    HedgedReadDelay delay = new HedgedReadDelay(50 * MILLISECOND, MILLISECOND);
+    for (int i = 0; i < HedgedReadDelay.WINDOW_SIZE - 10; i++) {
+      delay.record(2 * MILLISECOND);
+    }
+    for (int i = 0; i < 10; i++) {
+      delay.record(5000 * MILLISECOND);
+    }
+    // 2ms is 2000us, counted in the bucket of the latencies below 2048us
+    assertEquals(TimeUnit.MICROSECONDS.toNanos(2048), delay.getDelay());
+  }
+
+  @Test
+  public void testDelayIsNotBelowTheMinimum() {
+    HedgedReadDelay delay = new HedgedReadDelay(50 * MILLISECOND, MILLISECOND);
+    for (int i = 0; i < HedgedReadDelay.WINDOW_SIZE; i++) {
+      delay.record(TimeUnit.MICROSECONDS.toNanos(10));
+    }
+    assertEquals(MILLISECOND, delay.getDelay());
+  }
+}
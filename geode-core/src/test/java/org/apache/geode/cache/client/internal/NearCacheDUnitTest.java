@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientCacheFactory;
+import org.apache.geode.cache.client.ClientRegionFactory;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.apache.geode.cache.server.CacheServer;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+import org.apache.geode.internal.AvailablePortHelper;
+import org.apache.geode.internal.cache.AbstractLRURegionMap;
+import org.apache.geode.internal.cache.CachePerfStats;
+import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.cache.lru.LRUStatistics;
+import org.apache.geode.test.dunit.Host;
+import org.apache.geode.test.dunit.VM;
+import org.apache.geode.test.dunit.cache.internal.JUnit4CacheTestCase;
+import org.apache.geode.test.junit.categories.ClientServerTest;
+import org.apache.geode.test.junit.categories.DistributedTest;
+
+/**
+ * Tests a near cache region created with
+ * {@link org.apache.geode.cache.client.ClientRegionFactory#setNearCache} with the client in the
+ * controller VM and a server in another VM.
+ */
+@Category({DistributedTest.class, ClientServerTest.class})
+public class NearCacheDUnitTest extends JUnit4CacheTestCase {
+
+  private static final String REGION_NAME = "region";
+
+  private VM server;
+
+  private int port;
+
+  @Override
+  public final void postSetUp() throws Exception {
+    this.server = Host.getHost(0).getVM(0);
+    this.port = AvailablePortHelper.getRandomAvailableTCPPort();
+    final int serverPort = this.port;
+    this.server.invoke(() -> {
+      Cache cache = getCache();
+      cache.createRegionFactory(RegionShortcut.REPLICATE).create(REGION_NAME);
+      CacheServer cacheServer = cache.addCacheServer();
+      cacheServer.setPort(serverPort);
+      cacheServer.start();
+    });
+  }
+
+  @Test
+  public void testUpdatesAreReceivedAsInvalidates() throws Exception {
+    this.server.invoke(() -> getCache().getRegion(REGION_NAME).put("key", "value1"));
+    CountingListener<String> listener = new CountingListener<String>();
+    Region<String, String> region = createNearCache(listener);
+
+    assertEquals("value1", region.get("key"));
+    assertTrue(region.containsValueForKey("key"));
+
+    this.server.invoke(() -> getCache().getRegion(REGION_NAME).put("key", "value2"));
+    Awaitility.await().atMost(1, TimeUnit.MINUTES)
+        .until(() -> region.containsKey("key") && !region.containsValueForKey("key"));
+    assertEquals(1, listener.invalidates.get());
+    assertEquals(0, listener.updates.get());
+
+    CachePerfStats stats = ((LocalRegion) region).getCachePerfStats();
+    int staleReads = stats.getStaleReads();
+    int misses = stats.getMisses();
+    assertEquals("value2", region.get("key"));
+    assertEquals(staleReads + 1, stats.getStaleReads());
+    assertEquals(misses + 1, stats.getMisses());
+
+    // a value that is still valid is read from local memory
+    assertEquals("value2", region.get("key"));
+    assertEquals(staleReads + 1, stats.getStaleReads());
+    assertEquals(misses + 1, stats.getMisses());
+  }
+
+  @Test
+  public void testValuesAreEvictedByMemory() throws Exception {
+    final int entries = 200;
+    this.server.invoke(() -> {
+      Region<String, byte[]> serverRegion = getCache().getRegion(REGION_NAME);
+      for (int i = 0; i < entries; i++) {
+        serverRegion.put("key" + i, new byte[10 * 1024]);
+      }
+    });
+    Region<String, byte[]> region = createNearCache(null);
+
+    for (int i = 0; i < entries; i++) {
+      assertEquals(10 * 1024, region.get("key" + i).length);
+    }
+
+    LRUStatistics lruStats =
+        ((AbstractLRURegionMap) ((LocalRegion) region).getRegionMap()).getLRUStatistics();
+    assertTrue(lruStats.getEvictions() > 0);
+    assertTrue(lruStats.getCounter() <= lruStats.getLimit());
+    assertTrue(region.size() < entries);
+  }
+
+  /**
+   * Creates a near cache of at most one megabyte in a client cache connected to the server.
+   */
+  private <V> Region<String, V> createNearCache(CacheListener<String, V> listener) {
+    disconnectFromDS();
+    ClientCache cache = getClientCache(new ClientCacheFactory()
+        .addPoolServer("localhost", this.port).setPoolSubscriptionEnabled(true));
+    ClientRegionFactory<String, V> factory =
+        cache.<String, V>createClientRegionFactory(ClientRegionShortcut.CACHING_PROXY)
+            .setNearCache(1, null);
+    if (listener != null) {
+      factory.addCacheListener(listener);
+    }
+    return factory.create(REGION_NAME);
+  }
+
+  private static class CountingListener<V> extends CacheListenerAdapter<String, V> {
+
+    final AtomicInteger updates = new AtomicInteger();
+
+    final AtomicInteger invalidates = new AtomicInteger();
+
+    @Override
+    public void afterUpdate(EntryEvent<String, V> event) {
+      this.updates.incrementAndGet();
+    }
+
+    @Override
+    public void afterInvalidate(EntryEvent<String, V> event) {
+      this.invalidates.incrementAndGet();
+    }
+  }
+}
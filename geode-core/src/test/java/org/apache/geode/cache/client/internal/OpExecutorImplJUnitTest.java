@@ -15,6 +15,10 @@
 package org.apache.geode.cache.client.internal;
 
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -26,7 +30,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.geode.test.junit.categories.ClientServerTest;
 import org.junit.Before;
@@ -35,6 +48,7 @@ import org.junit.experimental.categories.Category;
 
 import org.apache.geode.CancelCriterion;
 import org.apache.geode.LogWriter;
+import org.apache.geode.cache.RegionDestroyedException;
 import org.apache.geode.cache.client.NoAvailableServersException;
 import org.apache.geode.cache.client.ServerConnectivityException;
 import org.apache.geode.cache.client.ServerOperationException;
@@ -42,6 +56,7 @@ import org.apache.geode.cache.client.internal.pooling.ConnectionManager;
 import org.apache.geode.distributed.DistributedMember;
 import org.apache.geode.distributed.internal.InternalDistributedSystem;
 import org.apache.geode.distributed.internal.ServerLocation;
+import org.apache.geode.internal.cache.PoolStats;
 import org.apache.geode.internal.cache.tier.sockets.ServerQueueStatus;
 import org.apache.geode.internal.logging.InternalLogWriter;
 import org.apache.geode.internal.logging.LocalLogWriter;
@@ -179,6 +194,56 @@ public class OpExecutorImplJUnitTest {
     assertEquals(4, serverCrashes);
   }
 
+  @Test
+  public void testExecuteAsyncOfOpThatCanNotBePipelined() throws Exception {
+    OpExecutorImpl exec = new OpExecutorImpl(manager, queueManager, endpointManager, riTracker, 3,
+        10, false, cancelCriterion, null);
+    Executor executor = new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        fail("The op should have been executed by the calling thread");
+      }
+    };
+    CompletableFuture<Object> result = exec.executeAsync(new Op() {
+      @Override
+      public Object attempt(Connection cnx) throws Exception {
+        return "hello";
+      }
+
+      @Override
+      public boolean useThreadLocalConnection() {
+        return true;
+      }
+    }, executor);
+    assertTrue(result.isDone());
+    assertEquals("hello", result.get());
+    assertEquals(1, borrows);
+    assertEquals(1, returns);
+
+    reset();
+
+    result = exec.executeAsync(new Op() {
+      @Override
+      public Object attempt(Connection cnx) throws Exception {
+        throw new ServerOperationException("Something didn't work");
+      }
+
+      @Override
+      public boolean useThreadLocalConnection() {
+        return true;
+      }
+    }, executor);
+    assertTrue(result.isCompletedExceptionally());
+    try {
+      result.get();
+      fail("Should have got an exception");
+    } catch (ExecutionException expected) {
+      assertTrue(expected.getCause() instanceof ServerOperationException);
+    }
+    assertEquals(1, borrows);
+    assertEquals(1, returns);
+  }
+
   private void reset() {
     borrows = 0;
     returns = 0;
@@ -457,6 +522,157 @@ public class OpExecutorImplJUnitTest {
     assertEquals(0, returns);
   }
 
+  @Test
+  public void testHedgeWinsWhenTheFirstAttemptIsSlow() throws Exception {
+    PoolStats stats = mock(PoolStats.class);
+    OpExecutorImpl exec = createHedgingExecutor(stats);
+    CountDownLatch releaseAttempt = new CountDownLatch(1);
+    ExecutorService executor = Executors.newCachedThreadPool();
+    try {
+      Object result = exec.executeHedged(new ServerLocation("localhost", 1),
+          new ReadOp("attempt", null, releaseAttempt, null), new ServerLocation("localhost", 2),
+          new ReadOp("hedge", null, null, null), createHedgedReadDelay(), executor);
+
+      assertEquals("hedge", result);
+      verify(stats).incHedgedReads();
+      verify(stats).incHedgedReadsWon();
+    } finally {
+      releaseAttempt.countDown();
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testFirstAttemptWinsWhenItAnswersBeforeTheHedge() throws Exception {
+    PoolStats stats = mock(PoolStats.class);
+    OpExecutorImpl exec = createHedgingExecutor(stats);
+    CountDownLatch releaseAttempt = new CountDownLatch(1);
+    CountDownLatch releaseHedge = new CountDownLatch(1);
+    ExecutorService executor = Executors.newCachedThreadPool();
+    try {
+      // the hedge lets the first attempt answer and then waits
+      Object result = exec.executeHedged(new ServerLocation("localhost", 1),
+          new ReadOp("attempt", null, releaseAttempt, null), new ServerLocation("localhost", 2),
+          new ReadOp("hedge", releaseAttempt, releaseHedge, null), createHedgedReadDelay(),
+          executor);
+
+      assertEquals("attempt", result);
+      verify(stats).incHedgedReads();
+      verify(stats, never()).incHedgedReadsWon();
+    } finally {
+      releaseHedge.countDown();
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testFailureOfTheFirstAttemptIsThrownWhenBothFail() throws Exception {
+    PoolStats stats = mock(PoolStats.class);
+    OpExecutorImpl exec = createHedgingExecutor(stats);
+    CountDownLatch releaseAttempt = new CountDownLatch(1);
+    RegionDestroyedException attemptFailure = new RegionDestroyedException("attempt", "/region");
+    RegionDestroyedException hedgeFailure = new RegionDestroyedException("hedge", "/region");
+    ExecutorService executor = Executors.newCachedThreadPool();
+    try {
+      // the hedge fails and then lets the first attempt fail
+      exec.executeHedged(new ServerLocation("localhost", 1),
+          new ReadOp(null, null, releaseAttempt, attemptFailure),
+          new ServerLocation("localhost", 2), new ReadOp(null, releaseAttempt, null, hedgeFailure),
+          createHedgedReadDelay(), executor);
+      fail("expected the reads to fail");
+    } catch (RegionDestroyedException expected) {
+      assertSame(attemptFailure, expected);
+      verify(stats).incHedgedReads();
+      verify(stats, never()).incHedgedReadsWon();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testReadIsNotHedgedWhenTheExecutorIsBusy() throws Exception {
+    PoolStats stats = mock(PoolStats.class);
+    OpExecutorImpl exec = createHedgingExecutor(stats);
+    final AtomicReference<Thread> reader = new AtomicReference<Thread>();
+    Executor busyExecutor = new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        throw new RejectedExecutionException();
+      }
+    };
+
+    Object result = exec.executeHedged(new ServerLocation("localhost", 1), new Op() {
+      @Override
+      public Object attempt(Connection cnx) throws Exception {
+        reader.set(Thread.currentThread());
+        return "attempt";
+      }
+
+      @Override
+      public boolean useThreadLocalConnection() {
+        return false;
+      }
+    }, new ServerLocation("localhost", 2), new ReadOp("hedge", null, null, null),
+        createHedgedReadDelay(), busyExecutor);
+
+    assertEquals("attempt", result);
+    assertSame(Thread.currentThread(), reader.get());
+    verify(stats, never()).incHedgedReads();
+  }
+
+  private OpExecutorImpl createHedgingExecutor(PoolStats stats) {
+    PoolImpl pool = mock(PoolImpl.class);
+    when(pool.getStats()).thenReturn(stats);
+    return new OpExecutorImpl(manager, queueManager, endpointManager, riTracker, 3, 10, false,
+        cancelCriterion, pool);
+  }
+
+  private HedgedReadDelay createHedgedReadDelay() {
+    return new HedgedReadDelay(TimeUnit.MILLISECONDS.toNanos(10), TimeUnit.MILLISECONDS.toNanos(1));
+  }
+
+  /**
+   * A read that counts down a latch when it starts, then waits for another latch before returning
+   * its result or throwing its failure
+   */
+  private static class ReadOp implements Op {
+
+    private final Object result;
+
+    private final CountDownLatch started;
+
+    private final CountDownLatch release;
+
+    private final RuntimeException failure;
+
+    ReadOp(Object result, CountDownLatch started, CountDownLatch release,
+        RuntimeException failure) {
+      this.result = result;
+      this.started = started;
+      this.release = release;
+      this.failure = failure;
+    }
+
+    @Override
+    public Object attempt(Connection cnx) throws Exception {
+      if (this.started != null) {
+        this.started.countDown();
+      }
+      if (this.release != null) {
+        assertTrue(this.release.await(1, TimeUnit.MINUTES));
+      }
+      if (this.failure != null) {
+        throw this.failure;
+      }
+      return this.result;
+    }
+
+    @Override
+    public boolean useThreadLocalConnection() {
+      return false;
+    }
+  }
+
   private class DummyManager implements ConnectionManager {
 
     protected int numServers = Integer.MAX_VALUE;
@@ -505,6 +721,11 @@ public class OpExecutorImplJUnitTest {
     @Override
     public void start(ScheduledExecutorService backgroundProcessor) {}
 
+    @Override
+    public boolean warmUp(long timeout) {
+      return true;
+    }
+
     @Override
     public Connection exchangeConnection(Connection conn, Set excludedServers, long aquireTimeout) {
       if (excludedServers.size() >= numServers) {
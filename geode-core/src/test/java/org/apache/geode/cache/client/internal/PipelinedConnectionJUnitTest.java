@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOCATORS;
+import static org.apache.geode.distributed.ConfigurationProperties.MCAST_PORT;
+import static org.junit.Assert.*;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.CacheLoader;
+import org.apache.geode.cache.LoaderHelper;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.client.PoolManager;
+import org.apache.geode.cache.client.internal.pooling.ConnectionDestroyedException;
+import org.apache.geode.cache.server.CacheServer;
+import org.apache.geode.internal.AvailablePort;
+import org.apache.geode.internal.cache.EntrySnapshot;
+import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.cache.tier.sockets.Message;
+import org.apache.geode.test.junit.categories.ClientServerTest;
+import org.apache.geode.test.junit.categories.IntegrationTest;
+
+/**
+ * Tests the ops that share a pipelined {@link ConnectionImpl}, with the server in the same VM.
+ */
+@Category({IntegrationTest.class, ClientServerTest.class})
+public class PipelinedConnectionJUnitTest {
+
+  private static final String READER_NAME_PREFIX = "PipelinedResponseReader for ";
+
+  private Cache cache;
+
+  private int port;
+
+  private LocalRegion region;
+
+  private PoolImpl pool;
+
+  private Connection pooledConnection;
+
+  /** Counted down when the server starts loading the slow key */
+  private final CountDownLatch slowLoadStarted = new CountDownLatch(1);
+
+  /** Holds up the load of the slow key until counted down */
+  private final CountDownLatch slowLoadReleased = new CountDownLatch(1);
+
+  @Before
+  public void setUp() throws Exception {
+    Properties props = new Properties();
+    props.setProperty(MCAST_PORT, "0");
+    props.setProperty(LOCATORS, "");
+    this.cache = new CacheFactory(props).create();
+    this.port = AvailablePort.getRandomAvailablePort(AvailablePort.SOCKET);
+    CacheServer server = this.cache.addCacheServer();
+    server.setPort(this.port);
+    server.start();
+
+    this.region = (LocalRegion) this.cache.createRegionFactory(RegionShortcut.REPLICATE)
+        .setCacheLoader(new SlowLoader()).create("region");
+    for (int i = 0; i < 100; i++) {
+      this.region.put("key" + i, "value" + i);
+    }
+  }
+
+  @After
+  public void tearDown() {
+    this.slowLoadReleased.countDown();
+    if (this.pooledConnection != null) {
+      this.pool.returnConnection(this.pooledConnection);
+    }
+    if (this.pool != null) {
+      this.pool.destroy();
+    }
+    Awaitility.await().atMost(1, TimeUnit.MINUTES)
+        .until(() -> getReader(READER_NAME_PREFIX) == null);
+    if (this.cache != null && !this.cache.isClosed()) {
+      this.cache.close();
+    }
+  }
+
+  @Test
+  public void testResponsesCompleteTheOpsTheyAnswer() throws Exception {
+    createPool(10000);
+    ConnectionImpl cnx = createPipelinedConnection();
+    Thread reader = getReader(READER_NAME_PREFIX + cnx);
+    assertNotNull(reader);
+    assertTrue(reader.isAlive());
+
+    List<CompletableFuture<Object>> results = new ArrayList<CompletableFuture<Object>>();
+    for (int i = 0; i < 100; i++) {
+      results.add(get(cnx, "key" + i));
+    }
+    // wait for the results in the opposite order the responses arrive in
+    for (int i = 99; i >= 0; i--) {
+      assertEquals("value" + i, results.get(i).get(1, TimeUnit.MINUTES));
+    }
+
+    cnx.destroy();
+    awaitTerminated(reader);
+  }
+
+  @Test
+  public void testReaderCompletesTheOpsInTheOrderTheyWereSent() throws Exception {
+    createPool(60000);
+    ConnectionImpl cnx = createPipelinedConnection();
+    final List<Integer> completed = Collections.synchronizedList(new ArrayList<Integer>());
+    final List<String> completers = Collections.synchronizedList(new ArrayList<String>());
+
+    // no op completes before the callbacks are added, as they all wait for the slow response
+    CompletableFuture<Object> slowResult = get(cnx, "slow");
+    List<CompletableFuture<Object>> results = new ArrayList<CompletableFuture<Object>>();
+    for (int i = 0; i < 50; i++) {
+      final int index = i;
+      results.add(get(cnx, "key" + i).whenComplete((value, failure) -> {
+        completed.add(index);
+        completers.add(Thread.currentThread().getName());
+      }));
+    }
+    this.slowLoadReleased.countDown();
+    assertEquals("loaded", slowResult.get(1, TimeUnit.MINUTES));
+    for (CompletableFuture<Object> result : results) {
+      result.get(1, TimeUnit.MINUTES);
+    }
+
+    for (int i = 0; i < 50; i++) {
+      assertEquals(Integer.valueOf(i), completed.get(i));
+      assertEquals(READER_NAME_PREFIX + cnx, completers.get(i));
+    }
+  }
+
+  @Test
+  public void testOpsWaitForTheResponsesAheadOfThem() throws Exception {
+    createPool(60000);
+    ConnectionImpl cnx = createPipelinedConnection();
+
+    CompletableFuture<Object> slowResult = get(cnx, "slow");
+    List<CompletableFuture<Object>> results = new ArrayList<CompletableFuture<Object>>();
+    for (int i = 0; i < 10; i++) {
+      results.add(get(cnx, "key" + i));
+    }
+    assertTrue(this.slowLoadStarted.await(1, TimeUnit.MINUTES));
+    assertFalse(slowResult.isDone());
+    for (CompletableFuture<Object> result : results) {
+      assertFalse(result.isDone());
+    }
+
+    this.slowLoadReleased.countDown();
+    assertEquals("loaded", slowResult.get(1, TimeUnit.MINUTES));
+    for (int i = 0; i < 10; i++) {
+      assertEquals("value" + i, results.get(i).get(1, TimeUnit.MINUTES));
+    }
+    assertFalse(cnx.isDestroyed());
+  }
+
+  @Test
+  public void testOpThatCanNotBePipelinedReadsItsOwnResponseAfterTheOnesAheadOfIt()
+      throws Exception {
+    createPool(60000);
+    final ConnectionImpl cnx = createPipelinedConnection();
+    final AtomicReference<Thread> responseReader = new AtomicReference<Thread>();
+    final AbstractOp getEntry = new GetEntryOp.GetEntryOpImpl(this.region, "key5") {
+      @Override
+      protected Object processResponse(Message msg) throws Exception {
+        responseReader.set(Thread.currentThread());
+        return super.processResponse(msg);
+      }
+    };
+    assertFalse(getEntry.isPipelinable());
+
+    CompletableFuture<Object> slowResult = get(cnx, "slow");
+    assertTrue(this.slowLoadStarted.await(1, TimeUnit.MINUTES));
+    final AtomicReference<Thread> executor = new AtomicReference<Thread>();
+    CompletableFuture<Object> entryResult = CompletableFuture.supplyAsync(() -> {
+      executor.set(Thread.currentThread());
+      try {
+        return cnx.execute(getEntry);
+      } catch (Exception e) {
+        throw new CompletionException(e);
+      }
+    });
+    Thread.sleep(500);
+    assertFalse(entryResult.isDone());
+
+    this.slowLoadReleased.countDown();
+    assertEquals("loaded", slowResult.get(1, TimeUnit.MINUTES));
+    EntrySnapshot entry = (EntrySnapshot) entryResult.get(1, TimeUnit.MINUTES);
+    assertEquals("value5", entry.getRawValue());
+    assertSame(executor.get(), responseReader.get());
+
+    // the connection is still pipelined
+    assertEquals("value1", get(cnx, "key1").get(1, TimeUnit.MINUTES));
+    assertFalse(cnx.isDestroyed());
+  }
+
+  @Test
+  public void testTimedOutResponseFailsTheOpsBehindIt() throws Exception {
+    createPool(1000);
+    ConnectionImpl cnx = createPipelinedConnection();
+    Thread reader = getReader(READER_NAME_PREFIX + cnx);
+
+    CompletableFuture<Object> slowResult = get(cnx, "slow");
+    List<CompletableFuture<Object>> results = new ArrayList<CompletableFuture<Object>>();
+    for (int i = 0; i < 5; i++) {
+      results.add(get(cnx, "key" + i));
+    }
+
+    assertFailure(SocketTimeoutException.class, slowResult);
+    for (CompletableFuture<Object> result : results) {
+      assertFailure(ConnectionDestroyedException.class, result);
+    }
+    assertTrue(cnx.isDestroyed());
+    awaitTerminated(reader);
+  }
+
+  @Test
+  public void testDestroyWhileReadingFailsTheOps() throws Exception {
+    createPool(60000);
+    ConnectionImpl cnx = createPipelinedConnection();
+    Thread reader = getReader(READER_NAME_PREFIX + cnx);
+
+    CompletableFuture<Object> slowResult = get(cnx, "slow");
+    List<CompletableFuture<Object>> results = new ArrayList<CompletableFuture<Object>>();
+    for (int i = 0; i < 5; i++) {
+      results.add(get(cnx, "key" + i));
+    }
+    assertTrue(this.slowLoadStarted.await(1, TimeUnit.MINUTES));
+
+    // the reader is blocked reading the slow response and has to stop before its buffer is freed
+    cnx.destroy();
+    awaitTerminated(reader);
+    assertTrue(slowResult.isCompletedExceptionally());
+    for (CompletableFuture<Object> result : results) {
+      assertFailure(ConnectionDestroyedException.class, result);
+    }
+
+    try {
+      get(cnx, "key0").get(1, TimeUnit.MINUTES);
+      fail("expected the destroyed connection to refuse the op");
+    } catch (ExecutionException expected) {
+      assertTrue(expected.getCause() instanceof ConnectionDestroyedException);
+    }
+  }
+
+  @Test
+  public void testExecuteAsyncRetriesTheOpsOfAFailedConnection() throws Exception {
+    createPool(1000);
+
+    CompletableFuture<Object> slowResult = GetOp.executeAsync(this.pool, this.region, "slow", null);
+    Thread reader = getReader(READER_NAME_PREFIX);
+    assertNotNull(reader);
+    List<CompletableFuture<Object>> results = new ArrayList<CompletableFuture<Object>>();
+    for (int i = 0; i < 5; i++) {
+      results.add(GetOp.executeAsync(this.pool, this.region, "key" + i, null));
+    }
+
+    // the slow response times out, which destroys the connection the ops were sent on
+    awaitTerminated(reader);
+    this.slowLoadReleased.countDown();
+
+    for (int i = 0; i < 5; i++) {
+      assertEquals("value" + i, results.get(i).get(1, TimeUnit.MINUTES));
+    }
+    assertEquals("loaded", slowResult.get(1, TimeUnit.MINUTES));
+  }
+
+  private void createPool(int readTimeout) {
+    this.pool = (PoolImpl) PoolManager.createFactory().addServer("localhost", this.port)
+        .setReadTimeout(readTimeout).setSubscriptionEnabled(false).create("pool");
+  }
+
+  private ConnectionImpl createPipelinedConnection() {
+    this.pooledConnection = this.pool.acquireConnection();
+    ConnectionImpl cnx = (ConnectionImpl) this.pool.getConnection(this.pooledConnection);
+    cnx.enablePipelining();
+    return cnx;
+  }
+
+  private CompletableFuture<Object> get(ConnectionImpl cnx, Object key) {
+    return new GetOp.GetOpImpl(this.region, key, null, false, null).attemptAsync(cnx);
+  }
+
+  /**
+   * Returns the first live thread whose name starts with the given prefix, or null if there is none
+   */
+  private Thread getReader(String namePrefix) {
+    for (Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (thread.isAlive() && thread.getName().startsWith(namePrefix)) {
+        return thread;
+      }
+    }
+    return null;
+  }
+
+  private void awaitTerminated(Thread thread) {
+    Awaitility.await().atMost(1, TimeUnit.MINUTES).until(() -> !thread.isAlive());
+  }
+
+  private void assertFailure(Class<? extends Exception> expected, CompletableFuture<Object> result)
+      throws Exception {
+    try {
+      result.get(1, TimeUnit.MINUTES);
+      fail("expected " + expected.getName());
+    } catch (ExecutionException e) {
+      assertTrue("unexpected " + e.getCause(), expected.isInstance(e.getCause()));
+    }
+  }
+
+  private class SlowLoader implements CacheLoader<Object, Object> {
+
+    @Override
+    public Object load(LoaderHelper<Object, Object> helper) {
+      if ("slow".equals(helper.getKey())) {
+        slowLoadStarted.countDown();
+        try {
+          slowLoadReleased.await(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      return "loaded";
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.PartitionAttributesFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientCacheFactory;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.apache.geode.cache.server.CacheServer;
+import org.apache.geode.internal.AvailablePortHelper;
+import org.apache.geode.internal.cache.GemFireCacheImpl;
+import org.apache.geode.test.dunit.Host;
+import org.apache.geode.test.dunit.VM;
+import org.apache.geode.test.dunit.cache.internal.JUnit4CacheTestCase;
+import org.apache.geode.test.junit.categories.ClientServerTest;
+import org.apache.geode.test.junit.categories.DistributedTest;
+
+/**
+ * Tests a client whose pool is warmed up ({@link PoolImpl#WARM_UP}), with the client in the
+ * controller VM and two servers hosting a partitioned region.
+ */
+@Category({DistributedTest.class, ClientServerTest.class})
+public class PoolWarmUpDUnitTest extends JUnit4CacheTestCase {
+
+  private static final String REGION_NAME = "region";
+
+  private static final int TOTAL_BUCKETS = 13;
+
+  private static final int MIN_CONNECTIONS = 4;
+
+  private boolean wasWarmUp;
+
+  private int[] ports;
+
+  @Override
+  public final void postSetUp() throws Exception {
+    this.wasWarmUp = PoolImpl.WARM_UP;
+    PoolImpl.WARM_UP = true;
+
+    Host host = Host.getHost(0);
+    VM server1 = host.getVM(0);
+    VM server2 = host.getVM(1);
+    this.ports = AvailablePortHelper.getRandomAvailableTCPPorts(2);
+    final int port1 = this.ports[0];
+    final int port2 = this.ports[1];
+    server1.invoke(() -> createServer(port1));
+    server2.invoke(() -> createServer(port2));
+    server1.invoke(() -> {
+      Region<Integer, String> region = getCache().getRegion(REGION_NAME);
+      for (int i = 0; i < 100; i++) {
+        region.put(i, "value" + i);
+      }
+    });
+  }
+
+  @Override
+  public final void preTearDownCacheTestCase() throws Exception {
+    PoolImpl.WARM_UP = this.wasWarmUp;
+  }
+
+  @Test
+  public void testMinConnectionsAreCreatedWhenThePoolStarts() throws Exception {
+    ClientCache cache = createClientCache();
+
+    PoolImpl pool = (PoolImpl) cache.getDefaultPool();
+    assertTrue(pool.getConnectionCount() >= MIN_CONNECTIONS);
+  }
+
+  @Test
+  public void testMetadataIsFetchedWhenTheRegionIsCreated() throws Exception {
+    ClientCache cache = createClientCache();
+    cache.createClientRegionFactory(ClientRegionShortcut.PROXY).create(REGION_NAME);
+
+    ClientMetadataService cms = ((GemFireCacheImpl) cache).getClientMetadataService();
+    ClientPartitionAdvisor advisor = cms.getClientPartitionAdvisor("/" + REGION_NAME);
+    assertNotNull(advisor);
+    assertEquals(TOTAL_BUCKETS, advisor.getTotalNumBuckets());
+    assertFalse(advisor.getBucketServerLocationsMap_TEST_ONLY().isEmpty());
+  }
+
+  @Test
+  public void testMetadataIsNotFetchedWithoutSingleHop() throws Exception {
+    disconnectFromDS();
+    ClientCache cache = getClientCache(new ClientCacheFactory()
+        .addPoolServer("localhost", this.ports[0]).setPoolPRSingleHopEnabled(false));
+    cache.createClientRegionFactory(ClientRegionShortcut.PROXY).create(REGION_NAME);
+
+    ClientMetadataService cms = ((GemFireCacheImpl) cache).getClientMetadataService();
+    assertNull(cms.getClientPartitionAdvisor("/" + REGION_NAME));
+  }
+
+  private ClientCache createClientCache() {
+    disconnectFromDS();
+    ClientCacheFactory factory = new ClientCacheFactory();
+    for (int port : this.ports) {
+      factory.addPoolServer("localhost", port);
+    }
+    factory.setPoolMinConnections(MIN_CONNECTIONS);
+    return getClientCache(factory);
+  }
+
+  private void createServer(int port) throws Exception {
+    Cache cache = getCache();
+    cache.createRegionFactory(RegionShortcut.PARTITION)
+        .setPartitionAttributes(
+            new PartitionAttributesFactory().setTotalNumBuckets(TOTAL_BUCKETS).create())
+        .create(REGION_NAME);
+    CacheServer server = cache.addCacheServer();
+    server.setPort(port);
+    server.start();
+  }
+}
@@ -48,6 +48,7 @@ import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.apache.geode.distributed.ConfigurationProperties.LOCATORS;
@@ -154,6 +155,46 @@ public class ConnectionManagerJUnitTest {
     Wait.waitForCriterion(ev, 200, 200, true);
   }
 
+  @Test
+  public void testWarmUpCreatesMinConnectionsInParallel() throws InterruptedException {
+    SlowFactory slowFactory = new SlowFactory(500);
+    factory = slowFactory;
+    // the connections are created on the background threads
+    background.shutdownNow();
+    background = Executors.newScheduledThreadPool(10);
+    manager = new ConnectionManagerImpl("pool", factory, endpointManager, 10, 5, -1, -1, logger,
+        60 * 1000, cancelCriterion, poolStats);
+    manager.start(background);
+
+    long start = System.currentTimeMillis();
+    Assert.assertTrue(manager.warmUp(TIMEOUT));
+    long elapsed = System.currentTimeMillis() - start;
+
+    Assert.assertEquals(5, ((ConnectionManagerImpl) manager).getConnectionCount());
+    Assert.assertEquals(5, factory.creates);
+    Assert.assertTrue("only " + slowFactory.maxConcurrentCreates.get() + " concurrent creates",
+        slowFactory.maxConcurrentCreates.get() > 1);
+    // created one after the other the connections would take 2500 ms
+    Assert.assertTrue("warm up took " + elapsed + " ms", elapsed < 2500);
+  }
+
+  @Test
+  public void testWarmUpReturnsAfterItsTimeout() throws InterruptedException {
+    factory = new SlowFactory(5000);
+    // the connections are created on the background threads
+    background.shutdownNow();
+    background = Executors.newScheduledThreadPool(10);
+    manager = new ConnectionManagerImpl("pool", factory, endpointManager, 10, 2, -1, -1, logger,
+        60 * 1000, cancelCriterion, poolStats);
+    manager.start(background);
+
+    long start = System.currentTimeMillis();
+    Assert.assertFalse(manager.warmUp(500));
+    long elapsed = System.currentTimeMillis() - start;
+
+    Assert.assertTrue("warm up took " + elapsed + " ms", elapsed < 5000);
+  }
+
   @Test
   public void testInvalidateConnection()
       throws InterruptedException, AllConnectionsInUseException, NoAvailableServersException {
@@ -756,6 +797,38 @@ public class ConnectionManagerJUnitTest {
     }
   }
 
+  /**
+   * Takes a while to create each connection, and records how many are created at the same time
+   */
+  public class SlowFactory extends DummyFactory {
+    private final long createMillis;
+    private final AtomicInteger concurrentCreates = new AtomicInteger();
+    protected final AtomicInteger maxConcurrentCreates = new AtomicInteger();
+
+    public SlowFactory(long createMillis) {
+      this.createMillis = createMillis;
+    }
+
+    @Override
+    public Connection createClientToServerConnection(Set excluded) {
+      int concurrent = concurrentCreates.incrementAndGet();
+      try {
+        int max = maxConcurrentCreates.get();
+        while (concurrent > max && !maxConcurrentCreates.compareAndSet(max, concurrent)) {
+          max = maxConcurrentCreates.get();
+        }
+        try {
+          Thread.sleep(createMillis);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return super.createClientToServerConnection(excluded);
+      } finally {
+        concurrentCreates.decrementAndGet();
+      }
+    }
+  }
+
   public class DummyFactory implements ConnectionFactory {
     public ServerLocation nextServer = new ServerLocation("localhost", -1);
     protected volatile int creates;
@@ -17,12 +17,14 @@ package org.apache.geode.cache.query.partitioned;
 import static org.junit.Assert.fail;
 
 import java.util.HashMap;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 import org.apache.geode.LogWriter;
+import org.apache.geode.cache.PartitionAttributesFactory;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.Query;
 import org.apache.geode.cache.query.SelectResults;
@@ -137,6 +139,43 @@ public class PRQueryNumThreadsJUnitTest {
     }
   }
 
+  @Test
+  public void testQueryWithBucketsSplitIntoRanges() throws Exception {
+    PartitionAttributesFactory paf = new PartitionAttributesFactory();
+    paf.setTotalNumBuckets(2);
+    Region region = PartitionedRegionTestHelper.createPartionedRegion(regionName, paf.create());
+    PortfolioData[] portfolios = new PortfolioData[200];
+    for (int j = 0; j < 200; j++) {
+      portfolios[j] = new PortfolioData(j);
+    }
+    PRQueryProcessor.TEST_NUM_THREADS = 8;
+    PRQueryProcessor.TEST_MIN_BUCKET_RANGE_SIZE = 10;
+    try {
+      populateData(region, portfolios);
+
+      SelectResults resSet = region.query("ID < 50");
+      Assert.assertTrue(resSet.size() == 50);
+
+      Query query = region.getCache().getQueryService()
+          .newQuery("select count(*) from /" + region.getName() + " p where p.ID >= 150");
+      SelectResults sr = (SelectResults) query.execute();
+      Assert.assertTrue(((Integer) sr.asList().get(0)).intValue() == 50);
+
+      query = region.getCache().getQueryService().newQuery(
+          "select p.ID from /" + region.getName() + " p where p.ID >= 10 order by p.ID limit 20");
+      sr = (SelectResults) query.execute();
+      List ids = sr.asList();
+      Assert.assertTrue(ids.size() == 20);
+      for (int i = 0; i < 20; i++) {
+        Assert.assertTrue(((Integer) ids.get(i)).intValue() == i + 10);
+      }
+    } finally {
+      PRQueryProcessor.TEST_NUM_THREADS = 0;
+      PRQueryProcessor.TEST_MIN_BUCKET_RANGE_SIZE = 0;
+      region.close();
+    }
+  }
+
   /**
    * Populates the region with the Objects stores in the data Object array.
    * 
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.server.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.server.ServerLoad;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class RequestLatencyProbeJUnitTest {
+
+  @Test
+  public void testLoadWithoutRequestsIsConnectionLoad() {
+    RequestLatencyProbe probe = new RequestLatencyProbe();
+    ServerMetricsImpl metrics = new ServerMetricsImpl(800);
+    for (int i = 0; i < 100; i++) {
+      metrics.incConnectionCount();
+    }
+    ServerLoad load = probe.getLoad(metrics);
+    assertEquals(0.125, load.getConnectionLoad(), .0001f);
+    assertEquals(1 / 800f, load.getLoadPerConnection(), .0001f);
+  }
+
+  @Test
+  public void testSlowRequestsAndQueuedRequestsAddLoad() {
+    RequestLatencyProbe probe = new RequestLatencyProbe();
+    Properties props = new Properties();
+    props.setProperty(RequestLatencyProbe.REFERENCE_REQUEST_TIME, "10");
+    probe.init(props);
+    ServerMetricsImpl metrics = new ServerMetricsImpl(800);
+    for (int i = 0; i < 100; i++) {
+      metrics.incConnectionCount();
+    }
+    metrics.setRequestMetrics(TimeUnit.MILLISECONDS.toNanos(20), 80);
+    ServerLoad load = probe.getLoad(metrics);
+    assertEquals(0.125 + 2 + 0.1, load.getConnectionLoad(), .0001f);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReferenceRequestTimeMustBePositive() {
+    Properties props = new Properties();
+    props.setProperty(RequestLatencyProbe.REFERENCE_REQUEST_TIME, "0");
+    new RequestLatencyProbe().init(props);
+  }
+}
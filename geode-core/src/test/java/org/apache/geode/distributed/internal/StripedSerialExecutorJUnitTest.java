@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.distributed.internal;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class StripedSerialExecutorJUnitTest {
+
+  private StripedSerialExecutor executor;
+
+  @Before
+  public void setUp() {
+    StatisticsFactory factory = mock(StatisticsFactory.class);
+    when(factory.createAtomicStatistics(any(StatisticsType.class), anyString()))
+        .thenReturn(mock(Statistics.class));
+    this.executor = new StripedSerialExecutor(4, new ThreadGroup("StripedSerialExecutorJUnitTest"),
+        new DistributionStats(mock(Statistics.class)), factory, false);
+  }
+
+  @After
+  public void tearDown() throws InterruptedException {
+    this.executor.shutdownNow();
+    this.executor.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testMessagesWithTheSameKeyAreProcessedInOrder() throws InterruptedException {
+    final List<Integer> processed = Collections.synchronizedList(new ArrayList<Integer>());
+    final CountDownLatch done = new CountDownLatch(100);
+    for (int i = 0; i < 100; i++) {
+      final int message = i;
+      this.executor.getExecutor(null, "/region").execute(new Runnable() {
+        public void run() {
+          processed.add(message);
+          done.countDown();
+        }
+      });
+    }
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    for (int i = 0; i < 100; i++) {
+      assertEquals(i, processed.get(i).intValue());
+    }
+  }
+
+  @Test
+  public void testMessageWithoutKeyIsOrderedWithAllStripes() throws InterruptedException {
+    final List<String> processed = Collections.synchronizedList(new ArrayList<String>());
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(1);
+    this.executor.getExecutor(null, "/before").execute(new Runnable() {
+      public void run() {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        processed.add("before");
+      }
+    });
+    this.executor.getExecutor(null, null).execute(new Runnable() {
+      public void run() {
+        processed.add("barrier");
+      }
+    });
+    this.executor.getExecutor(null, "/after").execute(new Runnable() {
+      public void run() {
+        processed.add("after");
+        done.countDown();
+      }
+    });
+
+    Thread.sleep(200);
+    assertTrue(processed.isEmpty());
+    release.countDown();
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList("before", "barrier", "after"), processed);
+  }
+}
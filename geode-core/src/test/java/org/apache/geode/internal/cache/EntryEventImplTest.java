@@ -726,6 +726,76 @@ public class EntryEventImplTest {
     return new EventID(memId, 11, 12, 13);
   }
 
+  @Test
+  public void recycledEventIsReusedByTheSameThread() {
+    LocalRegion region = mock(LocalRegion.class);
+    when(region.getKeyInfo(any(), any(), any())).thenAnswer(
+        invocation -> new KeyInfo(invocation.getArguments()[0], invocation.getArguments()[1],
+            invocation.getArguments()[2]));
+
+    EntryEventImpl e = EntryEventImpl.createRecyclable(region, Operation.UPDATE, key, "value1",
+        null, null);
+    e.release();
+    e.recycle();
+    EntryEventImpl e2 = EntryEventImpl.createRecyclable(region, Operation.UPDATE, "key2", "value2",
+        null, null);
+    try {
+      assertSame(e, e2);
+      assertEquals("key2", e2.getKey());
+      assertEquals("value2", e2.getNewValue());
+      assertEquals(Operation.UPDATE, e2.getOperation());
+      assertTrue(e2.isGenerateCallbacks());
+    } finally {
+      e2.release();
+      e2.recycle();
+    }
+  }
+
+  @Test
+  public void recycledEventInUseIsNotReturnedAgain() {
+    LocalRegion region = mock(LocalRegion.class);
+    when(region.getKeyInfo(any(), any(), any())).thenAnswer(
+        invocation -> new KeyInfo(invocation.getArguments()[0], invocation.getArguments()[1],
+            invocation.getArguments()[2]));
+
+    EntryEventImpl e = EntryEventImpl.createRecyclable(region, Operation.UPDATE, key, "value1",
+        null, null);
+    try {
+      EntryEventImpl nested = EntryEventImpl.createRecyclable(region, Operation.UPDATE, "key2",
+          "value2", null, null);
+      assertNotSame(e, nested);
+      assertEquals("key2", nested.getKey());
+      // recycling an event that was not recycled is a no-op
+      nested.recycle();
+      assertEquals("value2", nested.getNewValue());
+      assertEquals(key, e.getKey());
+    } finally {
+      e.release();
+      e.recycle();
+    }
+  }
+
+  @Test
+  public void recycleClearsTheEvent() {
+    LocalRegion region = mock(LocalRegion.class);
+    when(region.getKeyInfo(any(), any(), any())).thenAnswer(
+        invocation -> new KeyInfo(invocation.getArguments()[0], invocation.getArguments()[1],
+            invocation.getArguments()[2]));
+
+    EntryEventImpl e = EntryEventImpl.createRecyclable(region, Operation.UPDATE, key, "value1",
+        null, null);
+    e.setConcurrentMapOldValue("oldValue");
+    e.setTailKey(7L);
+    e.release();
+    e.recycle();
+
+    assertNull(e.getRegion());
+    assertNull(e.getKeyInfo().getKey());
+    assertNull(e.getRawNewValue());
+    assertNull(e.getRawOldValue());
+    assertEquals(-1L, e.getTailKey().longValue());
+  }
+
   private EntryEventImpl createEntryEvent(LocalRegion l, Object newValue) {
     // create an event
     EntryEventImpl event = EntryEventImpl.create(l, Operation.CREATE, key, newValue, null,
@@ -105,6 +105,7 @@ public class GIIDeltaDUnitTest extends JUnit4CacheTestCase {
   public final void postTearDownCacheTestCase() throws Exception {
     // clean up the test hook, which can be moved to CacheTestCase
     DistributedCacheOperation.SLOW_DISTRIBUTION_MS = 0;
+    Invoke.invokeInEveryVM(() -> TombstoneLog.MAX_SIZE = 0);
     if (expectedEx != null) {
       expectedEx.remove();
     }
@@ -786,6 +787,46 @@ public class GIIDeltaDUnitTest extends JUnit4CacheTestCase {
     verifyDeltaSizeFromStats(R, 2, 0);
   }
 
+  /**
+   * vm0 and vm1 are peers, each holds a DR. Shutdown R, then destroy key2 at P and GC its tombstone.
+   * P's RVVGC is not dominated by R's RVV, but P has logged the collected tombstone, so it should
+   * trigger deltaGII with the tombstone in it
+   */
+  @Test
+  public void testDeltaGIIWithCollectedTombstones() throws Throwable {
+    Invoke.invokeInEveryVM(() -> TombstoneLog.MAX_SIZE = 10000);
+    prepareForEachTest();
+    final DiskStoreID memberP = getMemberID(P);
+
+    assertEquals(0, DistributedCacheOperation.SLOW_DISTRIBUTION_MS);
+    prepareCommonTestData(3);
+    waitForToVerifyRVV(P, memberP, 3, null, 0); // P's rvv=p3, gc=0
+    waitForToVerifyRVV(R, memberP, 3, null, 0); // R's rvv=p3, gc=0
+
+    byte[] R_rvv_bytes = getRVVByteArray(R, REGION_NAME);
+    closeCache(R);
+
+    // p4-5 only apply at P
+    doOneDestroy(P, 4, "key2");
+    doOnePut(P, 5, "key1");
+    forceGC(P, 2);
+    waitForToVerifyRVV(P, memberP, 5, null, 4); // P's rvv=p5, gc=4
+    verifyTombstoneExist(P, "key2", false, false);
+
+    checkIfFullGII(P, REGION_NAME, R_rvv_bytes, false);
+    createDistributedRegion(R);
+    waitForToVerifyRVV(R, memberP, 5, null, 4); // R's rvv=p5, gc=4
+
+    RegionVersionVector p_rvv = getRVV(P);
+    RegionVersionVector r_rvv = getRVV(R);
+    assertSameRVV(p_rvv, r_rvv);
+
+    // In deltaGII, the key size in gii chunk is 2: key1 and the collected tombstone of key2,
+    // which R has then collected too
+    verifyDeltaSizeFromStats(R, 2, 1);
+    verifyTombstoneExist(R, "key2", false, false);
+  }
+
   /**
    * Let R4, R5 unfinish, but R5 is the last operation from R. So P's RVV is still P:x,R3, without
    * exception list. But actually R4, R5 are unfinished ops by all means.
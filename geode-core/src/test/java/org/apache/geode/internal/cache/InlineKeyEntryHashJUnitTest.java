@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap;
+import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap.HashEntry;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class InlineKeyEntryHashJUnitTest {
+
+  private static final int[] INT_KEYS =
+      {0, 1, -1, 17, 123456789, Integer.MAX_VALUE, Integer.MIN_VALUE};
+
+  private static final long[] LONG_KEYS = {0L, 1L, -1L, 17L, 123456789L, 1L << 32,
+      0x123456789abcdefL, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
+
+  private RegionEntryContext context;
+
+  @Before
+  public void setUp() {
+    this.context = mock(RegionEntryContext.class);
+  }
+
+  @Test
+  public void testIntKeyEntryHashMatchesTheBoxedKey() {
+    for (int key : INT_KEYS) {
+      int expected = CustomEntryConcurrentHashMap.keyHash(Integer.valueOf(key), true);
+      assertHash(expected, new VMThinRegionEntryHeapIntKey(this.context, key, "value"));
+      assertHash(expected, new VMStatsRegionEntryHeapIntKey(this.context, key, "value"));
+      assertHash(expected, new VersionedThinRegionEntryHeapIntKey(this.context, key, "value"));
+    }
+  }
+
+  @Test
+  public void testLongKeyEntryHashMatchesTheBoxedKey() {
+    for (long key : LONG_KEYS) {
+      int expected = CustomEntryConcurrentHashMap.keyHash(Long.valueOf(key), true);
+      assertHash(expected, new VMThinRegionEntryHeapLongKey(this.context, key, "value"));
+      assertHash(expected, new VMStatsRegionEntryHeapLongKey(this.context, key, "value"));
+      assertHash(expected, new VersionedThinRegionEntryHeapLongKey(this.context, key, "value"));
+    }
+  }
+
+  @Test
+  public void testSettingTheEntryHashDoesNotChangeIt() {
+    VMThinRegionEntryHeapLongKey entry = new VMThinRegionEntryHeapLongKey(this.context, 42L, "v");
+    int expected = entry.getEntryHash();
+    entry.setEntryHash(expected + 1);
+    assertEquals(expected, entry.getEntryHash());
+  }
+
+  private void assertHash(int expected, HashEntry<Object, Object> entry) {
+    assertEquals("hash of " + entry.getKey() + " in " + entry.getClass().getSimpleName(), expected,
+        entry.getEntryHash());
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.FileOutputStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class MappedOplogFileTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private DiskStoreStats stats;
+
+  private File file;
+
+  @Before
+  public void setUp() throws Exception {
+    stats = mock(DiskStoreStats.class);
+    file = temporaryFolder.newFile("BACKUPds_1.crf");
+    byte[] bytes = new byte[64];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) i;
+    }
+    try (FileOutputStream out = new FileOutputStream(file)) {
+      out.write(bytes);
+    }
+  }
+
+  @Test
+  public void readCopiesBytesAtPosition() throws Exception {
+    MappedOplogFile mapped = MappedOplogFile.map(file, 64, stats);
+
+    assertThat(mapped.read(10, 4)).containsExactly(10, 11, 12, 13);
+  }
+
+  @Test
+  public void containsOnlyTheMappedRange() throws Exception {
+    MappedOplogFile mapped = MappedOplogFile.map(file, 32, stats);
+
+    assertThat(mapped.contains(0, 32)).isTrue();
+    assertThat(mapped.contains(30, 4)).isFalse();
+    assertThat(mapped.contains(-1, 1)).isFalse();
+  }
+
+  @Test
+  public void fileShorterThanRequestedSizeIsNotMapped() throws Exception {
+    assertThat(MappedOplogFile.map(file, 128, stats)).isNull();
+    assertThat(MappedOplogFile.map(file, 0, stats)).isNull();
+  }
+
+  @Test
+  public void statsTrackMappedBytes() throws Exception {
+    MappedOplogFile mapped = MappedOplogFile.map(file, 64, stats);
+    mapped.release();
+
+    verify(stats).incMappedOplogs(64);
+    verify(stats).decMappedOplogs(64);
+  }
+
+  @Test
+  public void releasedMappingIsNotRead() throws Exception {
+    MappedOplogFile mapped = MappedOplogFile.map(file, 64, stats);
+    mapped.release();
+
+    assertThat(mapped.read(10, 4)).isNull();
+  }
+
+  @Test
+  public void releaseUnmapsTheFile() throws Exception {
+    assumeTrue(MappedOplogFile.canUnmap());
+    MappedOplogFile mapped = MappedOplogFile.map(file, 64, stats);
+    mapped.read(0, 4);
+    mapped.release();
+    mapped.release();
+
+    assertThat(mapped.isUnmapped()).isTrue();
+    verify(stats).decMappedOplogs(64);
+    assertThat(file.delete()).isTrue();
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.apache.geode.distributed.ConfigurationProperties.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.test.junit.categories.IntegrationTest;
+
+/**
+ * Tests reading values from the memory mapped crf of an oplog that is done appending, and deleting
+ * that oplog.
+ */
+@Category(IntegrationTest.class)
+public class MappedOplogJUnitTest {
+
+  private static final int ENTRIES = 100;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private boolean wasEnabled;
+
+  private Cache cache;
+
+  private DiskStoreImpl diskStore;
+
+  private File diskDir;
+
+  @Before
+  public void setUp() throws Exception {
+    this.wasEnabled = MappedOplogFile.ENABLED;
+    MappedOplogFile.ENABLED = true;
+
+    Properties props = new Properties();
+    props.setProperty(MCAST_PORT, "0");
+    props.setProperty(LOCATORS, "");
+    this.cache = new CacheFactory(props).create();
+    this.diskDir = this.temporaryFolder.newFolder("disk");
+    this.diskStore = (DiskStoreImpl) this.cache.createDiskStoreFactory()
+        .setDiskDirs(new File[] {this.diskDir}).setAutoCompact(false)
+        .setAllowForceCompaction(true).create("ds");
+  }
+
+  @After
+  public void tearDown() {
+    MappedOplogFile.ENABLED = this.wasEnabled;
+    if (this.cache != null && !this.cache.isClosed()) {
+      this.cache.close();
+    }
+  }
+
+  @Test
+  public void testValuesAreReadFromTheMappedCrfAndItIsDeleted() {
+    Region<Integer, String> region = this.cache
+        .<Integer, String>createRegionFactory(RegionShortcut.LOCAL_PERSISTENT)
+        .setDiskStoreName("ds")
+        .setEvictionAttributes(
+            EvictionAttributes.createLRUEntryAttributes(1, EvictionAction.OVERFLOW_TO_DISK))
+        .create("region");
+    for (int i = 0; i < ENTRIES; i++) {
+      region.put(i, "value" + i);
+    }
+    File firstCrf = getCrf();
+    this.diskStore.forceRoll();
+
+    for (int i = 0; i < ENTRIES; i++) {
+      assertEquals("value" + i, region.get(i));
+    }
+    DiskStoreStats stats = this.diskStore.getStats();
+    assertTrue(stats.getMappedReads() > 0);
+    assertEquals(1, stats.getMappedOplogs());
+
+    for (int i = 0; i < ENTRIES; i++) {
+      region.destroy(i);
+    }
+    this.diskStore.forceCompaction();
+
+    assertFalse(firstCrf.exists());
+    assertEquals(0, stats.getMappedOplogs());
+  }
+
+  private File getCrf() {
+    File[] crfs = this.diskDir.listFiles((dir, name) -> name.endsWith(".crf"));
+    assertEquals(1, crfs.length);
+    return crfs[0];
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.DiskAccessException;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class OplogGroupCommitterJUnitTest {
+
+  private DiskStoreStats stats;
+
+  @Before
+  public void setUp() {
+    this.stats = mock(DiskStoreStats.class);
+  }
+
+  @Test
+  public void testWriterFlushesItsOwnRecord() {
+    TestCommitter committer = new TestCommitter(0);
+    committer.appended();
+    committer.awaitCommit();
+
+    assertEquals(1, committer.flushes.get());
+    verify(this.stats).endGroupCommit(anyLong(), eq(1L));
+  }
+
+  @Test
+  public void testCommittedRecordsAreNotFlushedAgain() {
+    TestCommitter committer = new TestCommitter(0);
+    committer.appended();
+    committer.awaitCommit();
+    committer.awaitCommit();
+
+    assertEquals(1, committer.flushes.get());
+  }
+
+  @Test
+  public void testFollowersAreCommittedInOneBatch() throws Exception {
+    TestCommitter committer = new TestCommitter(0);
+    committer.blockNextFlush();
+    Thread leader = startWriter(committer, null);
+    committer.awaitFlushStarted();
+
+    Thread follower1 = startWriter(committer, null);
+    Thread follower2 = startWriter(committer, null);
+    awaitWaiting(follower1);
+    awaitWaiting(follower2);
+    committer.unblockFlush();
+
+    leader.join(60000);
+    follower1.join(60000);
+    follower2.join(60000);
+    assertEquals(2, committer.flushes.get());
+    verify(this.stats).endGroupCommit(anyLong(), eq(1L));
+    verify(this.stats).endGroupCommit(anyLong(), eq(2L));
+  }
+
+  @Test
+  public void testLeaderWaitsForMoreWriters() throws Exception {
+    TestCommitter committer = new TestCommitter(TimeUnit.SECONDS.toNanos(2));
+    Thread leader = startWriter(committer, null);
+    Awaitility.await().atMost(1, TimeUnit.MINUTES)
+        .until(() -> leader.getState() == Thread.State.TIMED_WAITING);
+
+    Thread follower = startWriter(committer, null);
+    leader.join(60000);
+    follower.join(60000);
+    assertEquals(1, committer.flushes.get());
+    verify(this.stats).endGroupCommit(anyLong(), eq(2L));
+  }
+
+  @Test
+  public void testInterruptedFollowerWaitsForItsRecord() throws Exception {
+    TestCommitter committer = new TestCommitter(0);
+    committer.blockNextFlush();
+    Thread leader = startWriter(committer, null);
+    committer.awaitFlushStarted();
+
+    AtomicBoolean interrupted = new AtomicBoolean();
+    Thread follower = startWriter(committer, interrupted);
+    awaitWaiting(follower);
+    follower.interrupt();
+    Awaitility.await().atMost(1, TimeUnit.MINUTES).until(() -> !follower.isInterrupted());
+    awaitWaiting(follower);
+    assertEquals(0, committer.flushes.get());
+
+    committer.unblockFlush();
+    leader.join(60000);
+    follower.join(60000);
+    assertEquals(2, committer.flushes.get());
+    assertTrue(interrupted.get());
+  }
+
+  @Test
+  public void testFailedFlushIsRetriedByTheNextWriter() {
+    TestCommitter committer = new TestCommitter(0);
+    committer.failNextFlush();
+    committer.appended();
+    try {
+      committer.awaitCommit();
+      fail("expected the flush to fail");
+    } catch (DiskAccessException expected) {
+    }
+
+    committer.awaitCommit();
+    assertEquals(1, committer.flushes.get());
+    verify(this.stats).endGroupCommit(anyLong(), eq(1L));
+  }
+
+  private Thread startWriter(OplogGroupCommitter committer, AtomicBoolean interrupted) {
+    Thread thread = new Thread(() -> {
+      committer.appended();
+      committer.awaitCommit();
+      if (interrupted != null) {
+        interrupted.set(Thread.currentThread().isInterrupted());
+      }
+    });
+    thread.setDaemon(true);
+    thread.start();
+    return thread;
+  }
+
+  private void awaitWaiting(Thread thread) {
+    Awaitility.await().atMost(1, TimeUnit.MINUTES)
+        .until(() -> thread.getState() == Thread.State.WAITING);
+  }
+
+  private class TestCommitter extends OplogGroupCommitter {
+
+    final AtomicInteger flushes = new AtomicInteger();
+
+    private volatile CountDownLatch flushStarted;
+
+    private volatile CountDownLatch flushBlocker;
+
+    private CountDownLatch flushReleased;
+
+    private volatile boolean failNextFlush;
+
+    TestCommitter(long maxWaitNanos) {
+      super(null, OplogGroupCommitterJUnitTest.this.stats, maxWaitNanos);
+    }
+
+    void blockNextFlush() {
+      this.flushStarted = new CountDownLatch(1);
+      this.flushReleased = new CountDownLatch(1);
+      this.flushBlocker = this.flushReleased;
+    }
+
+    void awaitFlushStarted() throws InterruptedException {
+      assertTrue(this.flushStarted.await(1, TimeUnit.MINUTES));
+    }
+
+    void unblockFlush() {
+      this.flushReleased.countDown();
+    }
+
+    void failNextFlush() {
+      this.failNextFlush = true;
+    }
+
+    @Override
+    void flush() {
+      if (this.failNextFlush) {
+        this.failNextFlush = false;
+        throw new DiskAccessException(new IOException("test"));
+      }
+      CountDownLatch blocker = this.flushBlocker;
+      if (blocker != null) {
+        this.flushBlocker = null;
+        this.flushStarted.countDown();
+        try {
+          blocker.await(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      this.flushes.incrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.internal.cache.versions.VersionTag;
+import org.apache.geode.test.junit.categories.IntegrationTest;
+
+@Category(IntegrationTest.class)
+public class OplogRecoveryPrefetcherJUnitTest extends DiskRegionTestingBase {
+
+  private static final int ENTRIES = 3000;
+
+  @Override
+  protected final void postTearDown() throws Exception {
+    OplogRecoveryPrefetcher.RECOVERY_THREADS = 1;
+  }
+
+  @Test
+  public void testPrefetchedRecoveryRecoversTheSameEntries() throws IOException {
+    Region region = createRegion();
+    for (int i = 0; i < ENTRIES; i++) {
+      region.put("key" + i, createValue(i, 0));
+    }
+    for (int i = 0; i < ENTRIES; i += 3) {
+      region.put("key" + i, createValue(i, 1));
+    }
+    for (int i = 1; i < ENTRIES; i += 5) {
+      region.destroy("key" + i);
+    }
+    cache.close();
+    assertTrue(countCrfFiles() > 2);
+    backupDisk();
+
+    cache = createCache();
+    region = createRegion();
+    Map<String, byte[]> expectedValues = getValues(region);
+    HashMap<String, VersionTag> expectedTags = saveVersionTags((LocalRegion) region);
+    DiskStoreStats stats = getDiskStoreStats();
+    assertEquals(0, stats.getRecoveryPrefetchedBytes());
+    assertTrue(stats.getRecoveryDrfTime() > 0);
+    assertTrue(stats.getRecoveryCrfTime() > 0);
+    assertTrue(stats.getRecoveryRegionInitTime() > 0);
+    cache.close();
+
+    restoreDisk();
+    OplogRecoveryPrefetcher.RECOVERY_THREADS = 4;
+    cache = createCache();
+    region = createRegion();
+    assertTrue(getDiskStoreStats().getRecoveryPrefetchedBytes() > 0);
+    Map<String, byte[]> values = getValues(region);
+    assertEquals(expectedValues.keySet(), values.keySet());
+    for (Map.Entry<String, byte[]> entry : expectedValues.entrySet()) {
+      assertArrayEquals(entry.getKey(), entry.getValue(), values.get(entry.getKey()));
+    }
+    compareVersionTags(expectedTags, saveVersionTags((LocalRegion) region));
+  }
+
+  private Region createRegion() {
+    if (cache.findDiskStore("store") == null) {
+      cache.createDiskStoreFactory().setMaxOplogSize(1).setDiskDirs(dirs).create("store");
+    }
+    return cache.createRegionFactory().setDiskStoreName("store")
+        .setDataPolicy(DataPolicy.PERSISTENT_REPLICATE).create("regionName");
+  }
+
+  private DiskStoreStats getDiskStoreStats() {
+    return ((DiskStoreImpl) cache.findDiskStore("store")).getStats();
+  }
+
+  private int countCrfFiles() {
+    int count = 0;
+    for (File dir : dirs) {
+      for (String name : dir.list()) {
+        if (name.endsWith(Oplog.CRF_FILE_EXT)) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  private byte[] createValue(int key, int version) {
+    byte[] value = new byte[1024];
+    Arrays.fill(value, (byte) (key + version));
+    return value;
+  }
+
+  private Map<String, byte[]> getValues(Region region) {
+    Map<String, byte[]> values = new HashMap<String, byte[]>();
+    for (Object key : region.keySet()) {
+      values.put((String) key, (byte[]) region.get(key));
+    }
+    return values;
+  }
+
+  private void backupDisk() throws IOException {
+    File tmpDir = new File(dirs[0].getParent(), "backupDir");
+    tmpDir.mkdirs();
+    for (File file : dirs) {
+      FileUtils.copyDirectory(file, new File(tmpDir, file.getName()));
+    }
+  }
+
+  private void restoreDisk() throws IOException {
+    File tmpDir = new File(dirs[0].getParent(), "backupDir");
+    for (File file : dirs) {
+      FileUtils.deleteDirectory(file);
+      FileUtils.copyDirectory(new File(tmpDir, file.getName()), file);
+    }
+    FileUtils.deleteDirectory(tmpDir);
+  }
+}
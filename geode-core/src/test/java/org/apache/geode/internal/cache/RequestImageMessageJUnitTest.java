@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.internal.HeapDataOutputStream;
+import org.apache.geode.internal.InternalDataSerializer;
+import org.apache.geode.internal.Version;
+import org.apache.geode.internal.VersionedDataInputStream;
+import org.apache.geode.internal.cache.InitialImageOperation.RequestImageMessage;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class RequestImageMessageJUnitTest {
+
+  @Test
+  public void testNumSeriesIsSerialized() throws Exception {
+    RequestImageMessage m = new RequestImageMessage();
+    m.regionPath = "/region";
+    m.processorId = 7;
+    m.numSeries = 4;
+
+    HeapDataOutputStream hdos = new HeapDataOutputStream(Version.CURRENT);
+    m.toData(hdos);
+    RequestImageMessage received = new RequestImageMessage();
+    received.fromData(new DataInputStream(new ByteArrayInputStream(hdos.toByteArray())));
+
+    assertEquals("/region", received.regionPath);
+    assertEquals(7, received.getProcessorId());
+    assertEquals(4, received.numSeries);
+  }
+
+  @Test
+  public void testOlderPeerIsSentTheFormerFormat() throws Exception {
+    RequestImageMessage m = new RequestImageMessage();
+    m.regionPath = "/region";
+    m.processorId = 7;
+    m.numSeries = 4;
+
+    HeapDataOutputStream hdos = new HeapDataOutputStream(Version.GFE_91);
+    InternalDataSerializer.invokeToData(m, hdos);
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(hdos.toByteArray()));
+    RequestImageMessage received = new RequestImageMessage();
+    received.fromDataPre_GEODE_1_2_0_0(in);
+
+    assertEquals(0, in.available());
+    assertEquals("/region", received.regionPath);
+    assertEquals(7, received.getProcessorId());
+    assertEquals(1, received.numSeries);
+  }
+
+  @Test
+  public void testRequestOfOlderPeerIsOneSeries() throws Exception {
+    RequestImageMessage m = new RequestImageMessage();
+    m.regionPath = "/region";
+    m.processorId = 7;
+
+    HeapDataOutputStream hdos = new HeapDataOutputStream(Version.GFE_91);
+    m.toDataPre_GEODE_1_2_0_0(hdos);
+    DataInputStream in = new VersionedDataInputStream(
+        new ByteArrayInputStream(hdos.toByteArray()), Version.GFE_91);
+    RequestImageMessage received = new RequestImageMessage();
+    InternalDataSerializer.invokeFromData(received, in);
+
+    assertEquals(0, in.available());
+    assertEquals("/region", received.regionPath);
+    assertEquals(7, received.getProcessorId());
+    assertEquals(1, received.numSeries);
+  }
+
+  @Test
+  public void testImageIsOneSeriesByDefault() {
+    assertEquals(1, new RequestImageMessage().numSeries);
+  }
+}
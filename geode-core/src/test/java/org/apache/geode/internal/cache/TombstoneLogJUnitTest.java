@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.internal.cache.persistence.DiskStoreID;
+import org.apache.geode.internal.cache.versions.DiskRegionVersionVector;
+import org.apache.geode.internal.cache.versions.VersionSource;
+import org.apache.geode.internal.cache.versions.VersionTag;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class TombstoneLogJUnitTest {
+
+  private DiskStoreID provider;
+
+  private DiskRegionVersionVector requesterRVV;
+
+  @Before
+  public void setUp() {
+    this.provider = new DiskStoreID(0, 1);
+    this.requesterRVV = new DiskRegionVersionVector(new DiskStoreID(0, 2));
+    for (int i = 1; i <= 3; i++) {
+      this.requesterRVV.recordVersion(this.provider, i);
+    }
+  }
+
+  @Test
+  public void testUnseenTombstonesAreReturned() {
+    TombstoneLog log = new TombstoneLog(10);
+    log.start(Collections.<VersionSource, Long>emptyMap());
+    log.add("key1", this.provider, createTag(3));
+    log.add("key2", this.provider, createTag(4));
+    log.add("key3", this.provider, createTag(5));
+
+    assertTrue(log.canFill(this.requesterRVV));
+    List<InitialImageOperation.Entry> entries = log.getUnseenTombstones(this.requesterRVV);
+    assertEquals(2, entries.size());
+    assertEquals("key2", entries.get(0).key);
+    assertEquals(4, entries.get(0).getVersionTag().getRegionVersion());
+    assertEquals("key3", entries.get(1).key);
+  }
+
+  @Test
+  public void testTombstonesAreReplacedByKey() {
+    TombstoneLog log = new TombstoneLog(10);
+    log.start(Collections.<VersionSource, Long>emptyMap());
+    log.add("key1", this.provider, createTag(4));
+    log.add("key1", this.provider, createTag(6));
+
+    assertEquals(1, log.size());
+    assertEquals(6,
+        log.getUnseenTombstones(this.requesterRVV).get(0).getVersionTag().getRegionVersion());
+  }
+
+  @Test
+  public void testEvictedTombstonesRaiseTheFloor() {
+    TombstoneLog log = new TombstoneLog(2);
+    log.start(Collections.<VersionSource, Long>emptyMap());
+    log.add("key1", this.provider, createTag(4));
+    log.add("key2", this.provider, createTag(5));
+    log.add("key3", this.provider, createTag(6));
+
+    assertEquals(2, log.size());
+    assertFalse(log.canFill(this.requesterRVV));
+    this.requesterRVV.recordVersion(this.provider, 4);
+    assertTrue(log.canFill(this.requesterRVV));
+  }
+
+  @Test
+  public void testUnloggedTombstonesRaiseTheFloor() {
+    TombstoneLog log = new TombstoneLog(10);
+    log.start(Collections.<VersionSource, Long>emptyMap());
+    log.addUnlogged(this.provider, 4);
+
+    assertFalse(log.canFill(this.requesterRVV));
+  }
+
+  @Test
+  public void testNothingIsLoggedUntilStarted() {
+    TombstoneLog log = new TombstoneLog(10);
+    log.add("key1", this.provider, createTag(4));
+
+    assertEquals(0, log.size());
+    assertFalse(log.canFill(this.requesterRVV));
+
+    Map<VersionSource, Long> gcVersions = new HashMap<VersionSource, Long>();
+    gcVersions.put(this.provider, 3L);
+    log.start(gcVersions);
+    assertTrue(log.isStarted());
+    assertTrue(log.canFill(this.requesterRVV));
+  }
+
+  @Test
+  public void testClearMovesTheFloorToTheGCVersions() {
+    TombstoneLog log = new TombstoneLog(10);
+    log.start(Collections.<VersionSource, Long>emptyMap());
+    log.add("key1", this.provider, createTag(4));
+
+    Map<VersionSource, Long> gcVersions = new HashMap<VersionSource, Long>();
+    gcVersions.put(this.provider, 5L);
+    log.clear(gcVersions);
+    assertEquals(0, log.size());
+    assertFalse(log.canFill(this.requesterRVV));
+
+    log.clear(null);
+    assertFalse(log.isStarted());
+  }
+
+  private VersionTag createTag(long regionVersion) {
+    VersionTag tag = VersionTag.create(this.provider);
+    tag.setEntryVersion(1);
+    tag.setRegionVersion(regionVersion);
+    tag.setVersionTimeStamp(System.currentTimeMillis());
+    return tag;
+  }
+}
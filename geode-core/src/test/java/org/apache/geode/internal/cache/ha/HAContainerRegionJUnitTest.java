@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.ha;
+
+import static org.apache.geode.distributed.ConfigurationProperties.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
+import org.apache.geode.internal.cache.EnumListenerEvent;
+import org.apache.geode.internal.cache.EventID;
+import org.apache.geode.internal.cache.GemFireCacheImpl;
+import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.cache.tier.sockets.CacheClientProxy;
+import org.apache.geode.internal.cache.tier.sockets.ClientProxyMembershipID;
+import org.apache.geode.internal.cache.tier.sockets.ClientUpdateMessageImpl;
+import org.apache.geode.internal.cache.tier.sockets.ClientUpdateMessageImpl.CqNameToOpSingleEntry;
+import org.apache.geode.internal.cache.tier.sockets.HAEventWrapper;
+import org.apache.geode.internal.offheap.MemoryAllocator;
+import org.apache.geode.test.junit.categories.IntegrationTest;
+
+/**
+ * Tests that an {@link HAContainerRegion} whose messages are kept off-heap keeps the CQs and
+ * interest that each client queuing an event adds to its message.
+ */
+@Category(IntegrationTest.class)
+public class HAContainerRegionJUnitTest {
+
+  private Cache cache;
+
+  private LocalRegion dataRegion;
+
+  private HAContainerRegion container;
+
+  private ClientProxyMembershipID client1;
+
+  private ClientProxyMembershipID client2;
+
+  @Before
+  public void setUp() throws Exception {
+    Properties props = new Properties();
+    props.setProperty(MCAST_PORT, "0");
+    props.setProperty(LOCATORS, "");
+    props.setProperty(OFF_HEAP_MEMORY_SIZE, "1m");
+    this.cache = new CacheFactory(props).create();
+    this.dataRegion =
+        (LocalRegion) this.cache.createRegionFactory(RegionShortcut.LOCAL).create("data");
+    Region region =
+        this.cache.createRegionFactory(RegionShortcut.LOCAL).setOffHeap(true).create("container");
+    this.container = new HAContainerRegion(region);
+
+    this.client1 = new ClientProxyMembershipID(new InternalDistributedMember("localhost", 1));
+    this.client2 = new ClientProxyMembershipID(new InternalDistributedMember("localhost", 2));
+    this.container.putProxy("queue1", createProxy(this.client1));
+    this.container.putProxy("queue2", createProxy(this.client2));
+  }
+
+  @After
+  public void tearDown() {
+    if (this.cache != null && !this.cache.isClosed()) {
+      this.cache.close();
+    }
+  }
+
+  @Test
+  public void testInterestOfEachClientIsKept() {
+    ClientUpdateMessageImpl msg = createMessage();
+    msg.addClientInterestList(this.client1, true);
+    HAEventWrapper original = new HAEventWrapper(msg);
+    assertNull(this.container.putIfAbsent(original, msg));
+
+    ClientUpdateMessageImpl msg2 = createMessage();
+    msg2.addClientInterestList(this.client2, false);
+    HAEventWrapper wrapper = new HAEventWrapper(msg2);
+    assertNotNull(this.container.putIfAbsent(wrapper, msg2));
+    synchronized (original) {
+      this.container.addClientCQsAndInterestList(original, wrapper, "queue2");
+    }
+
+    ClientUpdateMessageImpl stored = (ClientUpdateMessageImpl) this.container.get(original);
+    assertNotSame(msg, stored);
+    assertTrue(stored.isClientInterestedInUpdates(this.client1));
+    assertTrue(stored.isClientInterestedInInvalidates(this.client2));
+    assertEquals(original.getEventId(), stored.getEventId());
+  }
+
+  @Test
+  public void testCqsOfAClientQueuingAnEventWithoutCqsAreKept() {
+    ClientUpdateMessageImpl msg = createMessage();
+    msg.addClientInterestList(this.client1, true);
+    HAEventWrapper original = new HAEventWrapper(msg);
+    assertNull(this.container.putIfAbsent(original, msg));
+
+    ClientUpdateMessageImpl msg2 = createMessage();
+    msg2.addClientCqs(this.client2, new CqNameToOpSingleEntry("cq", 1));
+    HAEventWrapper wrapper = new HAEventWrapper(msg2);
+    synchronized (original) {
+      this.container.addClientCQsAndInterestList(original, wrapper, "queue2");
+    }
+
+    ClientUpdateMessageImpl stored = (ClientUpdateMessageImpl) this.container.get(original);
+    assertTrue(stored.hasCqs(this.client2));
+    assertFalse(stored.hasCqs(this.client1));
+    assertTrue(stored.isClientInterestedInUpdates(this.client1));
+    assertNotNull(original.getClientCqs());
+  }
+
+  @Test
+  public void testRemovedEventFreesItsOffHeapMessage() {
+    MemoryAllocator offHeapStore = ((GemFireCacheImpl) this.cache).getOffHeapStore();
+    long usedMemory = offHeapStore.getUsedMemory();
+    ClientUpdateMessageImpl msg = createMessage();
+    HAEventWrapper original = new HAEventWrapper(msg);
+    this.container.putIfAbsent(original, msg);
+    assertTrue(offHeapStore.getUsedMemory() > usedMemory);
+
+    assertNotNull(this.container.remove(original));
+    assertNull(this.container.get(original));
+    assertEquals(usedMemory, offHeapStore.getUsedMemory());
+  }
+
+  private ClientUpdateMessageImpl createMessage() {
+    return new ClientUpdateMessageImpl(EnumListenerEvent.AFTER_UPDATE, this.dataRegion, "key",
+        "value".getBytes(), (byte) 0x01, null, this.client1, new EventID(new byte[] {1}, 1L, 1L));
+  }
+
+  private CacheClientProxy createProxy(ClientProxyMembershipID proxyId) {
+    CacheClientProxy proxy = mock(CacheClientProxy.class);
+    when(proxy.getProxyID()).thenReturn(proxyId);
+    return proxy;
+  }
+}
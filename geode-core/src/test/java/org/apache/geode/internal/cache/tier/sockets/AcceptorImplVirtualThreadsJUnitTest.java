@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets;
+
+import static org.apache.geode.distributed.ConfigurationProperties.*;
+import static org.junit.Assert.*;
+
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.PoolManager;
+import org.apache.geode.cache.execute.FunctionAdapter;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.server.CacheServer;
+import org.apache.geode.internal.logging.LoggingThreadGroup;
+import org.apache.geode.internal.util.concurrent.VirtualThreads;
+import org.apache.geode.test.junit.categories.ClientServerTest;
+import org.apache.geode.test.junit.categories.IntegrationTest;
+
+/**
+ * Tests which threads a cache server using the selector services client connections with, both
+ * when BridgeServer.USE_VIRTUAL_THREADS is off and when it is on, in which case the JVM decides
+ * whether virtual threads are used or the server falls back to its platform threads.
+ */
+@Category({IntegrationTest.class, ClientServerTest.class})
+public class AcceptorImplVirtualThreadsJUnitTest {
+
+  private static volatile Thread serverThread;
+
+  private boolean wasUsingVirtualThreads;
+
+  private Cache cache;
+
+  private Pool pool;
+
+  @Before
+  public void setUp() throws Exception {
+    this.wasUsingVirtualThreads = AcceptorImpl.USE_VIRTUAL_THREADS;
+    Properties props = new Properties();
+    props.setProperty(MCAST_PORT, "0");
+    props.setProperty(LOCATORS, "");
+    this.cache = new CacheFactory(props).create();
+    FunctionService.registerFunction(new RecordServerThread());
+  }
+
+  @After
+  public void tearDown() {
+    AcceptorImpl.USE_VIRTUAL_THREADS = this.wasUsingVirtualThreads;
+    serverThread = null;
+    if (this.pool != null) {
+      this.pool.destroy();
+    }
+    if (this.cache != null && !this.cache.isClosed()) {
+      this.cache.close();
+    }
+  }
+
+  @Test
+  public void testPlatformThreadsAreUsedByDefault() throws Exception {
+    AcceptorImpl.USE_VIRTUAL_THREADS = false;
+    Thread thread = executeOnServer();
+
+    assertFalse(isVirtual(thread));
+    assertTrue(thread.getThreadGroup() instanceof LoggingThreadGroup);
+    assertTrue(thread.getName().startsWith("ServerConnection on port"));
+  }
+
+  @Test
+  public void testVirtualThreadsAreUsedWhenTheJvmHasThem() throws Exception {
+    AcceptorImpl.USE_VIRTUAL_THREADS = true;
+    Thread thread = executeOnServer();
+
+    if (VirtualThreads.createFactory() == null) {
+      // falls back to the platform threads
+      assertFalse(isVirtual(thread));
+      assertTrue(thread.getThreadGroup() instanceof LoggingThreadGroup);
+    } else {
+      assertTrue(isVirtual(thread));
+    }
+    assertTrue(thread.getName().startsWith("ServerConnection on port"));
+    assertTrue(thread.getUncaughtExceptionHandler() instanceof LoggingThreadGroup);
+  }
+
+  private Thread executeOnServer() throws Exception {
+    CacheServer server = this.cache.addCacheServer();
+    server.setPort(0);
+    server.setMaxThreads(2);
+    server.start();
+    this.pool = PoolManager.createFactory().addServer("localhost", server.getPort())
+        .setMinConnections(1).create("pool");
+
+    FunctionService.onServer(this.pool).execute(RecordServerThread.ID).getResult();
+    assertNotNull(serverThread);
+    return serverThread;
+  }
+
+  private static boolean isVirtual(Thread thread) throws Exception {
+    try {
+      return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static class RecordServerThread extends FunctionAdapter {
+    static final String ID = "RecordServerThread";
+
+    @Override
+    public void execute(FunctionContext context) {
+      serverThread = Thread.currentThread();
+      context.getResultSender().lastResult(Boolean.TRUE);
+    }
+
+    @Override
+    public String getId() {
+      return ID;
+    }
+  }
+}
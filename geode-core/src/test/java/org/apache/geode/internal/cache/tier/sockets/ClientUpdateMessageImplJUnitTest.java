@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.internal.Version;
+import org.apache.geode.internal.cache.EnumListenerEvent;
+import org.apache.geode.internal.cache.EventID;
+import org.apache.geode.internal.cache.persistence.DiskStoreID;
+import org.apache.geode.internal.cache.tier.sockets.ClientUpdateMessageImpl.SerializedParts;
+import org.apache.geode.internal.cache.versions.VersionTag;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class ClientUpdateMessageImplJUnitTest {
+
+  private final Object key = Long.valueOf(42L);
+
+  private final Object callbackArgument = new ArrayList<String>(Arrays.asList("a", "b"));
+
+  private final EventID eventId = new EventID(new byte[] {1, 2, 3}, 4L, 5L);
+
+  @Test
+  public void testSharedPartsMatchObjPartsForCurrentClients() {
+    assertSharedPartsMatchObjParts(Version.CURRENT);
+  }
+
+  @Test
+  public void testSharedPartsMatchObjPartsForOlderClients() {
+    assertSharedPartsMatchObjParts(Version.GFE_82);
+  }
+
+  @Test
+  public void testSizeIncludesTheSharedParts() {
+    SerializedParts parts = new SerializedParts(Version.CURRENT, this.key, this.callbackArgument,
+        createVersionTag(), this.eventId, null);
+
+    int partBytes = parts.key.length + parts.callbackArgument.length + parts.versionTag.length
+        + parts.eventId.length;
+    assertTrue(parts.getSizeInBytes() > partBytes);
+  }
+
+  @Test
+  public void testPartsOfEachClientVersionAreKept() {
+    ClientUpdateMessageImpl message =
+        new ClientUpdateMessageImpl(EnumListenerEvent.AFTER_UPDATE, null, this.eventId);
+    CacheClientProxy proxy = mock(CacheClientProxy.class);
+
+    SerializedParts current = message.getSerializedParts(proxy, Version.CURRENT);
+    SerializedParts older = message.getSerializedParts(proxy, Version.GFE_82);
+    assertNotSame(current, older);
+    assertEquals(Version.CURRENT, current.version);
+    assertEquals(Version.GFE_82, older.version);
+
+    assertSame(current, message.getSerializedParts(proxy, Version.CURRENT));
+    assertSame(older, message.getSerializedParts(proxy, Version.GFE_82));
+    assertTrue(message.getSizeInBytes() > current.getSizeInBytes() + older.getSizeInBytes());
+  }
+
+  private void assertSharedPartsMatchObjParts(Version version) {
+    VersionTag versionTag = createVersionTag();
+    SerializedParts parts =
+        new SerializedParts(version, this.key, this.callbackArgument, versionTag, this.eventId, null);
+
+    Message expected = createMessage(version);
+    expected.addObjPart(this.key);
+    expected.addObjPart(this.callbackArgument);
+    expected.addObjPart(versionTag);
+    expected.addObjPart(this.eventId);
+
+    Message shared = createMessage(version);
+    parts.addKeyPart(shared, this.key);
+    parts.addCallbackArgumentPart(shared, this.callbackArgument);
+    shared.addRawPart(parts.versionTag, true);
+    shared.addRawPart(parts.eventId, true);
+
+    for (int i = 0; i < 4; i++) {
+      Part expectedPart = expected.getPart(i);
+      Part sharedPart = shared.getPart(i);
+      assertEquals("type of part " + i, expectedPart.getTypeCode(), sharedPart.getTypeCode());
+      assertArrayEquals("bytes of part " + i, getBytes(expectedPart), getBytes(sharedPart));
+    }
+  }
+
+  private Message createMessage(Version version) {
+    Message message = new Message(4, Version.CURRENT);
+    message.setVersion(version);
+    return message;
+  }
+
+  private VersionTag createVersionTag() {
+    VersionTag versionTag = VersionTag.create(new DiskStoreID(1L, 2L));
+    versionTag.setEntryVersion(3);
+    versionTag.setRegionVersion(4L);
+    return versionTag;
+  }
+
+  private byte[] getBytes(Part part) {
+    ByteBuffer buffer = ByteBuffer.allocate(part.getLength());
+    part.writeTo(buffer);
+    return buffer.array();
+  }
+}
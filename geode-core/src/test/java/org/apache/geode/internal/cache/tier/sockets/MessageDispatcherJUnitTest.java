@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.internal.cache.EventID;
+import org.apache.geode.internal.cache.ha.HARegionQueue;
+import org.apache.geode.internal.cache.ha.HARegionQueueStats;
+import org.apache.geode.internal.cache.tier.sockets.CacheClientProxy.MessageDispatcher;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class MessageDispatcherJUnitTest {
+
+  private CacheClientProxy proxy;
+
+  private CacheClientProxyStats proxyStats;
+
+  private MessageDispatcher dispatcher;
+
+  private List<ClientMessage> batch;
+
+  private List<Message> messages;
+
+  @Before
+  public void setUp() throws Exception {
+    this.proxy = mock(CacheClientProxy.class);
+    this.proxyStats = mock(CacheClientProxyStats.class);
+    when(this.proxy.getStatistics()).thenReturn(this.proxyStats);
+    HARegionQueue queue = mock(HARegionQueue.class);
+    when(queue.getStatistics()).thenReturn(mock(HARegionQueueStats.class));
+    this.dispatcher = new MessageDispatcher(this.proxy, "dispatcher", queue);
+
+    this.batch = new ArrayList<ClientMessage>();
+    this.messages = new ArrayList<Message>();
+    for (int i = 0; i < 4; i++) {
+      ClientMessage clientMessage = mock(ClientMessage.class);
+      Message message = mock(Message.class);
+      when(clientMessage.getEventId()).thenReturn(new EventID(new byte[] {1}, 1, i));
+      when(clientMessage.getMessage(this.proxy, true)).thenReturn(message);
+      this.batch.add(clientMessage);
+      this.messages.add(message);
+    }
+  }
+
+  @Test
+  public void testBatchIsSentInOneFlush() throws Exception {
+    assertTrue(this.dispatcher.dispatchBatch(this.batch));
+
+    for (Message message : this.messages) {
+      verify(message).sendBuffered();
+    }
+    verify(this.messages.get(0), never()).flush();
+    verify(this.messages.get(3)).flush();
+    verify(this.proxyStats).endMessageBatch(4);
+  }
+}
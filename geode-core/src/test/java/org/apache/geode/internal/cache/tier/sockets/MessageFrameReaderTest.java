@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.test.junit.categories.ClientServerTest;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category({UnitTest.class, ClientServerTest.class})
+public class MessageFrameReaderTest {
+
+  @Test
+  public void frameIsReadyOnlyOnceAllBytesHaveArrived() throws Exception {
+    byte[] frame = createFrame(10);
+    ChunkedChannel channel = new ChunkedChannel(frame, 4);
+    MessageFrameReader reader = new MessageFrameReader(1024);
+
+    int reads = 0;
+    while (!reader.readFrom(channel)) {
+      channel.allowMore();
+      reads++;
+    }
+
+    assertThat(reads).isGreaterThan(0);
+    ByteBuffer bytes = reader.takeBytes();
+    assertThat(bytes.remaining()).isEqualTo(frame.length);
+    assertThat(reader.hasBytes()).isFalse();
+  }
+
+  @Test
+  public void readerDoesNotConsumeBytesOfTheNextFrame() throws Exception {
+    byte[] first = createFrame(3);
+    byte[] second = createFrame(5);
+    byte[] both = new byte[first.length + second.length];
+    System.arraycopy(first, 0, both, 0, first.length);
+    System.arraycopy(second, 0, both, first.length, second.length);
+    ChunkedChannel channel = new ChunkedChannel(both, both.length);
+    MessageFrameReader reader = new MessageFrameReader(1024);
+
+    assertThat(reader.readFrom(channel)).isTrue();
+    assertThat(reader.takeBytes().remaining()).isEqualTo(first.length);
+    assertThat(reader.readFrom(channel)).isTrue();
+    assertThat(reader.takeBytes().remaining()).isEqualTo(second.length);
+  }
+
+  @Test
+  public void onlyTheHeaderIsBufferedForLargeFrames() throws Exception {
+    byte[] frame = createFrame(100);
+    ChunkedChannel channel = new ChunkedChannel(frame, frame.length);
+    MessageFrameReader reader = new MessageFrameReader(50);
+
+    assertThat(reader.readFrom(channel)).isTrue();
+    assertThat(reader.takeBytes().remaining()).isEqualTo(Message.FIXED_LENGTH);
+  }
+
+  @Test
+  public void framesAreBufferedOnlyWithinTheSharedBudget() throws Exception {
+    byte[] frame = createFrame(10);
+    AtomicLong budget = new AtomicLong(frame.length + 5);
+    MessageFrameReader first = new MessageFrameReader(1024, budget);
+    MessageFrameReader second = new MessageFrameReader(1024, budget);
+    ChunkedChannel firstChannel = new ChunkedChannel(frame, Message.FIXED_LENGTH + 1);
+    ChunkedChannel secondChannel = new ChunkedChannel(frame, frame.length);
+
+    assertThat(first.readFrom(firstChannel)).isFalse();
+    assertThat(budget.get()).isEqualTo(5);
+    // the budget left is too small, so only the header of the second frame is handed off
+    assertThat(second.readFrom(secondChannel)).isTrue();
+    assertThat(second.takeBytes().remaining()).isEqualTo(Message.FIXED_LENGTH);
+    assertThat(budget.get()).isEqualTo(5);
+
+    firstChannel.allowMore();
+    assertThat(first.readFrom(firstChannel)).isTrue();
+    assertThat(first.takeBytes().remaining()).isEqualTo(frame.length);
+    assertThat(budget.get()).isEqualTo(frame.length + 5);
+  }
+
+  @Test
+  public void releaseGivesBackTheBudget() throws Exception {
+    byte[] frame = createFrame(10);
+    AtomicLong budget = new AtomicLong(1024);
+    MessageFrameReader reader = new MessageFrameReader(1024, budget);
+
+    assertThat(reader.readFrom(new ChunkedChannel(frame, Message.FIXED_LENGTH + 1))).isFalse();
+    assertThat(budget.get()).isEqualTo(1024 - frame.length);
+    reader.release();
+    assertThat(reader.hasBytes()).isFalse();
+    assertThat(budget.get()).isEqualTo(1024);
+  }
+
+  @Test
+  public void endOfStreamIsReported() throws Exception {
+    byte[] frame = createFrame(10);
+    byte[] truncated = new byte[frame.length - 1];
+    System.arraycopy(frame, 0, truncated, 0, truncated.length);
+    ChunkedChannel channel = new ChunkedChannel(truncated, truncated.length);
+    channel.closeAtEnd();
+    MessageFrameReader reader = new MessageFrameReader(1024);
+
+    assertThatThrownBy(() -> reader.readFrom(channel)).isInstanceOf(EOFException.class);
+  }
+
+  private byte[] createFrame(int payloadLength) {
+    ByteBuffer bb = ByteBuffer.allocate(Message.FIXED_LENGTH + payloadLength);
+    bb.putInt(1).putInt(payloadLength).putInt(1).putInt(0).put((byte) 0);
+    while (bb.hasRemaining()) {
+      bb.put((byte) 7);
+    }
+    return bb.array();
+  }
+
+  /**
+   * A non-blocking channel that makes only a few bytes available at a time.
+   */
+  private static class ChunkedChannel implements ReadableByteChannel {
+    private final byte[] bytes;
+    private final int chunkSize;
+    private int position;
+    private int available;
+    private boolean closeAtEnd;
+
+    ChunkedChannel(byte[] bytes, int chunkSize) {
+      this.bytes = bytes;
+      this.chunkSize = chunkSize;
+      this.available = Math.min(chunkSize, bytes.length);
+    }
+
+    void allowMore() {
+      this.available = Math.min(this.available + this.chunkSize, this.bytes.length);
+    }
+
+    void closeAtEnd() {
+      this.closeAtEnd = true;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) {
+      if (this.position == this.bytes.length && this.closeAtEnd) {
+        return -1;
+      }
+      int count = Math.min(dst.remaining(), this.available - this.position);
+      dst.put(this.bytes, this.position, count);
+      this.position += count;
+      return count;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -17,13 +17,16 @@ package org.apache.geode.internal.cache.tier.sockets;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayOutputStream;
 import java.net.Socket;
 import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
 
 import org.apache.geode.test.junit.categories.ClientServerTest;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.mockito.invocation.InvocationOnMock;
 
 import org.apache.geode.internal.Version;
 import org.apache.geode.test.junit.categories.UnitTest;
@@ -118,6 +121,65 @@ public class MessageJUnitTest {
     verify(mockPart1, times(2)).clear();
   }
 
+  @Test
+  public void bufferedMessagesAreWrittenToTheSocketWhenFlushed() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Socket socket = mock(Socket.class);
+    when(socket.getOutputStream()).thenReturn(out);
+    message.setComms(mockServerConnection, socket, msgBuffer, mockStats);
+
+    message.setNumberOfParts(1);
+    message.addIntPart(1);
+    message.sendBuffered();
+    assertEquals(0, out.size());
+
+    message.setNumberOfParts(1);
+    message.addIntPart(2);
+    message.sendBuffered();
+    assertEquals(0, out.size());
+
+    message.flush();
+    // each message is a fixed length header, a part header and a four byte int
+    assertEquals(2 * (Message.FIXED_LENGTH + 5 + 4), out.size());
+  }
+
+  @Test
+  public void partLargerThanTheBufferIsWrittenWithItsHeadersInOneGatheringWrite()
+      throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    SocketChannel channel = mock(SocketChannel.class);
+    when(channel.write(any(ByteBuffer[].class), anyInt(), anyInt()))
+        .thenAnswer((InvocationOnMock invocation) -> {
+          ByteBuffer[] srcs = (ByteBuffer[]) invocation.getArguments()[0];
+          long written = 0;
+          for (ByteBuffer src : srcs) {
+            while (src.hasRemaining()) {
+              out.write(src.get());
+              written++;
+            }
+          }
+          return written;
+        });
+    Socket socket = mock(Socket.class);
+    when(socket.getChannel()).thenReturn(channel);
+    message.setComms(mockServerConnection, socket, msgBuffer, mockStats);
+
+    byte[] bytes = new byte[2 * msgBuffer.capacity()];
+    bytes[bytes.length - 1] = 7;
+    message.setNumberOfParts(1);
+    message.addBytesPart(bytes);
+    message.send();
+
+    verify(channel, times(1)).write(any(ByteBuffer[].class), anyInt(), anyInt());
+    verify(channel, never()).write(any(ByteBuffer.class));
+    // a fixed length header, a part header and the part
+    int length = Message.FIXED_LENGTH + 5 + bytes.length;
+    assertEquals(length, out.size());
+    assertEquals(7, out.toByteArray()[length - 1]);
+    verify(mockStats).incSentBytes(length - bytes.length);
+    verify(mockStats).incSentBytes(bytes.length);
+  }
+
   // TODO many more tests are needed
 
 }
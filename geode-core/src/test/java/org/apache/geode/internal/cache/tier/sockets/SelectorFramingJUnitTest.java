@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets;
+
+import static org.apache.geode.distributed.ConfigurationProperties.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.client.PoolManager;
+import org.apache.geode.cache.client.internal.Connection;
+import org.apache.geode.cache.client.internal.PoolImpl;
+import org.apache.geode.internal.Version;
+import org.apache.geode.internal.cache.CacheServerImpl;
+import org.apache.geode.internal.cache.tier.MessageType;
+import org.apache.geode.test.junit.categories.ClientServerTest;
+import org.apache.geode.test.junit.categories.IntegrationTest;
+
+/**
+ * Tests that a cache server with {@link AcceptorImpl#SELECTOR_FRAMING} enabled answers requests
+ * whose header and payload arrive in separate pieces, across several selector wake ups.
+ */
+@Category({IntegrationTest.class, ClientServerTest.class})
+public class SelectorFramingJUnitTest {
+
+  private static final int REQUESTS = 5;
+
+  private boolean wasFraming;
+
+  private Cache cache;
+
+  private CacheServerImpl server;
+
+  private PoolImpl pool;
+
+  private Connection pooled;
+
+  @Before
+  public void setUp() throws Exception {
+    this.wasFraming = AcceptorImpl.SELECTOR_FRAMING;
+    AcceptorImpl.SELECTOR_FRAMING = true;
+
+    Properties props = new Properties();
+    props.setProperty(MCAST_PORT, "0");
+    props.setProperty(LOCATORS, "");
+    this.cache = new CacheFactory(props).create();
+    Region<String, String> region =
+        this.cache.<String, String>createRegionFactory(RegionShortcut.REPLICATE).create("region");
+    for (int i = 0; i < REQUESTS; i++) {
+      region.put("key" + i, "value" + i);
+    }
+
+    this.server = (CacheServerImpl) this.cache.addCacheServer();
+    this.server.setPort(0);
+    // a bounded thread pool makes the server use the selector
+    this.server.setMaxThreads(2);
+    this.server.start();
+
+    this.pool = (PoolImpl) PoolManager.createFactory().addServer("localhost", this.server.getPort())
+        .create("pool");
+  }
+
+  @After
+  public void tearDown() {
+    AcceptorImpl.SELECTOR_FRAMING = this.wasFraming;
+    if (this.pooled != null) {
+      this.pool.returnConnection(this.pooled);
+    }
+    if (this.pool != null) {
+      this.pool.destroy();
+    }
+    if (this.cache != null && !this.cache.isClosed()) {
+      this.cache.close();
+    }
+  }
+
+  @Test
+  public void testRequestsSplitAcrossSelectorWakeupsAreAnswered() throws Exception {
+    this.pooled = this.pool.acquireConnection();
+    Connection cnx = this.pool.getConnection(this.pooled);
+    Statistics stats = this.server.getAcceptor().getStats().getStats();
+    long framesRead = stats.getLong("selectorFramesRead");
+    OutputStream out = cnx.getSocket().getOutputStream();
+
+    for (int i = 0; i < REQUESTS; i++) {
+      byte[] request = createGetRequest("key" + i, i);
+      // the header arrives in two pieces and the payload in a third
+      writeAndPause(out, request, 0, 8);
+      writeAndPause(out, request, 8, Message.FIXED_LENGTH - 8);
+      Awaitility.await().atMost(30, TimeUnit.SECONDS)
+          .until(() -> stats.getInt("selectorPartialFrames") == 1);
+      writeAndPause(out, request, Message.FIXED_LENGTH, request.length - Message.FIXED_LENGTH);
+
+      Message response = new Message(1, Version.CURRENT);
+      response.setComms(cnx.getSocket(), cnx.getInputStream(), cnx.getOutputStream(),
+          cnx.getCommBuffer(), null);
+      response.recv();
+      assertEquals(MessageType.RESPONSE, response.getMessageType());
+      assertEquals(i, response.getTransactionId());
+      assertEquals("value" + i, response.getPart(0).getObject());
+    }
+
+    assertTrue(stats.getLong("selectorFramesRead") >= framesRead + REQUESTS);
+    assertEquals(0, stats.getInt("selectorPartialFrames"));
+  }
+
+  private byte[] createGetRequest(String key, int transactionId) throws Exception {
+    Message request = new Message(2, Version.CURRENT);
+    request.setMessageType(MessageType.REQUEST);
+    request.setTransactionId(transactionId);
+    request.addStringPart("/region");
+    request.addStringOrObjPart(key);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Socket socket = mock(Socket.class);
+    when(socket.getOutputStream()).thenReturn(bytes);
+    request.setComms(socket, ByteBuffer.allocate(1024), null);
+    request.send();
+    return bytes.toByteArray();
+  }
+
+  private void writeAndPause(OutputStream out, byte[] bytes, int offset, int length)
+      throws Exception {
+    out.write(bytes, offset, length);
+    out.flush();
+    Thread.sleep(100);
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.net;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class BufferPoolJUnitTest {
+
+  @Test
+  public void testBuffersAreSizeClassedAndReused() {
+    BufferPool pool = new BufferPool(64 * 1024, 1024 * 1024);
+    ByteBuffer bb = pool.acquire(3000);
+    assertTrue(bb.isDirect());
+    assertEquals(4096, bb.capacity());
+    assertEquals(3000, bb.limit());
+    assertEquals(0, bb.position());
+    assertEquals(1, pool.getBuffersInUse());
+
+    bb.put((byte) 1);
+    pool.release(bb);
+    assertEquals(0, pool.getBuffersInUse());
+    assertEquals(4096, pool.getFreeBytes());
+
+    ByteBuffer reused = pool.acquire(4000);
+    assertSame(bb, reused);
+    assertEquals(0, reused.position());
+    assertEquals(4000, reused.limit());
+    assertEquals(1, pool.getAllocations());
+  }
+
+  @Test
+  public void testReleasingTwiceDoesNotShareABuffer() {
+    BufferPool pool = new BufferPool(64 * 1024, 1024 * 1024);
+    ByteBuffer bb = pool.acquire(1024);
+    pool.release(bb);
+    pool.release(bb);
+    assertEquals(1024, pool.getFreeBytes());
+
+    assertSame(bb, pool.acquire(1024));
+    assertNotSame(bb, pool.acquire(1024));
+  }
+
+  @Test
+  public void testExhaustedPoolReturnsHeapBuffers() {
+    BufferPool pool = new BufferPool(64 * 1024, 8192);
+    ByteBuffer bb = pool.acquire(8192);
+    assertTrue(bb.isDirect());
+
+    ByteBuffer fallback = pool.acquire(1024);
+    assertFalse(fallback.isDirect());
+    assertEquals(1024, fallback.limit());
+    assertEquals(1, pool.getExhaustions());
+    assertEquals(8192, pool.getAllocatedBytes());
+
+    pool.release(fallback);
+    assertEquals(1, pool.getBuffersInUse());
+  }
+
+  @Test
+  public void testFreeBuffersAreDroppedToMakeRoom() {
+    BufferPool pool = new BufferPool(64 * 1024, 8192);
+    pool.release(pool.acquire(8192));
+    assertEquals(8192, pool.getFreeBytes());
+
+    ByteBuffer bb = pool.acquire(1024);
+    assertTrue(bb.isDirect());
+    assertEquals(0, pool.getFreeBytes());
+    assertEquals(1024, pool.getAllocatedBytes());
+    assertEquals(0, pool.getExhaustions());
+  }
+
+  @Test
+  public void testLargeBuffersAreNotPooled() {
+    BufferPool pool = new BufferPool(64 * 1024, 1024 * 1024);
+    ByteBuffer bb = pool.acquire(100 * 1024);
+    assertTrue(bb.isDirect());
+    assertEquals(100 * 1024, bb.capacity());
+    assertEquals(0, pool.getBuffersInUse());
+    assertEquals(0, pool.getAllocatedBytes());
+
+    pool.release(bb);
+    assertEquals(0, pool.getFreeBytes());
+  }
+}
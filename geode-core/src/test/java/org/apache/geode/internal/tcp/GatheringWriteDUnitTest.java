@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.tcp;
+
+import static org.apache.geode.distributed.ConfigurationProperties.*;
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.internal.cache.OffHeapTestUtil;
+import org.apache.geode.test.dunit.Host;
+import org.apache.geode.test.dunit.Invoke;
+import org.apache.geode.test.dunit.SerializableRunnable;
+import org.apache.geode.test.dunit.VM;
+import org.apache.geode.test.dunit.cache.internal.JUnit4CacheTestCase;
+import org.apache.geode.test.junit.categories.DistributedTest;
+import org.apache.geode.test.junit.categories.MembershipTest;
+
+/**
+ * Tests that off-heap values, which {@link MsgStreamer} sends from their direct buffer with
+ * gathering writes instead of copying them into its chunk buffer, reach every peer intact.
+ */
+@Category({DistributedTest.class, MembershipTest.class})
+public class GatheringWriteDUnitTest extends JUnit4CacheTestCase {
+
+  private static final String REGION_NAME = "region";
+
+  /** Large enough to be sent in several chunks, each ending with a slice of the value */
+  private static final int VALUE_SIZE = 100 * 1024;
+
+  @Override
+  public final void preTearDownCacheTestCase() throws Exception {
+    SerializableRunnable checkOrphans = new SerializableRunnable() {
+      @Override
+      public void run() {
+        if (hasCache()) {
+          OffHeapTestUtil.checkOrphans();
+        }
+      }
+    };
+    Invoke.invokeInEveryVM(checkOrphans);
+    checkOrphans.run();
+  }
+
+  @Override
+  public Properties getDistributedSystemProperties() {
+    Properties props = super.getDistributedSystemProperties();
+    props.setProperty(OFF_HEAP_MEMORY_SIZE, "10m");
+    return props;
+  }
+
+  @Test
+  public void testPeersReceiveTheSameBytes() {
+    Host host = Host.getHost(0);
+    VM sender = host.getVM(0);
+    VM receiver1 = host.getVM(1);
+    VM receiver2 = host.getVM(2);
+    sender.invoke(() -> createRegion());
+    receiver1.invoke(() -> createRegion());
+    receiver2.invoke(() -> createRegion());
+
+    sender.invoke(() -> {
+      Region<String, byte[]> region = getCache().getRegion(REGION_NAME);
+      // a create and then an update of the same key
+      region.put("key", createValue(1));
+      region.put("key", createValue(2));
+      Map<String, byte[]> values = new HashMap<String, byte[]>();
+      for (int i = 0; i < 5; i++) {
+        values.put("putAll" + i, createValue(10 + i));
+      }
+      region.putAll(values);
+    });
+
+    receiver1.invoke(() -> checkValues());
+    receiver2.invoke(() -> checkValues());
+  }
+
+  private void createRegion() {
+    getCache().createRegionFactory(RegionShortcut.REPLICATE).setOffHeap(true)
+        .create(REGION_NAME);
+  }
+
+  private void checkValues() {
+    Region<String, byte[]> region = getCache().getRegion(REGION_NAME);
+    assertArrayEquals(createValue(2), region.get("key"));
+    for (int i = 0; i < 5; i++) {
+      assertArrayEquals(createValue(10 + i), region.get("putAll" + i));
+    }
+  }
+
+  /**
+   * Returns a value whose bytes differ from one chunk to the next, so a chunk sent twice or out of
+   * place changes it
+   */
+  private static byte[] createValue(int seed) {
+    byte[] value = new byte[VALUE_SIZE];
+    for (int i = 0; i < value.length; i++) {
+      value[i] = (byte) (seed + i + (i >> 8));
+    }
+    return value;
+  }
+}
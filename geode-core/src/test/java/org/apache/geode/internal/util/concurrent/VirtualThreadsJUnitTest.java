@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.util.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class VirtualThreadsJUnitTest {
+
+  @Test
+  public void testFactoryIsOnlyCreatedWhenTheJvmHasVirtualThreads() {
+    ThreadFactory factory = VirtualThreads.createFactory();
+    if (jvmHasVirtualThreads()) {
+      assertNotNull(factory);
+    } else {
+      assertNull(factory);
+    }
+  }
+
+  @Test
+  public void testFactoryCreatesUnstartedVirtualThreads() throws Exception {
+    ThreadFactory factory = VirtualThreads.createFactory();
+    if (factory == null) {
+      return;
+    }
+    final CountDownLatch ran = new CountDownLatch(1);
+    Thread thread = factory.newThread(ran::countDown);
+    assertEquals(Thread.State.NEW, thread.getState());
+    assertTrue(isVirtual(thread));
+    assertTrue(thread.isDaemon());
+
+    thread.start();
+    assertTrue(ran.await(30, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testUncaughtExceptionHandlerOfAVirtualThreadIsUsed() throws Exception {
+    ThreadFactory factory = VirtualThreads.createFactory();
+    if (factory == null) {
+      return;
+    }
+    final RuntimeException failure = new RuntimeException("expected");
+    final AtomicReference<Throwable> caught = new AtomicReference<>();
+    Thread thread = factory.newThread(() -> {
+      throw failure;
+    });
+    thread.setUncaughtExceptionHandler((t, e) -> caught.set(e));
+    thread.start();
+    thread.join(30000);
+    assertSame(failure, caught.get());
+  }
+
+  private static boolean jvmHasVirtualThreads() {
+    try {
+      Thread.class.getMethod("ofVirtual").invoke(null);
+      return true;
+    } catch (Exception e) {
+      // no Thread.ofVirtual, or virtual threads are a preview feature that is not enabled
+      return false;
+    }
+  }
+
+  private static boolean isVirtual(Thread thread) throws Exception {
+    return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+  }
+}
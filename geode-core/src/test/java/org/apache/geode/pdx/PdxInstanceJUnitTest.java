@@ -20,7 +20,11 @@ import org.apache.geode.internal.HeapDataOutputStream;
 import org.apache.geode.internal.Version;
 import org.apache.geode.internal.cache.GemFireCacheImpl;
 import org.apache.geode.pdx.internal.EnumInfo.PdxInstanceEnumInfo;
+import org.apache.geode.pdx.internal.PdxField;
 import org.apache.geode.pdx.internal.PdxInstanceFactoryImpl;
+import org.apache.geode.pdx.internal.PdxInstanceImpl;
+import org.apache.geode.pdx.internal.PdxString;
+import org.apache.geode.pdx.internal.PdxType;
 import org.apache.geode.test.junit.categories.IntegrationTest;
 import org.apache.geode.test.junit.categories.SerializationTest;
 import org.junit.After;
@@ -84,6 +88,28 @@ public class PdxInstanceJUnitTest {
     assertEquals("hello", fieldInstance.getField("afield"));
   }
 
+  @Test
+  public void testReadRawFieldOfResolvedPdxField() throws IOException, ClassNotFoundException {
+    PdxInstanceImpl instance = (PdxInstanceImpl) getPdx(new TestPdx() {
+      public void toData(PdxWriter out) {
+        out.writeBoolean("field1", true);
+        out.writeInt("field2", 53);
+        out.writeString("field3", "hello");
+        out.writeLong("field4", 54L);
+        out.writeObject("field5", "world");
+      }
+    });
+
+    PdxType type = instance.getPdxType();
+    for (String fieldName : instance.getFieldNames()) {
+      PdxField field = type.getPdxField(fieldName);
+      assertEquals(instance.getRawField(fieldName), instance.readRawField(field));
+      assertEquals(instance.getField(fieldName), instance.readField(field));
+    }
+    assertEquals(new PdxString("hello"), instance.readRawField(type.getPdxField("field3")));
+    assertEquals(new PdxString("world"), instance.readRawField(type.getPdxField("field5")));
+  }
+
   @Test
   public void testHashCodeAndEqualsSameType() throws IOException, ClassNotFoundException {
     PdxInstance instance = getAllFields(0);
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.pdx.internal;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.internal.cache.GemFireCacheImpl;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class TypeRegistryJUnitTest {
+
+  @Test
+  public void testPreloadedTypesAreFoundWithoutTheDistributedRegistry() {
+    TypeRegistry registry = new TypeRegistry(mock(GemFireCacheImpl.class), true);
+    PdxType type = new PdxType("org.example.Preloaded", true);
+    Map<Integer, PdxType> types = new HashMap<Integer, PdxType>();
+    types.put(7, type);
+
+    registry.preloadTypes(types);
+
+    assertSame(type, registry.getType(7));
+  }
+
+  @Test
+  public void testPreloadDoesNotReplaceKnownTypes() {
+    TypeRegistry registry = new TypeRegistry(mock(GemFireCacheImpl.class), true);
+    PdxType known = new PdxType("org.example.Known", true);
+    Map<Integer, PdxType> types = new HashMap<Integer, PdxType>();
+    types.put(7, known);
+    registry.preloadTypes(types);
+
+    types.put(7, new PdxType("org.example.Other", true));
+    registry.preloadTypes(types);
+
+    assertSame(known, registry.getType(7));
+  }
+}